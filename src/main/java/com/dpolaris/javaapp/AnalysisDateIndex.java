@@ -0,0 +1,331 @@
+package com.dpolaris.javaapp;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Persistent ticker -> latest analysis date map.
+ * Each sync pages newest-first through the analysis list only until it reaches the newest
+ * timestamp already seen, so steady-state refreshes fetch a page or less. Universe tickers
+ * the list never reached are backfilled a few at a time through the per-symbol endpoint,
+ * with those lookups running in parallel.
+ */
+final class AnalysisDateIndex {
+    private static final long MIN_SYNC_INTERVAL_MS = 60_000L;
+    private static final int PAGE_SIZE = 500;
+    private static final int MAX_PAGES = 40;
+    private static final int BACKFILL_PER_SYNC = 40;
+    private static final int BACKFILL_PARALLELISM = 4;
+    private final ApiClient apiClient;
+    private final Path indexPath;
+    private final Map<String, String> datesByTicker = new LinkedHashMap<>();
+    private final Set<String> checkedWithoutAnalysis = new LinkedHashSet<>();
+    // Tickers with a per-symbol lookup in flight, so concurrent callers do not repeat it.
+    private final Set<String> backfilling = new HashSet<>();
+    private final ExecutorService backfillLookups = Executors.newFixedThreadPool(BACKFILL_PARALLELISM, runnable -> {
+        Thread thread = new Thread(runnable, "analysis-backfill");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private String watermark = "";
+    private long lastSyncMs;
+    private boolean syncing;
+    private boolean loaded;
+
+    AnalysisDateIndex(ApiClient apiClient) {
+        this(apiClient, defaultPath());
+    }
+
+    AnalysisDateIndex(ApiClient apiClient, Path indexPath) {
+        this.apiClient = apiClient;
+        this.indexPath = indexPath.toAbsolutePath().normalize();
+    }
+
+    /**
+     * Returns dates for every known ticker, syncing first when the last sync is older than a
+     * minute or {@code forceRefresh} is set. {@code universeTickers} are the tickers the
+     * caller is about to show; any without a known date are looked up individually.
+     * Backend calls run outside the lock, so concurrent callers only wait for each other's merges.
+     */
+    Map<String, String> datesFor(Collection<String> universeTickers, boolean forceRefresh) throws Exception {
+        String since = null;
+        synchronized (this) {
+            ensureLoaded();
+            long now = System.currentTimeMillis();
+            if (!syncing && (forceRefresh || now - lastSyncMs >= MIN_SYNC_INTERVAL_MS)) {
+                syncing = true;
+                since = watermark;
+            }
+        }
+        boolean changed = false;
+        if (since != null) {
+            try {
+                Map<String, String> newer = fetchNewer(since);
+                synchronized (this) {
+                    for (Map.Entry<String, String> item : newer.entrySet()) {
+                        changed |= merge(item.getKey(), item.getValue());
+                        if (item.getValue().compareTo(watermark) > 0) {
+                            watermark = item.getValue();
+                        }
+                    }
+                    lastSyncMs = System.currentTimeMillis();
+                }
+            } catch (Exception syncError) {
+                synchronized (this) {
+                    if (datesByTicker.isEmpty()) {
+                        throw syncError;
+                    }
+                    // Dates already on disk are still right for everything but the newest analyses.
+                    return new LinkedHashMap<>(datesByTicker);
+                }
+            } finally {
+                synchronized (this) {
+                    syncing = false;
+                }
+            }
+        }
+        changed |= backfill(universeTickers);
+        synchronized (this) {
+            if (changed) {
+                save();
+            }
+            return new LinkedHashMap<>(datesByTicker);
+        }
+    }
+
+    /** Latest date per ticker for analyses newer than {@code since}. */
+    private Map<String, String> fetchNewer(String since) throws Exception {
+        Map<String, String> newer = new LinkedHashMap<>();
+        String previousFirst = null;
+        for (int page = 0; page < MAX_PAGES; page++) {
+            List<Map<String, Object>> items = extractItems(apiClient.fetchAnalysisPage(since, PAGE_SIZE, page * PAGE_SIZE));
+            if (items.isEmpty()) {
+                break;
+            }
+            String first = Json.compact(items.get(0));
+            if (first.equals(previousFirst)) {
+                // Offset is not supported; this page repeats the last one.
+                break;
+            }
+            previousFirst = first;
+
+            boolean reachedWatermark = false;
+            for (Map<String, Object> item : items) {
+                String ticker = stringValue(item, "ticker", "symbol").toUpperCase();
+                String date = stringValue(item, "analysis_date", "created_at", "last_analysis_at");
+                if (ticker.isBlank() || date.isBlank()) {
+                    continue;
+                }
+                if (!since.isBlank() && date.compareTo(since) <= 0) {
+                    reachedWatermark = true;
+                    continue;
+                }
+                newer.merge(ticker, date, (a, b) -> a.compareTo(b) >= 0 ? a : b);
+            }
+            if (reachedWatermark || items.size() < PAGE_SIZE) {
+                break;
+            }
+        }
+        return newer;
+    }
+
+    private boolean backfill(Collection<String> universeTickers) throws InterruptedException {
+        if (universeTickers == null) {
+            return false;
+        }
+        List<String> pending = new ArrayList<>();
+        synchronized (this) {
+            for (String raw : universeTickers) {
+                String ticker = raw == null ? "" : raw.trim().toUpperCase();
+                if (ticker.isBlank()
+                        || datesByTicker.containsKey(ticker)
+                        || checkedWithoutAnalysis.contains(ticker)
+                        || !backfilling.add(ticker)) {
+                    continue;
+                }
+                pending.add(ticker);
+                if (pending.size() >= BACKFILL_PER_SYNC) {
+                    break;
+                }
+            }
+        }
+        if (pending.isEmpty()) {
+            return false;
+        }
+        List<Future<String>> lookups = new ArrayList<>(pending.size());
+        for (String ticker : pending) {
+            lookups.add(backfillLookups.submit(() -> lookupLatestDate(ticker)));
+        }
+        boolean changed = false;
+        try {
+            for (int i = 0; i < pending.size(); i++) {
+                String ticker = pending.get(i);
+                String date;
+                try {
+                    date = lookups.get(i).get();
+                } catch (ExecutionException lookupError) {
+                    // Leave it for the next sync; a backend hiccup should not mark the ticker as unanalyzed.
+                    continue;
+                }
+                synchronized (this) {
+                    if (date.isBlank()) {
+                        checkedWithoutAnalysis.add(ticker);
+                    } else {
+                        merge(ticker, date);
+                    }
+                }
+                changed = true;
+            }
+        } finally {
+            for (Future<String> lookup : lookups) {
+                lookup.cancel(true);
+            }
+            synchronized (this) {
+                backfilling.removeAll(pending);
+            }
+        }
+        return changed;
+    }
+
+    /** Latest analysis date for {@code ticker}, or "" when the backend has none. */
+    private String lookupLatestDate(String ticker) throws Exception {
+        try {
+            List<Map<String, Object>> items = extractItems(apiClient.fetchAnalysisBySymbol(ticker, 1));
+            return items.isEmpty() ? "" : stringValue(items.get(0), "analysis_date", "created_at", "last_analysis_at");
+        } catch (ApiClient.HttpStatusException missing) {
+            if (NegativeCache.isCacheable(missing.status())) {
+                return "";
+            }
+            throw missing;
+        }
+    }
+
+    private boolean merge(String ticker, String date) {
+        checkedWithoutAnalysis.remove(ticker);
+        String existing = datesByTicker.get(ticker);
+        if (existing == null || date.compareTo(existing) > 0) {
+            datesByTicker.put(ticker, date);
+            return true;
+        }
+        return false;
+    }
+
+    private static List<Map<String, Object>> extractItems(Object payload) {
+        Object candidate = payload;
+        if (payload instanceof Map<?, ?> mapRaw) {
+            Map<String, Object> map = Json.asObject(mapRaw);
+            candidate = map.getOrDefault("items", map.getOrDefault("analyses", map.get("data")));
+        }
+        List<Map<String, Object>> out = new ArrayList<>();
+        if (candidate instanceof List<?> list) {
+            for (Object item : list) {
+                if (item instanceof Map<?, ?> mapItem) {
+                    out.add(Json.asObject(mapItem));
+                }
+            }
+        }
+        return out;
+    }
+
+    private static String stringValue(Map<String, Object> row, String... keys) {
+        for (String key : keys) {
+            Object value = row.get(key);
+            if (value != null && !String.valueOf(value).isBlank()) {
+                return String.valueOf(value).trim();
+            }
+        }
+        return "";
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        loaded = true;
+        if (!Files.exists(indexPath)) {
+            return;
+        }
+        try {
+            Map<String, Object> root = Json.asObject(Json.parse(Files.readString(indexPath, StandardCharsets.UTF_8)));
+            watermark = Json.asString(root.get("watermark"));
+            watermark = watermark == null ? "" : watermark;
+            for (Map.Entry<String, Object> entry : Json.asObject(root.get("dates")).entrySet()) {
+                String date = Json.asString(entry.getValue());
+                if (date != null && !date.isBlank()) {
+                    datesByTicker.put(entry.getKey(), date);
+                }
+            }
+            if (root.get("checked_without_analysis") instanceof List<?> checked) {
+                for (Object ticker : checked) {
+                    checkedWithoutAnalysis.add(String.valueOf(ticker));
+                }
+            }
+        } catch (IOException | RuntimeException corrupt) {
+            // Rebuilt from the backend on the next sync.
+            datesByTicker.clear();
+            checkedWithoutAnalysis.clear();
+            watermark = "";
+        }
+    }
+
+    private void save() {
+        Map<String, Object> root = new LinkedHashMap<>();
+        root.put("version", 1);
+        root.put("watermark", watermark);
+        root.put("dates", new LinkedHashMap<>(datesByTicker));
+        root.put("checked_without_analysis", new ArrayList<>(checkedWithoutAnalysis));
+        try {
+            Path parent = indexPath.getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Path temp = Files.createTempFile(parent, "analysis-index-", ".part");
+            try {
+                Files.writeString(temp, Json.compact(root), StandardCharsets.UTF_8);
+                try {
+                    Files.move(temp, indexPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException ex) {
+                    Files.move(temp, indexPath, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException ignored) {
+            // The in-memory index is still current; it is persisted again after the next change.
+        }
+    }
+
+    private static Path defaultPath() {
+        String override = System.getenv("DPOLARIS_ANALYSIS_INDEX");
+        if (override != null && !override.isBlank()) {
+            return Path.of(expandHome(override.trim()));
+        }
+        return Path.of(System.getProperty("user.home"), "dpolaris_data", "analysis_index.json");
+    }
+
+    private static String expandHome(String value) {
+        if (value.equals("~")) {
+            return System.getProperty("user.home");
+        }
+        if (value.startsWith("~/")) {
+            return System.getProperty("user.home") + value.substring(1);
+        }
+        return value;
+    }
+}
@@ -32,6 +32,7 @@ final class AnalysisWorkspacePanel extends JPanel {
     private static final Color COLOR_SUCCESS = new Color(45, 194, 117);
 
     private final ApiClient apiClient;
+    private final RunsCache cache = ResponseCache.shared();
     private final Font uiFont;
     private final Font monoFont;
 
@@ -188,7 +189,7 @@ final class AnalysisWorkspacePanel extends JPanel {
         SwingWorker<List<AnalysisRow>, Void> worker = new SwingWorker<>() {
             @Override
             protected List<AnalysisRow> doInBackground() throws Exception {
-                Object payload = apiClient.fetchAnalysisList(200);
+                Object payload = cache.get(ResponseCache.ANALYSIS + "list:200", force, () -> apiClient.fetchAnalysisList(200));
                 return parseRows(payload);
             }
 
@@ -220,10 +221,14 @@ final class AnalysisWorkspacePanel extends JPanel {
         SwingWorker<Map<String, Object>, Void> worker = new SwingWorker<>() {
             @Override
             protected Map<String, Object> doInBackground() throws Exception {
-                Object bySymbol = apiClient.fetchAnalysisBySymbol(symbol, 1);
+                Object bySymbol = cache.get(
+                        ResponseCache.ANALYSIS + "by-symbol:" + symbol + ":1",
+                        false,
+                        () -> apiClient.fetchAnalysisBySymbol(symbol, 1)
+                );
                 List<AnalysisRow> rows = parseRows(bySymbol);
                 if (!rows.isEmpty() && rows.get(0).id != null) {
-                    return apiClient.fetchAnalysisArtifact(rows.get(0).id);
+                    return fetchArtifact(rows.get(0).id);
                 }
                 return null;
             }
@@ -247,6 +252,10 @@ final class AnalysisWorkspacePanel extends JPanel {
         worker.execute();
     }
 
+    private Map<String, Object> fetchArtifact(String analysisId) throws Exception {
+        return cache.get(ResponseCache.ANALYSIS_ARTIFACT + analysisId, false, () -> apiClient.fetchAnalysisArtifact(analysisId));
+    }
+
     private void openSelectedDetail() {
         int viewRow = table.getSelectedRow();
         if (viewRow < 0) {
@@ -263,7 +272,7 @@ final class AnalysisWorkspacePanel extends JPanel {
         SwingWorker<Map<String, Object>, Void> worker = new SwingWorker<>() {
             @Override
             protected Map<String, Object> doInBackground() throws Exception {
-                return apiClient.fetchAnalysisArtifact(row.id);
+                return fetchArtifact(row.id);
             }
 
             @Override
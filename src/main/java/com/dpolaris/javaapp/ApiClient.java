@@ -5,9 +5,11 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.net.ConnectException;
 import java.net.URI;
 import java.net.URLEncoder;
 import java.net.http.HttpClient;
+import java.net.http.HttpConnectTimeoutException;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
@@ -17,6 +19,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -26,21 +29,64 @@ final class ApiClient {
     private static final Pattern LAST_SCAN_PATTERN = Pattern.compile("(?i)\\blast[_\\s-]?scan[_\\s-]?run\\s*[:=]\\s*([^\\n\\r]+)");
     private final HttpClient client;
     private Map<String, String> localCommandEnvironment = new LinkedHashMap<>();
-    private String host;
-    private int port;
+    private final BackendPool pool;
+    private final ArtifactSpool artifactSpool = new ArtifactSpool();
+    // null until a batch call settles whether the backend has a bulk watchlist route.
+    private volatile Boolean watchlistBatchSupported;
+    private volatile String lastUnreachableBackend = "";
+    private final NegativeCache negativeCache = NegativeCache.shared();
+    private static final ThreadLocal<NetworkMeter> THREAD_METER = new ThreadLocal<>();
 
     ApiClient(String host, int port) {
         this.client = HttpClient.newBuilder()
                 .version(HttpClient.Version.HTTP_1_1)
                 .connectTimeout(Duration.ofSeconds(5))
                 .build();
-        this.host = host;
-        this.port = port;
+        this.pool = new BackendPool(host, port);
     }
 
+    /**
+     * {@code host} may list several backend instances as {@code host[:port],host[:port]};
+     * the first one is the primary and {@code port} is the default for entries without one.
+     */
     void configure(String host, int port) {
-        this.host = host;
-        this.port = port;
+        pool.configure(host, port);
+    }
+
+    String describeBackends() {
+        return pool.describe();
+    }
+
+    int backendCount() {
+        return pool.size();
+    }
+
+    String primaryBackend() {
+        return pool.primary().label();
+    }
+
+    /** host:port of the endpoint that most recently refused a connection, or "" once it answers again. */
+    String lastUnreachableBackend() {
+        return lastUnreachableBackend;
+    }
+
+    /**
+     * Meters backend requests made by the calling thread until cleared with {@code null}.
+     * Cache and disk hits never reach the meter; only requests that go to an endpoint do.
+     * The meter only counts: metered calls may fill shared cache entries that foreground
+     * reads have joined, so a request is never refused here.
+     */
+    static void meterCurrentThread(NetworkMeter meter) {
+        if (meter == null) {
+            THREAD_METER.remove();
+        } else {
+            THREAD_METER.set(meter);
+        }
+    }
+
+    /** Lets an explicit refresh re-request artifacts of a run that were recently missing. */
+    void forgetMissingForRun(String runId) {
+        negativeCache.forgetPrefix("/runs/" + encode(runId) + "/");
     }
 
     void setLocalCommandEnvironment(Map<String, String> environment) {
@@ -75,7 +121,7 @@ final class ApiClient {
     }
 
     Object fetchModels() throws IOException, InterruptedException {
-        return request("GET", "/api/models", null, 20);
+        return requestRouted(pool::leastOutstanding, "GET", "/api/models", null, 20);
     }
 
     Object fetchMemories(int limit) throws IOException, InterruptedException {
@@ -95,8 +141,27 @@ final class ApiClient {
         return request("GET", "/runs/" + encode(runId) + "/artifacts", null, 30);
     }
 
+    /** Large artifacts are streamed to the local spool instead of being buffered as a String. */
     Object fetchRunArtifact(String runId, String artifactName) throws IOException, InterruptedException {
-        return request("GET", "/runs/" + encode(runId) + "/artifact/" + encode(artifactName), null, 30);
+        String path = "/runs/" + encode(runId) + "/artifact/" + encode(artifactName);
+        throwIfKnownMissing("GET", path);
+        BackendPool.Endpoint endpoint = pool.primary();
+        return withEndpoint(endpoint, () -> {
+            HttpRequest request = HttpRequest.newBuilder()
+                    .uri(URI.create(endpoint.baseUrl() + path))
+                    .timeout(Duration.ofSeconds(30))
+                    .GET()
+                    .build();
+            HttpResponse<InputStream> response = client.send(request, HttpResponse.BodyHandlers.ofInputStream());
+            try (InputStream body = response.body()) {
+                int status = response.statusCode();
+                if (status < 200 || status >= 300) {
+                    throw httpError("GET", path, status, new String(body.readAllBytes(), StandardCharsets.UTF_8));
+                }
+                long contentLength = response.headers().firstValueAsLong("Content-Length").orElse(-1L);
+                return artifactSpool.readOrSpool(runId, artifactName, body, contentLength);
+            }
+        });
     }
 
     Object fetchUniverse(String universeId) throws IOException, InterruptedException {
@@ -136,8 +201,31 @@ final class ApiClient {
         return Json.asObject(response);
     }
 
+    /**
+     * Starts a scan on the {@code slot}-th backend instance (wrapping around the pool) and
+     * remembers that instance for the run, so its status and results are read from there.
+     * {@code runIdOf} extracts the run id from the start response.
+     */
+    Map<String, Object> startScanOn(int slot, Map<String, Object> payload, Function<Map<String, Object>, String> runIdOf)
+            throws IOException, InterruptedException {
+        List<BackendPool.Endpoint> endpoints = pool.endpoints();
+        BackendPool.Endpoint target = endpoints.get(Math.floorMod(slot, endpoints.size()));
+        String body = Json.compact(payload == null ? new LinkedHashMap<String, Object>() : payload);
+        // No failover here: the run must stay on the instance it is pinned to; callers pick another slot instead.
+        Map<String, Object> response = Json.asObject(requestWithFallback(
+                exclude -> target,
+                "POST",
+                List.of("/scan/start", "/api/scan/start"),
+                body,
+                90
+        ));
+        pool.pin(runIdOf.apply(response), target);
+        return response;
+    }
+
     Map<String, Object> fetchScanStatus(String runId) throws IOException, InterruptedException {
         Object response = requestWithFallback(
+                runRoute(runId),
                 "GET",
                 List.of("/scan/status/" + encode(runId), "/api/scan/status/" + encode(runId)),
                 null,
@@ -147,10 +235,20 @@ final class ApiClient {
     }
 
     Object fetchScanResults(String runId, int page, int pageSize) throws IOException, InterruptedException {
+        return fetchScanResultsSince(runId, null, page, pageSize);
+    }
+
+    /** Result page limited to rows updated after {@code updatedSince}; backends without the filter return every row. */
+    Object fetchScanResultsSince(String runId, String updatedSince, int page, int pageSize)
+            throws IOException, InterruptedException {
         int safePage = Math.max(1, page);
         int safePageSize = Math.max(1, pageSize);
         String query = "?page=" + safePage + "&page_size=" + safePageSize;
+        if (updatedSince != null && !updatedSince.isBlank()) {
+            query += "&updated_since=" + encode(updatedSince);
+        }
         return requestWithFallback(
+                runRoute(runId),
                 "GET",
                 List.of(
                         "/scan/results/" + encode(runId) + query,
@@ -163,6 +261,7 @@ final class ApiClient {
 
     Map<String, Object> fetchScanResult(String runId, String ticker) throws IOException, InterruptedException {
         Object response = requestWithFallback(
+                runRoute(runId),
                 "GET",
                 List.of(
                         "/scan/result/" + encode(runId) + "/" + encode(ticker),
@@ -174,13 +273,73 @@ final class ApiClient {
         return Json.asObject(response);
     }
 
+    /**
+     * Scan runs from every backend instance, merged into one {@code runs} list with the
+     * primary's runs first. Each listed run is pinned to the instance that reported it, so
+     * runs started elsewhere (or before a restart) are read from where they live.
+     */
     Object fetchScanRuns() throws IOException, InterruptedException {
-        return requestWithFallback(
-                "GET",
-                List.of("/scan/runs", "/api/scan/runs"),
-                null,
-                30
-        );
+        List<BackendPool.Endpoint> endpoints = pool.endpoints();
+        if (endpoints.size() < 2) {
+            return requestWithFallback(
+                    "GET",
+                    List.of("/scan/runs", "/api/scan/runs"),
+                    null,
+                    30
+            );
+        }
+        Map<String, Map<String, Object>> merged = new LinkedHashMap<>();
+        Map<String, BackendPool.Endpoint> owners = new LinkedHashMap<>();
+        IOException firstError = null;
+        int answered = 0;
+        long now = System.currentTimeMillis();
+        for (BackendPool.Endpoint endpoint : endpoints) {
+            if (endpoint != pool.primary() && !endpoint.isAvailable(now)) {
+                continue;
+            }
+            Object response;
+            try {
+                response = requestWithFallback(exclude -> endpoint, "GET", List.of("/scan/runs", "/api/scan/runs"), null, 30);
+            } catch (IOException ex) {
+                firstError = firstError == null ? ex : firstError;
+                continue;
+            }
+            answered++;
+            for (Map<String, Object> run : runsOf(response)) {
+                String runId = firstNonBlank(asString(run.get("run_id")), asString(run.get("runId")), asString(run.get("id")));
+                if (runId.isBlank()) {
+                    continue;
+                }
+                if (!merged.containsKey(runId)) {
+                    merged.put(runId, run);
+                    owners.put(runId, endpoint);
+                }
+            }
+        }
+        if (answered == 0 && firstError != null) {
+            throw firstError;
+        }
+        pool.pinAll(owners);
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("runs", new ArrayList<>(merged.values()));
+        return response;
+    }
+
+    private static List<Map<String, Object>> runsOf(Object response) {
+        Object candidate = response;
+        if (response instanceof Map<?, ?> map) {
+            Map<String, Object> root = Json.asObject(map);
+            candidate = root.containsKey("runs") ? root.get("runs") : root.getOrDefault("items", root.get("data"));
+        }
+        List<Map<String, Object>> runs = new ArrayList<>();
+        if (candidate instanceof List<?> list) {
+            for (Object item : list) {
+                if (item instanceof Map<?, ?> run) {
+                    runs.add(Json.asObject(run));
+                }
+            }
+        }
+        return runs;
     }
 
     boolean supportsScanApi() {
@@ -263,6 +422,43 @@ final class ApiClient {
         return Json.asObject(response);
     }
 
+    /**
+     * Adds or removes ({@code action}) many symbols in one request. Returns {@code null} when
+     * the backend has no bulk watchlist route; that answer is remembered so later batches go
+     * straight to per-symbol calls.
+     */
+    Map<String, Object> watchlistBatch(String action, List<String> symbols) throws IOException, InterruptedException {
+        if (Boolean.FALSE.equals(watchlistBatchSupported)) {
+            return null;
+        }
+        List<String> normalized = new ArrayList<>();
+        for (String symbol : symbols) {
+            normalized.add(symbol == null ? "" : symbol.trim().toUpperCase());
+        }
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("action", action);
+        payload.put("symbols", normalized);
+        try {
+            Object response = requestWithFallback(
+                    "POST",
+                    List.of(
+                            "/api/watchlist/batch",
+                            "/api/universe/watchlist/batch"
+                    ),
+                    Json.compact(payload),
+                    60
+            );
+            watchlistBatchSupported = Boolean.TRUE;
+            return Json.asObject(response);
+        } catch (HttpStatusException ex) {
+            if (NegativeCache.isCacheable(ex.status()) || ex.status() == 405) {
+                watchlistBatchSupported = Boolean.FALSE;
+                return null;
+            }
+            throw ex;
+        }
+    }
+
     // Backward-compatible wrappers.
     Map<String, Object> addCustomUniverseSymbol(String symbol) throws IOException, InterruptedException {
         return watchlistAdd(symbol);
@@ -274,11 +470,12 @@ final class ApiClient {
 
     Map<String, Object> predictSymbol(String symbol) throws IOException, InterruptedException {
         String normalized = symbol.toUpperCase();
+        EndpointSelector selector = tickerRoute(normalized);
         try {
-            Object response = request("POST", "/api/deep-learning/predict/" + encode(normalized), "{}", 45);
+            Object response = requestRouted(selector, "POST", "/api/deep-learning/predict/" + encode(normalized), "{}", 45);
             return Json.asObject(response);
         } catch (IOException deepError) {
-            Object response = request("POST", "/api/predict/" + encode(normalized), "{}", 45);
+            Object response = requestRouted(selector, "POST", "/api/predict/" + encode(normalized), "{}", 45);
             return Json.asObject(response);
         }
     }
@@ -310,6 +507,7 @@ final class ApiClient {
         }
         String symbolsParam = String.join(",", symbols);
         Object response = requestWithFallback(
+                pool::leastOutstanding,
                 "GET",
                 List.of(
                     "/api/stocks/metadata?symbols=" + encode(symbolsParam),
@@ -349,6 +547,7 @@ final class ApiClient {
     Map<String, Object> fetchAnalysisDetail(String symbol) throws IOException, InterruptedException {
         String normalized = symbol.toUpperCase();
         Object response = requestWithFallback(
+                tickerRoute(normalized),
                 "GET",
                 List.of(
                     "/api/analysis/detail/" + encode(normalized),
@@ -373,10 +572,32 @@ final class ApiClient {
         );
     }
 
+    /**
+     * Newest-first page of analyses. Backends that ignore {@code since} or {@code offset}
+     * return the latest page instead; callers stop paging once entries reach the watermark.
+     */
+    Object fetchAnalysisPage(String since, int limit, int offset) throws IOException, InterruptedException {
+        int safeLimit = Math.max(1, Math.min(limit, 500));
+        String query = "?limit=" + safeLimit + "&offset=" + Math.max(0, offset);
+        if (since != null && !since.isBlank()) {
+            query += "&since=" + encode(since);
+        }
+        return requestWithFallback(
+                "GET",
+                List.of(
+                        "/api/analysis/list" + query,
+                        "/analysis/list" + query
+                ),
+                null,
+                30
+        );
+    }
+
     Object fetchAnalysisBySymbol(String symbol, int limit) throws IOException, InterruptedException {
         String normalized = symbol == null ? "" : symbol.trim().toUpperCase();
         int safeLimit = Math.max(1, Math.min(limit, 500));
         return requestWithFallback(
+                tickerRoute(normalized),
                 "GET",
                 List.of(
                         "/api/analysis/by-symbol/" + encode(normalized) + "?limit=" + safeLimit,
@@ -403,6 +624,7 @@ final class ApiClient {
     Map<String, Object> generateAnalysisReport(String symbol) throws IOException, InterruptedException {
         String normalized = symbol == null ? "" : symbol.trim().toUpperCase();
         Object response = requestWithFallback(
+                tickerRoute(normalized),
                 "POST",
                 List.of(
                         "/api/analyze/report?symbol=" + encode(normalized),
@@ -417,7 +639,7 @@ final class ApiClient {
     Map<String, Object> generateTradeSetup(String symbol, int horizonDays) throws IOException, InterruptedException {
         String normalized = symbol.toUpperCase();
         String path = "/api/signals/" + encode(normalized) + "?horizon_days=" + horizonDays;
-        Object response = request("POST", path, "{}", 90);
+        Object response = requestRouted(tickerRoute(normalized), "POST", path, "{}", 90);
         return Json.asObject(response);
     }
 
@@ -440,18 +662,19 @@ final class ApiClient {
         }
 
         String path = "/predict/inspect?" + query;
+        EndpointSelector selector = tickerRoute(ticker);
         try {
-            Object response = request("GET", path, null, 60);
+            Object response = requestRouted(selector, "GET", path, null, 60);
             return Json.asObject(response);
         } catch (IOException primaryError) {
             String legacyPath = "/api/predict/inspect?" + query;
-            Object response = request("GET", legacyPath, null, 60);
+            Object response = requestRouted(selector, "GET", legacyPath, null, 60);
             return Json.asObject(response);
         }
     }
 
     Map<String, Object> trainStable(String symbol) throws IOException, InterruptedException {
-        Object response = request("POST", "/api/train/" + encode(symbol), "{}", 240);
+        Object response = requestRouted(tickerRoute(symbol), "POST", "/api/train/" + encode(symbol), "{}", 240);
         return Json.asObject(response);
     }
 
@@ -465,8 +688,11 @@ final class ApiClient {
                 + "\"model_types\":" + Json.compact(modelTypes) + ","
                 + "\"epochs\":" + epochs
                 + "}";
-        Object response = request("POST", "/api/jobs/deep-learning/train", body, 60);
-        return Json.asObject(response);
+        // Jobs live in the backend process that queued them, so remember where it went for fetchJob.
+        BackendPool.Endpoint target = pool.forKey(symbol, null);
+        Map<String, Object> job = Json.asObject(send(target, "POST", "/api/jobs/deep-learning/train", body, 60));
+        pool.pin(asString(job.get("id")), target);
+        return job;
     }
 
     private static List<String> preferredModelTypes(String primary) {
@@ -484,7 +710,7 @@ final class ApiClient {
     }
 
     Map<String, Object> fetchJob(String jobId) throws IOException, InterruptedException {
-        Object response = request("GET", "/api/jobs/" + encode(jobId), null, 15);
+        Object response = send(pool.pinnedOrPrimary(jobId), "GET", "/api/jobs/" + encode(jobId), null, 15);
         return Json.asObject(response);
     }
 
@@ -599,14 +825,92 @@ final class ApiClient {
         String path = "/api/deep-learning/train/" + encode(symbol)
                 + "?model_type=" + encode(modelType.toLowerCase())
                 + "&epochs=" + epochs;
-        Object response = request("POST", path, "{}", 1800);
+        Object response = requestRouted(tickerRoute(symbol), "POST", path, "{}", 1800);
         return Json.asObject(response);
     }
 
+    /** Sends to the primary backend; scans, jobs, watchlist and control calls are stateful and stay there. */
     Object request(String method, String path, String body, int timeoutSeconds)
             throws IOException, InterruptedException {
+        return send(pool.primary(), method, path, body, timeoutSeconds);
+    }
+
+    private Object requestRouted(
+            EndpointSelector selector,
+            String method,
+            String path,
+            String body,
+            int timeoutSeconds
+    ) throws IOException, InterruptedException {
+        BackendPool.Endpoint first = selector.select(null);
+        try {
+            return send(first, method, path, body, timeoutSeconds);
+        } catch (IOException ex) {
+            if (!isConnectFailure(ex)) {
+                throw ex;
+            }
+            BackendPool.Endpoint second = selector.select(first);
+            if (second == null || second.equals(first)) {
+                throw ex;
+            }
+            return send(second, method, path, body, timeoutSeconds);
+        }
+    }
+
+    /** Scan runs live on the instance that started them; unpinned runs are on the primary. */
+    private EndpointSelector runRoute(String runId) {
+        return exclude -> pool.pinnedOrPrimary(runId);
+    }
+
+    private EndpointSelector tickerRoute(String ticker) {
+        return exclude -> pool.forKey(ticker, exclude);
+    }
+
+    private Object send(
+            BackendPool.Endpoint endpoint,
+            String method,
+            String path,
+            String body,
+            int timeoutSeconds
+    ) throws IOException, InterruptedException {
+        return withEndpoint(endpoint, () -> sendOnce(endpoint, method, path, body, timeoutSeconds));
+    }
+
+    private <T> T withEndpoint(BackendPool.Endpoint endpoint, EndpointCall<T> call)
+            throws IOException, InterruptedException {
+        NetworkMeter meter = THREAD_METER.get();
+        endpoint.acquire();
+        try {
+            T result = call.call();
+            if (meter != null) {
+                meter.charge(RunsCache.estimateWeight(result));
+            }
+            endpoint.markUp();
+            if (endpoint.label().equals(lastUnreachableBackend)) {
+                lastUnreachableBackend = "";
+            }
+            return result;
+        } catch (IOException ex) {
+            if (isConnectFailure(ex)) {
+                endpoint.markDown();
+                lastUnreachableBackend = endpoint.label();
+            }
+            throw ex;
+        } finally {
+            endpoint.release();
+        }
+    }
+
+    private Object sendOnce(
+            BackendPool.Endpoint endpoint,
+            String method,
+            String path,
+            String body,
+            int timeoutSeconds
+    ) throws IOException, InterruptedException {
+        throwIfKnownMissing(method, path);
         HttpRequest.Builder builder = HttpRequest.newBuilder()
-                .uri(URI.create(baseUrl() + path))
+                .uri(URI.create(endpoint.baseUrl() + path))
                 .timeout(Duration.ofSeconds(timeoutSeconds));
 
         if (body == null) {
@@ -621,7 +925,7 @@ final class ApiClient {
         String responseBody = response.body() == null ? "" : response.body();
 
         if (status < 200 || status >= 300) {
-            throw new IOException("HTTP " + status + ": " + responseBody);
+            throw httpError(method, path, status, responseBody);
         }
         if (responseBody.isBlank()) {
             return new LinkedHashMap<String, Object>();
@@ -636,17 +940,60 @@ final class ApiClient {
         }
     }
 
+    /** Fails fast, with the original status and body, for a GET path that recently answered 404/410. */
+    private void throwIfKnownMissing(String method, String path) throws IOException {
+        if (!"GET".equals(method)) {
+            return;
+        }
+        NegativeCache.Miss miss = negativeCache.lookup(path);
+        if (miss != null) {
+            throw new HttpStatusException(miss.status(), miss.body());
+        }
+    }
+
+    /**
+     * A missing run artifact is remembered right away. Other paths are only remembered by
+     * {@link #requestWithFallback} once an alternative path has answered, which shows the
+     * route itself is unsupported rather than the resource not existing yet.
+     */
+    private IOException httpError(String method, String path, int status, String responseBody) {
+        if ("GET".equals(method) && NegativeCache.isCacheable(status) && path.contains("/artifact/")) {
+            negativeCache.record(path, status, responseBody);
+        }
+        return new HttpStatusException(status, responseBody);
+    }
+
+    private Object requestWithFallback(
+            String method,
+            List<String> paths,
+            String body,
+            int timeoutSeconds
+    ) throws IOException, InterruptedException {
+        return requestWithFallback(exclude -> pool.primary(), method, paths, body, timeoutSeconds);
+    }
+
     private Object requestWithFallback(
+            EndpointSelector selector,
             String method,
             List<String> paths,
             String body,
             int timeoutSeconds
     ) throws IOException, InterruptedException {
         List<Exception> errors = new ArrayList<>();
+        Map<String, HttpStatusException> missingPaths = new LinkedHashMap<>();
         for (String path : paths) {
             try {
-                return request(method, path, body, timeoutSeconds);
+                Object response = requestRouted(selector, method, path, body, timeoutSeconds);
+                if ("GET".equals(method)) {
+                    for (Map.Entry<String, HttpStatusException> missing : missingPaths.entrySet()) {
+                        negativeCache.record(missing.getKey(), missing.getValue().status(), missing.getValue().body());
+                    }
+                }
+                return response;
             } catch (IOException | InterruptedException ex) {
+                if (ex instanceof HttpStatusException httpError && NegativeCache.isCacheable(httpError.status())) {
+                    missingPaths.put(path, httpError);
+                }
                 errors.add(ex);
                 if (ex instanceof InterruptedException interrupted) {
                     throw interrupted;
@@ -681,8 +1028,15 @@ final class ApiClient {
                 || message.contains("timeout");
     }
 
-    private String baseUrl() {
-        return "http://" + host + ":" + port;
+    private boolean isConnectFailure(Throwable error) {
+        Throwable current = error;
+        while (current != null) {
+            if (current instanceof ConnectException || current instanceof HttpConnectTimeoutException) {
+                return true;
+            }
+            current = current.getCause();
+        }
+        return false;
     }
 
     private boolean canReachWithFallback(String method, List<String> paths, int timeoutSeconds) {
@@ -1001,6 +1355,42 @@ final class ApiClient {
         return "";
     }
 
+    @FunctionalInterface
+    private interface EndpointSelector {
+        BackendPool.Endpoint select(BackendPool.Endpoint exclude);
+    }
+
+    @FunctionalInterface
+    private interface EndpointCall<T> {
+        T call() throws IOException, InterruptedException;
+    }
+
+    /** Per-thread tally of speculative traffic; see {@link #meterCurrentThread}. */
+    interface NetworkMeter {
+        /** Estimated size of a response that was fetched from the backend. */
+        void charge(long bytes);
+    }
+
+    /** Non-2xx response; the message keeps the {@code HTTP <status>: <body>} form callers already show. */
+    static final class HttpStatusException extends IOException {
+        private final int status;
+        private final String body;
+
+        HttpStatusException(int status, String body) {
+            super("HTTP " + status + ": " + body);
+            this.status = status;
+            this.body = body == null ? "" : body;
+        }
+
+        int status() {
+            return status;
+        }
+
+        String body() {
+            return body;
+        }
+    }
+
     private record ProcessOutput(int exitCode, String stdout, String stderr, boolean timedOut) {
     }
 }
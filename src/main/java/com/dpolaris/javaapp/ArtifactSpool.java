@@ -0,0 +1,433 @@
+package com.dpolaris.javaapp;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Keeps large run artifacts out of the heap.
+ * Bodies above the threshold are streamed to a spool file under dpolaris_data and read
+ * back with positional reads. Only small top-level values are materialized; large values
+ * become summaries (arrays keep a count plus a short preview so renderers still get a map)
+ * that {@link #forEachItem} and {@link #readValue} read back in full on demand.
+ */
+final class ArtifactSpool {
+    static final long SPOOL_THRESHOLD_BYTES = 8L * 1024L * 1024L;
+    static final int PREVIEW_ITEMS = 50;
+    private static final int INLINE_VALUE_LIMIT = 256 * 1024;
+    private static final int TEXT_PREVIEW_BYTES = 16 * 1024;
+    private static final long MAX_SPOOL_AGE_MS = 24L * 60L * 60L * 1000L;
+    private final Path spoolDir;
+    private boolean pruned;
+
+    ArtifactSpool() {
+        this(defaultDir());
+    }
+
+    ArtifactSpool(Path spoolDir) {
+        this.spoolDir = spoolDir.toAbsolutePath().normalize();
+    }
+
+    Path getSpoolDir() {
+        return spoolDir;
+    }
+
+    /**
+     * Parses small bodies in memory as before; anything larger than the threshold (by
+     * Content-Length, or by bytes actually read when the length is unknown) is spooled.
+     */
+    Object readOrSpool(String runId, String artifactName, InputStream body, long contentLength) throws IOException {
+        if (contentLength >= 0 && contentLength <= SPOOL_THRESHOLD_BYTES) {
+            return parseInline(body.readAllBytes());
+        }
+        byte[] head = body.readNBytes((int) SPOOL_THRESHOLD_BYTES + 1);
+        if (head.length <= SPOOL_THRESHOLD_BYTES) {
+            return parseInline(head);
+        }
+        Path file = spool(runId, artifactName, head, body);
+        return summarize(file);
+    }
+
+    Map<String, Object> summarize(Path file) throws IOException {
+        Map<String, Object> spoolInfo = new LinkedHashMap<>();
+        Map<String, Object> out = new LinkedHashMap<>();
+        try (SpoolReader in = new SpoolReader(file)) {
+            spoolInfo.put("path", file.toString());
+            spoolInfo.put("size_bytes", in.size());
+            long start = skipWhitespace(in, 0);
+            try {
+                if (start < in.size() && in.get(start) == '{') {
+                    readObjectLazily(in, file, start, out);
+                } else if (start < in.size() && in.get(start) == '[') {
+                    out.putAll(spooledValue(in, file, start, valueEnd(in, start)));
+                } else {
+                    out.put("raw", in.slice(0, Math.min(in.size(), TEXT_PREVIEW_BYTES)));
+                }
+            } catch (RuntimeException malformed) {
+                out.clear();
+                out.put("raw", in.slice(0, Math.min(in.size(), TEXT_PREVIEW_BYTES)));
+                spoolInfo.put("parse_error", malformed.getMessage());
+            }
+        }
+        out.put("__spool", spoolInfo);
+        return out;
+    }
+
+    /** True for a summary that stands in for a large value kept in a spool file. */
+    static boolean isSpooledValue(Object value) {
+        return value instanceof Map<?, ?> map && Boolean.TRUE.equals(map.get("__spooled_value"));
+    }
+
+    /**
+     * Streams every item of a spooled array to {@code action} in order, one parsed item at a
+     * time. Fails when the spool file was pruned or replaced since the summary was made.
+     */
+    static void forEachItem(Map<String, Object> spooled, Consumer<Object> action) throws IOException {
+        try (SpoolReader in = openSpooled(spooled)) {
+            long pos = longValue(spooled.get("offset"), 0L);
+            if (in.get(pos) != '[') {
+                throw new IOException("Spooled value is not an array");
+            }
+            pos = skipWhitespace(in, pos + 1);
+            while (pos < in.size() && in.get(pos) != ']') {
+                long end = valueEnd(in, pos);
+                action.accept(Json.parse(in.slice(pos, end)));
+                pos = skipWhitespace(in, end);
+                if (pos < in.size() && in.get(pos) == ',') {
+                    pos = skipWhitespace(in, pos + 1);
+                }
+            }
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        } catch (IllegalArgumentException malformed) {
+            throw new IOException("Spooled array is malformed: " + malformed.getMessage(), malformed);
+        }
+    }
+
+    /** Parses the whole spooled value back into memory. */
+    static Object readValue(Map<String, Object> spooled) throws IOException {
+        try (SpoolReader in = openSpooled(spooled)) {
+            long offset = longValue(spooled.get("offset"), 0L);
+            long length = longValue(spooled.get("size_bytes"), -1L);
+            if (length < 0 || length > Integer.MAX_VALUE) {
+                throw new IOException("Spooled value is too large to read at once (" + length + " bytes)");
+            }
+            return Json.parse(in.slice(offset, offset + length));
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        } catch (IllegalArgumentException malformed) {
+            throw new IOException("Spooled value is malformed: " + malformed.getMessage(), malformed);
+        }
+    }
+
+    private static SpoolReader openSpooled(Map<String, Object> spooled) throws IOException {
+        String path = Json.asString(spooled.get("path"));
+        if (path == null || path.isBlank()) {
+            throw new IOException("Spooled value has no spool file");
+        }
+        SpoolReader in = new SpoolReader(Path.of(path));
+        if (in.size() != longValue(spooled.get("file_size"), -1L)) {
+            in.close();
+            throw new IOException("Spool file " + path + " was replaced since it was read");
+        }
+        return in;
+    }
+
+    private Path spool(String runId, String artifactName, byte[] head, InputStream rest) throws IOException {
+        Files.createDirectories(spoolDir);
+        pruneStale();
+        Path target = spoolDir.resolve(sanitize(runId) + "__" + sanitize(artifactName) + ".spool");
+        Path temp = Files.createTempFile(spoolDir, "artifact-", ".part");
+        try {
+            try (OutputStream out = Files.newOutputStream(temp, StandardOpenOption.WRITE)) {
+                out.write(head);
+                rest.transferTo(out);
+            }
+            try {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException ex) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        return target;
+    }
+
+    private synchronized void pruneStale() {
+        if (pruned) {
+            return;
+        }
+        pruned = true;
+        long cutoff = System.currentTimeMillis() - MAX_SPOOL_AGE_MS;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(spoolDir)) {
+            for (Path file : files) {
+                try {
+                    if (Files.getLastModifiedTime(file).toMillis() < cutoff) {
+                        Files.deleteIfExists(file);
+                    }
+                } catch (IOException ignored) {
+                    // Another process may still hold the file; try again next session.
+                }
+            }
+        } catch (IOException ignored) {
+            // Spool directory is best-effort housekeeping.
+        }
+    }
+
+    private void readObjectLazily(SpoolReader in, Path file, long start, Map<String, Object> out) {
+        long pos = skipWhitespace(in, start + 1);
+        if (pos < in.size() && in.get(pos) == '}') {
+            return;
+        }
+        while (pos < in.size()) {
+            long keyEnd = valueEnd(in, pos);
+            String key = Json.asString(Json.parse(in.slice(pos, keyEnd)));
+            pos = skipWhitespace(in, keyEnd);
+            if (pos >= in.size() || in.get(pos) != ':') {
+                throw new IllegalArgumentException("Expected ':' at byte " + pos);
+            }
+            long valueStart = skipWhitespace(in, pos + 1);
+            long valueEnd = valueEnd(in, valueStart);
+            if (valueEnd - valueStart <= INLINE_VALUE_LIMIT) {
+                out.put(key, Json.parse(in.slice(valueStart, valueEnd)));
+            } else {
+                out.put(key, spooledValue(in, file, valueStart, valueEnd));
+            }
+            pos = skipWhitespace(in, valueEnd);
+            if (pos >= in.size() || in.get(pos) == '}') {
+                return;
+            }
+            if (in.get(pos) != ',') {
+                throw new IllegalArgumentException("Expected ',' or '}' at byte " + pos);
+            }
+            pos = skipWhitespace(in, pos + 1);
+        }
+    }
+
+    /** Where a large value lives in the spool file; arrays also get their count and a preview. */
+    private static Map<String, Object> spooledValue(SpoolReader in, Path file, long start, long end) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("__spooled_value", true);
+        summary.put("path", file.toString());
+        summary.put("file_size", in.size());
+        summary.put("offset", start);
+        summary.put("size_bytes", end - start);
+        if (in.get(start) == '[') {
+            summarizeArray(in, start, summary);
+        }
+        return summary;
+    }
+
+    private static void summarizeArray(SpoolReader in, long start, Map<String, Object> out) {
+        List<Object> preview = new ArrayList<>();
+        int count = 0;
+        long pos = skipWhitespace(in, start + 1);
+        while (pos < in.size() && in.get(pos) != ']') {
+            long end = valueEnd(in, pos);
+            if (preview.size() < PREVIEW_ITEMS) {
+                preview.add(Json.parse(in.slice(pos, end)));
+            }
+            count++;
+            pos = skipWhitespace(in, end);
+            if (pos < in.size() && in.get(pos) == ',') {
+                pos = skipWhitespace(in, pos + 1);
+            }
+        }
+        out.put("item_count", count);
+        out.put("items", preview);
+    }
+
+    /** Returns the index just past the JSON value starting at {@code start}, without parsing it. */
+    private static long valueEnd(SpoolReader in, long start) {
+        long limit = in.size();
+        if (start >= limit) {
+            throw new IllegalArgumentException("Expected a JSON value at byte " + start);
+        }
+        byte first = in.get(start);
+        if (first == '"') {
+            return stringEnd(in, start);
+        }
+        if (first != '{' && first != '[') {
+            long pos = start;
+            while (pos < limit) {
+                byte b = in.get(pos);
+                if (b == ',' || b == '}' || b == ']' || isWhitespace(b)) {
+                    break;
+                }
+                pos++;
+            }
+            return pos;
+        }
+        int depth = 0;
+        long pos = start;
+        while (pos < limit) {
+            byte b = in.get(pos);
+            if (b == '"') {
+                pos = stringEnd(in, pos);
+                continue;
+            }
+            if (b == '{' || b == '[') {
+                depth++;
+            } else if (b == '}' || b == ']') {
+                depth--;
+                if (depth == 0) {
+                    return pos + 1;
+                }
+            }
+            pos++;
+        }
+        throw new IllegalArgumentException("Unterminated JSON value starting at byte " + start);
+    }
+
+    private static long stringEnd(SpoolReader in, long start) {
+        long pos = start + 1;
+        while (pos < in.size()) {
+            byte b = in.get(pos);
+            if (b == '\\') {
+                pos += 2;
+                continue;
+            }
+            if (b == '"') {
+                return pos + 1;
+            }
+            pos++;
+        }
+        throw new IllegalArgumentException("Unterminated JSON string starting at byte " + start);
+    }
+
+    private static long skipWhitespace(SpoolReader in, long start) {
+        long pos = start;
+        while (pos < in.size() && isWhitespace(in.get(pos))) {
+            pos++;
+        }
+        return pos;
+    }
+
+    private static long longValue(Object value, long fallback) {
+        return value instanceof Number number ? number.longValue() : fallback;
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\n' || b == '\r' || b == '\t';
+    }
+
+    private static Object parseInline(byte[] bytes) {
+        String text = new String(bytes, StandardCharsets.UTF_8);
+        if (text.isBlank()) {
+            return new LinkedHashMap<String, Object>();
+        }
+        try {
+            return Json.parse(text);
+        } catch (RuntimeException ex) {
+            Map<String, Object> raw = new LinkedHashMap<>();
+            raw.put("raw", text);
+            return raw;
+        }
+    }
+
+    private static String sanitize(String value) {
+        String text = value == null ? "" : value.trim();
+        String safe = text.replaceAll("[^A-Za-z0-9._-]", "_");
+        return safe.isEmpty() ? "artifact" : safe;
+    }
+
+    private static Path defaultDir() {
+        String override = System.getenv("DPOLARIS_ARTIFACT_SPOOL");
+        if (override != null && !override.isBlank()) {
+            return Path.of(expandHome(override.trim()));
+        }
+        return Path.of(System.getProperty("user.home"), "dpolaris_data", "artifact_spool");
+    }
+
+    private static String expandHome(String value) {
+        if (value.equals("~")) {
+            return System.getProperty("user.home");
+        }
+        if (value.startsWith("~/")) {
+            return System.getProperty("user.home") + value.substring(1);
+        }
+        return value;
+    }
+
+    /**
+     * Positional reads through a small window, so nothing stays mapped once the channel is
+     * closed and the spool file can be replaced or pruned on any platform.
+     */
+    private static final class SpoolReader implements Closeable {
+        private static final int WINDOW_BYTES = 64 * 1024;
+        private final FileChannel channel;
+        private final long size;
+        private final ByteBuffer window = ByteBuffer.allocate(WINDOW_BYTES);
+        private long windowStart = -1L;
+
+        SpoolReader(Path file) throws IOException {
+            this.channel = FileChannel.open(file, StandardOpenOption.READ);
+            this.size = channel.size();
+        }
+
+        long size() {
+            return size;
+        }
+
+        byte get(long pos) {
+            if (windowStart < 0 || pos < windowStart || pos >= windowStart + window.limit()) {
+                fill(pos);
+            }
+            return window.get((int) (pos - windowStart));
+        }
+
+        String slice(long start, long end) {
+            ByteBuffer bytes = ByteBuffer.allocate((int) Math.max(0L, end - start));
+            try {
+                while (bytes.hasRemaining()) {
+                    if (channel.read(bytes, start + bytes.position()) < 0) {
+                        throw new IllegalArgumentException("Unexpected end of spool file at byte " + (start + bytes.position()));
+                    }
+                }
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            return new String(bytes.array(), StandardCharsets.UTF_8);
+        }
+
+        private void fill(long pos) {
+            if (pos < 0 || pos >= size) {
+                throw new IllegalArgumentException("Read past the end of the spool file at byte " + pos);
+            }
+            window.clear();
+            try {
+                while (window.hasRemaining() && pos + window.position() < size) {
+                    if (channel.read(window, pos + window.position()) < 0) {
+                        break;
+                    }
+                }
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            window.flip();
+            windowStart = pos;
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,367 @@
+package com.dpolaris.javaapp;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Set of interchangeable backend instances.
+ * Stateless calls go to the endpoint with the fewest in-flight requests; per-ticker
+ * work is placed on a consistent-hash ring so a symbol keeps hitting the same
+ * instance. Endpoints that fail to connect are skipped until a short cooldown expires.
+ * Pins of backend-side state (run and job ids) are kept by endpoint label in a small file,
+ * least recently used first out, so a restart still reads each run from its instance.
+ */
+final class BackendPool {
+    private static final int VIRTUAL_NODES = 64;
+    private static final long DOWN_COOLDOWN_MS = 15_000L;
+    private static final int MAX_PINNED_KEYS = 2048;
+
+    private volatile List<Endpoint> endpoints = List.of();
+    private volatile TreeMap<Long, Endpoint> ring = new TreeMap<>();
+    private final Path pinsPath;
+    // key -> endpoint label, in access order; guarded by itself.
+    private final LinkedHashMap<String, String> pinned = new LinkedHashMap<>(64, 0.75f, true);
+    private boolean pinsLoaded;
+
+    BackendPool(String hosts, int defaultPort) {
+        this(hosts, defaultPort, defaultPinsPath());
+    }
+
+    BackendPool(String hosts, int defaultPort, Path pinsPath) {
+        this.pinsPath = pinsPath == null ? null : pinsPath.toAbsolutePath().normalize();
+        configure(hosts, defaultPort);
+    }
+
+    /**
+     * Accepts a single host or a comma-separated list of {@code host[:port]} entries.
+     * The first entry is the primary, which keeps handling stateful calls.
+     */
+    synchronized void configure(String hosts, int defaultPort) {
+        List<Endpoint> parsed = new ArrayList<>();
+        String text = hosts == null ? "" : hosts.trim();
+        for (String part : text.split(",")) {
+            String entry = part.trim();
+            if (entry.isEmpty()) {
+                continue;
+            }
+            String host = entry;
+            int port = defaultPort;
+            int colon = entry.lastIndexOf(':');
+            if (colon > 0 && entry.indexOf(':') == colon) {
+                host = entry.substring(0, colon).trim();
+                try {
+                    port = Integer.parseInt(entry.substring(colon + 1).trim());
+                } catch (NumberFormatException ignored) {
+                    port = defaultPort;
+                }
+            }
+            Endpoint endpoint = new Endpoint(host, port);
+            if (!parsed.contains(endpoint)) {
+                parsed.add(endpoint);
+            }
+        }
+        if (parsed.isEmpty()) {
+            parsed.add(new Endpoint(AppSettingsConfig.DEFAULT_HOST, defaultPort));
+        }
+        if (parsed.equals(endpoints)) {
+            return;
+        }
+
+        // Keep health and load counters for endpoints that survive a reconfigure.
+        List<Endpoint> merged = new ArrayList<>();
+        for (Endpoint endpoint : parsed) {
+            int existing = endpoints.indexOf(endpoint);
+            merged.add(existing >= 0 ? endpoints.get(existing) : endpoint);
+        }
+        TreeMap<Long, Endpoint> nextRing = new TreeMap<>();
+        for (Endpoint endpoint : merged) {
+            for (int i = 0; i < VIRTUAL_NODES; i++) {
+                nextRing.put(hash(endpoint.label() + "#" + i), endpoint);
+            }
+        }
+        // Pins are kept: they name endpoints by label, and a pin to a removed endpoint falls back to the primary.
+        endpoints = List.copyOf(merged);
+        ring = nextRing;
+    }
+
+    Endpoint primary() {
+        return endpoints.get(0);
+    }
+
+    List<Endpoint> endpoints() {
+        return endpoints;
+    }
+
+    int size() {
+        return endpoints.size();
+    }
+
+    Endpoint leastOutstanding(Endpoint exclude) {
+        long now = System.currentTimeMillis();
+        Endpoint best = null;
+        for (Endpoint endpoint : endpoints) {
+            if (endpoint == exclude || !endpoint.isAvailable(now)) {
+                continue;
+            }
+            if (best == null || endpoint.outstanding() < best.outstanding()) {
+                best = endpoint;
+            }
+        }
+        return best == null ? fallback(exclude) : best;
+    }
+
+    Endpoint forKey(String key, Endpoint exclude) {
+        TreeMap<Long, Endpoint> snapshot = ring;
+        if (key == null || key.isBlank() || snapshot.isEmpty()) {
+            return leastOutstanding(exclude);
+        }
+        long now = System.currentTimeMillis();
+        long point = hash(key.trim().toUpperCase());
+        for (Endpoint endpoint : snapshot.tailMap(point, true).values()) {
+            if (endpoint != exclude && endpoint.isAvailable(now)) {
+                return endpoint;
+            }
+        }
+        for (Endpoint endpoint : snapshot.headMap(point, false).values()) {
+            if (endpoint != exclude && endpoint.isAvailable(now)) {
+                return endpoint;
+            }
+        }
+        return fallback(exclude);
+    }
+
+    /** Remembers which endpoint owns backend-side state such as a queued job. */
+    void pin(String key, Endpoint endpoint) {
+        if (key == null || key.isBlank() || endpoint == null) {
+            return;
+        }
+        pinAll(Map.of(key, endpoint));
+    }
+
+    /** Like {@link #pin} for many keys, with a single write of the pin file. */
+    void pinAll(Map<String, Endpoint> owners) {
+        synchronized (pinned) {
+            ensurePinsLoaded();
+            boolean changed = false;
+            for (Map.Entry<String, Endpoint> owner : owners.entrySet()) {
+                if (owner.getKey().isBlank() || owner.getValue() == null) {
+                    continue;
+                }
+                String label = owner.getValue().label();
+                changed |= !label.equals(pinned.put(owner.getKey(), label));
+            }
+            if (changed) {
+                trimPins();
+                savePins();
+            }
+        }
+    }
+
+    Endpoint pinnedOrPrimary(String key) {
+        String label;
+        synchronized (pinned) {
+            ensurePinsLoaded();
+            label = key == null ? null : pinned.get(key);
+        }
+        if (label != null) {
+            for (Endpoint endpoint : endpoints) {
+                if (endpoint.label().equals(label)) {
+                    return endpoint;
+                }
+            }
+        }
+        return primary();
+    }
+
+    int pinnedCount() {
+        synchronized (pinned) {
+            ensurePinsLoaded();
+            return pinned.size();
+        }
+    }
+
+    String describe() {
+        StringBuilder sb = new StringBuilder();
+        long now = System.currentTimeMillis();
+        for (Endpoint endpoint : endpoints) {
+            if (!sb.isEmpty()) {
+                sb.append(", ");
+            }
+            sb.append(endpoint.label());
+            if (!endpoint.isAvailable(now)) {
+                sb.append(" (down)");
+            }
+        }
+        return sb.toString();
+    }
+
+    private void trimPins() {
+        Iterator<String> eldest = pinned.keySet().iterator();
+        while (pinned.size() > MAX_PINNED_KEYS && eldest.hasNext()) {
+            eldest.next();
+            eldest.remove();
+        }
+    }
+
+    private void ensurePinsLoaded() {
+        if (pinsLoaded) {
+            return;
+        }
+        pinsLoaded = true;
+        if (pinsPath == null || !Files.exists(pinsPath)) {
+            return;
+        }
+        try {
+            Map<String, Object> root = Json.asObject(Json.parse(Files.readString(pinsPath, StandardCharsets.UTF_8)));
+            // Saved least recently used first, so re-inserting restores the access order.
+            for (Map.Entry<String, Object> entry : Json.asObject(root.get("pins")).entrySet()) {
+                String label = Json.asString(entry.getValue());
+                if (label != null && !label.isBlank()) {
+                    pinned.put(entry.getKey(), label);
+                }
+            }
+            trimPins();
+        } catch (IOException | RuntimeException corrupt) {
+            // Unpinned runs are read from the primary, as before pins existed.
+            pinned.clear();
+        }
+    }
+
+    private void savePins() {
+        if (pinsPath == null) {
+            return;
+        }
+        Map<String, Object> root = new LinkedHashMap<>();
+        root.put("version", 1);
+        root.put("pins", new LinkedHashMap<>(pinned));
+        try {
+            Path parent = pinsPath.getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Path temp = Files.createTempFile(parent, "backend-pins-", ".part");
+            try {
+                Files.writeString(temp, Json.compact(root), StandardCharsets.UTF_8);
+                try {
+                    Files.move(temp, pinsPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException ex) {
+                    Files.move(temp, pinsPath, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException ignored) {
+            // Pins still work for this session; the next pin retries the write.
+        }
+    }
+
+    private static Path defaultPinsPath() {
+        String override = System.getenv("DPOLARIS_BACKEND_PINS");
+        if (override != null && !override.isBlank()) {
+            return Path.of(expandHome(override.trim()));
+        }
+        return Path.of(System.getProperty("user.home"), "dpolaris_data", "backend_pins.json");
+    }
+
+    private static String expandHome(String value) {
+        if (value.equals("~")) {
+            return System.getProperty("user.home");
+        }
+        if (value.startsWith("~/")) {
+            return System.getProperty("user.home") + value.substring(1);
+        }
+        return value;
+    }
+
+    private Endpoint fallback(Endpoint exclude) {
+        for (Endpoint endpoint : endpoints) {
+            if (endpoint != exclude) {
+                return endpoint;
+            }
+        }
+        return primary();
+    }
+
+    private static long hash(String value) {
+        // FNV-1a keeps ring positions stable across runs and JVMs.
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= (b & 0xff);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    static final class Endpoint {
+        private final String host;
+        private final int port;
+        private final AtomicInteger outstanding = new AtomicInteger();
+        private volatile long downUntil;
+
+        Endpoint(String host, int port) {
+            this.host = host;
+            this.port = port;
+        }
+
+        String host() {
+            return host;
+        }
+
+        int port() {
+            return port;
+        }
+
+        String label() {
+            return host + ":" + port;
+        }
+
+        String baseUrl() {
+            return "http://" + label();
+        }
+
+        int outstanding() {
+            return outstanding.get();
+        }
+
+        void acquire() {
+            outstanding.incrementAndGet();
+        }
+
+        void release() {
+            outstanding.decrementAndGet();
+        }
+
+        void markUp() {
+            downUntil = 0L;
+        }
+
+        void markDown() {
+            downUntil = System.currentTimeMillis() + DOWN_COOLDOWN_MS;
+        }
+
+        boolean isAvailable(long now) {
+            return downUntil <= now;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Endpoint endpoint && endpoint.port == port && endpoint.host.equals(host);
+        }
+
+        @Override
+        public int hashCode() {
+            return host.hashCode() * 31 + port;
+        }
+    }
+}
@@ -215,6 +215,14 @@ public final class ControlCenterLauncher {
                     sb.append("  Memory: ").append(runtime.freeMemory() / 1024 / 1024).append("MB free / ")
                       .append(runtime.maxMemory() / 1024 / 1024).append("MB max\n\n");
 
+                    sb.append("Response Cache\n");
+                    for (String line : ResponseCache.describeStats().split("\n")) {
+                        sb.append("  ").append(line).append("\n");
+                    }
+                    sb.append("  ").append(NegativeCache.shared().describe()).append("\n");
+                    sb.append("  ").append(StatusMonitor.shared().describe().replace("\n", "\n  ")).append("\n");
+                    sb.append("\n");
+
                     // Check Python environment
                     publish("Checking Python environment...");
                     sb.append("Python Environment\n");
@@ -14,6 +14,7 @@ import java.awt.Graphics2D;
 import java.awt.GraphicsEnvironment;
 import java.awt.GridBagConstraints;
 import java.awt.GridBagLayout;
+import java.awt.GridLayout;
 import java.awt.Insets;
 import java.awt.Rectangle;
 import java.awt.RenderingHints;
@@ -35,12 +36,21 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -87,7 +97,12 @@ import javax.swing.border.EmptyBorder;
 import javax.swing.border.LineBorder;
 import javax.swing.table.AbstractTableModel;
 import javax.swing.table.DefaultTableCellRenderer;
+import javax.swing.table.TableColumn;
+import javax.swing.table.TableColumnModel;
 import javax.swing.table.TableRowSorter;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Document;
+import javax.swing.text.PlainDocument;
 
 public final class DPolarisJavaApp {
     private static final DateTimeFormatter TS = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
@@ -113,6 +128,11 @@ public final class DPolarisJavaApp {
     private static final String VIEW_TRAINING_RUNS = "TRAINING_RUNS";
     private static final String VIEW_PREDICTION_INSPECTOR = "PREDICTION_INSPECTOR";
     private static final String VIEW_SETTINGS = "SETTINGS";
+    private static final String DASHBOARD_CARD_SINGLE = "SINGLE";
+    private static final String DASHBOARD_CARD_GRID = "GRID";
+    private static final List<String> DASHBOARD_VOLATILE_KEYS = List.of(
+            "timestamp", "generated_at", "as_of", "elapsed_ms", "latency_ms", "request_id"
+    );
     private static final Pattern RUN_ID_PATTERN = Pattern.compile(
             "\"?(?:run_id|runId|run-id)\"?\\s*[:=]\\s*\"?([A-Za-z0-9_.:-]+)\"?"
     );
@@ -126,9 +146,35 @@ public final class DPolarisJavaApp {
             UNIVERSE_COMBINED
     );
 
+    private static final String PREFETCH_RUNS = "runs";
+    private static final String PREFETCH_SCAN = "scan";
+    private static final String PREFETCH_SCAN_DETAIL = "scan-detail";
+    private static final int PREFETCH_DETAIL_NEIGHBOURS = 4;
+    private static final int SCAN_RENDERED_DETAILS = 8;
+    private static final long PREFETCH_BYTES_PER_MINUTE = 16L * 1024L * 1024L;
+    private static final int PREFETCH_ADJACENT_RUNS = 2;
+    private static final int PREFETCH_SCAN_TICKERS = 8;
+    private static final int SCAN_WINDOW_PAGES = 12;
+    private static final int SCAN_RESULTS_SYNC_EVERY_POLLS = 3;
+    private static final int SCAN_INDEX_MAX_PAGES = 200;
+
     private final ApiClient apiClient = new ApiClient("127.0.0.1", 8420);
     private final RunsService runsService = new RunsService(apiClient);
     private final ScanService scanService = new ScanService(apiClient);
+    private final ExecutorService artifactFetchExecutor = Executors.newFixedThreadPool(4, runnable -> {
+        Thread thread = new Thread(runnable, "artifact-fetch");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final ExecutorService scanDetailRenderExecutor = Executors.newFixedThreadPool(4, runnable -> {
+        Thread thread = new Thread(runnable, "scan-detail-render");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // Rendered detail documents for recently expanded or prefetched tickers, most recent last.
+    private final LinkedHashMap<String, RenderedScanDetail> renderedScanDetails = new LinkedHashMap<>(16, 0.75f, true);
+    private final PredictionSweep predictionSweep = new PredictionSweep(apiClient);
+    private final Prefetcher prefetcher = new Prefetcher(ResponseCache.shared(), PREFETCH_BYTES_PER_MINUTE);
     private final AuditLogStore auditLogStore = new AuditLogStore();
     private final SystemControlConfig.ConfigValues initialControlConfig;
     private AppSettingsConfig.SettingsValues appSettings;
@@ -203,6 +249,7 @@ public final class DPolarisJavaApp {
     private JTextField dashboardSymbolField;
     private JSpinner dashboardHorizonSpinner;
     private JButton refreshDashboardButton;
+    private int dashboardRefreshGeneration;
     private JLabel dashboardBiasValue;
     private JLabel dashboardConfidenceValue;
     private JLabel dashboardEntryValue;
@@ -214,6 +261,18 @@ public final class DPolarisJavaApp {
     private JTextArea dashboardPlanArea;
     private JTextArea dashboardPredictionArea;
     private JTextArea dashboardInsightsArea;
+    private JCheckBox dashboardGridModeToggle;
+    private JTextField dashboardGridSymbolsField;
+    private JSpinner dashboardGridCycleSpinner;
+    private JLabel dashboardGridStatusLabel;
+    private CardLayout dashboardBodyLayout;
+    private JPanel dashboardBodyPanel;
+    private JPanel dashboardGridTilesPanel;
+    private final Map<String, DashboardGridTile> dashboardGridTiles = new LinkedHashMap<>();
+    private javax.swing.Timer dashboardGridTimer;
+    private int dashboardGridCursor;
+    private int dashboardGridChecks;
+    private int dashboardGridChanges;
     private JButton navAiManagementButton;
     private JButton navDeepLearningButton;
     private JButton navAnalysisButton;
@@ -339,6 +398,8 @@ public final class DPolarisJavaApp {
     private AttributionTableModel runAttributionConfidenceTableModel;
     private AttributionTableModel runAttributionTickerTableModel;
     private Object runBacktestRawPayload = new LinkedHashMap<String, Object>();
+    // Spooled backtest values that could only be shown as their preview; reset per run.
+    private final List<String> spoolPreviewNotices = new ArrayList<>();
     private JTextArea runDiagnosticsArea;
     private JLabel runReadinessBannerLabel;
     private JLabel runReproScoreLabel;
@@ -369,6 +430,7 @@ public final class DPolarisJavaApp {
     private JButton universeExportCsvButton;
     private JButton universeExportJsonButton;
     private JButton universeRunScanButton;
+    private JButton universePredictionSweepButton;
     private JLabel universeStatusLabel;
     private JLabel universeMetaLabel;
     private JLabel universeHashLabel;
@@ -384,16 +446,26 @@ public final class DPolarisJavaApp {
     private Map<String, Object> universeNasdaqPayload = new LinkedHashMap<>();
     private Map<String, Object> universeWatchlistPayload = new LinkedHashMap<>();
     private Map<String, Object> universeCombinedPayload = new LinkedHashMap<>();
-    private final Object universeAnalysisDateCacheLock = new Object();
-    private Map<String, String> universeAnalysisDateCache = new LinkedHashMap<>();
-    private long universeAnalysisDateCacheLoadedAtMs = 0L;
+    private final AnalysisDateIndex analysisDateIndex = new AnalysisDateIndex(apiClient);
+
+    private JDialog predictionSweepDialog;
+    private JTable predictionSweepTable;
+    private PredictionSweepTableModel predictionSweepTableModel;
+    private JSpinner predictionSweepConcurrencySpinner;
+    private JButton predictionSweepCancelButton;
+    private JButton predictionSweepResumeButton;
+    private JLabel predictionSweepStatusLabel;
+    private JProgressBar predictionSweepProgressBar;
+    private int predictionSweepHorizonDays = 5;
 
     private JTextField scanRunIdField;
     private JButton scanLoadResultsButton;
     private JButton scanRefreshStatusButton;
-    private JButton scanPrevPageButton;
-    private JButton scanNextPageButton;
-    private JSpinner scanPageSpinner;
+    private JButton scanExportButton;
+    private SwingWorker<Long, Long> scanExportWorker;
+    private JTextField scanResultsFilterField;
+    private JTextField scanMinScoreField;
+    private JComboBox<String> scanTopCombo;
     private JComboBox<Integer> scanPageSizeCombo;
     private JLabel scanResultsStatusLabel;
     private JProgressBar scanProgressBar;
@@ -401,7 +473,9 @@ public final class DPolarisJavaApp {
     private JLabel scanCurrentTickerLabel;
     private JTable scanResultsTable;
     private ScanResultsTableModel scanResultsTableModel;
-    private TableRowSorter<ScanResultsTableModel> scanResultsTableSorter;
+    private final LinkedHashSet<Integer> scanPagesInFlight = new LinkedHashSet<>();
+    private SwingWorker<List<ScanResultRow>, Integer> scanIndexWorker;
+    private int lastScanDetailPrefetchRow = -1;
     private JTextArea scanWarningsArea;
     private JTextArea scanExecutiveSummaryArea;
     private JTextArea scanMarketContextArea;
@@ -411,11 +485,16 @@ public final class DPolarisJavaApp {
     private JTextArea scanExplainabilityArea;
     private JTextArea scanArtifactsArea;
     private JButton scanDetailsRetryButton;
+    private JTextField scanHistoryTickerField;
+    private JTextArea scanHistoryArea;
+    private final ScanHistoryStore scanHistoryStore = new ScanHistoryStore();
     private String activeScanRunId;
     private String expandedScanTicker;
     private long scanResultsTotal = 0L;
-    private final Map<String, Map<String, Object>> scanDetailCache = new LinkedHashMap<>();
-    private volatile SwingWorker<Void, Map<String, Object>> activeScanStatusWorker;
+    private final ScanDetailCache scanDetailCache = new ScanDetailCache();
+    private final StatusMonitor statusMonitor = StatusMonitor.shared();
+    private StatusMonitor.Subscription activeScanStatusSubscription;
+    private boolean scanResultsSyncInFlight;
 
     private JButton scanRunsRefreshButton;
     private JButton scanRunsOpenButton;
@@ -490,6 +569,7 @@ public final class DPolarisJavaApp {
 
         styleInputField(hostField);
         styleInputField(portField);
+        hostField.setToolTipText("Backend host. Use host[:port],host[:port] to spread per-ticker work over several instances.");
         styleButton(checkConnectionButton, true);
         styleStatusLabel(connectionLabel, "Unknown", COLOR_WARNING);
 
@@ -561,6 +641,12 @@ public final class DPolarisJavaApp {
                 if (systemStatusTimer != null) {
                     systemStatusTimer.stop();
                 }
+                predictionSweep.cancel();
+                prefetcher.shutdown();
+                runsService.flush();
+                if (dashboardGridTimer != null) {
+                    dashboardGridTimer.stop();
+                }
             }
         });
 
@@ -1031,6 +1117,7 @@ public final class DPolarisJavaApp {
         universeSelectAllButton = new JButton("Select All");
         universeClearSelectionButton = new JButton("Clear");
         universeRunScanButton = new JButton("Run Deep Learning");
+        universePredictionSweepButton = new JButton("Prediction Sweep");
         universeStatusLabel = new JLabel();
         universeMetaLabel = new JLabel();
         universeHashLabel = new JLabel();
@@ -1046,6 +1133,8 @@ public final class DPolarisJavaApp {
         styleButton(universeClearSelectionButton, false);
         styleButton(universeRunScanButton, true);
         universeRunScanButton.setToolTipText("Run deep learning on selected tickers");
+        styleButton(universePredictionSweepButton, false);
+        universePredictionSweepButton.setToolTipText("Predict + trade setup for selected tickers (or the whole tab)");
         styleInlineStatus(universeStatusLabel, "Select tickers and click Run Deep Learning", COLOR_MUTED);
         styleInlineStatus(universeMetaLabel, "", COLOR_MUTED);
         styleInlineStatus(universeHashLabel, "", COLOR_MUTED);
@@ -1103,6 +1192,7 @@ public final class DPolarisJavaApp {
         JPanel actionsRow = new JPanel(new FlowLayout(FlowLayout.LEFT, 8, 0));
         actionsRow.setOpaque(false);
         actionsRow.add(universeRunScanButton);
+        actionsRow.add(universePredictionSweepButton);
         actionsRow.add(universeSelectAllButton);
         actionsRow.add(universeClearSelectionButton);
         actionsRow.add(universeRefreshButton);
@@ -1136,6 +1226,7 @@ public final class DPolarisJavaApp {
         universeSelectAllButton.addActionListener(e -> setUniverseSelection(true));
         universeClearSelectionButton.addActionListener(e -> setUniverseSelection(false));
         universeRunScanButton.addActionListener(e -> runDeepLearningOnSelected());
+        universePredictionSweepButton.addActionListener(e -> startPredictionSweepFromUniverse());
         universeAddStockButton.addActionListener(e -> addWatchlistStockFromUi());
         if (universeRemoveStockButton != null) {
             universeRemoveStockButton.addActionListener(e -> removeSelectedWatchlistStocksFromUi());
@@ -1193,9 +1284,14 @@ public final class DPolarisJavaApp {
         scanRunIdField = new JTextField(18);
         scanLoadResultsButton = new JButton("Load Results");
         scanRefreshStatusButton = new JButton("Refresh Status");
-        scanPrevPageButton = new JButton("Prev");
-        scanNextPageButton = new JButton("Next");
-        scanPageSpinner = new JSpinner(new SpinnerNumberModel(1, 1, 1_000_000, 1));
+        scanExportButton = new JButton("Export...");
+        scanExportButton.setToolTipText("Write the whole run to CSV plus a columnar " + ScanResultsExporter.COLUMNAR_EXTENSION + " file");
+        scanResultsFilterField = new JTextField(12);
+        scanResultsFilterField.setToolTipText("Filter by ticker, status, regime or strategy across the whole run");
+        scanMinScoreField = new JTextField(5);
+        scanMinScoreField.setToolTipText("Hide rows scoring below this value");
+        scanTopCombo = new JComboBox<>(new String[]{"All", "Top 25", "Top 50", "Top 100", "Top 250"});
+        scanTopCombo.setToolTipText("Best rows by overall score, then confidence");
         scanPageSizeCombo = new JComboBox<>(new Integer[]{50, 100, 200, 500});
         scanResultsStatusLabel = new JLabel();
         scanProgressBar = new JProgressBar(0, 100);
@@ -1208,9 +1304,10 @@ public final class DPolarisJavaApp {
         styleInputField(scanRunIdField);
         styleButton(scanLoadResultsButton, true);
         styleButton(scanRefreshStatusButton, false);
-        styleButton(scanPrevPageButton, false);
-        styleButton(scanNextPageButton, false);
-        styleSpinner(scanPageSpinner);
+        styleButton(scanExportButton, false);
+        styleInputField(scanResultsFilterField);
+        styleInputField(scanMinScoreField);
+        styleCombo(scanTopCombo);
         styleCombo(scanPageSizeCombo);
         styleInlineStatus(scanResultsStatusLabel, "Scan results: idle", COLOR_MUTED);
         styleInlineStatus(scanProgressLabel, "Progress: —", COLOR_MUTED);
@@ -1224,14 +1321,16 @@ public final class DPolarisJavaApp {
         controls.setOpaque(false);
         controls.add(createFormLabel("Run ID"));
         controls.add(scanRunIdField);
-        controls.add(createFormLabel("Page"));
-        controls.add(scanPageSpinner);
-        controls.add(createFormLabel("Page Size"));
+        controls.add(createFormLabel("Fetch Size"));
         controls.add(scanPageSizeCombo);
-        controls.add(scanPrevPageButton);
-        controls.add(scanNextPageButton);
+        controls.add(createFormLabel("Filter"));
+        controls.add(scanResultsFilterField);
+        controls.add(createFormLabel("Min Score"));
+        controls.add(scanMinScoreField);
+        controls.add(scanTopCombo);
         controls.add(scanLoadResultsButton);
         controls.add(scanRefreshStatusButton);
+        controls.add(scanExportButton);
         controls.add(scanResultsStatusLabel);
 
         JPanel progressRow = new JPanel(new BorderLayout(8, 0));
@@ -1255,11 +1354,24 @@ public final class DPolarisJavaApp {
         scanResultsTable = new JTable(scanResultsTableModel);
         styleRunsTable(scanResultsTable);
         scanResultsTable.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
-        scanResultsTableSorter = new TableRowSorter<>(scanResultsTableModel);
-        scanResultsTable.setRowSorter(scanResultsTableSorter);
-        scanResultsTableSorter.setComparator(3, (a, b) -> Double.compare(parseSortableDouble(a), parseSortableDouble(b)));
-        scanResultsTableSorter.setComparator(8, (a, b) -> Double.compare(parseSortableDouble(a), parseSortableDouble(b)));
-        scanResultsTableSorter.setComparator(9, (a, b) -> Integer.compare(parseSortableInt(a), parseSortableInt(b)));
+        // Rows are paged in on demand, so sorting happens in the model over the full run rather than in a RowSorter.
+        scanResultsTable.getTableHeader().addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                int viewColumn = scanResultsTable.columnAtPoint(e.getPoint());
+                if (viewColumn >= 0) {
+                    onScanResultsSortRequested(scanResultsTable.convertColumnIndexToModel(viewColumn), e.isShiftDown());
+                }
+            }
+        });
+        DocumentListener scanFilterListener = new DocumentListener() {
+            @Override public void insertUpdate(DocumentEvent e) { onScanResultsFilterChanged(); }
+            @Override public void removeUpdate(DocumentEvent e) { onScanResultsFilterChanged(); }
+            @Override public void changedUpdate(DocumentEvent e) { onScanResultsFilterChanged(); }
+        };
+        scanResultsFilterField.getDocument().addDocumentListener(scanFilterListener);
+        scanMinScoreField.getDocument().addDocumentListener(scanFilterListener);
+        scanTopCombo.addActionListener(e -> onScanResultsFilterChanged());
         scanResultsTable.addMouseListener(new MouseAdapter() {
             @Override
             public void mouseClicked(MouseEvent e) {
@@ -1282,6 +1394,7 @@ public final class DPolarisJavaApp {
                 new EmptyBorder(4, 4, 4, 4)
         ));
         tableScroll.setColumnHeaderView(createSectionHeader("Scan Results (Expandable Rows)"));
+        tableScroll.getViewport().addChangeListener(e -> ensureVisibleScanPages());
 
         scanExecutiveSummaryArea = createRunDetailsArea();
         scanMarketContextArea = createRunDetailsArea();
@@ -1303,6 +1416,7 @@ public final class DPolarisJavaApp {
         detailsTabs.addTab("Risk Notes", createLogScrollPane(scanRiskArea, "Risk Notes"));
         detailsTabs.addTab("Why This", createLogScrollPane(scanExplainabilityArea, "Explainability"));
         detailsTabs.addTab("Artifacts", createLogScrollPane(scanArtifactsArea, "Artifacts / Raw JSON"));
+        detailsTabs.addTab("History", createScanHistoryPanel());
 
         JPanel detailsHeader = new JPanel(new FlowLayout(FlowLayout.LEFT, 8, 0));
         detailsHeader.setOpaque(false);
@@ -1330,10 +1444,9 @@ public final class DPolarisJavaApp {
         mainSplit.setBorder(BorderFactory.createEmptyBorder());
         mainSplit.setBackground(COLOR_BG);
 
-        scanLoadResultsButton.addActionListener(e -> loadScanResults(true));
+        scanLoadResultsButton.addActionListener(e -> refreshScanResults());
         scanRefreshStatusButton.addActionListener(e -> refreshScanStatusOnce());
-        scanPrevPageButton.addActionListener(e -> stepScanPage(-1));
-        scanNextPageButton.addActionListener(e -> stepScanPage(1));
+        scanExportButton.addActionListener(e -> exportScanResults());
 
         root.add(top, BorderLayout.NORTH);
         root.add(mainSplit, BorderLayout.CENTER);
@@ -1453,7 +1566,7 @@ public final class DPolarisJavaApp {
                     if (isBackendUnreachableError(ex)) {
                         styleInlineStatus(
                                 universeStatusLabel,
-                                "Universe: backend unreachable at " + hostField.getText().trim() + ":" + portField.getText().trim(),
+                                "Universe: backend unreachable at " + unreachableBackend(),
                                 COLOR_DANGER
                         );
                         setUniverseControlsEnabled(false);
@@ -1497,8 +1610,9 @@ public final class DPolarisJavaApp {
             @Override
             protected Map<String, Object> doInBackground() throws Exception {
                 Map<String, Object> bundle = new LinkedHashMap<>();
-                bundle.put("payload", scanService.getUniverse(requestUniverseId, forceRefresh));
-                bundle.put("analysis_dates", loadAnalysisDatesByTicker(forceRefresh));
+                Map<String, Object> payload = scanService.getUniverse(requestUniverseId, forceRefresh);
+                bundle.put("payload", payload);
+                bundle.put("analysis_dates", loadAnalysisDatesByTicker(payload, forceRefresh));
                 return bundle;
             }
 
@@ -1556,7 +1670,7 @@ public final class DPolarisJavaApp {
                     if (isBackendUnreachableError(ex)) {
                         styleInlineStatus(
                                 universeStatusLabel,
-                                "Universe: backend unreachable at " + hostField.getText().trim() + ":" + portField.getText().trim(),
+                                "Universe: backend unreachable at " + unreachableBackend(),
                                 COLOR_DANGER
                         );
                     } else {
@@ -1660,6 +1774,254 @@ public final class DPolarisJavaApp {
         worker.execute();
     }
 
+    private void startPredictionSweepFromUniverse() {
+        UniverseTableModel activeModel = activeUniverseModel();
+        if (activeModel == null || activeModel.getRowCount() == 0) {
+            JOptionPane.showMessageDialog(
+                    frame,
+                    "No tickers available. Refresh the list first.",
+                    "Prediction Sweep",
+                    JOptionPane.WARNING_MESSAGE
+            );
+            return;
+        }
+        List<String> tickers = selectedTickersFromModel(activeModel);
+        if (tickers.isEmpty()) {
+            tickers = allTickersFromModel(activeModel);
+        }
+        if (predictionSweep.isRunning()) {
+            int choice = JOptionPane.showConfirmDialog(
+                    frame,
+                    "A prediction sweep is already running. Cancel it and start a new one for "
+                            + tickers.size() + " tickers?",
+                    "Prediction Sweep",
+                    JOptionPane.OK_CANCEL_OPTION,
+                    JOptionPane.WARNING_MESSAGE
+            );
+            if (choice != JOptionPane.OK_OPTION) {
+                ensurePredictionSweepDialog().setVisible(true);
+                return;
+            }
+        }
+
+        configureClientFromUI();
+        predictionSweepHorizonDays = dashboardHorizonSpinner == null
+                ? 5
+                : Math.max(1, Json.asInt(dashboardHorizonSpinner.getValue(), 5));
+        JDialog dialog = ensurePredictionSweepDialog();
+        predictionSweepTableModel.clear();
+        for (String ticker : tickers) {
+            predictionSweepTableModel.upsert(PredictionSweepRow.pending(ticker));
+        }
+        predictionSweepProgressBar.setMaximum(Math.max(1, tickers.size()));
+        predictionSweepProgressBar.setValue(0);
+        predictionSweepProgressBar.setString("0 / " + tickers.size());
+        setPredictionSweepRunning(true);
+        styleInlineStatus(
+                predictionSweepStatusLabel,
+                "Sweep: " + tickers.size() + " tickers (" + activeUniverseId() + "), horizon "
+                        + predictionSweepHorizonDays + "d",
+                COLOR_WARNING
+        );
+        dialog.setVisible(true);
+        predictionSweep.start(tickers, predictionSweepHorizonDays, predictionSweepConcurrency(), predictionSweepListener());
+    }
+
+    private void resumePredictionSweep() {
+        if (predictionSweep.isRunning()) {
+            return;
+        }
+        List<String> pending = predictionSweep.pendingSymbols();
+        if (pending.isEmpty()) {
+            styleInlineStatus(predictionSweepStatusLabel, "Sweep: nothing left to resume", COLOR_MUTED);
+            return;
+        }
+        configureClientFromUI();
+        for (String ticker : pending) {
+            predictionSweepTableModel.upsert(PredictionSweepRow.pending(ticker));
+        }
+        setPredictionSweepRunning(true);
+        styleInlineStatus(predictionSweepStatusLabel, "Sweep: resuming " + pending.size() + " tickers...", COLOR_WARNING);
+        predictionSweep.resume(predictionSweepConcurrency(), predictionSweepListener());
+    }
+
+    private void cancelPredictionSweep() {
+        predictionSweep.cancel();
+        styleInlineStatus(predictionSweepStatusLabel, "Sweep: cancelling...", COLOR_WARNING);
+    }
+
+    private int predictionSweepConcurrency() {
+        return predictionSweepConcurrencySpinner == null
+                ? 4
+                : Math.max(1, Json.asInt(predictionSweepConcurrencySpinner.getValue(), 4));
+    }
+
+    private PredictionSweep.Listener predictionSweepListener() {
+        return new PredictionSweep.Listener() {
+            @Override
+            public void onResult(PredictionSweep.SweepResult result) {
+                PredictionSweepRow row = buildPredictionSweepRow(result);
+                SwingUtilities.invokeLater(() -> {
+                    predictionSweepTableModel.upsert(row);
+                    int done = predictionSweepTableModel.finishedCount();
+                    int total = predictionSweepTableModel.getRowCount();
+                    predictionSweepProgressBar.setMaximum(Math.max(1, total));
+                    predictionSweepProgressBar.setValue(done);
+                    predictionSweepProgressBar.setString(done + " / " + total);
+                });
+            }
+
+            @Override
+            public void onFinished(int succeeded, int failed, boolean cancelled) {
+                SwingUtilities.invokeLater(() -> {
+                    setPredictionSweepRunning(false);
+                    int pending = predictionSweep.pendingSymbols().size();
+                    String text = (cancelled ? "Sweep: cancelled" : "Sweep: finished")
+                            + " (" + succeeded + " ok, " + failed + " failed, " + pending + " pending) at " + ts();
+                    Color color = cancelled || failed > 0 ? COLOR_WARNING : COLOR_SUCCESS;
+                    styleInlineStatus(predictionSweepStatusLabel, text, color);
+                });
+            }
+        };
+    }
+
+    private void setPredictionSweepRunning(boolean running) {
+        if (predictionSweepCancelButton != null) {
+            predictionSweepCancelButton.setEnabled(running);
+        }
+        if (predictionSweepResumeButton != null) {
+            predictionSweepResumeButton.setEnabled(!running);
+        }
+        if (predictionSweepConcurrencySpinner != null) {
+            predictionSweepConcurrencySpinner.setEnabled(!running);
+        }
+    }
+
+    private PredictionSweepRow buildPredictionSweepRow(PredictionSweep.SweepResult result) {
+        Map<String, Object> prediction = result.prediction() == null ? new LinkedHashMap<>() : result.prediction();
+        Map<String, Object> signal = result.signal() == null ? new LinkedHashMap<>() : result.signal();
+        double confidence = Json.asDouble(prediction.get("confidence"), Double.NaN);
+        Map<String, Object> risk = safeObject(signal.get("risk"));
+        return new PredictionSweepRow(
+                result.symbol(),
+                result.ok() ? "DONE" : "FAILED",
+                stringOrDash(prediction.get("prediction")),
+                Double.isNaN(confidence) ? "—" : asPercent(confidence),
+                Double.isNaN(confidence) ? "—" : confidenceBand(confidence),
+                stringOrDash(signal.get("bias")),
+                signal.isEmpty() ? "—" : formatEntrySummary(safeObject(signal.get("entry"))),
+                asPrice(risk.get("stop_loss")),
+                formatTargetsSummary(safeArray(signal.get("targets"))),
+                result.elapsedMs(),
+                result.error() == null ? "" : result.error(),
+                prediction,
+                signal
+        );
+    }
+
+    private JDialog ensurePredictionSweepDialog() {
+        if (predictionSweepDialog != null) {
+            return predictionSweepDialog;
+        }
+        JDialog dialog = new JDialog(frame, "Prediction Sweep", false);
+        dialog.setSize(1180, 640);
+        dialog.setMinimumSize(new Dimension(900, 420));
+        dialog.setLocationRelativeTo(frame);
+        dialog.getContentPane().setBackground(COLOR_BG);
+        dialog.setLayout(new BorderLayout(8, 8));
+
+        predictionSweepConcurrencySpinner = new JSpinner(new SpinnerNumberModel(4, 1, 16, 1));
+        predictionSweepCancelButton = new JButton("Cancel");
+        predictionSweepResumeButton = new JButton("Resume");
+        predictionSweepStatusLabel = new JLabel();
+        predictionSweepProgressBar = new JProgressBar(0, 1);
+        styleSpinner(predictionSweepConcurrencySpinner);
+        styleButton(predictionSweepCancelButton, false);
+        styleButton(predictionSweepResumeButton, false);
+        styleInlineStatus(predictionSweepStatusLabel, "Sweep: idle", COLOR_MUTED);
+        predictionSweepProgressBar.setStringPainted(true);
+        predictionSweepProgressBar.setForeground(COLOR_ACCENT);
+        predictionSweepProgressBar.setBackground(COLOR_INPUT);
+        predictionSweepCancelButton.addActionListener(e -> cancelPredictionSweep());
+        predictionSweepResumeButton.addActionListener(e -> resumePredictionSweep());
+
+        JPanel controls = new JPanel(new FlowLayout(FlowLayout.LEFT, 8, 0));
+        controls.setOpaque(false);
+        controls.add(createFormLabel("Concurrency"));
+        controls.add(predictionSweepConcurrencySpinner);
+        controls.add(predictionSweepCancelButton);
+        controls.add(predictionSweepResumeButton);
+        controls.add(predictionSweepStatusLabel);
+
+        JPanel top = createCardPanel();
+        top.add(createSectionHeader("Prediction Sweep"), BorderLayout.NORTH);
+        JPanel topBody = new JPanel(new BorderLayout(0, 8));
+        topBody.setOpaque(false);
+        topBody.add(controls, BorderLayout.NORTH);
+        topBody.add(predictionSweepProgressBar, BorderLayout.CENTER);
+        topBody.add(createHintLabel("Double-click a row to open it on the Dashboard."), BorderLayout.SOUTH);
+        top.add(topBody, BorderLayout.CENTER);
+
+        predictionSweepTableModel = new PredictionSweepTableModel();
+        predictionSweepTable = new JTable(predictionSweepTableModel);
+        styleRunsTable(predictionSweepTable);
+        predictionSweepTable.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        TableRowSorter<PredictionSweepTableModel> sorter = new TableRowSorter<>(predictionSweepTableModel);
+        sorter.setComparator(3, (a, b) -> Double.compare(parseSortableDouble(stripPercent(a)), parseSortableDouble(stripPercent(b))));
+        sorter.setComparator(9, (a, b) -> Double.compare(parseSortableDouble(a), parseSortableDouble(b)));
+        predictionSweepTable.setRowSorter(sorter);
+        predictionSweepTable.addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                if (e.getClickCount() != 2 || !SwingUtilities.isLeftMouseButton(e)) {
+                    return;
+                }
+                int viewRow = predictionSweepTable.rowAtPoint(e.getPoint());
+                if (viewRow < 0) {
+                    return;
+                }
+                PredictionSweepRow row = predictionSweepTableModel.getRow(
+                        predictionSweepTable.convertRowIndexToModel(viewRow)
+                );
+                if (row != null) {
+                    openPredictionSweepRowOnDashboard(row);
+                }
+            }
+        });
+
+        JScrollPane tableScroll = new JScrollPane(predictionSweepTable);
+        tableScroll.getViewport().setBackground(COLOR_LOG_BG);
+        tableScroll.setBorder(new CompoundBorder(
+                new LineBorder(COLOR_BORDER, 1, true),
+                new EmptyBorder(4, 4, 4, 4)
+        ));
+
+        JPanel body = new JPanel(new BorderLayout(8, 8));
+        body.setOpaque(false);
+        body.setBorder(new EmptyBorder(8, 10, 10, 10));
+        body.add(top, BorderLayout.NORTH);
+        body.add(tableScroll, BorderLayout.CENTER);
+        dialog.add(body, BorderLayout.CENTER);
+        setPredictionSweepRunning(false);
+        predictionSweepDialog = dialog;
+        return dialog;
+    }
+
+    private void openPredictionSweepRowOnDashboard(PredictionSweepRow row) {
+        if (!"DONE".equals(row.status())) {
+            return;
+        }
+        dashboardSymbolField.setText(row.symbol());
+        showView(VIEW_DASHBOARD);
+        renderDashboardPrediction(row.symbol(), row.prediction());
+        renderDashboardSignal(row.signal());
+        setDashboardStatus("From sweep " + ts(), COLOR_SUCCESS);
+    }
+
+    private Object stripPercent(Object value) {
+        return value == null ? null : String.valueOf(value).replace("%", "");
+    }
+
     private void attachUniverseTableAnalysisAction(JTable table, UniverseTableModel model) {
         if (table == null || model == null) {
             return;
@@ -1882,40 +2244,55 @@ public final class DPolarisJavaApp {
             return;
         }
 
-        String symbol = JOptionPane.showInputDialog(
+        String input = JOptionPane.showInputDialog(
                 frame,
-                "Enter ticker symbol to add to Watchlist:",
+                "Enter ticker symbol(s) to add to Watchlist (comma or space separated):",
                 "Add Ticker",
                 JOptionPane.PLAIN_MESSAGE
         );
-        symbol = symbol == null ? "" : symbol.trim().toUpperCase();
-        if (symbol.isBlank()) {
+        input = input == null ? "" : input.trim().toUpperCase();
+        if (input.isBlank()) {
             return;
         }
-        if (!WATCHLIST_TICKER_PATTERN.matcher(symbol).matches()) {
-            styleInlineStatus(universeStatusLabel, "Watchlist: invalid ticker format (A-Z/0-9/./-, max 10)", COLOR_WARNING);
+        List<String> symbols = new ArrayList<>();
+        for (String symbol : input.split("[,\\s]+")) {
+            if (symbol.isBlank()) {
+                continue;
+            }
+            if (!WATCHLIST_TICKER_PATTERN.matcher(symbol).matches()) {
+                styleInlineStatus(
+                        universeStatusLabel,
+                        "Watchlist: invalid ticker format '" + symbol + "' (A-Z/0-9/./-, max 10)",
+                        COLOR_WARNING
+                );
+                return;
+            }
+            symbols.add(symbol);
+        }
+        if (symbols.isEmpty()) {
             return;
         }
-        final String symbolFinal = symbol;
 
         configureClientFromUI();
         universeAddStockButton.setEnabled(false);
-        styleInlineStatus(universeStatusLabel, "Watchlist: adding " + symbolFinal + "...", COLOR_WARNING);
+        styleInlineStatus(universeStatusLabel, "Watchlist: adding " + String.join(", ", symbols) + "...", COLOR_WARNING);
 
-        SwingWorker<Map<String, Object>, Void> worker = new SwingWorker<>() {
+        SwingWorker<ScanService.WatchlistUpdate, Void> worker = new SwingWorker<>() {
             @Override
-            protected Map<String, Object> doInBackground() throws Exception {
-                return scanService.addWatchlistSymbol(symbolFinal);
+            protected ScanService.WatchlistUpdate doInBackground() throws Exception {
+                return scanService.updateWatchlist("add", symbols);
             }
 
             @Override
             protected void done() {
                 universeAddStockButton.setEnabled(true);
                 try {
-                    Map<String, Object> response = get();
-                    styleInlineStatus(universeStatusLabel, "Watchlist: added " + symbolFinal, COLOR_SUCCESS);
-                    appendBackendLog(ts() + " | Watchlist ticker added: " + symbolFinal + " (" + Json.pretty(response) + ")");
-                    ensureDeepLearningTickersLoaded(true);
+                    ScanService.WatchlistUpdate update = get();
+                    reportWatchlistUpdate("added", update);
+                    if (!update.applied().isEmpty()) {
+                        appendBackendLog(ts() + " | Watchlist tickers added: " + String.join(", ", update.applied()));
+                        ensureDeepLearningTickersLoaded(true);
+                    }
                 } catch (Exception ex) {
                     styleInlineStatus(
                             universeStatusLabel,
@@ -1951,15 +2328,10 @@ public final class DPolarisJavaApp {
         }
         styleInlineStatus(universeStatusLabel, "Watchlist: removing " + selected.size() + " ticker(s)...", COLOR_WARNING);
 
-        SwingWorker<Integer, Void> worker = new SwingWorker<>() {
+        SwingWorker<ScanService.WatchlistUpdate, Void> worker = new SwingWorker<>() {
             @Override
-            protected Integer doInBackground() throws Exception {
-                int removed = 0;
-                for (String symbol : selected) {
-                    scanService.removeWatchlistSymbol(symbol);
-                    removed++;
-                }
-                return removed;
+            protected ScanService.WatchlistUpdate doInBackground() throws Exception {
+                return scanService.updateWatchlist("remove", selected);
             }
 
             @Override
@@ -1968,9 +2340,11 @@ public final class DPolarisJavaApp {
                     universeRemoveStockButton.setEnabled(true);
                 }
                 try {
-                    int removed = get();
-                    styleInlineStatus(universeStatusLabel, "Watchlist: removed " + removed + " ticker(s)", COLOR_SUCCESS);
-                    ensureDeepLearningTickersLoaded(true);
+                    ScanService.WatchlistUpdate update = get();
+                    reportWatchlistUpdate("removed", update);
+                    if (!update.applied().isEmpty()) {
+                        ensureDeepLearningTickersLoaded(true);
+                    }
                 } catch (Exception ex) {
                     styleInlineStatus(universeStatusLabel, "Watchlist: remove failed (" + humanizeError(ex) + ")", COLOR_DANGER);
                 }
@@ -1979,6 +2353,22 @@ public final class DPolarisJavaApp {
         worker.execute();
     }
 
+    private void reportWatchlistUpdate(String verb, ScanService.WatchlistUpdate update) {
+        if (update.failed().isEmpty()) {
+            styleInlineStatus(universeStatusLabel, "Watchlist: " + verb + " " + update.applied().size() + " ticker(s)", COLOR_SUCCESS);
+            return;
+        }
+        styleInlineStatus(
+                universeStatusLabel,
+                "Watchlist: " + verb + " " + update.applied().size() + ", failed " + update.failed().size()
+                        + " (" + String.join(", ", update.failed().keySet()) + ")",
+                update.applied().isEmpty() ? COLOR_DANGER : COLOR_WARNING
+        );
+        for (Map.Entry<String, String> failure : update.failed().entrySet()) {
+            appendBackendLog(ts() + " | Watchlist " + failure.getKey() + " not " + verb + ": " + failure.getValue());
+        }
+    }
+
     private void configureUniverseSorter(TableRowSorter<UniverseTableModel> sorter) {
         if (sorter == null) {
             return;
@@ -2205,60 +2595,13 @@ public final class DPolarisJavaApp {
         return out;
     }
 
-    private Map<String, String> loadAnalysisDatesByTicker(boolean forceRefresh) throws Exception {
-        long nowMs = System.currentTimeMillis();
-        synchronized (universeAnalysisDateCacheLock) {
-            if (!forceRefresh && !universeAnalysisDateCache.isEmpty() && (nowMs - universeAnalysisDateCacheLoadedAtMs) < 60_000L) {
-                return new LinkedHashMap<>(universeAnalysisDateCache);
-            }
-        }
-
-        Object payload = apiClient.fetchAnalysisList(500);
-        List<?> items;
-        if (payload instanceof List<?> list) {
-            items = list;
-        } else if (payload instanceof Map<?, ?> mapRaw) {
-            Object nested = Json.asObject(mapRaw).get("items");
-            if (nested instanceof List<?> nestedList) {
-                items = nestedList;
-            } else {
-                items = List.of();
-            }
-        } else {
-            items = List.of();
-        }
-
-        Map<String, String> latestByTicker = new LinkedHashMap<>();
-        for (Object item : items) {
-            if (!(item instanceof Map<?, ?> mapRaw)) {
-                continue;
-            }
-            Map<String, Object> row = Json.asObject(mapRaw);
-            String ticker = firstNonBlank(
-                    stringOrEmpty(findAnyValue(row, "ticker", "symbol")),
-                    ""
-            ).toUpperCase();
-            if (ticker.isBlank()) {
-                continue;
-            }
-            String date = firstNonBlank(
-                    stringOrEmpty(findAnyValue(row, "analysis_date", "created_at", "last_analysis_at")),
-                    ""
-            );
-            if (date.isBlank()) {
-                continue;
-            }
-            String existing = latestByTicker.get(ticker);
-            if (existing == null || date.compareTo(existing) > 0) {
-                latestByTicker.put(ticker, date);
-            }
-        }
-
-        synchronized (universeAnalysisDateCacheLock) {
-            universeAnalysisDateCache = new LinkedHashMap<>(latestByTicker);
-            universeAnalysisDateCacheLoadedAtMs = nowMs;
+    private Map<String, String> loadAnalysisDatesByTicker(Map<String, Object> universePayload, boolean forceRefresh)
+            throws Exception {
+        List<String> tickers = new ArrayList<>();
+        for (UniverseRow row : parseUniverseRows(universePayload, Map.of())) {
+            tickers.add(row.ticker());
         }
-        return latestByTicker;
+        return analysisDateIndex.datesFor(tickers, forceRefresh);
     }
 
     private void triggerUniverseRefreshNow() {
@@ -2405,6 +2748,9 @@ public final class DPolarisJavaApp {
         boolean hasRows = totalRows > 0;
 
         universeRunScanButton.setEnabled(hasRows);
+        if (universePredictionSweepButton != null) {
+            universePredictionSweepButton.setEnabled(hasRows);
+        }
 
         if (!hasRows) {
             universeRunScanButton.setToolTipText("Load universe data first.");
@@ -2639,8 +2985,19 @@ public final class DPolarisJavaApp {
 
         JComboBox<String> riskModeCombo = new JComboBox<>(new String[]{"conservative", "standard", "aggressive"});
         JSpinner maxTickersSpinner = new JSpinner(new SpinnerNumberModel(defaultMaxTickers, 1, maxSelectable, 1));
+        // One shard per backend instance by default, so a single-backend setup keeps one plain run.
+        int defaultShards = Math.max(1, Math.min(ScanOrchestrator.MAX_SHARDS, scanService.backendCount()));
+        JSpinner shardsSpinner = new JSpinner(new SpinnerNumberModel(defaultShards, 1, ScanOrchestrator.MAX_SHARDS, 1));
+        shardsSpinner.setToolTipText("Split the scan into concurrent runs spread across the configured backends");
         styleCombo(riskModeCombo);
         styleSpinner(maxTickersSpinner);
+        styleSpinner(shardsSpinner);
+        JCheckBox incrementalCheck = new JCheckBox("Rescan changed tickers only", false);
+        incrementalCheck.setToolTipText(
+                "Compare against the last completed scan and carry forward tickers without newer analysis data"
+        );
+        incrementalCheck.setOpaque(false);
+        incrementalCheck.setForeground(COLOR_TEXT);
 
         JPanel panel = new JPanel(new GridBagLayout());
         panel.setBackground(COLOR_CARD);
@@ -2678,6 +3035,16 @@ public final class DPolarisJavaApp {
         panel.add(createFormLabel("Max Tickers (" + maxSelectable + " max)"), gbc);
         gbc.gridx = 1;
         panel.add(maxTickersSpinner, gbc);
+        gbc.gridx = 0;
+        gbc.gridy++;
+        panel.add(createFormLabel("Shards"), gbc);
+        gbc.gridx = 1;
+        panel.add(shardsSpinner, gbc);
+        gbc.gridx = 0;
+        gbc.gridy++;
+        panel.add(createFormLabel("Incremental"), gbc);
+        gbc.gridx = 1;
+        panel.add(incrementalCheck, gbc);
 
         int choice = JOptionPane.showConfirmDialog(
                 frame,
@@ -2691,6 +3058,7 @@ public final class DPolarisJavaApp {
         }
 
         int maxTickers = Math.max(1, Json.asInt(maxTickersSpinner.getValue(), defaultMaxTickers));
+        int shards = Math.max(1, Json.asInt(shardsSpinner.getValue(), defaultShards));
         List<String> horizons = new ArrayList<>();
         for (JCheckBox cb : horizonChecks) {
             if (cb.isSelected()) horizons.add(cb.getText());
@@ -2741,10 +3109,10 @@ public final class DPolarisJavaApp {
         payload.put("horizonConfig", horizonConfig);
         payload.put("strategyUniverseConfig", strategyConfig);
         payload.put("riskConfig", riskConfig);
-        startDeepLearningScan(payload);
+        startDeepLearningScan(payload, Math.min(shards, tickers.size()), incrementalCheck.isSelected());
     }
 
-    private void startDeepLearningScan(Map<String, Object> payload) {
+    private void startDeepLearningScan(Map<String, Object> payload, int shards, boolean incremental) {
         configureClientFromUI();
         universeRunScanButton.setEnabled(false);
         if (universeMainTabs != null) {
@@ -2772,10 +3140,32 @@ public final class DPolarisJavaApp {
                 if (!healthCheckWithRetries(3, 2, 250L)) {
                     throw new IOException(
                             "Backend is not reachable at "
-                                    + currentHostPort()
+                                    + unreachableBackend()
                                     + ". Start AI Backend first."
                     );
                 }
+                if (incremental) {
+                    appendScanWarningLog("Comparing universe against the last completed scan...");
+                    return scanService.startIncrementalScan(
+                            payload,
+                            shards,
+                            response -> firstNonBlank(
+                                    stringOrEmpty(findAnyValue(response, "run_id", "runId", "id")),
+                                    extractRunId(response)
+                            )
+                    );
+                }
+                if (shards > 1) {
+                    appendScanWarningLog("POST /scan/start x" + shards + " shards");
+                    return scanService.startShardedScan(
+                            payload,
+                            shards,
+                            response -> firstNonBlank(
+                                    stringOrEmpty(findAnyValue(response, "run_id", "runId", "id")),
+                                    extractRunId(response)
+                            )
+                    );
+                }
                 appendScanWarningLog("POST /scan/start");
                 return scanService.startScan(payload);
             }
@@ -2804,6 +3194,24 @@ public final class DPolarisJavaApp {
                     styleInlineStatus(universeStatusLabel, "Universe: scan started (" + shortenRunId(runId) + ")", COLOR_SUCCESS);
                     styleInlineStatus(scanResultsStatusLabel, "Scan results: run " + shortenRunId(runId) + " started", COLOR_WARNING);
                     appendScanWarningLog("Scan run started: " + runId);
+                    if (response.get("shard_run_ids") instanceof List<?> shardRunIds) {
+                        appendScanWarningLog("Shard runs: " + shardRunIds);
+                    }
+                    if (response.get("failed_shards") instanceof List<?> failedShards && !failedShards.isEmpty()) {
+                        appendScanWarningLog("Shards not started (" + response.get("missing_tickers")
+                                + " tickers will be missing): " + failedShards);
+                    }
+                    if (response.containsKey("carried_forward")) {
+                        appendScanWarningLog(
+                                "Incremental scan vs " + shortenRunId(stringOrEmpty(response.get("base_run_id")))
+                                        + ": rescanning " + response.get("rescanned")
+                                        + ", carried forward " + response.get("carried_forward")
+                                        + " " + Json.compact(response.get("reasons"))
+                        );
+                    }
+                    if (response.get("incremental_fallback") != null) {
+                        appendScanWarningLog("Incremental scan: " + response.get("incremental_fallback"));
+                    }
                     logScanAudit("started", runId, payload, null);
                     loadScanResults(true);
                     startScanStatusPolling(runId);
@@ -2841,16 +3249,16 @@ public final class DPolarisJavaApp {
         styleStatusLabel(connectionLabel, "Connection failed", COLOR_DANGER);
         backendExternalConnected = false;
         refreshBackendControls();
-        appendScanWarningLog("Backend preflight failed at " + currentHostPort());
+        appendScanWarningLog("Backend preflight failed at " + unreachableBackend());
 
         styleInlineStatus(
                 universeStatusLabel,
-                "Universe: backend not reachable at " + currentHostPort(),
+                "Universe: backend not reachable at " + unreachableBackend(),
                 COLOR_DANGER
         );
         JOptionPane.showMessageDialog(
                 frame,
-                "Cannot start scan because backend is not reachable at " + currentHostPort() + ".\n\n"
+                "Cannot start scan because backend is not reachable at " + unreachableBackend() + ".\n\n"
                         + "Go to AI Management > Backend Control and click Start AI Backend,\n"
                         + "then click Check Connection.",
                 "Backend Not Reachable",
@@ -2902,75 +3310,565 @@ public final class DPolarisJavaApp {
         }
     }
 
-    private void stepScanPage(int delta) {
-        if (scanPageSpinner == null) {
-            return;
-        }
-        int current = Json.asInt(scanPageSpinner.getValue(), 1);
-        int next = Math.max(1, current + delta);
-        scanPageSpinner.setValue(next);
-        loadScanResults(true);
-    }
-
     private void loadScanResults(boolean forceRefresh) {
         String runId = scanRunIdField == null ? "" : scanRunIdField.getText().trim();
         if (runId.isBlank()) {
             styleInlineStatus(scanResultsStatusLabel, "Scan results: enter runId first", COLOR_WARNING);
             return;
         }
-        int page = Math.max(1, Json.asInt(scanPageSpinner.getValue(), 1));
         int pageSize = scanPageSizeCombo == null ? 100 : Math.max(1, (Integer) scanPageSizeCombo.getSelectedItem());
         if (!Objects.equals(activeScanRunId, runId)) {
+            if (activeScanRunId != null) {
+                scanService.resetScanResultsSync(activeScanRunId);
+            }
             activeScanRunId = runId;
             expandedScanTicker = null;
             scanDetailCache.clear();
             clearScanDetails("Run changed. Expand a ticker row to load details.");
         }
+        if (forceRefresh) {
+            // Every page, not just the first, must come from the backend again.
+            scanService.invalidateScanResults(runId);
+        }
 
+        prefetcher.cancel(PREFETCH_SCAN);
+        if (scanIndexWorker != null) {
+            scanIndexWorker.cancel(true);
+            scanIndexWorker = null;
+        }
+        int generation = scanResultsTableModel.reset(runId, pageSize);
+        scanPagesInFlight.clear();
+        lastScanDetailPrefetchRow = -1;
         styleInlineStatus(scanResultsStatusLabel, "Scan results: loading...", COLOR_WARNING);
-        SwingWorker<ScanService.ScanResultsPage, Void> worker = new SwingWorker<>() {
+        fetchScanPage(generation, 1);
+    }
+
+    /** Refresh patches changed rows into the run already on screen; any other run loads from scratch. */
+    private void refreshScanResults() {
+        String runId = scanRunIdField == null ? "" : scanRunIdField.getText().trim();
+        if (!runId.isBlank() && runId.equals(scanResultsTableModel.runId()) && scanResultsTableModel.getRowCount() > 0) {
+            syncScanResultsNow(runId);
+        } else {
+            loadScanResults(true);
+        }
+    }
+
+    private void exportScanResults() {
+        if (scanExportWorker != null && !scanExportWorker.isDone()) {
+            scanExportWorker.cancel(true);
+            return;
+        }
+        String runId = scanRunIdField == null ? "" : scanRunIdField.getText().trim();
+        if (runId.isBlank()) {
+            styleInlineStatus(scanResultsStatusLabel, "Scan results: enter a run ID to export", COLOR_WARNING);
+            return;
+        }
+        JFileChooser chooser = new JFileChooser();
+        chooser.setDialogTitle("Export scan results CSV");
+        chooser.setSelectedFile(new File("scan-" + runId + ".csv"));
+        if (chooser.showSaveDialog(frame) != JFileChooser.APPROVE_OPTION || chooser.getSelectedFile() == null) {
+            return;
+        }
+        Path csvPath = chooser.getSelectedFile().toPath();
+        Path columnarPath = ScanResultsExporter.columnarPathFor(csvPath);
+        int pageSize = scanPageSizeCombo == null ? 100 : Math.max(1, (Integer) scanPageSizeCombo.getSelectedItem());
+        ScanResultsExporter exporter = new ScanResultsExporter(scanService, this::buildScanResultRows);
+
+        scanExportButton.setText("Cancel Export");
+        styleInlineStatus(scanResultsStatusLabel, "Scan export: starting...", COLOR_WARNING);
+        scanExportWorker = new SwingWorker<>() {
             @Override
-            protected ScanService.ScanResultsPage doInBackground() throws Exception {
-                return scanService.getScanResults(runId, page, pageSize, forceRefresh);
+            protected Long doInBackground() throws Exception {
+                return exporter.export(runId, pageSize, csvPath, columnarPath, this::publish);
+            }
+
+            @Override
+            protected void process(List<Long> chunks) {
+                if (!isCancelled() && !chunks.isEmpty()) {
+                    styleInlineStatus(
+                            scanResultsStatusLabel,
+                            "Scan export: " + chunks.get(chunks.size() - 1) + " rows written",
+                            COLOR_WARNING
+                    );
+                }
             }
 
             @Override
             protected void done() {
+                scanExportButton.setText("Export...");
+                if (isCancelled()) {
+                    styleInlineStatus(scanResultsStatusLabel, "Scan export cancelled", COLOR_MUTED);
+                    return;
+                }
                 try {
-                    ScanService.ScanResultsPage pageData = get();
-                    List<ScanResultRow> rows = buildScanResultRows(pageData.rows());
-                    scanResultsTableModel.setRows(rows);
-                    scanResultsTableModel.setExpandedTicker(expandedScanTicker);
-                    scanResultsTotal = Math.max(pageData.total(), rows.size());
-                    scanPrevPageButton.setEnabled(page > 1);
-                    scanNextPageButton.setEnabled((long) page * pageSize < scanResultsTotal);
-                    String statusText = "Scan results: loaded " + rows.size() + " (page " + page + ", total ~" + scanResultsTotal
-                            + ")";
-                    styleInlineStatus(scanResultsStatusLabel, statusText, COLOR_SUCCESS);
-                    if (rows.isEmpty()) {
-                        clearScanDetails("No scan results on this page yet.");
+                    long rows = get();
+                    styleInlineStatus(
+                            scanResultsStatusLabel,
+                            "Scan export: " + rows + " rows to " + csvPath.getFileName() + " and " + columnarPath.getFileName(),
+                            COLOR_SUCCESS
+                    );
+                } catch (Exception ex) {
+                    styleInlineStatus(scanResultsStatusLabel, "Scan export failed", COLOR_DANGER);
+                    JOptionPane.showMessageDialog(
+                            frame,
+                            "Failed to export scan results:\n" + humanizeError(ex),
+                            "Export Failed",
+                            JOptionPane.ERROR_MESSAGE
+                    );
+                }
+            }
+        };
+        scanExportWorker.execute();
+    }
+
+    private JPanel createScanHistoryPanel() {
+        scanHistoryTickerField = new JTextField(8);
+        scanHistoryTickerField.setToolTipText("Ticker to trace across stored scan runs");
+        scanHistoryArea = createRunDetailsArea();
+        JButton scoreHistoryButton = new JButton("Ticker History");
+        JButton regimeFlipsButton = new JButton("Regime Flips");
+        JButton strategyChangesButton = new JButton("Strategy Changes");
+        JButton addRunButton = new JButton("Add Run to History");
+        styleInputField(scanHistoryTickerField);
+        styleButton(scoreHistoryButton, true);
+        styleButton(regimeFlipsButton, false);
+        styleButton(strategyChangesButton, false);
+        styleButton(addRunButton, false);
+        scoreHistoryButton.addActionListener(e -> showScanTickerHistory());
+        scanHistoryTickerField.addActionListener(e -> showScanTickerHistory());
+        regimeFlipsButton.addActionListener(e -> showScanHistoryChanges(ScanHistoryStore.Field.REGIME));
+        strategyChangesButton.addActionListener(e -> showScanHistoryChanges(ScanHistoryStore.Field.TOP_STRATEGY));
+        addRunButton.addActionListener(e -> ingestScanHistory(scanRunIdField.getText().trim(), true));
+
+        JPanel controls = new JPanel(new FlowLayout(FlowLayout.LEFT, 8, 0));
+        controls.setOpaque(false);
+        controls.add(createFormLabel("Ticker"));
+        controls.add(scanHistoryTickerField);
+        controls.add(scoreHistoryButton);
+        controls.add(regimeFlipsButton);
+        controls.add(strategyChangesButton);
+        controls.add(addRunButton);
+
+        JPanel panel = new JPanel(new BorderLayout(0, 8));
+        panel.setOpaque(false);
+        panel.add(controls, BorderLayout.NORTH);
+        panel.add(createLogScrollPane(scanHistoryArea, "Scan History"), BorderLayout.CENTER);
+        return panel;
+    }
+
+    /** Adds a completed run to the local scan history; {@code announce} reports the outcome in the History tab. */
+    private void ingestScanHistory(String runId, boolean announce) {
+        if (runId == null || runId.isBlank()) {
+            if (announce) {
+                scanHistoryArea.setText("Enter or load a scan run ID to add it to the history.");
+            }
+            return;
+        }
+        if (announce) {
+            scanHistoryArea.setText("Adding run " + runId + " to scan history...");
+        }
+        ScanResultsExporter exporter = new ScanResultsExporter(scanService, this::buildScanResultRows);
+        SwingWorker<Boolean, Void> worker = new SwingWorker<>() {
+            @Override
+            protected Boolean doInBackground() throws Exception {
+                return scanHistoryStore.ingest(runId, exporter);
+            }
+
+            @Override
+            protected void done() {
+                try {
+                    boolean added = get();
+                    String message = added
+                            ? "Run " + runId + " added to scan history (" + scanHistoryStore.segmentCount() + " runs stored)."
+                            : "Run " + runId + " is already in the scan history.";
+                    if (announce) {
+                        scanHistoryArea.setText(message);
+                    } else if (added) {
+                        appendScanWarningLog(message);
                     }
                 } catch (Exception ex) {
-                    styleInlineStatus(scanResultsStatusLabel, "Scan results: load failed", COLOR_DANGER);
-                    clearScanDetails("Failed to load scan results: " + humanizeError(ex));
+                    String message = "Scan history ingest failed for " + runId + ": " + humanizeError(ex);
+                    if (announce) {
+                        scanHistoryArea.setText(message);
+                    } else {
+                        appendScanWarningLog(message);
+                    }
                 }
             }
         };
         worker.execute();
     }
 
-    private List<ScanResultRow> buildScanResultRows(List<Map<String, Object>> payloadRows) {
-        List<ScanResultRow> rows = new ArrayList<>();
-        for (Map<String, Object> payload : payloadRows) {
-            String ticker = firstNonBlank(
-                    stringOrEmpty(findAnyValue(payload, "ticker", "symbol", "id")),
-                    ""
-            ).toUpperCase();
-            if (ticker.isBlank()) {
-                continue;
-            }
-            String rowStatus = firstNonBlank(stringOrEmpty(findAnyValue(payload, "status", "state")), "unknown");
-            double score = Json.asDouble(findAnyValue(payload, "overall_score", "score", "rank_score"), Double.NaN);
+    private void showScanTickerHistory() {
+        String ticker = scanHistoryTickerField.getText().trim().toUpperCase();
+        if (ticker.isBlank() && expandedScanTicker != null) {
+            ticker = expandedScanTicker;
+            scanHistoryTickerField.setText(ticker);
+        }
+        if (ticker.isBlank()) {
+            scanHistoryArea.setText("Enter a ticker to see its history across stored scan runs.");
+            return;
+        }
+        String wanted = ticker;
+        runScanHistoryQuery(() -> {
+            List<ScanHistoryStore.HistoryPoint> points = scanHistoryStore.history(wanted, ScanHistoryStore.DEFAULT_HISTORY_RUNS);
+            StringBuilder sb = new StringBuilder();
+            sb.append(wanted).append(" across the last ").append(points.size()).append(" stored runs\n\n");
+            if (points.isEmpty()) {
+                return sb.append("No stored scan run includes this ticker.").toString();
+            }
+            sb.append(String.format("%-10s  %7s  %6s  %-18s  %-18s  %s%n", "Date", "Score", "Conf", "Regime", "Top Strategy", "Run"));
+            ScanHistoryStore.HistoryPoint previous = null;
+            for (ScanHistoryStore.HistoryPoint point : points) {
+                boolean regimeFlip = previous != null && !previous.regime().equals(point.regime());
+                sb.append(String.format(
+                        "%-10s  %7s  %6s  %-18s  %-18s  %s%n",
+                        point.date(),
+                        historyNumber(point.score()),
+                        historyNumber(point.confidence()),
+                        (regimeFlip ? "* " : "") + point.regime(),
+                        point.topStrategy(),
+                        shortenRunId(point.runId())
+                ));
+                previous = point;
+            }
+            return sb.append("\n* regime changed from the previous run").toString();
+        });
+    }
+
+    private void showScanHistoryChanges(ScanHistoryStore.Field field) {
+        runScanHistoryQuery(() -> {
+            ScanHistoryStore.Changes result = scanHistoryStore.changedSincePreviousDate(field);
+            String label = field == ScanHistoryStore.Field.REGIME ? "regime" : "top strategy";
+            if (result.latest() == null || result.previous() == null) {
+                return "Need stored runs from two different dates to compare " + label + " changes.";
+            }
+            StringBuilder sb = new StringBuilder();
+            sb.append(result.changes().size()).append(" tickers changed ").append(label)
+                    .append(" between ").append(result.previous().date())
+                    .append(" and ").append(result.latest().date()).append("\n\n");
+            for (ScanHistoryStore.Change change : result.changes()) {
+                sb.append(String.format(
+                        "%-8s  %-18s -> %-18s  score %s -> %s%n",
+                        change.ticker(),
+                        change.before(),
+                        change.after(),
+                        historyNumber(change.scoreBefore()),
+                        historyNumber(change.scoreAfter())
+                ));
+            }
+            return sb.toString();
+        });
+    }
+
+    private static String historyNumber(double value) {
+        return Double.isNaN(value) ? "—" : String.format("%.2f", value);
+    }
+
+    /** The first query loads stored segments from disk, so queries run off the event thread. */
+    private void runScanHistoryQuery(Callable<String> query) {
+        SwingWorker<String, Void> worker = new SwingWorker<>() {
+            @Override
+            protected String doInBackground() throws Exception {
+                long started = System.nanoTime();
+                String text = query.call();
+                return text + String.format("%n(%.1f ms)", (System.nanoTime() - started) / 1_000_000.0);
+            }
+
+            @Override
+            protected void done() {
+                try {
+                    scanHistoryArea.setText(get());
+                    scanHistoryArea.setCaretPosition(0);
+                } catch (Exception ex) {
+                    scanHistoryArea.setText("Scan history query failed: " + humanizeError(ex));
+                }
+            }
+        };
+        worker.execute();
+    }
+
+    private void syncScanResultsNow(String runId) {
+        styleInlineStatus(scanResultsStatusLabel, "Scan results: checking for changes...", COLOR_WARNING);
+        SwingWorker<ScanService.ScanResultsDelta, Void> worker = new SwingWorker<>() {
+            @Override
+            protected ScanService.ScanResultsDelta doInBackground() throws Exception {
+                return scanService.syncScanResults(runId);
+            }
+
+            @Override
+            protected void done() {
+                try {
+                    applyScanResultsDelta(runId, get());
+                } catch (Exception ex) {
+                    // Incremental sync is an optimization; a full reload still gets the user current rows.
+                    if (runId.equals(scanResultsTableModel.runId())) {
+                        loadScanResults(true);
+                    }
+                }
+            }
+        };
+        worker.execute();
+    }
+
+    /** Periodic sync while a scan runs; skipped while the previous one is still out. */
+    private void syncScanResultsQuietly(String runId) {
+        if (scanResultsSyncInFlight) {
+            return;
+        }
+        scanResultsSyncInFlight = true;
+        SwingWorker<ScanService.ScanResultsDelta, Void> worker = new SwingWorker<>() {
+            @Override
+            protected ScanService.ScanResultsDelta doInBackground() throws Exception {
+                return scanService.syncScanResults(runId);
+            }
+
+            @Override
+            protected void done() {
+                scanResultsSyncInFlight = false;
+                try {
+                    applyScanResultsDelta(runId, get());
+                } catch (Exception ignored) {
+                    // The next status update retries; the final sync at completion falls back to a full reload.
+                }
+            }
+        };
+        worker.execute();
+    }
+
+    private void applyScanResultsDelta(String runId, ScanService.ScanResultsDelta delta) {
+        if (!runId.equals(scanResultsTableModel.runId())) {
+            return;
+        }
+        List<ScanResultRow> changed = buildScanResultRows(delta.changedRows());
+        boolean expandedChanged = false;
+        for (ScanResultRow row : changed) {
+            scanDetailCache.invalidate(runId + "::" + row.ticker());
+            expandedChanged |= row.ticker().equals(expandedScanTicker);
+        }
+        scanResultsTableModel.patchRows(changed, delta.total());
+        scanResultsTotal = scanResultsTableModel.total();
+        styleInlineStatus(scanResultsStatusLabel, "Scan results: " + changed.size() + " changed, "
+                + scanResultsTotal + " rows", COLOR_SUCCESS);
+        if (expandedChanged) {
+            loadScanDetail(false);
+        }
+        ensureVisibleScanPages();
+    }
+
+    /** Loads the pages under the viewport plus one ahead, and warms details of the visible tickers. */
+    private void ensureVisibleScanPages() {
+        if (scanResultsTableModel == null || scanResultsTable == null || scanResultsTableModel.getRowCount() == 0) {
+            return;
+        }
+        Rectangle visible = scanResultsTable.getVisibleRect();
+        int first = Math.max(0, scanResultsTable.rowAtPoint(visible.getLocation()));
+        int last = scanResultsTable.rowAtPoint(new java.awt.Point(visible.x, visible.y + visible.height - 1));
+        if (last < 0) {
+            last = scanResultsTableModel.getRowCount() - 1;
+        }
+        if (!scanResultsTableModel.isIndexed()) {
+            int generation = scanResultsTableModel.generation();
+            int lastPage = Math.min(scanResultsTableModel.pageOf(last) + 1, scanResultsTableModel.pageCount());
+            for (int page = scanResultsTableModel.pageOf(first); page <= lastPage; page++) {
+                if (!scanResultsTableModel.hasPage(page) && !scanPagesInFlight.contains(page)) {
+                    fetchScanPage(generation, page);
+                }
+            }
+        }
+        if (first != lastScanDetailPrefetchRow) {
+            lastScanDetailPrefetchRow = first;
+            prefetchVisibleScanDetails(first);
+        }
+    }
+
+    private void fetchScanPage(int generation, int page) {
+        String runId = scanResultsTableModel.runId();
+        int pageSize = scanResultsTableModel.pageSize();
+        scanPagesInFlight.add(page);
+        SwingWorker<ScanService.ScanResultsPage, Void> worker = new SwingWorker<>() {
+            @Override
+            protected ScanService.ScanResultsPage doInBackground() throws Exception {
+                return scanService.getScanResults(runId, page, pageSize, false);
+            }
+
+            @Override
+            protected void done() {
+                if (generation != scanResultsTableModel.generation()) {
+                    return;
+                }
+                scanPagesInFlight.remove(page);
+                try {
+                    ScanService.ScanResultsPage pageData = get();
+                    List<ScanResultRow> rows = buildScanResultRows(pageData.rows());
+                    int centerPage = scanResultsTableModel.pageOf(
+                            Math.max(0, scanResultsTable.rowAtPoint(scanResultsTable.getVisibleRect().getLocation())));
+                    scanResultsTableModel.putPage(page, rows, estimateScanTotal(page, pageSize, rows.size(), pageData.total()),
+                            centerPage, SCAN_WINDOW_PAGES);
+                    scanResultsTotal = scanResultsTableModel.total();
+                    String statusText = "Scan results: " + scanResultsTableModel.loadedRowCount() + " of ~" + scanResultsTotal
+                            + " rows in memory";
+                    styleInlineStatus(scanResultsStatusLabel, statusText, COLOR_SUCCESS);
+                    if (page == 1 && rows.isEmpty()) {
+                        clearScanDetails("No scan results for this run yet.");
+                    }
+                    if (scanResultsTableModel.needsIndex() && !scanResultsTableModel.isIndexed()) {
+                        buildScanResultsIndex();
+                    } else {
+                        ensureVisibleScanPages();
+                    }
+                } catch (Exception ex) {
+                    styleInlineStatus(scanResultsStatusLabel, "Scan results: page " + page + " failed", COLOR_DANGER);
+                    if (page == 1) {
+                        clearScanDetails("Failed to load scan results: " + humanizeError(ex));
+                    }
+                }
+            }
+        };
+        worker.execute();
+    }
+
+    /** Backends without a total still page correctly: a full page implies at least one more. */
+    private long estimateScanTotal(int page, int pageSize, int returned, long reportedTotal) {
+        long loadedEnd = (long) (page - 1) * pageSize + returned;
+        if (returned < pageSize) {
+            return reportedTotal > loadedEnd && returned > 0 ? reportedTotal : loadedEnd;
+        }
+        return Math.max(reportedTotal, loadedEnd + (reportedTotal > loadedEnd ? 0 : pageSize));
+    }
+
+    /** Shift-click adds the column as a tie-breaker to the current sort. */
+    private void onScanResultsSortRequested(int modelColumn, boolean additive) {
+        if (modelColumn <= 0 || scanResultsTableModel.runId() == null) {
+            return;
+        }
+        scanResultsTableModel.toggleSort(modelColumn, additive);
+        refreshScanResultsHeader();
+        if (!scanResultsTableModel.isIndexed()) {
+            buildScanResultsIndex();
+        }
+    }
+
+    /** Updates the sort arrows in place; a structure change would drop the columns' renderers. */
+    private void refreshScanResultsHeader() {
+        TableColumnModel columns = scanResultsTable.getColumnModel();
+        for (int i = 0; i < columns.getColumnCount(); i++) {
+            TableColumn column = columns.getColumn(i);
+            column.setHeaderValue(scanResultsTableModel.getColumnName(column.getModelIndex()));
+        }
+        scanResultsTable.getTableHeader().repaint();
+    }
+
+    private void onScanResultsFilterChanged() {
+        ScanResultStore.Filter filter = ScanResultStore.Filter.ALL.withText(scanResultsFilterField.getText());
+        double minScore = Json.asDouble(scanMinScoreField.getText().trim(), Double.NaN);
+        if (Double.isFinite(minScore)) {
+            filter = filter.withMinScore(minScore);
+        }
+        String top = String.valueOf(scanTopCombo.getSelectedItem());
+        scanResultsTableModel.setFilter(filter);
+        scanResultsTableModel.setTopLimit(top.startsWith("Top ") ? Integer.parseInt(top.substring(4)) : 0);
+        if (scanResultsTableModel.runId() == null) {
+            return;
+        }
+        if (scanResultsTableModel.needsIndex() && !scanResultsTableModel.isIndexed()) {
+            buildScanResultsIndex();
+        } else if (!scanResultsTableModel.needsIndex()) {
+            ensureVisibleScanPages();
+        }
+    }
+
+    /**
+     * Sorting and filtering need every row, so page through the whole run once in the
+     * background. Only the lightweight row summaries are kept; details stay on demand.
+     */
+    private void buildScanResultsIndex() {
+        if (scanIndexWorker != null && !scanIndexWorker.isDone()) {
+            return;
+        }
+        String runId = scanResultsTableModel.runId();
+        int pageSize = scanResultsTableModel.pageSize();
+        int generation = scanResultsTableModel.generation();
+        styleInlineStatus(scanResultsStatusLabel, "Scan results: indexing full run for sort/filter...", COLOR_WARNING);
+        SwingWorker<List<ScanResultRow>, Integer> worker = new SwingWorker<>() {
+            @Override
+            protected List<ScanResultRow> doInBackground() throws Exception {
+                List<ScanResultRow> all = new ArrayList<>();
+                for (int page = 1; page <= SCAN_INDEX_MAX_PAGES && !isCancelled(); page++) {
+                    ScanService.ScanResultsPage pageData = scanService.getScanResults(runId, page, pageSize, false);
+                    all.addAll(buildScanResultRows(pageData.rows()));
+                    publish(all.size());
+                    if (pageData.rows().isEmpty() || (pageData.totalReported() && all.size() >= pageData.total())) {
+                        break;
+                    }
+                }
+                return all;
+            }
+
+            @Override
+            protected void process(List<Integer> chunks) {
+                if (generation == scanResultsTableModel.generation() && !chunks.isEmpty()) {
+                    styleInlineStatus(scanResultsStatusLabel,
+                            "Scan results: indexing " + chunks.get(chunks.size() - 1) + " rows...", COLOR_WARNING);
+                }
+            }
+
+            @Override
+            protected void done() {
+                if (isCancelled() || generation != scanResultsTableModel.generation()) {
+                    return;
+                }
+                try {
+                    List<ScanResultRow> all = get();
+                    scanResultsTableModel.setIndex(all);
+                    scanResultsTotal = all.size();
+                    styleInlineStatus(scanResultsStatusLabel, "Scan results: " + scanResultsTableModel.getRowCount()
+                            + " of " + all.size() + " rows match", COLOR_SUCCESS);
+                    lastScanDetailPrefetchRow = -1;
+                    ensureVisibleScanPages();
+                } catch (Exception ex) {
+                    styleInlineStatus(scanResultsStatusLabel, "Scan results: indexing failed", COLOR_DANGER);
+                }
+            }
+        };
+        scanIndexWorker = worker;
+        worker.execute();
+    }
+
+    /** Warms details of the tickers currently on screen. */
+    private void prefetchVisibleScanDetails(int firstVisibleRow) {
+        String runId = scanResultsTableModel.runId();
+        if (runId == null) {
+            return;
+        }
+        List<Prefetcher.Task> tasks = new ArrayList<>();
+        int rowCount = scanResultsTableModel.getRowCount();
+        for (int row = firstVisibleRow; row < rowCount && tasks.size() < PREFETCH_SCAN_TICKERS; row++) {
+            ScanResultRow result = scanResultsTableModel.getRow(row);
+            if (result == null) {
+                break;
+            }
+            String ticker = result.ticker();
+            tasks.add(new Prefetcher.Task(
+                    ScanService.resultKey(runId, ticker),
+                    () -> scanService.getScanResult(runId, ticker, false)
+            ));
+        }
+        prefetcher.schedule(PREFETCH_SCAN, tasks);
+    }
+
+    private List<ScanResultRow> buildScanResultRows(List<Map<String, Object>> payloadRows) {
+        List<ScanResultRow> rows = new ArrayList<>();
+        for (Map<String, Object> payload : payloadRows) {
+            String ticker = firstNonBlank(
+                    stringOrEmpty(findAnyValue(payload, "ticker", "symbol", "id")),
+                    ""
+            ).toUpperCase();
+            if (ticker.isBlank()) {
+                continue;
+            }
+            String rowStatus = firstNonBlank(stringOrEmpty(findAnyValue(payload, "status", "state")), "unknown");
+            double score = Json.asDouble(findAnyValue(payload, "overall_score", "score", "rank_score"), Double.NaN);
             String regime = firstNonBlank(
                     stringOrEmpty(findAnyValue(payload, "regime", "regime_label", "market_regime")),
                     "—"
@@ -3019,8 +3917,8 @@ public final class DPolarisJavaApp {
                     topStrategy,
                     confidence,
                     warningsCount,
-                    updated,
-                    payload
+                    // Summaries only; the full payload is fetched per ticker on expand.
+                    updated
             ));
         }
         return rows;
@@ -3055,82 +3953,64 @@ public final class DPolarisJavaApp {
         if (runId == null || runId.isBlank()) {
             return;
         }
-        if (activeScanStatusWorker != null && !activeScanStatusWorker.isDone()) {
-            activeScanStatusWorker.cancel(true);
+        if (activeScanStatusSubscription != null) {
+            activeScanStatusSubscription.cancel();
         }
 
-        activeScanStatusWorker = new SwingWorker<>() {
-            @Override
-            protected Void doInBackground() {
-                int consecutiveErrors = 0;
-                appendScanWarningLog("Polling scan status for run " + shortenRunId(runId) + "...");
-                while (!isCancelled()) {
-                    try {
-                        Map<String, Object> status = scanService.getScanStatus(runId);
-                        consecutiveErrors = 0;
-                        publish(status);
-                        String state = safeLower(stringOrEmpty(findAnyValue(status, "status", "state")));
-                        if (state.equals("completed") || state.equals("failed") || state.equals("cancelled")) {
-                            break;
+        appendScanWarningLog("Polling scan status for run " + shortenRunId(runId) + "...");
+        activeScanStatusSubscription = statusMonitor.track(
+                "scan:" + runId,
+                () -> scanService.getScanStatus(runId),
+                status -> isTerminalScanState(stringOrEmpty(findAnyValue(status, "status", "state"))),
+                new StatusMonitor.Listener() {
+                    private int polls;
+
+                    @Override
+                    public void onStatus(Map<String, Object> status) {
+                        updateScanStatusWidgets(status);
+                        String state = stringOrEmpty(findAnyValue(status, "status", "state"));
+                        if (!isTerminalScanState(state) && ++polls % SCAN_RESULTS_SYNC_EVERY_POLLS == 0) {
+                            syncScanResultsQuietly(runId);
                         }
-                        Thread.sleep(2000);
-                    } catch (InterruptedException ex) {
-                        Thread.currentThread().interrupt();
-                        break;
-                    } catch (Exception ex) {
-                        consecutiveErrors++;
+                    }
+
+                    @Override
+                    public void onError(Exception error, int consecutiveErrors) {
                         if (consecutiveErrors == 1 || consecutiveErrors % 5 == 0) {
-                            Map<String, Object> error = new LinkedHashMap<>();
-                            error.put("status", "warning");
-                            error.put(
+                            Map<String, Object> warning = new LinkedHashMap<>();
+                            warning.put("status", "warning");
+                            warning.put(
                                     "warning",
                                     "Scan status polling issue (" + consecutiveErrors + "): "
-                                            + humanizeError(ex)
+                                            + humanizeError(error)
                                             + ". Retrying..."
                             );
-                            publish(error);
+                            updateScanStatusWidgets(warning);
                         }
+                    }
 
-                        if (consecutiveErrors >= 30) {
-                            Map<String, Object> error = new LinkedHashMap<>();
-                            error.put("status", "error");
-                            error.put(
-                                    "error",
-                                    "Scan status polling failed repeatedly (" + consecutiveErrors
-                                            + "). Stop/restart backend if this persists."
-                            );
-                            publish(error);
-                            break;
+                    @Override
+                    public void onFinished(Map<String, Object> finalStatus) {
+                        if (finalStatus == null) {
+                            Map<String, Object> failure = new LinkedHashMap<>();
+                            failure.put("status", "error");
+                            failure.put("error", "Scan status polling failed repeatedly. Stop/restart backend if this persists.");
+                            updateScanStatusWidgets(failure);
                         }
-
-                        try {
-                            Thread.sleep(Math.min(5000L, 800L + (long) consecutiveErrors * 200L));
-                        } catch (InterruptedException interrupted) {
-                            Thread.currentThread().interrupt();
-                            break;
+                        syncScanResultsNow(runId);
+                        loadScanRuns(true);
+                        if (finalStatus != null
+                                && "completed".equalsIgnoreCase(stringOrEmpty(findAnyValue(finalStatus, "status", "state")))) {
+                            ingestScanHistory(runId, false);
                         }
                     }
                 }
-                return null;
-            }
-
-            @Override
-            protected void process(List<Map<String, Object>> chunks) {
-                if (chunks == null || chunks.isEmpty()) {
-                    return;
-                }
-                updateScanStatusWidgets(chunks.get(chunks.size() - 1));
-            }
+        );
+    }
 
-            @Override
-            protected void done() {
-                if (!isCancelled()) {
-                    loadScanResults(true);
-                    loadScanRuns(true);
-                }
-            }
-        };
-        activeScanStatusWorker.execute();
+    private static boolean isTerminalScanState(String state) {
+        String lower = state == null ? "" : state.trim().toLowerCase();
+        return lower.equals("completed") || lower.equals("partial") || lower.equals("failed") || lower.equals("cancelled");
     }
 
     private void updateScanStatusWidgets(Map<String, Object> status) {
@@ -3157,7 +4037,7 @@ public final class DPolarisJavaApp {
 
         Color statusColor = COLOR_MUTED;
         String lower = safeLower(state);
-        if (lower.contains("running") || lower.contains("queued")) {
+        if (lower.contains("running") || lower.contains("queued") || lower.contains("partial")) {
             statusColor = COLOR_WARNING;
         } else if (lower.contains("completed")) {
             statusColor = COLOR_SUCCESS;
@@ -3331,68 +4211,181 @@ public final class DPolarisJavaApp {
             return;
         }
         String cacheKey = runId + "::" + ticker;
-        if (!forceRefresh && scanDetailCache.containsKey(cacheKey)) {
-            renderScanDetail(runId, ticker, scanDetailCache.get(cacheKey));
+        Map<String, Object> cached = forceRefresh ? null : scanDetailCache.get(cacheKey);
+        RenderedScanDetail rendered = cached == null ? null : renderedScanDetail(cacheKey, cached);
+        if (rendered != null) {
+            applyScanDetail(rendered);
+            prefetchNextScanDetails(runId, ticker);
             return;
         }
 
-        clearScanDetails("Loading detail for " + ticker + "...");
-        SwingWorker<Map<String, Object>, Void> worker = new SwingWorker<>() {
+        clearScanDetails((cached == null ? "Loading" : "Rendering") + " detail for " + ticker + "...");
+        SwingWorker<RenderedScanDetail, Void> worker = new SwingWorker<>() {
             @Override
-            protected Map<String, Object> doInBackground() throws Exception {
-                return scanService.getScanResult(runId, ticker, forceRefresh);
+            protected RenderedScanDetail doInBackground() throws Exception {
+                Map<String, Object> payload = cached != null ? cached : scanService.getScanResult(runId, ticker, forceRefresh);
+                scanDetailCache.put(cacheKey, payload);
+                return renderScanDetail(runId, ticker, payload);
             }
 
             @Override
             protected void done() {
                 try {
-                    Map<String, Object> payload = get();
-                    scanDetailCache.put(cacheKey, payload);
-                    renderScanDetail(runId, ticker, payload);
+                    RenderedScanDetail detail = get();
+                    // The user may have expanded another row while this one was loading.
+                    if (ticker.equals(expandedScanTicker) && runId.equals(activeScanRunId)) {
+                        applyScanDetail(detail);
+                        prefetchNextScanDetails(runId, ticker);
+                    }
                 } catch (Exception ex) {
-                    clearScanDetails("Failed to load detail for " + ticker + ": " + humanizeError(ex));
+                    if (ticker.equals(expandedScanTicker)) {
+                        clearScanDetails("Failed to load detail for " + ticker + ": " + humanizeError(ex));
+                    }
                 }
             }
         };
         worker.execute();
     }
 
-    private void renderScanDetail(String runId, String ticker, Map<String, Object> payload) {
-        Object executive = findAnyValue(payload, "executive_summary", "summary", "overview");
-        Object market = findAnyValue(payload, "market_context", "regime");
-        Object priceVolume = findAnyValue(payload, "price_volume_signals", "price_volume_analysis", "signals");
-        Object options = findAnyValue(payload, "option_candidates", "options", "strategies");
-        Object risk = findAnyValue(payload, "risk_notes", "risk_summary", "risk");
-        Object explain = findAnyValue(payload, "why_this", "traceability", "explainability");
-
-        scanExecutiveSummaryArea.setText(formatScanSection("Executive Summary", executive));
-        scanMarketContextArea.setText(formatScanSection("Market Context", market));
-        scanPriceVolumeArea.setText(formatScanSection("Price/Volume Signals", priceVolume));
-        scanOptionsArea.setText(formatScanSection("Option Trade Candidates", options));
-        scanRiskArea.setText(formatScanSection("Risk Notes", risk));
-        scanExplainabilityArea.setText(formatScanSection("Why This", explain));
-
-        StringBuilder artifacts = new StringBuilder();
-        artifacts.append("Run ID: ").append(runId).append("\n");
-        artifacts.append("Ticker: ").append(ticker).append("\n\n");
-        artifacts.append("Raw Payload:\n");
-        artifacts.append(Json.pretty(payload));
-        scanArtifactsArea.setText(artifacts.toString());
-        scanArtifactsArea.setCaretPosition(0);
-        scanExecutiveSummaryArea.setCaretPosition(0);
-        scanMarketContextArea.setCaretPosition(0);
-        scanPriceVolumeArea.setCaretPosition(0);
-        scanOptionsArea.setCaretPosition(0);
-        scanRiskArea.setCaretPosition(0);
-        scanExplainabilityArea.setCaretPosition(0);
-
-        Object warnings = firstNonNull(findAnyValue(payload, "warnings"), findAnyValue(payload, "errors"));
-        if (warnings != null) {
-            scanWarningsArea.setText(formatScanSection("Warnings", warnings));
+    /**
+     * Fetches and renders the rows below the expanded ticker, which is where browsing usually
+     * goes next, so expanding them is a document swap.
+     */
+    private void prefetchNextScanDetails(String runId, String ticker) {
+        int expandedRow = -1;
+        for (int viewRow = 0; viewRow < scanResultsTable.getRowCount(); viewRow++) {
+            ScanResultRow row = scanResultsTableModel.getRow(scanResultsTable.convertRowIndexToModel(viewRow));
+            if (row != null && row.ticker().equals(ticker)) {
+                expandedRow = viewRow;
+                break;
+            }
+        }
+        if (expandedRow < 0) {
+            return;
+        }
+        List<Prefetcher.Task> tasks = new ArrayList<>();
+        int last = Math.min(scanResultsTable.getRowCount() - 1, expandedRow + PREFETCH_DETAIL_NEIGHBOURS);
+        for (int viewRow = expandedRow + 1; viewRow <= last; viewRow++) {
+            ScanResultRow row = scanResultsTableModel.getRow(scanResultsTable.convertRowIndexToModel(viewRow));
+            if (row == null) {
+                continue;
+            }
+            String next = row.ticker();
+            String cacheKey = runId + "::" + next;
+            Map<String, Object> cached = scanDetailCache.get(cacheKey);
+            if (cached != null && renderedScanDetail(cacheKey, cached) != null) {
+                continue;
+            }
+            tasks.add(new Prefetcher.Task(
+                    ScanService.resultKey(runId, next),
+                    () -> {
+                        Map<String, Object> payload = scanService.getScanResult(runId, next, false);
+                        scanDetailCache.put(cacheKey, payload);
+                        renderScanDetail(runId, next, payload);
+                        return payload;
+                    }
+            ));
+        }
+        prefetcher.schedule(PREFETCH_SCAN_DETAIL, tasks);
+    }
+
+    /** Rendered documents for {@code cacheKey}, only if they were built from this exact payload. */
+    private RenderedScanDetail renderedScanDetail(String cacheKey, Map<String, Object> payload) {
+        synchronized (renderedScanDetails) {
+            RenderedScanDetail rendered = renderedScanDetails.get(cacheKey);
+            return rendered != null && rendered.payload() == payload ? rendered : null;
+        }
+    }
+
+    /**
+     * Formats every section of a detail payload in parallel into detached documents; runs off
+     * the event thread. The result is remembered so re-expanding the row needs no formatting.
+     */
+    private RenderedScanDetail renderScanDetail(String runId, String ticker, Map<String, Object> payload) {
+        CompletableFuture<Document> executive = renderScanSection("Executive Summary",
+                () -> findAnyValue(payload, "executive_summary", "summary", "overview"));
+        CompletableFuture<Document> market = renderScanSection("Market Context",
+                () -> findAnyValue(payload, "market_context", "regime"));
+        CompletableFuture<Document> priceVolume = renderScanSection("Price/Volume Signals",
+                () -> findAnyValue(payload, "price_volume_signals", "price_volume_analysis", "signals"));
+        CompletableFuture<Document> options = renderScanSection("Option Trade Candidates",
+                () -> findAnyValue(payload, "option_candidates", "options", "strategies"));
+        CompletableFuture<Document> risk = renderScanSection("Risk Notes",
+                () -> findAnyValue(payload, "risk_notes", "risk_summary", "risk"));
+        CompletableFuture<Document> explain = renderScanSection("Why This",
+                () -> findAnyValue(payload, "why_this", "traceability", "explainability"));
+        CompletableFuture<Document> artifacts = CompletableFuture.supplyAsync(() -> scanDetailDocument(
+                "Run ID: " + runId + "\n" + "Ticker: " + ticker + "\n\n" + "Raw Payload:\n" + Json.pretty(payload)
+        ), scanDetailRenderExecutor);
+        CompletableFuture<String> warnings = CompletableFuture.supplyAsync(() -> {
+            Object value = firstNonNull(findAnyValue(payload, "warnings"), findAnyValue(payload, "errors"));
+            return value == null ? null : formatScanSection("Warnings", value);
+        }, scanDetailRenderExecutor);
+
+        RenderedScanDetail rendered = new RenderedScanDetail(
+                runId,
+                ticker,
+                payload,
+                executive.join(),
+                market.join(),
+                priceVolume.join(),
+                options.join(),
+                risk.join(),
+                explain.join(),
+                artifacts.join(),
+                warnings.join()
+        );
+        synchronized (renderedScanDetails) {
+            renderedScanDetails.put(runId + "::" + ticker, rendered);
+            Iterator<String> eldest = renderedScanDetails.keySet().iterator();
+            while (renderedScanDetails.size() > SCAN_RENDERED_DETAILS && eldest.hasNext()) {
+                eldest.next();
+                eldest.remove();
+            }
+        }
+        return rendered;
+    }
+
+    private CompletableFuture<Document> renderScanSection(String title, Supplier<Object> section) {
+        return CompletableFuture.supplyAsync(
+                () -> scanDetailDocument(formatScanSection(title, section.get())),
+                scanDetailRenderExecutor
+        );
+    }
+
+    /** A document not yet attached to any component, so it is safe to fill off the event thread. */
+    private static Document scanDetailDocument(String text) {
+        PlainDocument document = new PlainDocument();
+        try {
+            document.insertString(0, text, null);
+        } catch (BadLocationException impossible) {
+            throw new IllegalStateException(impossible);
+        }
+        return document;
+    }
+
+    private void applyScanDetail(RenderedScanDetail detail) {
+        showScanDetailDocument(scanExecutiveSummaryArea, detail.executive());
+        showScanDetailDocument(scanMarketContextArea, detail.market());
+        showScanDetailDocument(scanPriceVolumeArea, detail.priceVolume());
+        showScanDetailDocument(scanOptionsArea, detail.options());
+        showScanDetailDocument(scanRiskArea, detail.risk());
+        showScanDetailDocument(scanExplainabilityArea, detail.explain());
+        showScanDetailDocument(scanArtifactsArea, detail.artifacts());
+        if (detail.warnings() != null) {
+            scanWarningsArea.setText(detail.warnings());
             scanWarningsArea.setCaretPosition(0);
         }
     }
 
+    private static void showScanDetailDocument(JTextArea area, Document document) {
+        if (area == null) {
+            return;
+        }
+        area.setDocument(document);
+        area.setCaretPosition(0);
+    }
+
     private String formatScanSection(String title, Object payload) {
         StringBuilder sb = new StringBuilder();
         sb.append(title).append(":\n");
@@ -3410,34 +4403,14 @@ public final class DPolarisJavaApp {
 
     private void clearScanDetails(String message) {
         String text = message == null || message.isBlank() ? "No expanded row selected." : message;
-        if (scanExecutiveSummaryArea != null) {
-            scanExecutiveSummaryArea.setText(formatScanPlaceholder("Executive Summary", text));
-            scanExecutiveSummaryArea.setCaretPosition(0);
-        }
-        if (scanMarketContextArea != null) {
-            scanMarketContextArea.setText(formatScanPlaceholder("Market Context", text));
-            scanMarketContextArea.setCaretPosition(0);
-        }
-        if (scanPriceVolumeArea != null) {
-            scanPriceVolumeArea.setText(formatScanPlaceholder("Price/Volume Signals", text));
-            scanPriceVolumeArea.setCaretPosition(0);
-        }
-        if (scanOptionsArea != null) {
-            scanOptionsArea.setText(formatScanPlaceholder("Option Trade Candidates", text));
-            scanOptionsArea.setCaretPosition(0);
-        }
-        if (scanRiskArea != null) {
-            scanRiskArea.setText(formatScanPlaceholder("Risk Notes", text));
-            scanRiskArea.setCaretPosition(0);
-        }
-        if (scanExplainabilityArea != null) {
-            scanExplainabilityArea.setText(formatScanPlaceholder("Why This", text));
-            scanExplainabilityArea.setCaretPosition(0);
-        }
-        if (scanArtifactsArea != null) {
-            scanArtifactsArea.setText(formatScanPlaceholder("Artifacts", text));
-            scanArtifactsArea.setCaretPosition(0);
-        }
+        // Fresh documents, so the rendered ones kept for re-expansion are never overwritten.
+        showScanDetailDocument(scanExecutiveSummaryArea, scanDetailDocument(formatScanPlaceholder("Executive Summary", text)));
+        showScanDetailDocument(scanMarketContextArea, scanDetailDocument(formatScanPlaceholder("Market Context", text)));
+        showScanDetailDocument(scanPriceVolumeArea, scanDetailDocument(formatScanPlaceholder("Price/Volume Signals", text)));
+        showScanDetailDocument(scanOptionsArea, scanDetailDocument(formatScanPlaceholder("Option Trade Candidates", text)));
+        showScanDetailDocument(scanRiskArea, scanDetailDocument(formatScanPlaceholder("Risk Notes", text)));
+        showScanDetailDocument(scanExplainabilityArea, scanDetailDocument(formatScanPlaceholder("Why This", text)));
+        showScanDetailDocument(scanArtifactsArea, scanDetailDocument(formatScanPlaceholder("Artifacts", text)));
     }
 
     private String formatScanPlaceholder(String section, String message) {
@@ -3484,7 +4457,7 @@ public final class DPolarisJavaApp {
         if (!apiClient.healthCheck(2)) {
             styleInlineStatus(
                     scanRunsStatusLabel,
-                    "Scan runs: backend offline at " + currentHostPort(),
+                    "Scan runs: backend offline at " + unreachableBackend(),
                     COLOR_DANGER
             );
             if (scanRunsTableModel != null && scanRunsTableModel.getRowCount() == 0) {
@@ -3497,31 +4470,14 @@ public final class DPolarisJavaApp {
         SwingWorker<List<ScanRunRow>, Void> worker = new SwingWorker<>() {
             @Override
             protected List<ScanRunRow> doInBackground() throws Exception {
-                List<Map<String, Object>> runs = scanService.listScanRuns(forceRefresh);
-                List<ScanRunRow> rows = new ArrayList<>();
-                for (Map<String, Object> run : runs) {
-                    String runId = firstNonBlank(stringOrEmpty(findAnyValue(run, "run_id", "runId", "id")), "");
-                    if (runId.isBlank()) {
-                        continue;
-                    }
-                    String startedAt = firstNonBlank(
-                            stringOrEmpty(findAnyValue(run, "created_at", "started_at", "start_time", "timestamp")),
-                            "—"
-                    );
-                    String universeHash = firstNonBlank(
-                            stringOrEmpty(findAnyValue(run, "universe_hash", "hash", "universeHash")),
-                            "—"
-                    );
-                    String configSummary = firstNonBlank(
-                            stringOrEmpty(findAnyValue(run, "config_summary", "horizon", "horizons")),
-                            "—"
-                    );
-                    String status = firstNonBlank(stringOrEmpty(findAnyValue(run, "status", "state")), "unknown");
-                    String topMetric = asMetricString(findAnyValue(run, "primary_score", "score", "sharpe", "f1"));
-                    rows.add(new ScanRunRow(runId, startedAt, universeHash, configSummary, topMetric, status, run));
-                }
-                rows.sort((a, b) -> b.startedAt().compareTo(a.startedAt()));
-                return rows;
+                List<Map<String, Object>> runs = scanService.listScanRuns(forceRefresh, fresh -> {
+                    List<ScanRunRow> freshRows = buildScanRunRows(fresh);
+                    SwingUtilities.invokeLater(() -> {
+                        scanRunsTableModel.setRows(freshRows);
+                        styleInlineStatus(scanRunsStatusLabel, "Scan runs: refreshed " + freshRows.size(), COLOR_SUCCESS);
+                    });
+                });
+                return buildScanRunRows(runs);
             }
 
             @Override
@@ -3531,31 +4487,62 @@ public final class DPolarisJavaApp {
                     scanRunsTableModel.setRows(rows);
                     styleInlineStatus(scanRunsStatusLabel, "Scan runs: loaded " + rows.size(), COLOR_SUCCESS);
                 } catch (Exception ex) {
-                    if (isConnectivityIssue(ex)) {
-                        styleInlineStatus(
-                                scanRunsStatusLabel,
-                                "Scan runs: backend offline at " + currentHostPort(),
-                                COLOR_DANGER
-                        );
-                        if (scanRunsTableModel != null && scanRunsTableModel.getRowCount() == 0) {
-                            scanRunsTableModel.setRows(new ArrayList<>());
-                        }
-                        return;
-                    }
-
-                    styleInlineStatus(scanRunsStatusLabel, "Scan runs: load failed", COLOR_DANGER);
-                    JOptionPane.showMessageDialog(
-                            frame,
-                            "Failed to load scan runs:\n" + humanizeError(ex),
-                            "Scan Runs",
-                            JOptionPane.ERROR_MESSAGE
-                    );
+                    handleScanRunsLoadFailure(ex);
                 }
             }
         };
         worker.execute();
     }
 
+    private List<ScanRunRow> buildScanRunRows(List<Map<String, Object>> runs) {
+        List<ScanRunRow> rows = new ArrayList<>();
+        for (Map<String, Object> run : runs) {
+            String runId = firstNonBlank(stringOrEmpty(findAnyValue(run, "run_id", "runId", "id")), "");
+            if (runId.isBlank()) {
+                continue;
+            }
+            String startedAt = firstNonBlank(
+                    stringOrEmpty(findAnyValue(run, "created_at", "started_at", "start_time", "timestamp")),
+                    "—"
+            );
+            String universeHash = firstNonBlank(
+                    stringOrEmpty(findAnyValue(run, "universe_hash", "hash", "universeHash")),
+                    "—"
+            );
+            String configSummary = firstNonBlank(
+                    stringOrEmpty(findAnyValue(run, "config_summary", "horizon", "horizons")),
+                    "—"
+            );
+            String status = firstNonBlank(stringOrEmpty(findAnyValue(run, "status", "state")), "unknown");
+            String topMetric = asMetricString(findAnyValue(run, "primary_score", "score", "sharpe", "f1"));
+            rows.add(new ScanRunRow(runId, startedAt, universeHash, configSummary, topMetric, status, run));
+        }
+        rows.sort((a, b) -> b.startedAt().compareTo(a.startedAt()));
+        return rows;
+    }
+
+    private void handleScanRunsLoadFailure(Exception ex) {
+        if (isConnectivityIssue(ex)) {
+            styleInlineStatus(
+                    scanRunsStatusLabel,
+                    "Scan runs: backend offline at " + unreachableBackend(),
+                    COLOR_DANGER
+            );
+            if (scanRunsTableModel != null && scanRunsTableModel.getRowCount() == 0) {
+                scanRunsTableModel.setRows(new ArrayList<>());
+            }
+            return;
+        }
+
+        styleInlineStatus(scanRunsStatusLabel, "Scan runs: load failed", COLOR_DANGER);
+        JOptionPane.showMessageDialog(
+                frame,
+                "Failed to load scan runs:\n" + humanizeError(ex),
+                "Scan Runs",
+                JOptionPane.ERROR_MESSAGE
+        );
+    }
+
     private boolean isConnectivityIssue(Throwable error) {
         if (error == null) {
             return false;
@@ -3734,21 +4721,6 @@ public final class DPolarisJavaApp {
         }
     }
 
-    private int parseSortableInt(Object value) {
-        if (value instanceof Number number) {
-            return number.intValue();
-        }
-        String text = String.valueOf(value).trim();
-        if (text.isEmpty() || "—".equals(text)) {
-            return Integer.MIN_VALUE;
-        }
-        try {
-            return Integer.parseInt(text);
-        } catch (RuntimeException ignored) {
-            return Integer.MIN_VALUE;
-        }
-    }
-
     private JPanel createDashboardPanel() {
         JPanel root = new JPanel(new BorderLayout(8, 8));
         root.setBackground(COLOR_BG);
@@ -3778,8 +4750,42 @@ public final class DPolarisJavaApp {
         controls.add(refreshDashboardButton);
         controls.add(dashboardUpdatedLabel);
 
+        dashboardGridModeToggle = new JCheckBox("Grid");
+        dashboardGridSymbolsField = new JTextField("SPY, QQQ, AAPL, MSFT, NVDA, AMZN", 24);
+        dashboardGridCycleSpinner = new JSpinner(new SpinnerNumberModel(60, 10, 900, 10));
+        dashboardGridStatusLabel = new JLabel();
+        dashboardGridModeToggle.setOpaque(false);
+        dashboardGridModeToggle.setForeground(COLOR_TEXT);
+        dashboardGridModeToggle.setFont(uiFont);
+        styleInputField(dashboardGridSymbolsField);
+        styleSpinner(dashboardGridCycleSpinner);
+        styleDashboardStatus(dashboardGridStatusLabel, "Grid: off", COLOR_MUTED);
+        dashboardGridSymbolsField.setToolTipText("Comma-separated symbols shown in grid mode. Press Enter to apply.");
+        dashboardGridCycleSpinner.setToolTipText("Seconds for one full refresh pass; requests are spread evenly across it.");
+        dashboardGridModeToggle.addActionListener(e -> setDashboardGridMode(dashboardGridModeToggle.isSelected()));
+        dashboardGridSymbolsField.addActionListener(e -> {
+            if (dashboardGridModeToggle.isSelected()) {
+                rebuildDashboardGrid();
+            }
+        });
+        dashboardGridCycleSpinner.addChangeListener(e -> {
+            if (dashboardGridModeToggle.isSelected()) {
+                restartDashboardGridTimer();
+            }
+        });
+
+        JPanel gridControls = new JPanel(new FlowLayout(FlowLayout.LEFT, 8, 4));
+        gridControls.setOpaque(false);
+        gridControls.add(dashboardGridModeToggle);
+        gridControls.add(createFormLabel("Grid symbols"));
+        gridControls.add(dashboardGridSymbolsField);
+        gridControls.add(createFormLabel("Cycle (s)"));
+        gridControls.add(dashboardGridCycleSpinner);
+        gridControls.add(dashboardGridStatusLabel);
+
         JPanel controlsCard = createCardPanel();
         controlsCard.add(controls, BorderLayout.CENTER);
+        controlsCard.add(gridControls, BorderLayout.SOUTH);
 
         JPanel summaryTiles = new JPanel(new GridBagLayout());
         summaryTiles.setOpaque(false);
@@ -3841,8 +4847,24 @@ public final class DPolarisJavaApp {
         bottom.add(summaryCard, BorderLayout.NORTH);
         bottom.add(mainSplit, BorderLayout.CENTER);
 
+        dashboardGridTilesPanel = new JPanel(new GridLayout(0, 3, 8, 8));
+        dashboardGridTilesPanel.setBackground(COLOR_BG);
+        JPanel gridHolder = new JPanel(new BorderLayout());
+        gridHolder.setBackground(COLOR_BG);
+        gridHolder.add(dashboardGridTilesPanel, BorderLayout.NORTH);
+        JScrollPane gridScroll = new JScrollPane(gridHolder);
+        gridScroll.getViewport().setBackground(COLOR_BG);
+        gridScroll.setBorder(BorderFactory.createEmptyBorder());
+        gridScroll.getVerticalScrollBar().setUnitIncrement(16);
+
+        dashboardBodyLayout = new CardLayout();
+        dashboardBodyPanel = new JPanel(dashboardBodyLayout);
+        dashboardBodyPanel.setOpaque(false);
+        dashboardBodyPanel.add(bottom, DASHBOARD_CARD_SINGLE);
+        dashboardBodyPanel.add(gridScroll, DASHBOARD_CARD_GRID);
+
         root.add(controlsCard, BorderLayout.NORTH);
-        root.add(bottom, BorderLayout.CENTER);
+        root.add(dashboardBodyPanel, BorderLayout.CENTER);
 
         resetDashboardState();
         return root;
@@ -5028,16 +6050,18 @@ public final class DPolarisJavaApp {
         SwingWorker<List<RunsTableRow>, Void> worker = new SwingWorker<>() {
             @Override
             protected List<RunsTableRow> doInBackground() throws Exception {
-                List<Map<String, Object>> runs = runsService.listRuns(forceRefresh);
-                List<RunsTableRow> rows = new ArrayList<>(runs.size());
-                for (Map<String, Object> run : runs) {
-                    rows.add(buildRunsTableRow(run));
-                }
-                rows.sort(Comparator.comparing(
-                        RunsTableRow::dateTimeSortKey,
-                        Comparator.nullsLast(Comparator.reverseOrder())
-                ));
-                return rows;
+                // A plain refresh serves the cached list immediately and patches the table when revalidation lands.
+                List<Map<String, Object>> runs = forceRefresh
+                        ? runsService.listRuns(true)
+                        : runsService.listRuns(fresh -> {
+                            List<RunsTableRow> freshRows = buildRunsTableRows(fresh);
+                            SwingUtilities.invokeLater(() -> applyRunsRows(
+                                    freshRows,
+                                    getSelectedRunId(),
+                                    "Runs: refreshed " + freshRows.size() + " at " + ts()
+                            ));
+                        });
+                return buildRunsTableRows(runs);
             }
 
             @Override
@@ -5045,17 +6069,7 @@ public final class DPolarisJavaApp {
                 runsRefreshButton.setEnabled(true);
                 try {
                     List<RunsTableRow> rows = get();
-                    runsTableModel.setRows(rows);
-                    applyRunsFilters();
-
-                    if (selectedRunId != null) {
-                        selectRunById(selectedRunId);
-                    }
-                    if (runsTable.getSelectedRow() < 0 && runsTable.getRowCount() > 0) {
-                        runsTable.setRowSelectionInterval(0, 0);
-                    }
-                    styleInlineStatus(runsTableStatusLabel, "Runs: loaded " + rows.size() + " at " + ts(),
-                            COLOR_SUCCESS);
+                    applyRunsRows(rows, selectedRunId, "Runs: loaded " + rows.size() + " at " + ts());
                 } catch (Exception ex) {
                     styleInlineStatus(runsTableStatusLabel, "Runs: load failed", COLOR_DANGER);
                     resetRunDetailsState("Failed to load runs: " + humanizeError(ex));
@@ -5065,7 +6079,33 @@ public final class DPolarisJavaApp {
         worker.execute();
     }
 
+    private List<RunsTableRow> buildRunsTableRows(List<Map<String, Object>> runs) {
+        List<RunsTableRow> rows = new ArrayList<>(runs.size());
+        for (Map<String, Object> run : runs) {
+            rows.add(buildRunsTableRow(run));
+        }
+        rows.sort(Comparator.comparing(
+                RunsTableRow::dateTimeSortKey,
+                Comparator.nullsLast(Comparator.reverseOrder())
+        ));
+        return rows;
+    }
+
+    private void applyRunsRows(List<RunsTableRow> rows, String selectedRunId, String statusText) {
+        runsTableModel.setRows(rows);
+        applyRunsFilters();
+
+        if (selectedRunId != null) {
+            selectRunById(selectedRunId);
+        }
+        if (runsTable.getSelectedRow() < 0 && runsTable.getRowCount() > 0) {
+            runsTable.setRowSelectionInterval(0, 0);
+        }
+        styleInlineStatus(runsTableStatusLabel, statusText, COLOR_SUCCESS);
+    }
+
     private void onRunSelectionChanged() {
+        prefetcher.cancel(PREFETCH_RUNS);
         int[] selected = runsTable.getSelectedRows();
         if (selected.length == 0) {
             loadedRunDetailsId = null;
@@ -5360,22 +6400,7 @@ public final class DPolarisJavaApp {
                 payload.put("run", run);
                 List<Map<String, Object>> artifacts = runsService.getRunArtifacts(runId, forceRefresh);
                 payload.put("artifacts", artifacts);
-                Map<String, Object> artifactPayloads = new LinkedHashMap<>();
-                for (Map<String, Object> artifactMeta : artifacts) {
-                    String artifactName = extractArtifactName(artifactMeta);
-                    if (artifactName == null || artifactName.isBlank()) {
-                        continue;
-                    }
-                    try {
-                        Object artifactPayload = runsService.getRunArtifact(runId, artifactName, forceRefresh);
-                        artifactPayloads.put(artifactName, artifactPayload);
-                    } catch (Exception artifactError) {
-                        Map<String, Object> error = new LinkedHashMap<>();
-                        error.put("__error", humanizeError(artifactError));
-                        artifactPayloads.put(artifactName, error);
-                    }
-                }
-                payload.put("artifact_payloads", artifactPayloads);
+                payload.put("artifact_payloads", loadArtifactPayloads(runId, artifacts, forceRefresh));
                 return payload;
             }
 
@@ -5407,6 +6432,7 @@ public final class DPolarisJavaApp {
                             "diagnostic", "drift", "regime", "error");
                     populateModelReadinessPanel(run, artifactIndex, artifactPayloads);
                     refreshAuditLogPanel();
+                    prefetchAdjacentRuns(runId);
                 } catch (Exception ex) {
                     loadedRunDetailsId = null;
                     resetRunDetailsState("Failed to load run details: " + humanizeError(ex));
@@ -5887,6 +6913,7 @@ public final class DPolarisJavaApp {
             Map<String, String> artifactIndex,
             Map<String, Object> artifactPayloads
     ) {
+        spoolPreviewNotices.clear();
         Object inlineBacktest = findSectionByHints(run,
                 "backtest",
                 "backtestsummary",
@@ -6010,6 +7037,12 @@ public final class DPolarisJavaApp {
 
         if (backtestPayload == null) {
             styleInlineStatus(runBacktestStatusLabel, "Backtest: no payload reported", COLOR_WARNING);
+        } else if (!spoolPreviewNotices.isEmpty()) {
+            styleInlineStatus(
+                    runBacktestStatusLabel,
+                    "Backtest: partially loaded (" + String.join("; ", spoolPreviewNotices) + ")",
+                    COLOR_WARNING
+            );
         } else {
             styleInlineStatus(
                     runBacktestStatusLabel,
@@ -6426,6 +7459,12 @@ public final class DPolarisJavaApp {
         if (payload == null) {
             return new ArrayList<>();
         }
+        if (ArtifactSpool.isSpooledValue(payload)) {
+            payload = readSpooledValue(kind + " curve", Json.asObject(payload));
+            if (ArtifactSpool.isSpooledValue(payload)) {
+                return new ArrayList<>();
+            }
+        }
         Object candidate = payload;
         if (payload instanceof Map<?, ?> mapRaw) {
             Map<String, Object> map = Json.asObject(mapRaw);
@@ -6438,6 +7477,9 @@ public final class DPolarisJavaApp {
                         findAnyValue(map, "drawdown_curve", "drawdown_series", "drawdown", "drawdowns"),
                         map);
             }
+            if (ArtifactSpool.isSpooledValue(candidate)) {
+                candidate = readSpooledValue(kind + " curve", Json.asObject(candidate));
+            }
         }
 
         List<SeriesPoint> points = parseSeriesCandidate(candidate, kind);
@@ -6512,7 +7554,7 @@ public final class DPolarisJavaApp {
             return rows;
         }
         Object candidate = payload;
-        if (payload instanceof Map<?, ?> mapRaw) {
+        if (payload instanceof Map<?, ?> mapRaw && !ArtifactSpool.isSpooledValue(payload)) {
             Map<String, Object> map = Json.asObject(mapRaw);
             Object nested = findAnyValue(map,
                     "trade_log",
@@ -6525,13 +7567,33 @@ public final class DPolarisJavaApp {
                 candidate = nested;
             }
         }
+        if (ArtifactSpool.isSpooledValue(candidate)) {
+            Map<String, Object> spooled = Json.asObject(candidate);
+            if (!spooled.containsKey("item_count")) {
+                Object full = readSpooledValue("trade log", spooled);
+                return full == spooled ? rows : extractTradeLogRows(full);
+            }
+            try {
+                // Streamed so only the table rows are held, not every parsed trade.
+                ArtifactSpool.forEachItem(spooled, item -> addTradeLogRow(rows, item));
+                return rows;
+            } catch (IOException ex) {
+                rows.clear();
+                noteSpoolPreview("trade log", spooled);
+                candidate = spooled.get("items");
+            }
+        }
         if (!(candidate instanceof List<?> list)) {
             return rows;
         }
         for (Object item : list) {
-            if (!(item instanceof Map<?, ?> itemMapRaw)) {
-                continue;
-            }
+            addTradeLogRow(rows, item);
+        }
+        return rows;
+    }
+
+    private void addTradeLogRow(List<TradeLogRow> rows, Object item) {
+        if (item instanceof Map<?, ?> itemMapRaw) {
             Map<String, Object> m = Json.asObject(itemMapRaw);
             String ticker = firstNonBlank(
                     stringOrEmpty(findAnyValue(m, "ticker", "symbol", "asset")),
@@ -6579,7 +7641,34 @@ public final class DPolarisJavaApp {
                     m
             ));
         }
-        return rows;
+    }
+
+    /**
+     * The full value behind a spooled summary. When the spool file is gone the summary itself
+     * comes back, arrays reduced to their preview, and the gap is noted for the status line.
+     */
+    private Object readSpooledValue(String label, Map<String, Object> spooled) {
+        try {
+            if (!spooled.containsKey("item_count")) {
+                return ArtifactSpool.readValue(spooled);
+            }
+            List<Object> items = new ArrayList<>();
+            ArtifactSpool.forEachItem(spooled, items::add);
+            return items;
+        } catch (IOException ex) {
+            noteSpoolPreview(label, spooled);
+            return spooled.containsKey("items") ? spooled.get("items") : spooled;
+        }
+    }
+
+    private void noteSpoolPreview(String label, Map<String, Object> spooled) {
+        if (spooled.containsKey("item_count")) {
+            int shown = Json.asArray(spooled.get("items")).size();
+            spoolPreviewNotices.add(label + ": showing " + shown + " of " + Json.asInt(spooled.get("item_count"), shown)
+                    + " (spool file no longer available; reload the run)");
+        } else {
+            spoolPreviewNotices.add(label + ": not shown (spool file no longer available; reload the run)");
+        }
     }
 
     private List<AttributionRow> extractAttributionRows(Object payload, String mode) {
@@ -6761,7 +7850,18 @@ public final class DPolarisJavaApp {
                 csv.append(csvCell(row.confidence())).append("\n");
             }
             Files.writeString(out, csv.toString(), StandardCharsets.UTF_8);
-            styleInlineStatus(runBacktestStatusLabel, "Backtest: trade log exported to " + out, COLOR_SUCCESS);
+            String previewNotice = null;
+            for (String notice : spoolPreviewNotices) {
+                if (notice.startsWith("trade log")) {
+                    previewNotice = notice;
+                }
+            }
+            if (previewNotice == null) {
+                styleInlineStatus(runBacktestStatusLabel, "Backtest: trade log exported to " + out, COLOR_SUCCESS);
+            } else {
+                styleInlineStatus(runBacktestStatusLabel,
+                        "Backtest: trade log exported to " + out + " (" + previewNotice + ")", COLOR_WARNING);
+            }
         } catch (Exception ex) {
             styleInlineStatus(runBacktestStatusLabel, "Backtest: trade log export failed", COLOR_DANGER);
             JOptionPane.showMessageDialog(
@@ -7719,22 +8819,64 @@ public final class DPolarisJavaApp {
         Map<String, Object> run = runsService.getRun(runId, forceRefresh);
         List<Map<String, Object>> artifacts = runsService.getRunArtifacts(runId, forceRefresh);
         Map<String, String> artifactIndex = indexArtifacts(artifacts);
-        Map<String, Object> artifactPayloads = new LinkedHashMap<>();
+        Map<String, Object> artifactPayloads = loadArtifactPayloads(runId, artifacts, forceRefresh);
+        return new RunBundle(runId, run, artifactIndex, artifactPayloads);
+    }
+
+    /** Warms the runs just below and above {@code runId} in the table's current sort order, nearest first. */
+    private void prefetchAdjacentRuns(String runId) {
+        int[] selected = runsTable.getSelectedRows();
+        if (selected.length != 1) {
+            return;
+        }
+        RunsTableRow current = runsTableModel.getRow(runsTable.convertRowIndexToModel(selected[0]));
+        if (current == null || !Objects.equals(current.runId(), runId)) {
+            return;
+        }
+        List<Prefetcher.Task> tasks = new ArrayList<>();
+        for (int distance = 1; distance <= PREFETCH_ADJACENT_RUNS; distance++) {
+            for (int viewRow : new int[]{selected[0] + distance, selected[0] - distance}) {
+                if (viewRow < 0 || viewRow >= runsTable.getRowCount()) {
+                    continue;
+                }
+                RunsTableRow row = runsTableModel.getRow(runsTable.convertRowIndexToModel(viewRow));
+                if (row == null || row.runId() == null || row.runId().isBlank()) {
+                    continue;
+                }
+                String neighbour = row.runId();
+                tasks.add(new Prefetcher.Task(RunsService.runKey(neighbour), () -> runsService.warmRun(neighbour)));
+            }
+        }
+        prefetcher.schedule(PREFETCH_RUNS, tasks);
+    }
+
+    private Map<String, Object> loadArtifactPayloads(
+            String runId,
+            List<Map<String, Object>> artifacts,
+            boolean forceRefresh
+    ) {
+        // Artifacts are independent cache keys, so fetch them side by side instead of one at a time.
+        Map<String, CompletableFuture<Object>> pending = new LinkedHashMap<>();
         for (Map<String, Object> artifactMeta : artifacts) {
             String artifactName = extractArtifactName(artifactMeta);
-            if (artifactName == null || artifactName.isBlank()) {
+            if (artifactName == null || artifactName.isBlank() || pending.containsKey(artifactName)) {
                 continue;
             }
-            try {
-                Object payload = runsService.getRunArtifact(runId, artifactName, forceRefresh);
-                artifactPayloads.put(artifactName, payload);
-            } catch (Exception artifactError) {
-                Map<String, Object> error = new LinkedHashMap<>();
-                error.put("__error", humanizeError(artifactError));
-                artifactPayloads.put(artifactName, error);
-            }
+            pending.put(artifactName, CompletableFuture.supplyAsync(() -> {
+                try {
+                    return runsService.getRunArtifact(runId, artifactName, forceRefresh);
+                } catch (Exception artifactError) {
+                    Map<String, Object> error = new LinkedHashMap<>();
+                    error.put("__error", humanizeError(artifactError));
+                    return error;
+                }
+            }, artifactFetchExecutor));
         }
-        return new RunBundle(runId, run, artifactIndex, artifactPayloads);
+        Map<String, Object> artifactPayloads = new LinkedHashMap<>();
+        for (Map.Entry<String, CompletableFuture<Object>> entry : pending.entrySet()) {
+            artifactPayloads.put(entry.getKey(), entry.getValue().join());
+        }
+        return artifactPayloads;
     }
 
     private Object resolveSectionPayload(RunBundle bundle, String[] runHints, String[] artifactHints) {
@@ -8916,6 +10058,15 @@ public final class DPolarisJavaApp {
         styleNavButtonState(navTrainingRunsButton, VIEW_TRAINING_RUNS.equals(viewId));
         styleNavButtonState(navPredictionInspectorButton, VIEW_PREDICTION_INSPECTOR.equals(viewId));
         styleNavButtonState(navSettingsButton, VIEW_SETTINGS.equals(viewId));
+        if (dashboardGridTimer != null) {
+            // The grid only polls while it is on screen; coming back resumes where the cycle left off.
+            if (!VIEW_DASHBOARD.equals(viewId)) {
+                dashboardGridTimer.stop();
+            } else if (dashboardGridModeToggle != null && dashboardGridModeToggle.isSelected()
+                    && !dashboardGridTimer.isRunning()) {
+                dashboardGridTimer.start();
+            }
+        }
         if (VIEW_DEEP_LEARNING.equals(viewId)) {
             ensureDeepLearningTickersLoaded(false);
         }
@@ -10502,6 +11653,9 @@ public final class DPolarisJavaApp {
         sb.append(systemOpsStatusArea == null ? "n/a" : systemOpsStatusArea.getText()).append("\n\n");
         sb.append("[Backend Raw JSON]\n").append(Json.pretty(lastBackendControlStatus)).append("\n\n");
         sb.append("[Orchestrator Raw JSON]\n").append(Json.pretty(lastOpsControlStatus)).append("\n\n");
+        sb.append("[Response Cache]\n").append(ResponseCache.describeStats()).append("\n");
+        sb.append(NegativeCache.shared().describe()).append("\n");
+        sb.append(statusMonitor.describe()).append("\n\n");
         sb.append("[Recent Activity]\n");
         sb.append(systemControlLogArea == null ? "n/a" : limitLines(systemControlLogArea.getText(), 120));
 
@@ -10703,7 +11857,7 @@ public final class DPolarisJavaApp {
                     if (reusedExternal) {
                         backendExternalConnected = true;
                         appendBackendLog(ts() + " | Backend already reachable on "
-                                + hostField.getText().trim() + ":" + portField.getText().trim()
+                                + apiClient.primaryBackend()
                                 + ". Reusing compatible backend.");
                     } else {
                         backendExternalConnected = false;
@@ -11184,74 +12338,89 @@ public final class DPolarisJavaApp {
         }
     }
 
+    /**
+     * Follows the job through the shared status monitor and blocks the training worker until
+     * it finishes; cancelling the worker interrupts the wait and drops the subscription.
+     */
     private void pollDeepTrainingJob(String jobId) {
-        String lastStatus = null;
-        while (!Thread.currentThread().isInterrupted()) {
-            if (activeTrainingWorker == null || activeTrainingWorker.isCancelled()) {
-                appendTrainingLog(ts() + " | Polling cancelled.");
-                return;
-            }
-
-            try {
-                Map<String, Object> job = apiClient.fetchJob(jobId);
-                String status = Json.asString(job.get("status"));
-                List<String> logs = extractLogs(job.get("logs"));
-
-                if (logs != null && deliveredLogCount < logs.size()) {
-                    for (int i = deliveredLogCount; i < logs.size(); i++) {
-                        appendTrainingLog(logs.get(i));
+        CompletableFuture<Void> finished = new CompletableFuture<>();
+        StatusMonitor.Subscription subscription = statusMonitor.track(
+                "job:" + jobId,
+                () -> apiClient.fetchJob(jobId),
+                DPolarisJavaApp::isTerminalJob,
+                new StatusMonitor.Listener() {
+                    private String lastStatus;
+
+                    @Override
+                    public void onStatus(Map<String, Object> job) {
+                        String status = Json.asString(job.get("status"));
+                        List<String> logs = extractLogs(job.get("logs"));
+                        if (logs != null && deliveredLogCount < logs.size()) {
+                            for (int i = deliveredLogCount; i < logs.size(); i++) {
+                                appendTrainingLog(logs.get(i));
+                            }
+                            deliveredLogCount = logs.size();
+                        }
+                        if (status != null && !status.equalsIgnoreCase(lastStatus)) {
+                            appendTrainingLog(ts() + " | Job status: " + status);
+                            lastStatus = status;
+                        }
                     }
-                    deliveredLogCount = logs.size();
-                }
-
-                if (status != null && !status.equalsIgnoreCase(lastStatus)) {
-                    appendTrainingLog(ts() + " | Job status: " + status);
-                    lastStatus = status;
-                }
 
-                if ("completed".equalsIgnoreCase(status)) {
-                    appendTrainingLog(ts() + " | Deep-learning training completed.");
-                    Object result = job.get("result");
-                    if (result != null) {
-                        appendTrainingLog(Json.pretty(result));
+                    @Override
+                    public void onError(Exception error, int consecutiveErrors) {
+                        appendTrainingLog(ts() + " | Polling error: " + error.getMessage());
                     }
-                    String runId = extractRunId(firstNonNull(result, job));
-                    finalizeTrainingAudit("completed", runId, jobId, firstNonNull(result, job), null);
-                    setTrainingStatus("Training: completed", COLOR_SUCCESS);
-                    return;
-                }
-                if ("failed".equalsIgnoreCase(status)) {
-                    appendTrainingLog(ts() + " | Deep-learning training failed.");
-                    Object error = job.get("error");
-                    if (error != null) {
-                        appendTrainingLog("Error: " + error);
-                    }
-                    String runId = extractRunId(job.get("result"));
-                    finalizeTrainingAudit("failed", runId, jobId, job, error == null ? null : String.valueOf(error));
-                    setTrainingStatus("Training: failed", COLOR_DANGER);
-                    return;
-                }
 
-                Thread.sleep(2000);
-            } catch (InterruptedException interrupted) {
-                Thread.currentThread().interrupt();
-                appendTrainingLog(ts() + " | Polling interrupted.");
-                finalizeTrainingAudit("stopped", null, jobId, null, "Polling interrupted");
-                setTrainingStatus("Training: stopped", COLOR_WARNING);
-                return;
-            } catch (Exception ex) {
-                appendTrainingLog(ts() + " | Polling error: " + ex.getMessage());
-                try {
-                    Thread.sleep(2000);
-                } catch (InterruptedException interrupted) {
-                    Thread.currentThread().interrupt();
-                    appendTrainingLog(ts() + " | Polling interrupted.");
-                    finalizeTrainingAudit("stopped", null, jobId, null, "Polling interrupted");
-                    setTrainingStatus("Training: stopped", COLOR_WARNING);
-                    return;
+                    @Override
+                    public void onFinished(Map<String, Object> job) {
+                        if (job == null) {
+                            appendTrainingLog(ts() + " | Polling gave up after repeated errors.");
+                            finalizeTrainingAudit("stopped", null, jobId, null, "Status polling failed repeatedly");
+                            setTrainingStatus("Training: stopped", COLOR_WARNING);
+                        } else if ("completed".equalsIgnoreCase(Json.asString(job.get("status")))
+                                || "success".equalsIgnoreCase(Json.asString(job.get("status")))) {
+                            appendTrainingLog(ts() + " | Deep-learning training completed.");
+                            Object result = job.get("result");
+                            if (result != null) {
+                                appendTrainingLog(Json.pretty(result));
+                            }
+                            String runId = extractRunId(firstNonNull(result, job));
+                            finalizeTrainingAudit("completed", runId, jobId, firstNonNull(result, job), null);
+                            setTrainingStatus("Training: completed", COLOR_SUCCESS);
+                        } else {
+                            appendTrainingLog(ts() + " | Deep-learning training failed.");
+                            Object error = job.get("error");
+                            if (error != null) {
+                                appendTrainingLog("Error: " + error);
+                            }
+                            String runId = extractRunId(job.get("result"));
+                            finalizeTrainingAudit("failed", runId, jobId, job, error == null ? null : String.valueOf(error));
+                            setTrainingStatus("Training: failed", COLOR_DANGER);
+                        }
+                        finished.complete(null);
+                    }
                 }
-            }
-        }
+        );
+        try {
+            finished.get();
+        } catch (InterruptedException interrupted) {
+            Thread.currentThread().interrupt();
+            subscription.cancel();
+            appendTrainingLog(ts() + " | Polling interrupted.");
+            finalizeTrainingAudit("stopped", null, jobId, null, "Polling interrupted");
+            setTrainingStatus("Training: stopped", COLOR_WARNING);
+        } catch (ExecutionException ignored) {
+            // Never completed exceptionally.
+        }
+    }
+
+    /** Same terminal set as the Deep Learning panel, which may be watching the same job. */
+    private static boolean isTerminalJob(Map<String, Object> job) {
+        return switch (String.valueOf(job.get("status")).toLowerCase()) {
+            case "completed", "success", "failed", "error" -> true;
+            default -> false;
+        };
     }
 
     private static List<String> extractLogs(Object rawLogs) {
@@ -11487,66 +12656,332 @@ public final class DPolarisJavaApp {
         dashboardInsightsArea.setText("Supporting reasons, risk notes, and model context will appear here.");
     }
 
-    private void refreshDashboard() {
-        configureClientFromUI();
-        String symbol = dashboardSymbolField.getText().trim().toUpperCase();
-        if (symbol.isEmpty()) {
-            JOptionPane.showMessageDialog(frame, "Please enter a symbol for dashboard analysis.", "Validation",
-                    JOptionPane.WARNING_MESSAGE);
+    private void refreshDashboard() {
+        configureClientFromUI();
+        String symbol = dashboardSymbolField.getText().trim().toUpperCase();
+        if (symbol.isEmpty()) {
+            JOptionPane.showMessageDialog(frame, "Please enter a symbol for dashboard analysis.", "Validation",
+                    JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+        int horizonDays = (Integer) dashboardHorizonSpinner.getValue();
+
+        refreshDashboardButton.setEnabled(false);
+        setDashboardStatus("Status: loading...", COLOR_WARNING);
+        dashboardPredictionArea.setText(ts() + " | Loading market read for " + symbol + "...");
+        dashboardPlanArea.setText(ts() + " | Building execution checklist...");
+        dashboardInsightsArea.setText("");
+        resetDashboardLabels();
+
+        // Prediction and trade setup are independent; fetch both at once and render each as it lands.
+        int generation = ++dashboardRefreshGeneration;
+        DashboardRefresh refresh = new DashboardRefresh(
+                2,
+                () -> generation == dashboardRefreshGeneration,
+                this::finishDashboardRefresh
+        );
+        fetchDashboardSection(
+                refresh,
+                "prediction",
+                () -> apiClient.predictSymbol(symbol),
+                prediction -> renderDashboardPrediction(symbol, prediction),
+                message -> {
+                    dashboardPredictionArea.setText(ts() + " | Market read failed for " + symbol + ": " + message);
+                    dashboardPredictionArea.setCaretPosition(0);
+                }
+        );
+        fetchDashboardSection(
+                refresh,
+                "trade setup",
+                () -> apiClient.generateTradeSetup(symbol, horizonDays),
+                this::renderDashboardSignal,
+                message -> {
+                    resetDashboardLabels();
+                    dashboardPlanArea.setText(ts() + " | Trade setup failed for " + symbol + ": " + message);
+                    dashboardPlanArea.setCaretPosition(0);
+                    dashboardInsightsArea.setText("");
+                }
+        );
+    }
+
+    private void fetchDashboardSection(
+            DashboardRefresh refresh,
+            String section,
+            Callable<Map<String, Object>> fetch,
+            Consumer<Map<String, Object>> render,
+            Consumer<String> renderFailure
+    ) {
+        SwingWorker<Map<String, Object>, Void> worker = new SwingWorker<>() {
+            @Override
+            protected Map<String, Object> doInBackground() throws Exception {
+                return fetch.call();
+            }
+
+            @Override
+            protected void done() {
+                if (!refresh.isCurrent()) {
+                    return;
+                }
+                try {
+                    render.accept(safeObject(get()));
+                } catch (Exception ex) {
+                    String message = humanizeDashboardError(ex);
+                    refresh.failures().put(section, message);
+                    renderFailure.accept(message);
+                }
+                refresh.finishSection();
+            }
+        };
+        worker.execute();
+    }
+
+    private void finishDashboardRefresh(DashboardRefresh refresh) {
+        refreshDashboardButton.setEnabled(true);
+        Map<String, String> failures = refresh.failures();
+        if (failures.isEmpty()) {
+            setDashboardStatus("Updated " + ts(), COLOR_SUCCESS);
+            return;
+        }
+        if (failures.size() < refresh.sections()) {
+            setDashboardStatus("Partially updated " + ts() + " (" + String.join(", ", failures.keySet()) + " failed)",
+                    COLOR_WARNING);
+            return;
+        }
+        String message = failures.values().iterator().next();
+        setDashboardStatus("Status: load failed", COLOR_DANGER);
+        dashboardPredictionArea.setText(ts() + " | Dashboard load failed: " + message);
+        dashboardPredictionArea.setCaretPosition(0);
+        dashboardPlanArea.setText(
+                "Next step:\n- Open AI Management -> Backend Control.\n"
+                        + "- Click Start AI Backend.\n"
+                        + "- Verify top status shows Connected.\n"
+                        + "- Retry Dashboard fetch."
+        );
+        dashboardInsightsArea.setText("Connection details:\n" + message);
+        resetDashboardLabels();
+    }
+
+    private void setDashboardGridMode(boolean enabled) {
+        if (dashboardGridModeToggle.isSelected() != enabled) {
+            dashboardGridModeToggle.setSelected(enabled);
+        }
+        if (enabled) {
+            configureClientFromUI();
+            rebuildDashboardGrid();
+            dashboardBodyLayout.show(dashboardBodyPanel, DASHBOARD_CARD_GRID);
+            return;
+        }
+        if (dashboardGridTimer != null) {
+            dashboardGridTimer.stop();
+        }
+        styleDashboardStatus(dashboardGridStatusLabel, "Grid: off", COLOR_MUTED);
+        dashboardBodyLayout.show(dashboardBodyPanel, DASHBOARD_CARD_SINGLE);
+    }
+
+    private void rebuildDashboardGrid() {
+        LinkedHashSet<String> symbols = new LinkedHashSet<>();
+        for (String part : dashboardGridSymbolsField.getText().split("[,\\s]+")) {
+            String symbol = part.trim().toUpperCase();
+            if (!symbol.isEmpty()) {
+                symbols.add(symbol);
+            }
+        }
+
+        // Keep existing tiles (and their last payload hash) for symbols that are still listed.
+        Map<String, DashboardGridTile> previous = new LinkedHashMap<>(dashboardGridTiles);
+        dashboardGridTiles.clear();
+        dashboardGridTilesPanel.removeAll();
+        for (String symbol : symbols) {
+            DashboardGridTile tile = previous.get(symbol);
+            if (tile == null) {
+                tile = createDashboardGridTile(symbol);
+            }
+            dashboardGridTiles.put(symbol, tile);
+            dashboardGridTilesPanel.add(tile.panel());
+        }
+        dashboardGridTilesPanel.revalidate();
+        dashboardGridTilesPanel.repaint();
+        dashboardGridCursor = 0;
+        dashboardGridChecks = 0;
+        dashboardGridChanges = 0;
+        restartDashboardGridTimer();
+    }
+
+    private void restartDashboardGridTimer() {
+        if (dashboardGridTimer != null) {
+            dashboardGridTimer.stop();
+        }
+        int count = dashboardGridTiles.size();
+        if (count == 0) {
+            styleDashboardStatus(dashboardGridStatusLabel, "Grid: no symbols", COLOR_WARNING);
+            return;
+        }
+        // One symbol per tick spreads a full pass evenly over the cycle instead of bursting N requests at once.
+        int cycleMs = Json.asInt(dashboardGridCycleSpinner.getValue(), 60) * 1000;
+        int delay = Math.max(1000, cycleMs / count);
+        dashboardGridTimer = new javax.swing.Timer(delay, e -> refreshNextDashboardGridTile());
+        dashboardGridTimer.setInitialDelay(0);
+        dashboardGridTimer.setRepeats(true);
+        dashboardGridTimer.start();
+        styleDashboardStatus(
+                dashboardGridStatusLabel,
+                "Grid: " + count + " symbols, one every " + String.format("%.1fs", delay / 1000.0),
+                COLOR_MUTED
+        );
+    }
+
+    private void refreshNextDashboardGridTile() {
+        if (dashboardGridTiles.isEmpty()) {
             return;
         }
-        int horizonDays = (Integer) dashboardHorizonSpinner.getValue();
+        List<DashboardGridTile> tiles = new ArrayList<>(dashboardGridTiles.values());
+        DashboardGridTile tile = tiles.get(dashboardGridCursor % tiles.size());
+        dashboardGridCursor = (dashboardGridCursor + 1) % tiles.size();
+        if (tile.inFlight) {
+            return;
+        }
+        tile.inFlight = true;
+        String symbol = tile.symbol();
+        int horizonDays = Json.asInt(dashboardHorizonSpinner.getValue(), 5);
 
-        refreshDashboardButton.setEnabled(false);
-        setDashboardStatus("Status: loading...", COLOR_WARNING);
-        dashboardPredictionArea.setText(ts() + " | Loading market read for " + symbol + "...");
-        dashboardPlanArea.setText(ts() + " | Building execution checklist...");
-        dashboardInsightsArea.setText("");
-        resetDashboardLabels();
+        // Same concurrent fetch as the single-symbol dashboard, so a tile waits for the slower call, not both.
+        DashboardRefresh refresh = new DashboardRefresh(
+                2,
+                () -> dashboardGridTiles.get(symbol) == tile,
+                finished -> finishDashboardGridTile(tile, finished)
+        );
+        fetchDashboardSection(
+                refresh,
+                "prediction",
+                () -> apiClient.predictSymbol(symbol),
+                prediction -> refresh.payloads().put("prediction", prediction),
+                message -> { }
+        );
+        fetchDashboardSection(
+                refresh,
+                "trade setup",
+                () -> apiClient.generateTradeSetup(symbol, horizonDays),
+                signal -> refresh.payloads().put("signal", signal),
+                message -> { }
+        );
+    }
 
-        SwingWorker<Map<String, Object>, Void> worker = new SwingWorker<>() {
-            @Override
-            protected Map<String, Object> doInBackground() throws Exception {
-                if (!apiClient.healthCheck(2)) {
-                    throw new IOException(
-                            "Backend is not reachable at " + currentHostPort()
-                                    + ". Go to AI Management -> Backend Control and click Start AI Backend."
-                    );
-                }
-                Map<String, Object> result = new LinkedHashMap<>();
-                result.put("symbol", symbol);
-                result.put("prediction", apiClient.predictSymbol(symbol));
-                result.put("signal", apiClient.generateTradeSetup(symbol, horizonDays));
-                return result;
+    private void finishDashboardGridTile(DashboardGridTile tile, DashboardRefresh refresh) {
+        tile.inFlight = false;
+        dashboardGridChecks++;
+        String hash;
+        Map<String, String> failures = refresh.failures();
+        if (failures.isEmpty()) {
+            Map<String, Object> prediction = refresh.payloads().get("prediction");
+            Map<String, Object> signal = refresh.payloads().get("signal");
+            hash = dashboardPayloadHash(prediction, signal);
+            if (!hash.equals(tile.lastHash)) {
+                dashboardGridChanges++;
+                renderDashboardGridTile(tile, prediction, signal);
             }
+        } else {
+            String message = failures.values().iterator().next();
+            hash = "error:" + message;
+            if (!hash.equals(tile.lastHash)) {
+                dashboardGridChanges++;
+                renderDashboardGridTileError(tile, message);
+            }
+        }
+        tile.lastHash = hash;
+        styleDashboardStatus(
+                dashboardGridStatusLabel,
+                "Grid: " + dashboardGridChecks + " checks, " + dashboardGridChanges + " repaints, last " + ts(),
+                COLOR_MUTED
+        );
+    }
 
+    private DashboardGridTile createDashboardGridTile(String symbol) {
+        JLabel predictionValue = createMetricValueLabel();
+        JLabel confidenceValue = createMetricValueLabel();
+        JLabel biasValue = createMetricValueLabel();
+        JLabel entryValue = createMetricValueLabel();
+        JLabel stopValue = createMetricValueLabel();
+        JLabel targetsValue = createMetricValueLabel();
+        JLabel updatedLabel = createHintLabel("Waiting for first refresh...");
+
+        JPanel metrics = new JPanel(new GridBagLayout());
+        metrics.setOpaque(false);
+        addMetricTile(metrics, 0, 0, "Prediction", predictionValue);
+        addMetricTile(metrics, 0, 1, "Confidence", confidenceValue);
+        addMetricTile(metrics, 1, 0, "Bias", biasValue);
+        addMetricTile(metrics, 1, 1, "Stop Loss", stopValue);
+        GridBagConstraints wide = new GridBagConstraints();
+        wide.gridx = 0;
+        wide.gridwidth = 2;
+        wide.insets = new Insets(4, 4, 4, 4);
+        wide.fill = GridBagConstraints.HORIZONTAL;
+        wide.weightx = 1.0;
+        wide.gridy = 2;
+        metrics.add(createMetricTile("Entry Zone", entryValue), wide);
+        wide.gridy = 3;
+        metrics.add(createMetricTile("Targets", targetsValue), wide);
+
+        JPanel panel = createCardPanel();
+        panel.add(createSectionHeader(symbol), BorderLayout.NORTH);
+        panel.add(metrics, BorderLayout.CENTER);
+        panel.add(updatedLabel, BorderLayout.SOUTH);
+        panel.setToolTipText("Double-click to open " + symbol + " in the single-symbol view.");
+        panel.addMouseListener(new MouseAdapter() {
             @Override
-            protected void done() {
-                refreshDashboardButton.setEnabled(true);
-                try {
-                    Map<String, Object> payload = get();
-                    Map<String, Object> prediction = safeObject(payload.get("prediction"));
-                    Map<String, Object> signal = safeObject(payload.get("signal"));
-                    renderDashboardPrediction(symbol, prediction);
-                    renderDashboardSignal(signal);
-                    setDashboardStatus("Updated " + ts(), COLOR_SUCCESS);
-                } catch (Exception ex) {
-                    String message = humanizeDashboardError(ex);
-                    setDashboardStatus("Status: load failed", COLOR_DANGER);
-                    dashboardPredictionArea.setText(ts() + " | Dashboard load failed: " + message);
-                    dashboardPredictionArea.setCaretPosition(0);
-                    dashboardPlanArea.setText(
-                            "Next step:\n- Open AI Management -> Backend Control.\n"
-                                    + "- Click Start AI Backend.\n"
-                                    + "- Verify top status shows Connected.\n"
-                                    + "- Retry Dashboard fetch."
-                    );
-                    dashboardInsightsArea.setText("Connection details:\n" + message);
-                    resetDashboardLabels();
+            public void mouseClicked(MouseEvent e) {
+                if (e.getClickCount() == 2 && SwingUtilities.isLeftMouseButton(e)) {
+                    dashboardSymbolField.setText(symbol);
+                    setDashboardGridMode(false);
+                    refreshDashboard();
                 }
             }
-        };
-        worker.execute();
+        });
+        return new DashboardGridTile(
+                symbol, panel, predictionValue, confidenceValue, biasValue, entryValue, stopValue, targetsValue, updatedLabel
+        );
+    }
+
+    private void renderDashboardGridTile(
+            DashboardGridTile tile,
+            Map<String, Object> prediction,
+            Map<String, Object> signal
+    ) {
+        double confidence = Json.asDouble(prediction.get("confidence"), Double.NaN);
+        String bias = stringOrDash(signal.get("bias"));
+        Map<String, Object> risk = safeObject(signal.get("risk"));
+        tile.predictionValue().setText(stringOrDash(prediction.get("prediction")));
+        tile.confidenceValue().setText(asPercent(confidence) + " (" + confidenceBand(confidence) + ")");
+        tile.confidenceValue().setForeground(colorForConfidence(confidence));
+        tile.biasValue().setText(bias);
+        tile.biasValue().setForeground(colorForBias(bias));
+        tile.entryValue().setText(formatEntrySummary(safeObject(signal.get("entry"))));
+        tile.stopValue().setText(asPrice(risk.get("stop_loss")));
+        tile.stopValue().setForeground(COLOR_DANGER);
+        tile.targetsValue().setText(formatTargetsSummary(safeArray(signal.get("targets"))));
+        tile.targetsValue().setForeground(COLOR_SUCCESS);
+        tile.updatedLabel().setText("Changed " + ts());
+        tile.updatedLabel().setForeground(COLOR_MUTED);
+    }
+
+    private void renderDashboardGridTileError(DashboardGridTile tile, String message) {
+        tile.updatedLabel().setText("Refresh failed " + ts() + ": " + message);
+        tile.updatedLabel().setForeground(COLOR_DANGER);
+    }
+
+    private String dashboardPayloadHash(Map<String, Object> prediction, Map<String, Object> signal) {
+        Map<String, Object> stable = new LinkedHashMap<>();
+        stable.put("prediction", withoutVolatileKeys(prediction));
+        stable.put("signal", withoutVolatileKeys(signal));
+        String compact = Json.compact(stable);
+        return compact.length() + ":" + Integer.toHexString(compact.hashCode());
+    }
+
+    private Map<String, Object> withoutVolatileKeys(Map<String, Object> payload) {
+        Map<String, Object> copy = new LinkedHashMap<>(payload);
+        for (String key : DASHBOARD_VOLATILE_KEYS) {
+            copy.remove(key);
+        }
+        return copy;
     }
 
     private void resetPredictionInspectorState() {
@@ -11612,7 +13047,7 @@ public final class DPolarisJavaApp {
             protected Map<String, Object> doInBackground() throws Exception {
                 if (!apiClient.healthCheck(2)) {
                     throw new IOException(
-                            "Backend is not reachable at " + currentHostPort()
+                            "Backend is not reachable at " + unreachableBackend()
                                     + ". Start backend from AI Management -> Backend Control."
                     );
                 }
@@ -11776,11 +13211,19 @@ public final class DPolarisJavaApp {
         return String.valueOf(value);
     }
 
+    /** The endpoint that actually refused the connection when known, otherwise the configured target. */
+    private String unreachableBackend() {
+        return firstNonBlank(apiClient.lastUnreachableBackend(), currentHostPort());
+    }
+
     private String currentHostPort() {
         String host = hostField.getText().trim();
         if (host.isEmpty()) {
             host = "127.0.0.1";
         }
+        if (host.contains(",")) {
+            return apiClient.describeBackends();
+        }
         String port = portField.getText().trim();
         if (port.isEmpty()) {
             port = "8420";
@@ -11802,7 +13245,7 @@ public final class DPolarisJavaApp {
                 || full.contains("connection refused")
                 || full.contains("failed to connect")
                 || full.contains("backend is not reachable")) {
-            return "Cannot connect to backend at " + currentHostPort()
+            return "Cannot connect to backend at " + unreachableBackend()
                     + ". Start backend from AI Management -> Backend Control.";
         }
 
@@ -13085,6 +14528,234 @@ public final class DPolarisJavaApp {
         }
     }
 
+    private static final class DashboardGridTile {
+        private final String symbol;
+        private final JPanel panel;
+        private final JLabel predictionValue;
+        private final JLabel confidenceValue;
+        private final JLabel biasValue;
+        private final JLabel entryValue;
+        private final JLabel stopValue;
+        private final JLabel targetsValue;
+        private final JLabel updatedLabel;
+        private boolean inFlight;
+        private String lastHash = "";
+
+        private DashboardGridTile(
+                String symbol,
+                JPanel panel,
+                JLabel predictionValue,
+                JLabel confidenceValue,
+                JLabel biasValue,
+                JLabel entryValue,
+                JLabel stopValue,
+                JLabel targetsValue,
+                JLabel updatedLabel
+        ) {
+            this.symbol = symbol;
+            this.panel = panel;
+            this.predictionValue = predictionValue;
+            this.confidenceValue = confidenceValue;
+            this.biasValue = biasValue;
+            this.entryValue = entryValue;
+            this.stopValue = stopValue;
+            this.targetsValue = targetsValue;
+            this.updatedLabel = updatedLabel;
+        }
+
+        String symbol() {
+            return symbol;
+        }
+
+        JPanel panel() {
+            return panel;
+        }
+
+        JLabel predictionValue() {
+            return predictionValue;
+        }
+
+        JLabel confidenceValue() {
+            return confidenceValue;
+        }
+
+        JLabel biasValue() {
+            return biasValue;
+        }
+
+        JLabel entryValue() {
+            return entryValue;
+        }
+
+        JLabel stopValue() {
+            return stopValue;
+        }
+
+        JLabel targetsValue() {
+            return targetsValue;
+        }
+
+        JLabel updatedLabel() {
+            return updatedLabel;
+        }
+    }
+
+    /** Sections fetched concurrently for one dashboard view; {@code onFinished} runs once all have landed. */
+    private static final class DashboardRefresh {
+        private final int sections;
+        private final BooleanSupplier current;
+        private final Consumer<DashboardRefresh> onFinished;
+        private final Map<String, String> failures = new LinkedHashMap<>();
+        private final Map<String, Map<String, Object>> payloads = new LinkedHashMap<>();
+        private int pending;
+
+        private DashboardRefresh(int sections, BooleanSupplier current, Consumer<DashboardRefresh> onFinished) {
+            this.sections = sections;
+            this.current = current;
+            this.onFinished = onFinished;
+            this.pending = sections;
+        }
+
+        boolean isCurrent() {
+            return current.getAsBoolean();
+        }
+
+        int sections() {
+            return sections;
+        }
+
+        Map<String, String> failures() {
+            return failures;
+        }
+
+        Map<String, Map<String, Object>> payloads() {
+            return payloads;
+        }
+
+        void finishSection() {
+            pending--;
+            if (pending == 0) {
+                onFinished.accept(this);
+            }
+        }
+    }
+
+    private static final class PredictionSweepTableModel extends AbstractTableModel {
+        private static final String[] COLUMNS = {
+                "Ticker",
+                "Status",
+                "Prediction",
+                "Confidence",
+                "Band",
+                "Bias",
+                "Entry",
+                "Stop",
+                "Targets",
+                "Elapsed (ms)",
+                "Error"
+        };
+        private final List<PredictionSweepRow> rows = new ArrayList<>();
+        private final Map<String, Integer> indexBySymbol = new LinkedHashMap<>();
+
+        @Override
+        public int getRowCount() {
+            return rows.size();
+        }
+
+        @Override
+        public int getColumnCount() {
+            return COLUMNS.length;
+        }
+
+        @Override
+        public String getColumnName(int column) {
+            return COLUMNS[column];
+        }
+
+        @Override
+        public Object getValueAt(int rowIndex, int columnIndex) {
+            PredictionSweepRow row = rows.get(rowIndex);
+            return switch (columnIndex) {
+                case 0 -> row.symbol();
+                case 1 -> row.status();
+                case 2 -> row.predictionLabel();
+                case 3 -> row.confidence();
+                case 4 -> row.band();
+                case 5 -> row.bias();
+                case 6 -> row.entry();
+                case 7 -> row.stop();
+                case 8 -> row.targets();
+                case 9 -> row.elapsedMs() < 0 ? "—" : String.valueOf(row.elapsedMs());
+                case 10 -> row.error();
+                default -> "";
+            };
+        }
+
+        void clear() {
+            rows.clear();
+            indexBySymbol.clear();
+            fireTableDataChanged();
+        }
+
+        void upsert(PredictionSweepRow row) {
+            Integer index = indexBySymbol.get(row.symbol());
+            if (index == null) {
+                rows.add(row);
+                indexBySymbol.put(row.symbol(), rows.size() - 1);
+                fireTableRowsInserted(rows.size() - 1, rows.size() - 1);
+                return;
+            }
+            rows.set(index, row);
+            fireTableRowsUpdated(index, index);
+        }
+
+        int finishedCount() {
+            int count = 0;
+            for (PredictionSweepRow row : rows) {
+                if (!"PENDING".equals(row.status())) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        PredictionSweepRow getRow(int rowIndex) {
+            if (rowIndex < 0 || rowIndex >= rows.size()) {
+                return null;
+            }
+            return rows.get(rowIndex);
+        }
+    }
+
+    private record PredictionSweepRow(
+            String symbol,
+            String status,
+            String predictionLabel,
+            String confidence,
+            String band,
+            String bias,
+            String entry,
+            String stop,
+            String targets,
+            long elapsedMs,
+            String error,
+            Map<String, Object> prediction,
+            Map<String, Object> signal
+    ) {
+        static PredictionSweepRow pending(String symbol) {
+            return new PredictionSweepRow(
+                    symbol, "PENDING", "—", "—", "—", "—", "—", "—", "—", -1L, "",
+                    new LinkedHashMap<>(), new LinkedHashMap<>()
+            );
+        }
+    }
+
+    /**
+     * Virtual model over the paged scan results. Row count comes from the run total and pages
+     * are supplied as the viewport reaches them; only a window of pages around the viewport is
+     * kept. Sorting, filtering or a top-N limit switches to a columnar store of the whole run,
+     * built once and then queried locally.
+     */
     private static final class ScanResultsTableModel extends AbstractTableModel {
         private static final String[] COLUMNS = {
                 "Expand",
@@ -13099,12 +14770,24 @@ public final class DPolarisJavaApp {
                 "Warnings",
                 "Updated"
         };
-        private List<ScanResultRow> rows = new ArrayList<>();
+        private final LinkedHashMap<Integer, List<ScanResultRow>> pages = new LinkedHashMap<>(16, 0.75f, true);
+        private String runId;
+        private int pageSize = 100;
+        private long total;
+        private int generation;
+        private ScanResultStore index;
+        private int[] view;
+        private final List<ScanResultStore.SortKey> sortKeys = new ArrayList<>();
+        private ScanResultStore.Filter filter = ScanResultStore.Filter.ALL;
+        private int topLimit;
         private String expandedTicker;
 
         @Override
         public int getRowCount() {
-            return rows.size();
+            if (view != null) {
+                return view.length;
+            }
+            return (int) Math.min(Integer.MAX_VALUE, total);
         }
 
         @Override
@@ -13114,12 +14797,22 @@ public final class DPolarisJavaApp {
 
         @Override
         public String getColumnName(int column) {
+            for (int i = 0; i < sortKeys.size(); i++) {
+                ScanResultStore.SortKey key = sortKeys.get(i);
+                if (key.column() == storeColumn(column)) {
+                    String arrow = key.descending() ? " ▼" : " ▲";
+                    return COLUMNS[column] + arrow + (sortKeys.size() > 1 ? String.valueOf(i + 1) : "");
+                }
+            }
             return COLUMNS[column];
         }
 
         @Override
         public Object getValueAt(int rowIndex, int columnIndex) {
-            ScanResultRow row = rows.get(rowIndex);
+            ScanResultRow row = getRow(rowIndex);
+            if (row == null) {
+                return columnIndex == 1 ? "…" : "";
+            }
             return switch (columnIndex) {
                 case 0 -> row.ticker().equals(expandedTicker) ? "▼" : "▶";
                 case 1 -> row.ticker();
@@ -13136,36 +14829,252 @@ public final class DPolarisJavaApp {
             };
         }
 
-        void setRows(List<ScanResultRow> rows) {
-            this.rows = rows == null ? new ArrayList<>() : new ArrayList<>(rows);
+        /** Starts over for {@code runId}; returns the generation that page loads must carry. */
+        int reset(String runId, int pageSize) {
+            this.runId = runId;
+            this.pageSize = Math.max(1, pageSize);
+            pages.clear();
+            total = 0L;
+            index = null;
+            view = null;
+            generation++;
+            fireTableDataChanged();
+            return generation;
+        }
+
+        String runId() {
+            return runId;
+        }
+
+        int pageSize() {
+            return pageSize;
+        }
+
+        int generation() {
+            return generation;
+        }
+
+        long total() {
+            return index != null ? index.size() : total;
+        }
+
+        int pageOf(int rowIndex) {
+            return Math.max(0, rowIndex) / pageSize + 1;
+        }
+
+        int pageCount() {
+            return (int) Math.max(1L, (total + pageSize - 1) / pageSize);
+        }
+
+        boolean hasPage(int page) {
+            return pages.containsKey(page);
+        }
+
+        int loadedRowCount() {
+            int count = 0;
+            for (List<ScanResultRow> rows : pages.values()) {
+                count += rows.size();
+            }
+            return count;
+        }
+
+        /** Stores {@code page} and evicts the pages farthest from {@code centerPage} beyond {@code windowPages}. */
+        void putPage(int page, List<ScanResultRow> rows, long newTotal, int centerPage, int windowPages) {
+            pages.put(page, List.copyOf(rows));
+            while (pages.size() > Math.max(2, windowPages)) {
+                Integer farthest = null;
+                for (Integer loaded : pages.keySet()) {
+                    if (farthest == null || Math.abs(loaded - centerPage) > Math.abs(farthest - centerPage)) {
+                        farthest = loaded;
+                    }
+                }
+                pages.remove(farthest);
+            }
+            if (view != null) {
+                return;
+            }
+            if (newTotal != total) {
+                total = newTotal;
+                fireTableDataChanged();
+            } else {
+                int first = (page - 1) * pageSize;
+                int last = (int) Math.min(total - 1, (long) first + pageSize - 1);
+                if (first <= last) {
+                    fireTableRowsUpdated(first, last);
+                }
+            }
+        }
+
+        boolean isIndexed() {
+            return index != null;
+        }
+
+        /**
+         * Replaces rows by ticker wherever they are loaded. Tickers not yet known extend the
+         * run: the index appends them, and while paging the total grows and the trailing
+         * partial page is dropped so it is fetched again with the new rows.
+         */
+        void patchRows(List<ScanResultRow> changed, long newTotal) {
+            if (changed.isEmpty() && newTotal <= total()) {
+                return;
+            }
+            Map<String, ScanResultRow> byTicker = new LinkedHashMap<>();
+            for (ScanResultRow row : changed) {
+                byTicker.put(row.ticker(), row);
+            }
+            for (Map.Entry<Integer, List<ScanResultRow>> entry : pages.entrySet()) {
+                entry.setValue(replaceByTicker(entry.getValue(), byTicker));
+            }
+            if (index != null) {
+                for (ScanResultRow row : changed) {
+                    addToIndex(row);
+                }
+                rebuildView();
+                return;
+            }
+            if (newTotal > total) {
+                pages.remove((int) ((total + pageSize - 1) / pageSize));
+                total = newTotal;
+            }
             fireTableDataChanged();
         }
 
+        private static List<ScanResultRow> replaceByTicker(List<ScanResultRow> rows, Map<String, ScanResultRow> byTicker) {
+            List<ScanResultRow> out = new ArrayList<>(rows.size());
+            for (ScanResultRow row : rows) {
+                out.add(byTicker.getOrDefault(row.ticker(), row));
+            }
+            return out;
+        }
+
+        boolean needsIndex() {
+            return !sortKeys.isEmpty() || !filter.isAll() || topLimit > 0;
+        }
+
+        void setIndex(List<ScanResultRow> rows) {
+            index = new ScanResultStore();
+            for (ScanResultRow row : rows) {
+                addToIndex(row);
+            }
+            rebuildView();
+        }
+
+        /** Sorts by {@code column}; with {@code additive} it becomes the next tie-breaker instead. */
+        void toggleSort(int column, boolean additive) {
+            ScanResultStore.Column target = storeColumn(column);
+            int existing = -1;
+            for (int i = 0; i < sortKeys.size(); i++) {
+                if (sortKeys.get(i).column() == target) {
+                    existing = i;
+                }
+            }
+            if (existing >= 0 && (additive || sortKeys.size() == 1)) {
+                ScanResultStore.SortKey key = sortKeys.get(existing);
+                sortKeys.set(existing, new ScanResultStore.SortKey(target, !key.descending()));
+            } else {
+                if (!additive) {
+                    sortKeys.clear();
+                }
+                // Scores read best-first; text columns alphabetically.
+                boolean descending = target == ScanResultStore.Column.SCORE
+                        || target == ScanResultStore.Column.CONFIDENCE
+                        || target == ScanResultStore.Column.WARNINGS;
+                sortKeys.add(new ScanResultStore.SortKey(target, descending));
+            }
+            rebuildView();
+        }
+
+        void setFilter(ScanResultStore.Filter filter) {
+            this.filter = filter == null ? ScanResultStore.Filter.ALL : filter;
+            rebuildView();
+        }
+
+        /** Limits the view to the best {@code limit} rows by score and confidence; 0 shows all. */
+        void setTopLimit(int limit) {
+            topLimit = Math.max(0, limit);
+            rebuildView();
+        }
+
         ScanResultRow getRow(int rowIndex) {
-            if (rowIndex < 0 || rowIndex >= rows.size()) {
+            if (rowIndex < 0) {
                 return null;
             }
-            return rows.get(rowIndex);
+            if (view != null) {
+                if (rowIndex >= view.length) {
+                    return null;
+                }
+                return index.row(view[rowIndex]);
+            }
+            List<ScanResultRow> rows = pages.get(pageOf(rowIndex));
+            int offset = rowIndex % pageSize;
+            return rows == null || offset >= rows.size() ? null : rows.get(offset);
         }
 
         void setExpandedTicker(String expandedTicker) {
             this.expandedTicker = expandedTicker;
-            fireTableRowsUpdated(0, Math.max(0, rows.size() - 1));
+            fireTableRowsUpdated(0, Math.max(0, getRowCount() - 1));
+        }
+
+        private void rebuildView() {
+            if (index == null) {
+                view = null;
+                fireTableDataChanged();
+                return;
+            }
+            if (!needsIndex()) {
+                // Unsorted and unfiltered: the whole run is already indexed, so show it in backend order.
+                view = index.query(ScanResultStore.Filter.ALL, List.of());
+            } else if (topLimit > 0) {
+                int[] top = index.topK(topLimit, filter);
+                if (sortKeys.isEmpty()) {
+                    view = top;
+                } else {
+                    // Rank first, then order the survivors by the chosen columns.
+                    view = sortWithin(top);
+                }
+            } else {
+                view = index.query(filter, sortKeys);
+            }
+            fireTableDataChanged();
+        }
+
+        private int[] sortWithin(int[] rows) {
+            int[] all = index.query(ScanResultStore.Filter.ALL, sortKeys);
+            boolean[] keep = new boolean[index.size()];
+            for (int row : rows) {
+                keep[row] = true;
+            }
+            int[] out = new int[rows.length];
+            int count = 0;
+            for (int row : all) {
+                if (keep[row]) {
+                    out[count++] = row;
+                }
+            }
+            return out;
+        }
+
+        private void addToIndex(ScanResultRow row) {
+            index.upsert(row);
+        }
+
+        private static ScanResultStore.Column storeColumn(int modelColumn) {
+            return ScanResultStore.Column.values()[Math.max(1, modelColumn) - 1];
         }
     }
 
-    private record ScanResultRow(
+    private record RenderedScanDetail(
+            String runId,
             String ticker,
-            String status,
-            double overallScore,
-            String regime,
-            String trendMomentum,
-            String volatilityIv,
-            String topStrategy,
-            double confidence,
-            int warningsCount,
-            String updatedAt,
-            Map<String, Object> raw
+            Map<String, Object> payload,
+            Document executive,
+            Document market,
+            Document priceVolume,
+            Document options,
+            Document risk,
+            Document explain,
+            Document artifacts,
+            String warnings
     ) {
     }
 
@@ -39,6 +39,7 @@ public final class DeepLearningPanel extends JPanel {
     private static final String VIEW_DETAIL = "DETAIL";
 
     private final ApiClient apiClient;
+    private final RunsCache cache = ResponseCache.shared();
     private final Font uiFont;
     private final Font monoFont;
 
@@ -88,7 +89,7 @@ public final class DeepLearningPanel extends JPanel {
     // State
     private String currentJobId = null;
     private final AtomicBoolean isPolling = new AtomicBoolean(false);
-    private javax.swing.Timer pollingTimer;
+    private StatusMonitor.Subscription pollingSubscription;
 
     public DeepLearningPanel(ApiClient apiClient, Font uiFont, Font monoFont) {
         this.apiClient = apiClient;
@@ -192,7 +193,7 @@ public final class DeepLearningPanel extends JPanel {
         new SwingWorker<Map<String, Object>, Void>() {
             @Override
             protected Map<String, Object> doInBackground() throws Exception {
-                return apiClient.fetchAnalysisDetail(symbol);
+                return cache.get(analysisDetailKey(symbol), false, () -> apiClient.fetchAnalysisDetail(symbol));
             }
 
             @Override
@@ -422,7 +423,7 @@ public final class DeepLearningPanel extends JPanel {
         universeCombo = new JComboBox<>(new String[]{"nasdaq500", "watchlist", "combined"});
         universeCombo.setFont(uiFont);
         universeCombo.setPreferredSize(new Dimension(180, 28));
-        universeCombo.addActionListener(e -> loadSelectedUniverse());
+        universeCombo.addActionListener(e -> loadSelectedUniverse(false));
         universeRow.add(universeCombo);
 
         refreshUniverseButton = createButton("Refresh", COLOR_ACCENT);
@@ -660,7 +661,8 @@ public final class DeepLearningPanel extends JPanel {
         new SwingWorker<Boolean, Void>() {
             @Override
             protected Boolean doInBackground() throws Exception {
-                Map<String, Object> detail = apiClient.fetchAnalysisDetail(symbol);
+                Map<String, Object> detail = cache.get(
+                        analysisDetailKey(symbol), false, () -> apiClient.fetchAnalysisDetail(symbol));
                 return detail != null && !detail.isEmpty();
             }
 
@@ -763,10 +765,10 @@ public final class DeepLearningPanel extends JPanel {
     }
 
     private void refreshAll() {
-        loadSelectedUniverse();
+        loadSelectedUniverse(true);
     }
 
-    private void loadSelectedUniverse() {
+    private void loadSelectedUniverse(boolean forceRefresh) {
         String universe = (String) universeCombo.getSelectedItem();
         if (universe == null || universe.isBlank()) return;
 
@@ -776,7 +778,8 @@ public final class DeepLearningPanel extends JPanel {
         new SwingWorker<List<Map<String, Object>>, Void>() {
             @Override
             protected List<Map<String, Object>> doInBackground() throws Exception {
-                Object response = apiClient.fetchUniverse(universe);
+                Object response = cache.get(
+                        ScanService.universeKey(universe), forceRefresh, () -> apiClient.fetchUniverse(universe));
                 List<Map<String, Object>> tickers = new ArrayList<>();
 
                 if (response instanceof Map) {
@@ -797,7 +800,7 @@ public final class DeepLearningPanel extends JPanel {
                     for (Map<String, Object> ticker : tickers) {
                         symbols.add(String.valueOf(ticker.get("symbol")));
                     }
-                    fetchMetadataAndAnalysis(tickers, symbols);
+                    fetchMetadataAndAnalysis(tickers, symbols, forceRefresh);
                 }
 
                 return tickers;
@@ -818,10 +821,12 @@ public final class DeepLearningPanel extends JPanel {
         }.execute();
     }
 
-    private void fetchMetadataAndAnalysis(List<Map<String, Object>> tickers, List<String> symbols) {
+    private void fetchMetadataAndAnalysis(List<Map<String, Object>> tickers, List<String> symbols, boolean forceRefresh) {
+        String symbolsKey = String.join(",", symbols);
         // Fetch metadata
         try {
-            Map<String, Object> metadata = apiClient.fetchStocksMetadata(symbols);
+            Map<String, Object> metadata = cache.get(
+                    ResponseCache.STOCKS_METADATA + symbolsKey, forceRefresh, () -> apiClient.fetchStocksMetadata(symbols));
             if (metadata != null) {
                 for (Map<String, Object> ticker : tickers) {
                     String symbol = String.valueOf(ticker.get("symbol"));
@@ -841,7 +846,8 @@ public final class DeepLearningPanel extends JPanel {
 
         // Fetch analysis dates
         try {
-            Map<String, Object> analysis = apiClient.fetchAnalysisLast(symbols);
+            Map<String, Object> analysis = cache.get(
+                    ResponseCache.ANALYSIS + "last:" + symbolsKey, forceRefresh, () -> apiClient.fetchAnalysisLast(symbols));
             if (analysis != null) {
                 for (Map<String, Object> ticker : tickers) {
                     String symbol = String.valueOf(ticker.get("symbol"));
@@ -862,6 +868,10 @@ public final class DeepLearningPanel extends JPanel {
         }
     }
 
+    private static String analysisDetailKey(String symbol) {
+        return ResponseCache.ANALYSIS + "detail:" + symbol.trim().toUpperCase();
+    }
+
     private List<Map<String, Object>> convertToTickerList(List<?> raw) {
         List<Map<String, Object>> result = new ArrayList<>();
         for (Object item : raw) {
@@ -1004,42 +1014,51 @@ public final class DeepLearningPanel extends JPanel {
 
     private void startPolling() {
         if (isPolling.getAndSet(true)) return;
-        pollingTimer = new javax.swing.Timer(2000, e -> pollJobStatus());
-        pollingTimer.start();
+        String jobId = currentJobId;
+        if (jobId == null || jobId.isBlank()) {
+            stopPolling();
+            return;
+        }
+        // updateJobStatus sees the terminal status too and stops polling itself.
+        pollingSubscription = StatusMonitor.shared().track(
+                "job:" + jobId,
+                () -> apiClient.fetchJob(jobId),
+                job -> switch (String.valueOf(job.get("status")).toLowerCase()) {
+                    case "completed", "success", "failed", "error" -> true;
+                    default -> false;
+                },
+                new StatusMonitor.Listener() {
+                    @Override
+                    public void onStatus(Map<String, Object> job) {
+                        updateJobStatus(job);
+                    }
+
+                    @Override
+                    public void onError(Exception error, int consecutiveErrors) {
+                        appendLog("[Polling] Error fetching job status: " + error.getMessage());
+                    }
+
+                    @Override
+                    public void onFinished(Map<String, Object> finalStatus) {
+                        if (finalStatus == null) {
+                            appendLog("[Polling] Gave up after repeated errors");
+                            stopPolling();
+                        }
+                    }
+                }
+        );
         appendLog("[Polling] Started job status polling");
     }
 
     private void stopPolling() {
         isPolling.set(false);
-        if (pollingTimer != null) {
-            pollingTimer.stop();
-            pollingTimer = null;
+        if (pollingSubscription != null) {
+            pollingSubscription.cancel();
+            pollingSubscription = null;
         }
         trainButton.setEnabled(true);
     }
 
-    private void pollJobStatus() {
-        if (currentJobId == null || currentJobId.isBlank()) {
-            stopPolling();
-            return;
-        }
-        new SwingWorker<Map<String, Object>, Void>() {
-            @Override
-            protected Map<String, Object> doInBackground() throws Exception {
-                return apiClient.fetchJob(currentJobId);
-            }
-            @Override
-            protected void done() {
-                try {
-                    Map<String, Object> job = get();
-                    updateJobStatus(job);
-                } catch (Exception e) {
-                    appendLog("[Polling] Error fetching job status: " + e.getMessage());
-                }
-            }
-        }.execute();
-    }
-
     private void updateJobStatus(Map<String, Object> job) {
         String status = String.valueOf(job.getOrDefault("status", "unknown"));
         int progress = 0;
@@ -1066,6 +1085,8 @@ public final class DeepLearningPanel extends JPanel {
                 jobStatusLabel.setForeground(COLOR_SUCCESS);
                 jobProgressBar.setValue(100);
                 appendLog("[Training] Job completed successfully!");
+                // The job wrote a new analysis; drop cached analysis lists and details.
+                cache.invalidatePrefix(ResponseCache.ANALYSIS);
                 stopPolling();
             }
             case "failed", "error" -> {
@@ -0,0 +1,86 @@
+package com.dpolaris.javaapp;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Short-lived memory of GET paths that answered 404 or 410, so optional artifacts that a
+ * run does not have and routes an older backend does not serve are not re-requested on
+ * every visit. Entries expire on their own TTL, independent of the response cache.
+ * Like the response cache, one instance is shared by every API client in the process.
+ */
+final class NegativeCache {
+    static final long DEFAULT_TTL_MS = 60_000L;
+    private static final int MAX_ENTRIES = 2048;
+    private static final NegativeCache SHARED = new NegativeCache();
+    private final long ttlMillis;
+    private final ConcurrentHashMap<String, Miss> misses = new ConcurrentHashMap<>();
+    private final AtomicLong recorded = new AtomicLong();
+    private final AtomicLong suppressed = new AtomicLong();
+
+    NegativeCache() {
+        this(DEFAULT_TTL_MS);
+    }
+
+    NegativeCache(long ttlMillis) {
+        this.ttlMillis = Math.max(1_000L, ttlMillis);
+    }
+
+    static NegativeCache shared() {
+        return SHARED;
+    }
+
+    static boolean isCacheable(int status) {
+        return status == 404 || status == 410;
+    }
+
+    /** Returns the remembered failure for {@code path}, or {@code null} when it should be requested. */
+    Miss lookup(String path) {
+        Miss miss = misses.get(path);
+        if (miss == null) {
+            return null;
+        }
+        if (miss.expiresAt <= System.currentTimeMillis()) {
+            misses.remove(path, miss);
+            return null;
+        }
+        suppressed.incrementAndGet();
+        return miss;
+    }
+
+    void record(String path, int status, String body) {
+        if (misses.size() >= MAX_ENTRIES) {
+            pruneExpired();
+            if (misses.size() >= MAX_ENTRIES) {
+                misses.clear();
+            }
+        }
+        misses.put(path, new Miss(status, body == null ? "" : body, System.currentTimeMillis() + ttlMillis));
+        recorded.incrementAndGet();
+    }
+
+    void forgetPrefix(String pathPrefix) {
+        misses.keySet().removeIf(path -> path.startsWith(pathPrefix));
+    }
+
+    String describe() {
+        pruneExpired();
+        return "negative cache: " + misses.size() + " paths, " + recorded.get() + " recorded, "
+                + suppressed.get() + " requests suppressed (ttl " + (ttlMillis / 1000L) + "s)";
+    }
+
+    private void pruneExpired() {
+        long now = System.currentTimeMillis();
+        Iterator<Map.Entry<String, Miss>> iterator = misses.entrySet().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().getValue().expiresAt <= now) {
+                iterator.remove();
+            }
+        }
+    }
+
+    record Miss(int status, String body, long expiresAt) {
+    }
+}
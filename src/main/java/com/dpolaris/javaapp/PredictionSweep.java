@@ -0,0 +1,228 @@
+package com.dpolaris.javaapp;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs predict + trade-setup for many symbols with bounded concurrency.
+ * Results are streamed to a listener as each symbol finishes; a cancelled
+ * sweep can be resumed and only re-runs symbols without a successful result.
+ */
+final class PredictionSweep {
+    private final ApiClient apiClient;
+    private final Map<String, SweepResult> results = new ConcurrentHashMap<>();
+    private List<String> symbols = new ArrayList<>();
+    private int horizonDays = 5;
+    private Run current;
+
+    PredictionSweep(ApiClient apiClient) {
+        this.apiClient = apiClient;
+    }
+
+    synchronized void start(List<String> symbols, int horizonDays, int concurrency, Listener listener) {
+        cancel();
+        results.clear();
+        this.symbols = normalizeSymbols(symbols);
+        this.horizonDays = Math.max(1, horizonDays);
+        launch(this.symbols, concurrency, listener);
+    }
+
+    synchronized void resume(int concurrency, Listener listener) {
+        if (isRunning()) {
+            return;
+        }
+        launch(pendingSymbols(), concurrency, listener);
+    }
+
+    synchronized void cancel() {
+        if (current != null) {
+            current.cancel();
+        }
+    }
+
+    synchronized boolean isRunning() {
+        return current != null && !current.finished.get();
+    }
+
+    synchronized List<String> pendingSymbols() {
+        List<String> pending = new ArrayList<>();
+        for (String symbol : symbols) {
+            SweepResult result = results.get(symbol);
+            if (result == null || !result.ok()) {
+                pending.add(symbol);
+            }
+        }
+        return pending;
+    }
+
+    synchronized int totalSymbols() {
+        return symbols.size();
+    }
+
+    private void launch(List<String> batch, int concurrency, Listener listener) {
+        if (current != null) {
+            // A replaced run may still have tasks in flight; they must not touch this sweep.
+            current.superseded = true;
+        }
+        if (batch.isEmpty()) {
+            current = null;
+            listener.onFinished(0, 0, false);
+            return;
+        }
+        int threads = Math.max(1, Math.min(concurrency, batch.size()));
+        Run run = new Run(Executors.newFixedThreadPool(threads, daemonThreads()), batch.size(), listener);
+        current = run;
+        int horizon = horizonDays;
+        for (String symbol : batch) {
+            run.pool.execute(() -> {
+                try {
+                    if (run.cancelled.get()) {
+                        return;
+                    }
+                    SweepResult result = runSymbol(symbol, horizon, run.cancelled);
+                    if (run.cancelled.get() && !result.ok()) {
+                        return;
+                    }
+                    synchronized (PredictionSweep.this) {
+                        if (current != run) {
+                            return;
+                        }
+                        results.put(symbol, result);
+                    }
+                    if (result.ok()) {
+                        run.succeeded.incrementAndGet();
+                    } else {
+                        run.failed.incrementAndGet();
+                    }
+                    if (!run.superseded) {
+                        listener.onResult(result);
+                    }
+                } finally {
+                    run.completeTasks(1);
+                }
+            });
+        }
+    }
+
+    private SweepResult runSymbol(String symbol, int horizon, AtomicBoolean cancelled) {
+        long started = System.nanoTime();
+        Map<String, Object> prediction = new LinkedHashMap<>();
+        Map<String, Object> signal = new LinkedHashMap<>();
+        List<String> errors = new ArrayList<>();
+        try {
+            prediction = apiClient.predictSymbol(symbol);
+        } catch (InterruptedException interrupted) {
+            Thread.currentThread().interrupt();
+            errors.add("cancelled");
+        } catch (Exception ex) {
+            errors.add("predict: " + describe(ex));
+        }
+        if (!cancelled.get() && !Thread.currentThread().isInterrupted()) {
+            try {
+                signal = apiClient.generateTradeSetup(symbol, horizon);
+            } catch (InterruptedException interrupted) {
+                Thread.currentThread().interrupt();
+                errors.add("cancelled");
+            } catch (Exception ex) {
+                errors.add("setup: " + describe(ex));
+            }
+        }
+        long elapsedMs = (System.nanoTime() - started) / 1_000_000L;
+        return new SweepResult(symbol, prediction, signal, String.join("; ", errors), elapsedMs);
+    }
+
+    private static List<String> normalizeSymbols(List<String> symbols) {
+        LinkedHashSet<String> unique = new LinkedHashSet<>();
+        if (symbols != null) {
+            for (String symbol : symbols) {
+                String normalized = symbol == null ? "" : symbol.trim().toUpperCase();
+                if (!normalized.isBlank()) {
+                    unique.add(normalized);
+                }
+            }
+        }
+        return new ArrayList<>(unique);
+    }
+
+    private static String describe(Exception ex) {
+        String message = ex.getMessage();
+        if (message == null || message.isBlank()) {
+            return ex.getClass().getSimpleName();
+        }
+        return message.length() > 160 ? message.substring(0, 160) + "..." : message;
+    }
+
+    private static ThreadFactory daemonThreads() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "prediction-sweep-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static final class Run {
+        private final ExecutorService pool;
+        private final Listener listener;
+        private final AtomicInteger remaining;
+        private final AtomicInteger succeeded = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private final AtomicBoolean cancelled = new AtomicBoolean();
+        private final AtomicBoolean finished = new AtomicBoolean();
+        private volatile boolean superseded;
+
+        private Run(ExecutorService pool, int tasks, Listener listener) {
+            this.pool = pool;
+            this.remaining = new AtomicInteger(tasks);
+            this.listener = listener;
+        }
+
+        private void cancel() {
+            if (!cancelled.compareAndSet(false, true)) {
+                return;
+            }
+            // Queued tasks are dropped without running, so account for them here.
+            int dropped = pool.shutdownNow().size();
+            if (dropped > 0) {
+                completeTasks(dropped);
+            }
+        }
+
+        private void completeTasks(int count) {
+            if (remaining.addAndGet(-count) == 0 && finished.compareAndSet(false, true)) {
+                pool.shutdown();
+                if (superseded) {
+                    return;
+                }
+                listener.onFinished(succeeded.get(), failed.get(), cancelled.get());
+            }
+        }
+    }
+
+    record SweepResult(
+            String symbol,
+            Map<String, Object> prediction,
+            Map<String, Object> signal,
+            String error,
+            long elapsedMs
+    ) {
+        boolean ok() {
+            return error == null || error.isBlank();
+        }
+    }
+
+    interface Listener {
+        void onResult(SweepResult result);
+
+        void onFinished(int succeeded, int failed, boolean cancelled);
+    }
+}
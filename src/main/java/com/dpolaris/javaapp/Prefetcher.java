@@ -0,0 +1,92 @@
+package com.dpolaris.javaapp;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Warms the shared response cache with what the user is likely to open next.
+ * Work runs on one minimum-priority thread; scheduling a group again drops that group's
+ * queued tasks, and a byte budget (refilled per minute) caps how much is fetched speculatively.
+ * The budget is checked before a task starts, never during it: a task fills shared cache
+ * entries that a foreground read may have joined, so once started it runs to completion.
+ * Only backend requests are charged, so tasks served from memory or disk cost nothing, and a
+ * task that overdraws the budget holds back the ones after it until the budget refills.
+ */
+final class Prefetcher implements ApiClient.NetworkMeter {
+    private final RunsCache cache;
+    private final long bytesPerMinute;
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "cache-prefetch");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        return thread;
+    });
+    private final ConcurrentHashMap<String, AtomicLong> generations = new ConcurrentHashMap<>();
+    private final Object budgetLock = new Object();
+    private double availableBytes;
+    private long lastRefill = System.currentTimeMillis();
+
+    Prefetcher(RunsCache cache, long bytesPerMinute) {
+        this.cache = cache;
+        this.bytesPerMinute = Math.max(1024L * 1024L, bytesPerMinute);
+        this.availableBytes = this.bytesPerMinute;
+    }
+
+    /** Replaces whatever is still queued for {@code group} with {@code tasks}, run in order. */
+    void schedule(String group, List<Task> tasks) {
+        AtomicLong generation = generations.computeIfAbsent(group, ignored -> new AtomicLong());
+        long scheduled = generation.incrementAndGet();
+        for (Task task : tasks) {
+            worker.execute(() -> {
+                if (generation.get() != scheduled || cache.isFresh(task.key()) || !hasBudget()) {
+                    return;
+                }
+                ApiClient.meterCurrentThread(this);
+                try {
+                    task.loader().load();
+                } catch (Exception ignored) {
+                    // Speculative; the foreground request will surface any real error.
+                } finally {
+                    ApiClient.meterCurrentThread(null);
+                }
+            });
+        }
+    }
+
+    void cancel(String group) {
+        AtomicLong generation = generations.get(group);
+        if (generation != null) {
+            generation.incrementAndGet();
+        }
+    }
+
+    void shutdown() {
+        worker.shutdownNow();
+    }
+
+    @Override
+    public void charge(long bytes) {
+        synchronized (budgetLock) {
+            availableBytes -= bytes;
+        }
+    }
+
+    private boolean hasBudget() {
+        synchronized (budgetLock) {
+            long now = System.currentTimeMillis();
+            availableBytes = Math.min(
+                    bytesPerMinute,
+                    availableBytes + bytesPerMinute * (now - lastRefill) / 60_000.0
+            );
+            lastRefill = now;
+            return availableBytes > 0.0;
+        }
+    }
+
+    /** {@code key} is the cache key the loader fills; tasks whose key is still fresh are skipped. */
+    record Task(String key, RunsCache.Loader<?> loader) {
+    }
+}
@@ -0,0 +1,57 @@
+package com.dpolaris.javaapp;
+
+import java.util.Locale;
+
+/**
+ * Application-wide response cache shared by the services and panels, so a payload that
+ * several screens show is fetched and held once. Endpoint families are separated by key
+ * prefix, each with its own freshness policy.
+ */
+final class ResponseCache {
+    static final String RUNS = "runs:";
+    static final String SCAN = "scan:";
+    static final String ANALYSIS = "analysis:";
+    static final String ANALYSIS_ARTIFACT = "analysis:artifact:";
+    static final String STOCKS_METADATA = "stocks:metadata:";
+    private static final long MAX_WEIGHT_BYTES = 96L * 1024L * 1024L;
+    private static final RunsCache SHARED = createDefault();
+
+    private ResponseCache() {
+    }
+
+    static RunsCache shared() {
+        return SHARED;
+    }
+
+    static String describeStats() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format(Locale.US, "%-22s %8s %8s %8s %6s %10s %7s %10s%n",
+                "namespace", "hits", "stale", "misses", "fails", "load_ms", "entries", "bytes"));
+        long hits = 0L;
+        long misses = 0L;
+        for (RunsCache.Stats stats : SHARED.stats()) {
+            hits += stats.hits() + stats.staleHits();
+            misses += stats.misses();
+            sb.append(String.format(Locale.US, "%-22s %8d %8d %8d %6d %10d %7d %10d%n",
+                    stats.namespace(), stats.hits(), stats.staleHits(), stats.misses(),
+                    stats.loadFailures(), stats.loadMillis(), stats.entries(), stats.weightBytes()));
+        }
+        long total = hits + misses;
+        sb.append(String.format(Locale.US, "total: %d entries, %d bytes, hit ratio %.1f%%",
+                SHARED.size(), SHARED.weightBytes(), total == 0L ? 0.0 : 100.0 * hits / total));
+        return sb.toString();
+    }
+
+    private static RunsCache createDefault() {
+        RunsCache cache = new RunsCache(15_000L, MAX_WEIGHT_BYTES, 0L);
+        cache.policy(RUNS, 20_000L, 5L * 60_000L);
+        cache.policy(SCAN, 12_000L, 2L * 60_000L);
+        // Result pages and ticker details live a little longer so prefetched ones are still there when opened.
+        cache.policy(SCAN + "result", 30_000L, 2L * 60_000L);
+        cache.policy(ANALYSIS, 30_000L, 5L * 60_000L);
+        // Stored analysis reports are immutable once written.
+        cache.policy(ANALYSIS_ARTIFACT, 10L * 60_000L, 0L);
+        cache.policy(STOCKS_METADATA, 60_000L, 5L * 60_000L);
+        return cache;
+    }
+}
@@ -1,37 +1,477 @@
 package com.dpolaris.javaapp;
 
-import java.util.HashMap;
+import java.lang.ref.WeakReference;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * TTL cache keyed by request. Loads run on the calling thread without holding a shared
+ * lock, so different keys load in parallel; concurrent callers for the same key wait on
+ * the one in-flight load instead of issuing their own request.
+ * Entries are weighed by an estimate of their heap size and the least recently used ones
+ * are evicted once the cache exceeds its byte budget. Expired entries are swept in the background.
+ * {@link #getStaleWhileRevalidate} serves an expired value (up to a max staleness) immediately
+ * and reloads it in the background, handing the fresh value to a listener.
+ * Keys are namespaced by prefix; {@link #invalidatePrefix} drops one namespace plus any
+ * namespaces registered as depending on it, leaving unrelated entries cached.
+ * A namespace may carry its own TTL and max staleness via {@link #policy}; hits, misses and
+ * load times are counted per namespace for diagnostics.
+ * The sweep holds the cache only weakly, so a cache nobody references stops being swept;
+ * {@link #close} stops it right away.
+ */
 final class RunsCache {
-    private final long ttlMillis;
-    private final Map<String, Entry> entries = new HashMap<>();
+    static final long DEFAULT_MAX_WEIGHT_BYTES = 64L * 1024L * 1024L;
+    private static final long SWEEP_INTERVAL_SECONDS = 30L;
+    private static final ScheduledExecutorService SWEEPER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "runs-cache-sweeper");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static final ExecutorService REFRESHER = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "runs-cache-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Policy defaultPolicy;
+    private final long maxWeightBytes;
+    private final List<Policy> policies = new CopyOnWriteArrayList<>();
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Set<String>> dependents = new ConcurrentHashMap<>();
+    private final AtomicLong totalWeight = new AtomicLong();
+    private final AtomicLong accessClock = new AtomicLong();
+    private final Object evictionLock = new Object();
+    private final ScheduledFuture<?> sweep;
 
     RunsCache(long ttlMillis) {
-        this.ttlMillis = Math.max(1_000L, ttlMillis);
+        this(ttlMillis, DEFAULT_MAX_WEIGHT_BYTES);
+    }
+
+    RunsCache(long ttlMillis, long maxWeightBytes) {
+        this(ttlMillis, maxWeightBytes, 0L);
+    }
+
+    /** {@code maxStalenessMillis} is how long past expiry a value may still be served while it revalidates. */
+    RunsCache(long ttlMillis, long maxWeightBytes, long maxStalenessMillis) {
+        this.defaultPolicy = new Policy("", ttlMillis, maxStalenessMillis);
+        this.maxWeightBytes = Math.max(1024L * 1024L, maxWeightBytes);
+        this.sweep = Sweep.schedule(this);
+    }
+
+    /** Stops the background sweep; the cache still works, but expired entries are only dropped on access. */
+    void close() {
+        sweep.cancel(false);
     }
 
-    synchronized <T> T get(String key, boolean forceRefresh, Loader<T> loader) throws Exception {
+    /** Keys starting with {@code prefix} use this TTL and staleness; the longest matching prefix wins. */
+    synchronized void policy(String prefix, long ttlMillis, long maxStalenessMillis) {
+        policies.removeIf(existing -> existing.prefix.equals(prefix));
+        policies.add(new Policy(prefix, ttlMillis, maxStalenessMillis));
+        policies.sort((a, b) -> Integer.compare(b.prefix.length(), a.prefix.length()));
+    }
+
+    <T> T get(String key, boolean forceRefresh, Loader<T> loader) throws Exception {
         long now = System.currentTimeMillis();
-        if (!forceRefresh) {
-            Entry existing = entries.get(key);
-            if (existing != null && existing.expiresAt > now) {
-                @SuppressWarnings("unchecked")
-                T value = (T) existing.value;
-                return value;
+        Policy policy = policyFor(key);
+        Entry[] created = new Entry[1];
+        Entry entry = entries.compute(key, (ignored, existing) -> {
+            // An in-flight load is shared even on force refresh: its result is as fresh as a new request.
+            if (existing != null && (existing.isLoading() || (!forceRefresh && existing.expiresAt > now))) {
+                return existing;
             }
+            if (existing != null) {
+                totalWeight.addAndGet(-existing.weight);
+            }
+            created[0] = new Entry();
+            return created[0];
+        });
+        entry.lastAccess = accessClock.incrementAndGet();
+
+        if (entry == created[0]) {
+            policy.misses.incrementAndGet();
+            load(key, entry, policy, loader);
+        } else {
+            policy.hits.incrementAndGet();
         }
+        return await(entry);
+    }
 
-        T loaded = loader.load();
-        entries.put(key, new Entry(loaded, now + ttlMillis));
-        return loaded;
+    /**
+     * Like {@code get(key, false, loader)}, but an expired value that is no older than the
+     * max staleness is returned at once while a single background reload runs. The listener
+     * receives the reloaded value on the refresh thread; it is not called for fresh hits.
+     */
+    <T> T getStaleWhileRevalidate(String key, Loader<T> loader, RefreshListener<T> listener) throws Exception {
+        Entry existing = entries.get(key);
+        long now = System.currentTimeMillis();
+        Policy policy = policyFor(key);
+        if (existing != null && existing.hasValue()) {
+            long age = now - existing.expiresAt;
+            if (age < 0L || age <= policy.maxStalenessMillis) {
+                existing.lastAccess = accessClock.incrementAndGet();
+                if (age >= 0L) {
+                    policy.staleHits.incrementAndGet();
+                    revalidate(key, existing, policy, loader, listener);
+                } else {
+                    policy.hits.incrementAndGet();
+                }
+                return await(existing);
+            }
+        }
+        return get(key, false, loader);
+    }
+
+    /** Invalidating {@code upstreamPrefix} will also drop entries under {@code dependentPrefix}. */
+    void dependsOn(String dependentPrefix, String upstreamPrefix) {
+        dependents.computeIfAbsent(upstreamPrefix, ignored -> ConcurrentHashMap.newKeySet()).add(dependentPrefix);
     }
 
-    synchronized void invalidateAll() {
-        entries.clear();
+    /**
+     * Drops every entry whose key starts with {@code prefix} or with a prefix that depends on
+     * it, directly or transitively. In-flight loads for those keys still complete for their
+     * waiting callers but are not stored. Returns the number of entries dropped.
+     */
+    int invalidatePrefix(String prefix) {
+        Set<String> prefixes = new LinkedHashSet<>();
+        Deque<String> pending = new ArrayDeque<>();
+        pending.add(prefix);
+        while (!pending.isEmpty()) {
+            String next = pending.poll();
+            if (prefixes.add(next)) {
+                pending.addAll(dependents.getOrDefault(next, Set.of()));
+            }
+        }
+        int dropped = 0;
+        for (Map.Entry<String, Entry> item : entries.entrySet()) {
+            for (String candidate : prefixes) {
+                if (item.getKey().startsWith(candidate)) {
+                    if (discard(item.getKey(), item.getValue())) {
+                        dropped++;
+                    }
+                    break;
+                }
+            }
+        }
+        return dropped;
     }
 
-    private record Entry(Object value, long expiresAt) {
+    void invalidateAll() {
+        for (Map.Entry<String, Entry> item : entries.entrySet()) {
+            discard(item.getKey(), item.getValue());
+        }
+    }
+
+    /** True when {@code key} holds an unexpired value or is being loaded right now. */
+    boolean isFresh(String key) {
+        Entry entry = entries.get(key);
+        return entry != null && (entry.isLoading() || (entry.hasValue() && entry.expiresAt > System.currentTimeMillis()));
+    }
+
+    long weightBytes() {
+        return totalWeight.get();
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    /** Per-namespace counters, most specific prefix first; the default namespace is last. */
+    List<Stats> stats() {
+        List<Policy> all = new ArrayList<>(policies);
+        all.add(defaultPolicy);
+        long[] weights = new long[all.size()];
+        int[] counts = new int[all.size()];
+        for (Map.Entry<String, Entry> item : entries.entrySet()) {
+            int index = all.indexOf(policyFor(item.getKey()));
+            weights[index] += item.getValue().weight;
+            counts[index]++;
+        }
+        List<Stats> out = new ArrayList<>();
+        for (int i = 0; i < all.size(); i++) {
+            out.add(all.get(i).snapshot(counts[i], weights[i]));
+        }
+        return out;
+    }
+
+    private Policy policyFor(String key) {
+        for (Policy policy : policies) {
+            if (key.startsWith(policy.prefix)) {
+                return policy;
+            }
+        }
+        return defaultPolicy;
+    }
+
+    private <T> void load(String key, Entry entry, Policy policy, Loader<T> loader) {
+        T loaded;
+        long started = System.nanoTime();
+        try {
+            loaded = loader.load();
+        } catch (Throwable error) {
+            policy.loadFailures.incrementAndGet();
+            discard(key, entry);
+            entry.future.completeExceptionally(error);
+            return;
+        } finally {
+            policy.loadNanos.addAndGet(System.nanoTime() - started);
+        }
+        long weight = estimateWeight(loaded);
+        entry.expiresAt = System.currentTimeMillis() + policy.ttlMillis;
+        entry.future.complete(loaded);
+
+        if (weight > maxWeightBytes) {
+            // Too big to keep without flushing everything else; callers still get the value.
+            discard(key, entry);
+            return;
+        }
+        entries.computeIfPresent(key, (ignored, current) -> {
+            if (current == entry) {
+                entry.weight = weight;
+                totalWeight.addAndGet(weight);
+            }
+            return current;
+        });
+        if (totalWeight.get() > maxWeightBytes) {
+            evictLeastRecentlyUsed();
+        }
+    }
+
+    private <T> void revalidate(String key, Entry stale, Policy policy, Loader<T> loader, RefreshListener<T> listener) {
+        if (!stale.refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        REFRESHER.execute(() -> {
+            T loaded;
+            long started = System.nanoTime();
+            try {
+                loaded = loader.load();
+            } catch (Throwable error) {
+                // Keep serving the stale value; the next read past expiry will try again.
+                policy.loadFailures.incrementAndGet();
+                stale.refreshing.set(false);
+                return;
+            } finally {
+                policy.loadNanos.addAndGet(System.nanoTime() - started);
+            }
+            Entry fresh = new Entry();
+            fresh.expiresAt = System.currentTimeMillis() + policy.ttlMillis;
+            fresh.lastAccess = stale.lastAccess;
+            fresh.future.complete(loaded);
+            long weight = estimateWeight(loaded);
+            if (weight <= maxWeightBytes) {
+                entries.computeIfPresent(key, (ignored, current) -> {
+                    if (current != stale) {
+                        return current;
+                    }
+                    fresh.weight = weight;
+                    totalWeight.addAndGet(weight - stale.weight);
+                    return fresh;
+                });
+            } else {
+                discard(key, stale);
+            }
+            if (totalWeight.get() > maxWeightBytes) {
+                evictLeastRecentlyUsed();
+            }
+            if (listener != null) {
+                listener.onRefresh(loaded);
+            }
+        });
+    }
+
+    private void evictLeastRecentlyUsed() {
+        synchronized (evictionLock) {
+            if (totalWeight.get() <= maxWeightBytes) {
+                return;
+            }
+            // Evict a little below the budget so the next few loads don't each trigger a pass.
+            long target = maxWeightBytes - maxWeightBytes / 10;
+            List<Map.Entry<String, Entry>> candidates = new ArrayList<>();
+            for (Map.Entry<String, Entry> item : entries.entrySet()) {
+                if (!item.getValue().isLoading()) {
+                    candidates.add(item);
+                }
+            }
+            candidates.sort((a, b) -> Long.compare(a.getValue().lastAccess, b.getValue().lastAccess));
+            for (Map.Entry<String, Entry> item : candidates) {
+                if (totalWeight.get() <= target) {
+                    break;
+                }
+                discard(item.getKey(), item.getValue());
+            }
+        }
+    }
+
+    private void sweepExpired() {
+        long now = System.currentTimeMillis();
+        for (Map.Entry<String, Entry> item : entries.entrySet()) {
+            Entry entry = item.getValue();
+            if (!entry.isLoading() && entry.expiresAt + policyFor(item.getKey()).maxStalenessMillis <= now) {
+                discard(item.getKey(), entry);
+            }
+        }
+    }
+
+    private boolean discard(String key, Entry entry) {
+        if (entries.remove(key, entry)) {
+            totalWeight.addAndGet(-entry.weight);
+            return true;
+        }
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T await(Entry entry) throws Exception {
+        try {
+            return (T) entry.future.get();
+        } catch (ExecutionException wrapped) {
+            Throwable cause = wrapped.getCause();
+            if (cause instanceof Exception exception) {
+                throw exception;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw wrapped;
+        }
+    }
+
+    /** Rough heap footprint of a parsed JSON tree; good enough to rank and bound entries. */
+    static long estimateWeight(Object value) {
+        if (value == null) {
+            return 8L;
+        }
+        if (value instanceof String text) {
+            return 40L + 2L * text.length();
+        }
+        if (value instanceof Number || value instanceof Boolean) {
+            return 16L;
+        }
+        if (value instanceof Map<?, ?> map) {
+            long weight = 64L;
+            for (Map.Entry<?, ?> item : map.entrySet()) {
+                weight += 32L + estimateWeight(item.getKey()) + estimateWeight(item.getValue());
+            }
+            return weight;
+        }
+        if (value instanceof Iterable<?> items) {
+            long weight = 40L;
+            for (Object item : items) {
+                weight += 8L + estimateWeight(item);
+            }
+            return weight;
+        }
+        return 64L;
+    }
+
+    /** Periodic sweep of one cache that cancels itself once the cache has been collected. */
+    private static final class Sweep implements Runnable {
+        private final WeakReference<RunsCache> cache;
+        private volatile ScheduledFuture<?> future;
+
+        private Sweep(RunsCache cache) {
+            this.cache = new WeakReference<>(cache);
+        }
+
+        private static ScheduledFuture<?> schedule(RunsCache cache) {
+            Sweep sweep = new Sweep(cache);
+            sweep.future = SWEEPER.scheduleWithFixedDelay(sweep, SWEEP_INTERVAL_SECONDS, SWEEP_INTERVAL_SECONDS, TimeUnit.SECONDS);
+            return sweep.future;
+        }
+
+        @Override
+        public void run() {
+            RunsCache target = cache.get();
+            if (target != null) {
+                target.sweepExpired();
+            } else if (future != null) {
+                future.cancel(false);
+            }
+        }
+    }
+
+    private static final class Entry {
+        private final CompletableFuture<Object> future = new CompletableFuture<>();
+        private volatile long expiresAt;
+        private volatile long weight;
+        private volatile long lastAccess;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        private boolean isLoading() {
+            return !future.isDone();
+        }
+
+        private boolean hasValue() {
+            return future.isDone() && !future.isCompletedExceptionally();
+        }
+    }
+
+    private static final class Policy {
+        private final String prefix;
+        private final long ttlMillis;
+        private final long maxStalenessMillis;
+        private final AtomicLong hits = new AtomicLong();
+        private final AtomicLong staleHits = new AtomicLong();
+        private final AtomicLong misses = new AtomicLong();
+        private final AtomicLong loadFailures = new AtomicLong();
+        private final AtomicLong loadNanos = new AtomicLong();
+
+        private Policy(String prefix, long ttlMillis, long maxStalenessMillis) {
+            this.prefix = prefix == null ? "" : prefix;
+            this.ttlMillis = Math.max(1_000L, ttlMillis);
+            this.maxStalenessMillis = Math.max(0L, maxStalenessMillis);
+        }
+
+        private Stats snapshot(int entries, long weightBytes) {
+            return new Stats(
+                    prefix.isEmpty() ? "*" : prefix,
+                    hits.get(),
+                    staleHits.get(),
+                    misses.get(),
+                    loadFailures.get(),
+                    loadNanos.get() / 1_000_000L,
+                    entries,
+                    weightBytes
+            );
+        }
+    }
+
+    /** {@code loadMillis} is total time spent in loaders, including background revalidation. */
+    record Stats(
+            String namespace,
+            long hits,
+            long staleHits,
+            long misses,
+            long loadFailures,
+            long loadMillis,
+            int entries,
+            long weightBytes
+    ) {
+        double hitRatio() {
+            long total = hits + staleHits + misses;
+            return total == 0L ? 0.0 : (double) (hits + staleHits) / total;
+        }
+    }
+
+    @FunctionalInterface
+    interface RefreshListener<T> {
+        void onRefresh(T value);
     }
 
     @FunctionalInterface
@@ -0,0 +1,326 @@
+package com.dpolaris.javaapp;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Persistent tier for payloads of finished runs, which never change once written.
+ * Each entry is gzip-compressed compact JSON named by key and content hash; an index file
+ * tracks size and last access so the directory stays under its byte cap (LRU). Eviction drops
+ * whole runs, least recently used first, so a run's marker never outlives its artifacts.
+ * Access times from reads are written back at most every {@link #ACCESS_FLUSH_MS} and on
+ * {@link #flush()}, so the LRU order survives restarts.
+ */
+final class RunsDiskCache {
+    static final long DEFAULT_MAX_BYTES = 512L * 1024L * 1024L;
+    static final long ACCESS_FLUSH_MS = 30_000L;
+    private static final String INDEX_FILE = "index.json";
+    private final Path cacheDir;
+    private final long maxBytes;
+    private final Map<String, IndexEntry> index = new LinkedHashMap<>();
+    private long totalBytes;
+    private boolean loaded;
+    private boolean accessDirty;
+    private long lastIndexWrite;
+
+    RunsDiskCache() {
+        this(defaultDir(), DEFAULT_MAX_BYTES);
+    }
+
+    RunsDiskCache(Path cacheDir, long maxBytes) {
+        this.cacheDir = cacheDir.toAbsolutePath().normalize();
+        this.maxBytes = Math.max(1024L * 1024L, maxBytes);
+    }
+
+    Path getCacheDir() {
+        return cacheDir;
+    }
+
+    synchronized boolean contains(String runId, String name) {
+        ensureLoaded();
+        return index.containsKey(key(runId, name));
+    }
+
+    /** Returns the stored payload, or {@code null} on a miss or an unreadable entry. */
+    Object get(String runId, String name) {
+        String key = key(runId, name);
+        IndexEntry entry;
+        synchronized (this) {
+            ensureLoaded();
+            entry = index.get(key);
+            if (entry == null) {
+                return null;
+            }
+            entry.lastAccess = System.currentTimeMillis();
+            accessDirty = true;
+            if (entry.lastAccess - lastIndexWrite >= ACCESS_FLUSH_MS) {
+                writeIndex();
+            }
+        }
+        Path file = cacheDir.resolve(entry.file);
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(file))) {
+            return Json.parse(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        } catch (IOException | RuntimeException unreadable) {
+            // A put may have replaced the entry (and its file) since the lookup; keep the new one.
+            synchronized (this) {
+                if (index.remove(key, entry)) {
+                    totalBytes -= entry.sizeBytes;
+                    deleteQuietly(file);
+                    writeIndex();
+                }
+            }
+            return null;
+        }
+    }
+
+    void put(String runId, String name, Object payload) {
+        String key = key(runId, name);
+        byte[] json = Json.compact(payload).getBytes(StandardCharsets.UTF_8);
+        String contentHash = sha256(json).substring(0, 16);
+        String fileName = sha256(key.getBytes(StandardCharsets.UTF_8)).substring(0, 16) + "-" + contentHash + ".json.gz";
+        synchronized (this) {
+            ensureLoaded();
+            IndexEntry existing = index.get(key);
+            if (existing != null && existing.contentHash.equals(contentHash)) {
+                existing.lastAccess = System.currentTimeMillis();
+                return;
+            }
+        }
+
+        Path file = cacheDir.resolve(fileName);
+        long size;
+        try {
+            Files.createDirectories(cacheDir);
+            Path temp = Files.createTempFile(cacheDir, "entry-", ".part");
+            try {
+                try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(temp))) {
+                    out.write(json);
+                }
+                size = Files.size(temp);
+                moveAtomically(temp, file);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException writeError) {
+            return;
+        }
+
+        synchronized (this) {
+            IndexEntry previous = index.remove(key);
+            if (previous != null) {
+                totalBytes -= previous.sizeBytes;
+                if (!previous.file.equals(fileName)) {
+                    deleteQuietly(cacheDir.resolve(previous.file));
+                }
+            }
+            index.put(key, new IndexEntry(fileName, contentHash, size, System.currentTimeMillis()));
+            totalBytes += size;
+            evictIfNeeded();
+            writeIndex();
+        }
+    }
+
+    synchronized void removeRun(String runId) {
+        ensureLoaded();
+        String prefix = runId + "::";
+        List<String> keys = new ArrayList<>();
+        for (String key : index.keySet()) {
+            if (key.startsWith(prefix)) {
+                keys.add(key);
+            }
+        }
+        for (String key : keys) {
+            dropEntry(key);
+        }
+        writeIndex();
+    }
+
+    /** Writes pending access times to the index; call when the app closes. */
+    synchronized void flush() {
+        if (loaded && accessDirty) {
+            writeIndex();
+        }
+    }
+
+    synchronized long sizeBytes() {
+        ensureLoaded();
+        return totalBytes;
+    }
+
+    private void dropEntry(String key) {
+        IndexEntry entry = index.remove(key);
+        if (entry != null) {
+            totalBytes -= entry.sizeBytes;
+            deleteQuietly(cacheDir.resolve(entry.file));
+        }
+    }
+
+    private void evictIfNeeded() {
+        if (totalBytes <= maxBytes) {
+            return;
+        }
+        // A run is as recent as its most recently used entry, and goes as a unit.
+        Map<String, List<String>> keysByRun = new LinkedHashMap<>();
+        Map<String, Long> runAccess = new LinkedHashMap<>();
+        for (Map.Entry<String, IndexEntry> item : index.entrySet()) {
+            String runId = runOf(item.getKey());
+            keysByRun.computeIfAbsent(runId, ignored -> new ArrayList<>()).add(item.getKey());
+            runAccess.merge(runId, item.getValue().lastAccess, Math::max);
+        }
+        List<String> byAge = new ArrayList<>(keysByRun.keySet());
+        byAge.sort((a, b) -> Long.compare(runAccess.get(a), runAccess.get(b)));
+        long target = maxBytes - maxBytes / 10;
+        for (String runId : byAge) {
+            if (totalBytes <= target) {
+                break;
+            }
+            for (String key : keysByRun.get(runId)) {
+                dropEntry(key);
+            }
+        }
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        loaded = true;
+        Path indexPath = cacheDir.resolve(INDEX_FILE);
+        if (!Files.exists(indexPath)) {
+            return;
+        }
+        try {
+            Map<String, Object> root = Json.asObject(Json.parse(Files.readString(indexPath, StandardCharsets.UTF_8)));
+            Map<String, Object> entries = Json.asObject(root.get("entries"));
+            for (Map.Entry<String, Object> item : entries.entrySet()) {
+                Map<String, Object> raw = Json.asObject(item.getValue());
+                String file = Json.asString(raw.get("file"));
+                if (file == null || !Files.exists(cacheDir.resolve(file))) {
+                    continue;
+                }
+                IndexEntry entry = new IndexEntry(
+                        file,
+                        Json.asString(raw.get("content_hash")),
+                        (long) Json.asDouble(raw.get("size_bytes"), 0.0),
+                        (long) Json.asDouble(raw.get("last_access"), 0.0)
+                );
+                index.put(item.getKey(), entry);
+                totalBytes += entry.sizeBytes;
+            }
+        } catch (IOException | RuntimeException corrupt) {
+            // A damaged index only costs a re-download; start over.
+            index.clear();
+            totalBytes = 0L;
+        }
+    }
+
+    private void writeIndex() {
+        Map<String, Object> entries = new LinkedHashMap<>();
+        for (Map.Entry<String, IndexEntry> item : index.entrySet()) {
+            IndexEntry entry = item.getValue();
+            Map<String, Object> raw = new LinkedHashMap<>();
+            raw.put("file", entry.file);
+            raw.put("content_hash", entry.contentHash);
+            raw.put("size_bytes", entry.sizeBytes);
+            raw.put("last_access", entry.lastAccess);
+            entries.put(item.getKey(), raw);
+        }
+        Map<String, Object> root = new LinkedHashMap<>();
+        root.put("version", 1);
+        root.put("entries", entries);
+        accessDirty = false;
+        lastIndexWrite = System.currentTimeMillis();
+        try {
+            Files.createDirectories(cacheDir);
+            Path temp = Files.createTempFile(cacheDir, "index-", ".part");
+            try {
+                Files.writeString(temp, Json.compact(root), StandardCharsets.UTF_8);
+                moveAtomically(temp, cacheDir.resolve(INDEX_FILE));
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException ignored) {
+            // Index is rebuilt lazily; entries written this session are simply not remembered.
+        }
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException ex) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {
+            // Orphaned files are harmless and get overwritten by the next write of the same key.
+        }
+    }
+
+    private static String key(String runId, String name) {
+        return runId + "::" + name;
+    }
+
+    private static String runOf(String key) {
+        int split = key.indexOf("::");
+        return split < 0 ? key : key.substring(0, split);
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+
+    private static Path defaultDir() {
+        String override = System.getenv("DPOLARIS_RUN_CACHE");
+        if (override != null && !override.isBlank()) {
+            return Path.of(expandHome(override.trim()));
+        }
+        return Path.of(System.getProperty("user.home"), "dpolaris_data", "run_cache");
+    }
+
+    private static String expandHome(String value) {
+        if (value.equals("~")) {
+            return System.getProperty("user.home");
+        }
+        if (value.startsWith("~/")) {
+            return System.getProperty("user.home") + value.substring(1);
+        }
+        return value;
+    }
+
+    private static final class IndexEntry {
+        private final String file;
+        private final String contentHash;
+        private final long sizeBytes;
+        private long lastAccess;
+
+        private IndexEntry(String file, String contentHash, long sizeBytes, long lastAccess) {
+            this.file = file;
+            this.contentHash = contentHash == null ? "" : contentHash;
+            this.sizeBytes = sizeBytes;
+            this.lastAccess = lastAccess;
+        }
+    }
+}
@@ -4,23 +4,47 @@ import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 final class RunsService {
+    private static final String DISK_RUN = "__run";
+    private static final String DISK_ARTIFACTS = "__artifacts";
+    private static final List<String> FINISHED_STATUSES = List.of(
+            "completed", "complete", "finished", "succeeded", "success", "done", "failed", "error", "cancelled", "canceled"
+    );
     private final ApiClient apiClient;
-    private final RunsCache cache = new RunsCache(20_000L);
+    private final RunsDiskCache diskCache = new RunsDiskCache();
+    private final RunsCache cache = ResponseCache.shared();
 
     RunsService(ApiClient apiClient) {
         this.apiClient = apiClient;
     }
 
+    /** Persists disk-cache access times so its LRU order carries over to the next session. */
+    void flush() {
+        diskCache.flush();
+    }
+
     List<Map<String, Object>> listRuns(boolean forceRefresh) throws Exception {
         Object response = cache.get("runs:list", forceRefresh, apiClient::fetchRuns);
         return extractMapList(response, "runs", "items", "data");
     }
 
+    /**
+     * Returns the cached run list at once, even if it has expired, and reports the
+     * revalidated list to {@code onRefresh} from a background thread when it lands.
+     */
+    List<Map<String, Object>> listRuns(Consumer<List<Map<String, Object>>> onRefresh) throws Exception {
+        Object response = cache.getStaleWhileRevalidate(
+                "runs:list",
+                apiClient::fetchRuns,
+                fresh -> onRefresh.accept(extractMapList(fresh, "runs", "items", "data"))
+        );
+        return extractMapList(response, "runs", "items", "data");
+    }
+
     Map<String, Object> getRun(String runId, boolean forceRefresh) throws Exception {
-        String key = "runs:detail:" + runId;
-        Map<String, Object> response = cache.get(key, forceRefresh, () -> apiClient.fetchRun(runId));
+        Map<String, Object> response = cache.get(runKey(runId), forceRefresh, () -> loadFinishedRunAware(runId, forceRefresh));
         Object wrapped = firstValue(response, "run", "item", "data");
         if (wrapped instanceof Map<?, ?>) {
             return Json.asObject(wrapped);
@@ -30,17 +54,106 @@ final class RunsService {
 
     List<Map<String, Object>> getRunArtifacts(String runId, boolean forceRefresh) throws Exception {
         String key = "runs:artifacts:" + runId;
-        Object response = cache.get(key, forceRefresh, () -> apiClient.fetchRunArtifacts(runId));
+        Object response = cache.get(
+                key,
+                forceRefresh,
+                () -> loadThroughDisk(runId, DISK_ARTIFACTS, forceRefresh, () -> apiClient.fetchRunArtifacts(runId))
+        );
         return extractMapList(response, "artifacts", "items", "data");
     }
 
     Object getRunArtifact(String runId, String artifactName, boolean forceRefresh) throws Exception {
+        if (forceRefresh) {
+            apiClient.forgetMissingForRun(runId);
+        }
         String key = "runs:artifact:" + runId + ":" + artifactName;
-        return cache.get(key, forceRefresh, () -> apiClient.fetchRunArtifact(runId, artifactName));
+        return cache.get(
+                key,
+                forceRefresh,
+                () -> loadThroughDisk(runId, artifactName, forceRefresh, () -> apiClient.fetchRunArtifact(runId, artifactName))
+        );
+    }
+
+    /** Loads a run, its artifact list and every artifact into the cache; returns them so callers can weigh the load. */
+    List<Object> warmRun(String runId) throws Exception {
+        List<Object> loaded = new ArrayList<>();
+        loaded.add(getRun(runId, false));
+        List<Map<String, Object>> artifacts = getRunArtifacts(runId, false);
+        loaded.add(artifacts);
+        for (Map<String, Object> artifact : artifacts) {
+            // Same name resolution as the run details view, so the warmed keys are the ones it reads.
+            for (String field : List.of("name", "artifact", "file", "filename", "path")) {
+                Object value = lookup(artifact, field);
+                String artifactName = value == null ? "" : String.valueOf(value).trim();
+                if (!artifactName.isBlank()) {
+                    loaded.add(getRunArtifact(runId, artifactName, false));
+                    break;
+                }
+            }
+        }
+        return loaded;
+    }
+
+    static String runKey(String runId) {
+        return ResponseCache.RUNS + "detail:" + runId;
     }
 
     void invalidateAll() {
-        cache.invalidateAll();
+        cache.invalidatePrefix(ResponseCache.RUNS);
+    }
+
+    private Map<String, Object> loadFinishedRunAware(String runId, boolean forceRefresh) throws Exception {
+        if (!forceRefresh) {
+            Object stored = diskCache.get(runId, DISK_RUN);
+            if (stored instanceof Map<?, ?> map) {
+                return Json.asObject(map);
+            }
+        }
+        Map<String, Object> response = apiClient.fetchRun(runId);
+        if (isFinished(response)) {
+            diskCache.put(runId, DISK_RUN, response);
+        } else {
+            // A rerun under the same id must not be served from an older finished snapshot.
+            diskCache.removeRun(runId);
+        }
+        return response;
+    }
+
+    /** Finished runs are immutable, so their payloads are served from and written to the disk tier. */
+    private Object loadThroughDisk(
+            String runId,
+            String name,
+            boolean forceRefresh,
+            RunsCache.Loader<Object> fetch
+    ) throws Exception {
+        boolean finished = diskCache.contains(runId, DISK_RUN);
+        if (finished && !forceRefresh) {
+            Object stored = diskCache.get(runId, name);
+            if (stored != null) {
+                return stored;
+            }
+        }
+        Object response = fetch.load();
+        if (finished && !isSpooled(response)) {
+            diskCache.put(runId, name, response);
+        }
+        return response;
+    }
+
+    private boolean isFinished(Map<String, Object> response) {
+        Object wrapped = firstValue(response, "run", "item", "data");
+        Map<String, Object> run = wrapped instanceof Map<?, ?> map ? Json.asObject(map) : response;
+        Object status = firstValue(run, "status", "state");
+        if (status == run) {
+            return false;
+        }
+        String normalized = status == null ? "" : String.valueOf(status).trim().toLowerCase();
+        return FINISHED_STATUSES.contains(normalized);
+    }
+
+    private boolean isSpooled(Object response) {
+        // Spooled artifacts are summaries pointing at a local file; the spool already keeps them on disk.
+        return response instanceof Map<?, ?> map && map.containsKey("__spool");
     }
 
     private List<Map<String, Object>> extractMapList(Object response, String... wrapperKeys) {
@@ -0,0 +1,87 @@
+package com.dpolaris.javaapp;
+
+import java.lang.ref.SoftReference;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Expanded scan-ticker payloads, bounded by estimated bytes with LRU eviction.
+ * Values are held through soft references so the collector can still reclaim them under
+ * memory pressure; a cleared entry is simply a miss and is refetched through the service.
+ */
+final class ScanDetailCache {
+    static final long DEFAULT_MAX_BYTES = 16L * 1024L * 1024L;
+    private final long maxBytes;
+    private final LinkedHashMap<String, Slot> slots = new LinkedHashMap<>(64, 0.75f, true);
+    private long totalBytes;
+
+    ScanDetailCache() {
+        this(DEFAULT_MAX_BYTES);
+    }
+
+    ScanDetailCache(long maxBytes) {
+        this.maxBytes = Math.max(1024L * 1024L, maxBytes);
+    }
+
+    synchronized Map<String, Object> get(String key) {
+        Slot slot = slots.get(key);
+        if (slot == null) {
+            return null;
+        }
+        Map<String, Object> value = slot.value.get();
+        if (value == null) {
+            remove(key);
+        }
+        return value;
+    }
+
+    synchronized void put(String key, Map<String, Object> value) {
+        if (value == null) {
+            return;
+        }
+        long weight = RunsCache.estimateWeight(value);
+        remove(key);
+        if (weight > maxBytes) {
+            return;
+        }
+        slots.put(key, new Slot(new SoftReference<>(value), weight));
+        totalBytes += weight;
+        evict();
+    }
+
+    synchronized void invalidate(String key) {
+        remove(key);
+    }
+
+    synchronized void clear() {
+        slots.clear();
+        totalBytes = 0L;
+    }
+
+    synchronized long sizeBytes() {
+        return totalBytes;
+    }
+
+    private void remove(String key) {
+        Slot removed = slots.remove(key);
+        if (removed != null) {
+            totalBytes -= removed.weight;
+        }
+    }
+
+    private void evict() {
+        Iterator<Map.Entry<String, Slot>> eldestFirst = slots.entrySet().iterator();
+        while (eldestFirst.hasNext()) {
+            Slot slot = eldestFirst.next().getValue();
+            // Collected slots go first regardless of budget; they only cost bookkeeping.
+            if (totalBytes > maxBytes || slot.value.get() == null) {
+                eldestFirst.remove();
+                totalBytes -= slot.weight;
+            }
+        }
+    }
+
+    private record Slot(SoftReference<Map<String, Object>> value, long weight) {
+    }
+}
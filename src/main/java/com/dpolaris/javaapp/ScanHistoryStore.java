@@ -0,0 +1,287 @@
+package com.dpolaris.javaapp;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Append-only local history of completed scan runs, for comparing tickers across runs.
+ * Each ingested run becomes one immutable segment file named {@code <run date>_<run id>}
+ * in the {@link ScanResultsExporter} columnar format. Segments are loaded once into per-column
+ * arrays with a ticker index, so history and change queries are in-memory lookups.
+ */
+final class ScanHistoryStore {
+    static final int DEFAULT_HISTORY_RUNS = 30;
+    private static final int MAX_LOADED_SEGMENTS = 365;
+    private static final int INGEST_PAGE_SIZE = 500;
+    private final Path dir;
+    private final List<Segment> segments = new ArrayList<>();
+    // Run ids being ingested right now; claimed together with the duplicate check.
+    private final Set<String> ingesting = new HashSet<>();
+    private boolean loaded;
+
+    ScanHistoryStore() {
+        this(defaultDir());
+    }
+
+    ScanHistoryStore(Path dir) {
+        this.dir = dir.toAbsolutePath().normalize();
+    }
+
+    Path getDir() {
+        return dir;
+    }
+
+    /**
+     * Streams {@code runId} into a new segment dated by the newest {@code updated_at} in the
+     * run (today when none parses). Cached result pages are dropped first, so the segment holds
+     * the final rows rather than pages cached while the scan was running. Returns {@code false}
+     * when the run is already stored or another ingest of it is in progress.
+     */
+    boolean ingest(String runId, ScanResultsExporter exporter) throws Exception {
+        String safeId = sanitize(runId);
+        synchronized (this) {
+            ensureLoaded();
+            for (Segment segment : segments) {
+                if (segment.runId().equals(safeId)) {
+                    return false;
+                }
+            }
+            if (!ingesting.add(safeId)) {
+                return false;
+            }
+        }
+        Path staged = dir.resolve("ingest_" + safeId + ScanResultsExporter.COLUMNAR_EXTENSION + ".tmp");
+        try {
+            Files.createDirectories(dir);
+            exporter.invalidateSource(runId);
+            exporter.export(runId, INGEST_PAGE_SIZE, null, staged, rows -> { });
+            List<ScanResultRow> rows = ScanResultsExporter.readColumnar(staged);
+            LocalDate date = runDate(rows);
+            Path target = dir.resolve(date + "_" + safeId + ScanResultsExporter.COLUMNAR_EXTENSION);
+            Files.move(staged, target);
+            synchronized (this) {
+                segments.add(Segment.of(safeId, date, rows));
+                segments.sort(SEGMENT_ORDER);
+            }
+            return true;
+        } finally {
+            try {
+                Files.deleteIfExists(staged);
+            } finally {
+                synchronized (this) {
+                    ingesting.remove(safeId);
+                }
+            }
+        }
+    }
+
+    synchronized int segmentCount() {
+        ensureLoaded();
+        return segments.size();
+    }
+
+    /** Oldest-first points for {@code ticker} across the latest {@code runs} stored runs that include it. */
+    synchronized List<HistoryPoint> history(String ticker, int runs) {
+        ensureLoaded();
+        String wanted = ticker == null ? "" : ticker.trim().toUpperCase();
+        List<HistoryPoint> points = new ArrayList<>();
+        for (int i = segments.size() - 1; i >= 0 && points.size() < Math.max(1, runs); i--) {
+            Segment segment = segments.get(i);
+            Integer row = segment.rowByTicker().get(wanted);
+            if (row != null) {
+                points.add(0, new HistoryPoint(
+                        segment.date(),
+                        segment.runId(),
+                        segment.scores()[row],
+                        segment.regimes()[row],
+                        segment.strategies()[row],
+                        segment.confidences()[row]
+                ));
+            }
+        }
+        return points;
+    }
+
+    /**
+     * Tickers whose {@code field} differs between the newest run and the newest run from an
+     * earlier date, e.g. regime flips since yesterday's scan. Empty until two dates are stored.
+     */
+    synchronized Changes changedSincePreviousDate(Field field) {
+        ensureLoaded();
+        if (segments.isEmpty()) {
+            return new Changes(null, null, List.of());
+        }
+        Segment latest = segments.get(segments.size() - 1);
+        Segment previous = null;
+        for (int i = segments.size() - 2; i >= 0; i--) {
+            if (segments.get(i).date().isBefore(latest.date())) {
+                previous = segments.get(i);
+                break;
+            }
+        }
+        if (previous == null) {
+            return new Changes(latest, null, List.of());
+        }
+        String[] now = field == Field.REGIME ? latest.regimes() : latest.strategies();
+        String[] before = field == Field.REGIME ? previous.regimes() : previous.strategies();
+        List<Change> changes = new ArrayList<>();
+        for (int row = 0; row < latest.tickers().length; row++) {
+            Integer previousRow = previous.rowByTicker().get(latest.tickers()[row]);
+            if (previousRow != null && !Objects.equals(now[row], before[previousRow])) {
+                changes.add(new Change(
+                        latest.tickers()[row],
+                        before[previousRow],
+                        now[row],
+                        previous.scores()[previousRow],
+                        latest.scores()[row]
+                ));
+            }
+        }
+        return new Changes(latest, previous, changes);
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        loaded = true;
+        if (!Files.isDirectory(dir)) {
+            return;
+        }
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir, "*" + ScanResultsExporter.COLUMNAR_EXTENSION)) {
+            for (Path file : stream) {
+                files.add(file);
+            }
+        } catch (IOException ex) {
+            return;
+        }
+        // File names start with the run date, so name order is date order.
+        files.sort(Comparator.comparing(file -> file.getFileName().toString()));
+        for (Path file : files.subList(Math.max(0, files.size() - MAX_LOADED_SEGMENTS), files.size())) {
+            String name = file.getFileName().toString();
+            int split = name.indexOf('_');
+            if (split <= 0) {
+                continue;
+            }
+            try {
+                LocalDate date = LocalDate.parse(name.substring(0, split));
+                String runId = name.substring(split + 1, name.length() - ScanResultsExporter.COLUMNAR_EXTENSION.length());
+                segments.add(Segment.of(runId, date, ScanResultsExporter.readColumnar(file)));
+            } catch (IOException | DateTimeParseException ignored) {
+                // A damaged or foreign file only loses that run from the history.
+            }
+        }
+        segments.sort(SEGMENT_ORDER);
+    }
+
+    private static LocalDate runDate(List<ScanResultRow> rows) {
+        LocalDate newest = null;
+        for (ScanResultRow row : rows) {
+            String updatedAt = row.updatedAt();
+            if (updatedAt == null || updatedAt.length() < 10) {
+                continue;
+            }
+            try {
+                LocalDate date = LocalDate.parse(updatedAt.substring(0, 10));
+                if (newest == null || date.isAfter(newest)) {
+                    newest = date;
+                }
+            } catch (DateTimeParseException ignored) {
+                // Not an ISO timestamp; other rows may still date the run.
+            }
+        }
+        return newest == null ? LocalDate.now() : newest;
+    }
+
+    private static String sanitize(String value) {
+        String text = value == null ? "" : value.trim();
+        String safe = text.replaceAll("[^A-Za-z0-9.-]", "-");
+        return safe.isEmpty() ? "run" : safe;
+    }
+
+    private static Path defaultDir() {
+        String override = System.getenv("DPOLARIS_SCAN_HISTORY");
+        if (override != null && !override.isBlank()) {
+            return Path.of(expandHome(override.trim()));
+        }
+        return Path.of(System.getProperty("user.home"), "dpolaris_data", "scan_history");
+    }
+
+    private static String expandHome(String value) {
+        if (value.equals("~")) {
+            return System.getProperty("user.home");
+        }
+        if (value.startsWith("~/")) {
+            return System.getProperty("user.home") + value.substring(1);
+        }
+        return value;
+    }
+
+    private static final Comparator<Segment> SEGMENT_ORDER = Comparator.comparing(Segment::date);
+
+    enum Field {
+        REGIME,
+        TOP_STRATEGY
+    }
+
+    record HistoryPoint(
+            LocalDate date,
+            String runId,
+            double score,
+            String regime,
+            String topStrategy,
+            double confidence
+    ) {
+    }
+
+    record Change(String ticker, String before, String after, double scoreBefore, double scoreAfter) {
+    }
+
+    /** {@code latest} or {@code previous} is {@code null} when the store has too few runs to compare. */
+    record Changes(Segment latest, Segment previous, List<Change> changes) {
+    }
+
+    record Segment(
+            String runId,
+            LocalDate date,
+            String[] tickers,
+            double[] scores,
+            String[] regimes,
+            String[] strategies,
+            double[] confidences,
+            Map<String, Integer> rowByTicker
+    ) {
+        static Segment of(String runId, LocalDate date, List<ScanResultRow> rows) {
+            int count = rows.size();
+            String[] tickers = new String[count];
+            double[] scores = new double[count];
+            String[] regimes = new String[count];
+            String[] strategies = new String[count];
+            double[] confidences = new double[count];
+            Map<String, Integer> rowByTicker = new HashMap<>(count * 2);
+            for (int i = 0; i < count; i++) {
+                ScanResultRow row = rows.get(i);
+                tickers[i] = row.ticker().toUpperCase();
+                scores[i] = row.overallScore();
+                regimes[i] = row.regime() == null ? "" : row.regime().intern();
+                strategies[i] = row.topStrategy() == null ? "" : row.topStrategy().intern();
+                confidences[i] = row.confidence();
+                rowByTicker.putIfAbsent(tickers[i], i);
+            }
+            return new Segment(runId, date, tickers, scores, regimes, strategies, confidences, rowByTicker);
+        }
+    }
+}
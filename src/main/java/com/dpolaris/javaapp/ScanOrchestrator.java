@@ -0,0 +1,307 @@
+package com.dpolaris.javaapp;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Splits one scan into ticker shards that run as separate backend scans, spread across the
+ * configured backend instances, and presents them as a single logical run. Shards are
+ * assigned by ticker hash so a ticker always lands in the same shard for a given count.
+ * Logical runs are kept in memory only; after a restart the shard runs remain visible
+ * individually in the scan run list.
+ */
+final class ScanOrchestrator {
+    static final String LOGICAL_PREFIX = "sharded-";
+    static final int MAX_SHARDS = 16;
+    private final ApiClient apiClient;
+    private final Map<String, ShardedRun> runs = new ConcurrentHashMap<>();
+    // Keeps logical ids distinct when two runs start within the same millisecond.
+    private final AtomicLong sequence = new AtomicLong();
+    private final ExecutorService fanOut = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "scan-shard");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    ScanOrchestrator(ApiClient apiClient) {
+        this.apiClient = apiClient;
+    }
+
+    static boolean isLogical(String runId) {
+        return runId != null && runId.startsWith(LOGICAL_PREFIX);
+    }
+
+    ShardedRun run(String runId) {
+        return runId == null ? null : runs.get(runId);
+    }
+
+    List<ShardedRun> runs() {
+        return List.copyOf(runs.values());
+    }
+
+    /**
+     * Submits {@code payload} as up to {@code shardCount} concurrent scans and returns a start
+     * response naming the logical run. Shards that fail to start on their instance are retried
+     * once on the next one; the run fails only when no shard could be started. Tickers of
+     * shards that never started are reported as {@code missing_tickers}.
+     */
+    Map<String, Object> start(Map<String, Object> payload, int shardCount, Function<Map<String, Object>, String> runIdOf)
+            throws Exception {
+        List<String> tickers = tickersOf(payload);
+        int count = Math.max(1, Math.min(Math.min(shardCount, MAX_SHARDS), tickers.size()));
+        List<List<String>> partitions = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            partitions.add(new ArrayList<>());
+        }
+        for (String ticker : tickers) {
+            partitions.get(Math.floorMod(ticker.toUpperCase().hashCode(), count)).add(ticker);
+        }
+        partitions.removeIf(List::isEmpty);
+
+        String logicalId = LOGICAL_PREFIX + Long.toString(System.currentTimeMillis(), 36)
+                + "-" + sequence.incrementAndGet();
+        List<Callable<String>> submissions = new ArrayList<>();
+        for (int i = 0; i < partitions.size(); i++) {
+            int slot = i;
+            Map<String, Object> shardPayload = shardPayload(payload, partitions.get(i), logicalId, i, partitions.size());
+            submissions.add(() -> startShard(slot, shardPayload, runIdOf));
+        }
+        List<Shard> shards = new ArrayList<>();
+        List<String> failures = new ArrayList<>();
+        List<String> unstarted = new ArrayList<>();
+        List<Future<String>> futures = fanOut.invokeAll(submissions);
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                shards.add(new Shard(i, futures.get(i).get(), List.copyOf(partitions.get(i))));
+            } catch (ExecutionException ex) {
+                failures.add("shard " + (i + 1) + " (" + partitions.get(i).size() + " tickers): " + rootMessage(ex));
+                unstarted.addAll(partitions.get(i));
+            }
+        }
+        if (shards.isEmpty()) {
+            throw new IOException("No scan shard could be started: " + String.join("; ", failures));
+        }
+        runs.put(logicalId, new ShardedRun(logicalId, List.copyOf(shards), List.copyOf(unstarted), System.currentTimeMillis()));
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("run_id", logicalId);
+        List<String> shardRunIds = new ArrayList<>();
+        for (Shard shard : shards) {
+            shardRunIds.add(shard.runId());
+        }
+        response.put("shard_run_ids", shardRunIds);
+        response.put("failed_shards", failures);
+        response.put("missing_tickers", unstarted.size());
+        return response;
+    }
+
+    /**
+     * One status for the logical run, fanned out to every shard in parallel: progress is
+     * weighted by shard size, the run is running while any shard is, and warnings are
+     * collected per shard. A finished run whose shards did not all complete, or that has
+     * shards which never started, is {@code partial} with a {@code missing_tickers} count.
+     * Throws only when no shard status could be read.
+     */
+    Map<String, Object> status(ShardedRun run) throws Exception {
+        List<Callable<Map<String, Object>>> calls = new ArrayList<>();
+        for (Shard shard : run.shards()) {
+            calls.add(() -> apiClient.fetchScanStatus(shard.runId()));
+        }
+        List<Future<Map<String, Object>>> futures = fanOut.invokeAll(calls);
+
+        double weightedProgress = 0.0;
+        int totalWeight = 0;
+        int running = 0;
+        int failed = 0;
+        int cancelled = 0;
+        int failedTickers = 0;
+        int missingTickers = run.unstartedTickers().size();
+        String currentTicker = "";
+        List<String> warnings = new ArrayList<>();
+        List<Map<String, Object>> shardStates = new ArrayList<>();
+        Exception lastError = null;
+        int read = 0;
+        for (int i = 0; i < futures.size(); i++) {
+            Shard shard = run.shards().get(i);
+            int weight = Math.max(1, shard.tickers().size());
+            totalWeight += weight;
+            Map<String, Object> shardState = new LinkedHashMap<>();
+            shardState.put("shard", shard.index() + 1);
+            shardState.put("run_id", shard.runId());
+            try {
+                Map<String, Object> status = futures.get(i).get();
+                read++;
+                String state = text(status, "status", "state").toLowerCase();
+                double progress = Json.asDouble(value(status, "progress", "progress_percent", "percent"), 0.0);
+                progress = progress <= 1.0 ? progress * 100.0 : progress;
+                if (state.equals("completed")) {
+                    progress = 100.0;
+                }
+                weightedProgress += weight * Math.max(0.0, Math.min(100.0, progress));
+                if (state.equals("failed")) {
+                    failed++;
+                    missingTickers += shard.tickers().size();
+                } else if (state.equals("cancelled")) {
+                    cancelled++;
+                    missingTickers += shard.tickers().size();
+                } else if (!state.equals("completed")) {
+                    running++;
+                    if (currentTicker.isBlank()) {
+                        currentTicker = text(status, "current_ticker", "ticker", "current_symbol");
+                    }
+                }
+                failedTickers += Json.asInt(value(status, "failedTickers", "failed_tickers"), 0);
+                Object shardWarnings = value(status, "warnings", "warning_summary", "errors", "error");
+                if (shardWarnings != null && !String.valueOf(shardWarnings).isBlank()) {
+                    warnings.add("shard " + (shard.index() + 1) + ": " + Json.compact(shardWarnings));
+                }
+                shardState.put("status", state);
+                shardState.put("progress", Math.round(progress));
+            } catch (ExecutionException ex) {
+                lastError = ex.getCause() instanceof Exception cause ? cause : ex;
+                // An unreadable shard is treated as still running so the poller keeps waiting for it.
+                running++;
+                shardState.put("status", "unknown");
+                warnings.add("shard " + (shard.index() + 1) + ": status unavailable (" + rootMessage(ex) + ")");
+            }
+            shardStates.add(shardState);
+        }
+        if (read == 0 && lastError != null) {
+            throw lastError;
+        }
+
+        int shardCount = futures.size();
+        String state;
+        if (running > 0) {
+            state = "running";
+        } else if (failed == shardCount) {
+            state = "failed";
+        } else if (cancelled == shardCount) {
+            state = "cancelled";
+        } else if (missingTickers > 0) {
+            state = "partial";
+        } else {
+            state = "completed";
+        }
+        Map<String, Object> merged = new LinkedHashMap<>();
+        merged.put("run_id", run.id());
+        merged.put("status", state);
+        merged.put("progress", totalWeight == 0 ? 0.0 : weightedProgress / totalWeight);
+        merged.put("current_ticker", currentTicker);
+        merged.put("failed_tickers", failedTickers);
+        merged.put("missing_tickers", missingTickers);
+        if (!run.unstartedTickers().isEmpty()) {
+            warnings.add(run.unstartedTickers().size() + " tickers in shards that never started");
+        }
+        if (!warnings.isEmpty()) {
+            merged.put("warnings", warnings);
+        }
+        merged.put("shards", shardStates);
+        return merged;
+    }
+
+    private String startShard(int slot, Map<String, Object> payload, Function<Map<String, Object>, String> runIdOf)
+            throws Exception {
+        Map<String, Object> response;
+        try {
+            response = apiClient.startScanOn(slot, payload, runIdOf);
+        } catch (IOException firstAttempt) {
+            if (apiClient.backendCount() < 2) {
+                throw firstAttempt;
+            }
+            response = apiClient.startScanOn(slot + 1, payload, runIdOf);
+        }
+        String runId = runIdOf.apply(response);
+        if (runId == null || runId.isBlank()) {
+            throw new IOException("scan start response did not include runId");
+        }
+        return runId;
+    }
+
+    private static Map<String, Object> shardPayload(
+            Map<String, Object> payload,
+            List<String> tickers,
+            String logicalId,
+            int index,
+            int count
+    ) {
+        // Deep copy, so shards never share the nested config maps.
+        Map<String, Object> copy = Json.asObject(Json.parse(Json.compact(payload)));
+        Map<String, Object> strategyConfig = copy.get("strategyUniverseConfig") instanceof Map<?, ?> raw
+                ? Json.asObject(raw)
+                : new LinkedHashMap<>();
+        strategyConfig.put("tickers", tickers);
+        strategyConfig.put("max_tickers", tickers.size());
+        copy.put("strategyUniverseConfig", strategyConfig);
+        Map<String, Object> shard = new LinkedHashMap<>();
+        shard.put("parent", logicalId);
+        shard.put("index", index);
+        shard.put("count", count);
+        copy.put("shard", shard);
+        return copy;
+    }
+
+    private static List<String> tickersOf(Map<String, Object> payload) {
+        List<String> tickers = new ArrayList<>();
+        if (payload != null && payload.get("strategyUniverseConfig") instanceof Map<?, ?> raw
+                && Json.asObject(raw).get("tickers") instanceof List<?> list) {
+            for (Object item : list) {
+                String ticker = item == null ? "" : String.valueOf(item).trim();
+                if (!ticker.isBlank()) {
+                    tickers.add(ticker);
+                }
+            }
+        }
+        return tickers;
+    }
+
+    private static Object value(Map<String, Object> map, String... keys) {
+        for (String key : keys) {
+            Object value = map.get(key);
+            if (value != null) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    private static String text(Map<String, Object> map, String... keys) {
+        Object value = value(map, keys);
+        return value == null ? "" : String.valueOf(value).trim();
+    }
+
+    private static String rootMessage(Exception ex) {
+        Throwable cause = ex instanceof ExecutionException && ex.getCause() != null ? ex.getCause() : ex;
+        return cause.getMessage() == null ? cause.getClass().getSimpleName() : cause.getMessage();
+    }
+
+    record Shard(int index, String runId, List<String> tickers) {
+    }
+
+    /** {@code unstartedTickers} belong to shards that could not be started on any instance. */
+    record ShardedRun(String id, List<Shard> shards, List<String> unstartedTickers, long startedAt) {
+        /** The shard that scanned {@code ticker}, or {@code null} when no started shard holds it. */
+        Shard shardFor(String ticker) {
+            String wanted = ticker == null ? "" : ticker.trim().toUpperCase();
+            for (Shard shard : shards) {
+                for (String member : shard.tickers()) {
+                    if (member.equalsIgnoreCase(wanted)) {
+                        return shard;
+                    }
+                }
+            }
+            return null;
+        }
+    }
+}
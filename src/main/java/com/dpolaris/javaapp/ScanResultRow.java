@@ -0,0 +1,20 @@
+package com.dpolaris.javaapp;
+
+/**
+ * Summary of one ticker in a scan run, as shown in the results table, kept in the
+ * {@link ScanResultStore} index and written by {@link ScanResultsExporter}.
+ * A missing score or confidence is NaN.
+ */
+record ScanResultRow(
+        String ticker,
+        String status,
+        double overallScore,
+        String regime,
+        String trendMomentum,
+        String volatilityIv,
+        String topStrategy,
+        double confidence,
+        int warningsCount,
+        String updatedAt
+) {
+}
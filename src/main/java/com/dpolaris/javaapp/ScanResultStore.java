@@ -0,0 +1,376 @@
+package com.dpolaris.javaapp;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Column-oriented copy of one scan run's results for client-side ranking.
+ * Scores, confidence and warning counts live in primitive arrays; repeated labels (status,
+ * regime, trend, volatility, strategy) are dictionary-encoded so filters test each distinct
+ * label once and sorts compare integer ranks. Rows are keyed by ticker and updated in place.
+ */
+final class ScanResultStore {
+    enum Column { TICKER, STATUS, SCORE, REGIME, TREND, VOLATILITY, STRATEGY, CONFIDENCE, WARNINGS, UPDATED }
+
+    private final Map<String, Integer> rowByTicker = new HashMap<>();
+    private final Dictionary statuses = new Dictionary();
+    private final Dictionary regimes = new Dictionary();
+    private final Dictionary trends = new Dictionary();
+    private final Dictionary volatilities = new Dictionary();
+    private final Dictionary strategies = new Dictionary();
+    private String[] tickers = new String[0];
+    private String[] updatedAt = new String[0];
+    private double[] scores = new double[0];
+    private double[] confidences = new double[0];
+    private int[] warnings = new int[0];
+    private int[] statusCodes = new int[0];
+    private int[] regimeCodes = new int[0];
+    private int[] trendCodes = new int[0];
+    private int[] volatilityCodes = new int[0];
+    private int[] strategyCodes = new int[0];
+    private int size;
+
+    /** Adds the row for {@code ticker}, or overwrites it when the ticker is already stored; returns its row id. */
+    int upsert(ScanResultRow result) {
+        String ticker = result.ticker();
+        Integer existing = rowByTicker.get(ticker);
+        int row;
+        if (existing != null) {
+            row = existing;
+        } else {
+            ensureCapacity(size + 1);
+            row = size++;
+            rowByTicker.put(ticker, row);
+        }
+        tickers[row] = ticker;
+        updatedAt[row] = result.updatedAt();
+        scores[row] = result.overallScore();
+        confidences[row] = result.confidence();
+        warnings[row] = result.warningsCount();
+        statusCodes[row] = statuses.encode(result.status());
+        regimeCodes[row] = regimes.encode(result.regime());
+        trendCodes[row] = trends.encode(result.trendMomentum());
+        volatilityCodes[row] = volatilities.encode(result.volatilityIv());
+        strategyCodes[row] = strategies.encode(result.topStrategy());
+        return row;
+    }
+
+    /** The stored values of {@code row} as one record. */
+    ScanResultRow row(int row) {
+        return new ScanResultRow(ticker(row), status(row), score(row), regime(row), trend(row), volatility(row),
+                strategy(row), confidence(row), warnings(row), updatedAt(row));
+    }
+
+    int size() {
+        return size;
+    }
+
+    String ticker(int row) {
+        return tickers[row];
+    }
+
+    String status(int row) {
+        return statuses.value(statusCodes[row]);
+    }
+
+    double score(int row) {
+        return scores[row];
+    }
+
+    String regime(int row) {
+        return regimes.value(regimeCodes[row]);
+    }
+
+    String trend(int row) {
+        return trends.value(trendCodes[row]);
+    }
+
+    String volatility(int row) {
+        return volatilities.value(volatilityCodes[row]);
+    }
+
+    String strategy(int row) {
+        return strategies.value(strategyCodes[row]);
+    }
+
+    double confidence(int row) {
+        return confidences[row];
+    }
+
+    int warnings(int row) {
+        return warnings[row];
+    }
+
+    String updatedAt(int row) {
+        return updatedAt[row];
+    }
+
+    /** Row ids passing {@code filter}, ordered by {@code sort} (first key wins, ties keep insertion order). */
+    int[] query(Filter filter, List<SortKey> sort) {
+        int[] matches = select(filter);
+        if (sort == null || sort.isEmpty()) {
+            return matches;
+        }
+        RowOrder order = null;
+        for (SortKey key : sort) {
+            RowOrder next = comparator(key.column());
+            RowOrder directed = key.descending() ? (a, b) -> next.compare(b, a) : next;
+            RowOrder previous = order;
+            order = previous == null ? directed : (a, b) -> {
+                int first = previous.compare(a, b);
+                return first != 0 ? first : directed.compare(a, b);
+            };
+        }
+        mergeSort(matches, new int[matches.length], 0, matches.length, order);
+        return matches;
+    }
+
+    /** The {@code k} best rows passing {@code filter} by score, then confidence, best first. */
+    int[] topK(int k, Filter filter) {
+        int[] matches = select(filter);
+        if (k <= 0 || matches.length == 0) {
+            return new int[0];
+        }
+        RowOrder score = comparator(Column.SCORE);
+        RowOrder confidence = comparator(Column.CONFIDENCE);
+        RowOrder ranking = (a, b) -> {
+            int byScore = score.compare(a, b);
+            return byScore != 0 ? byScore : confidence.compare(a, b);
+        };
+        // Binary min-heap of the best k so far; heap[0] is the weakest kept row.
+        int[] heap = new int[Math.min(k, matches.length)];
+        int count = 0;
+        for (int row : matches) {
+            if (count < heap.length) {
+                heap[count] = row;
+                siftUp(heap, count++, ranking);
+            } else if (ranking.compare(row, heap[0]) > 0) {
+                heap[0] = row;
+                siftDown(heap, count, ranking);
+            }
+        }
+        int[] out = new int[count];
+        for (int i = count - 1; i >= 0; i--) {
+            out[i] = heap[0];
+            heap[0] = heap[i];
+            siftDown(heap, i, ranking);
+        }
+        return out;
+    }
+
+    private int[] select(Filter filter) {
+        Filter effective = filter == null ? Filter.ALL : filter;
+        String text = effective.text() == null ? "" : effective.text().trim().toLowerCase();
+        boolean[] statusHit = statuses.matches(text);
+        boolean[] regimeHit = regimes.matches(text);
+        boolean[] trendHit = trends.matches(text);
+        boolean[] strategyHit = strategies.matches(text);
+        int[] out = new int[size];
+        int count = 0;
+        for (int row = 0; row < size; row++) {
+            if (!inRange(scores[row], effective.minScore(), effective.maxScore())
+                    || !inRange(confidences[row], effective.minConfidence(), Double.POSITIVE_INFINITY)
+                    || warnings[row] > effective.maxWarnings()) {
+                continue;
+            }
+            if (!text.isEmpty()
+                    && !statusHit[statusCodes[row]] && !regimeHit[regimeCodes[row]]
+                    && !trendHit[trendCodes[row]] && !strategyHit[strategyCodes[row]]
+                    && !tickers[row].toLowerCase().contains(text)) {
+                continue;
+            }
+            out[count++] = row;
+        }
+        return Arrays.copyOf(out, count);
+    }
+
+    /** Rows without a value only pass a range that is left open on both ends. */
+    private static boolean inRange(double value, double min, double max) {
+        if (Double.isNaN(value)) {
+            return min == Double.NEGATIVE_INFINITY && max == Double.POSITIVE_INFINITY;
+        }
+        return value >= min && value <= max;
+    }
+
+    private RowOrder comparator(Column column) {
+        return switch (column) {
+            case TICKER -> (a, b) -> tickers[a].compareToIgnoreCase(tickers[b]);
+            case STATUS -> byRank(statuses, statusCodes);
+            case SCORE -> (a, b) -> Double.compare(sortable(scores[a]), sortable(scores[b]));
+            case REGIME -> byRank(regimes, regimeCodes);
+            case TREND -> byRank(trends, trendCodes);
+            case VOLATILITY -> byRank(volatilities, volatilityCodes);
+            case STRATEGY -> byRank(strategies, strategyCodes);
+            case CONFIDENCE -> (a, b) -> Double.compare(sortable(confidences[a]), sortable(confidences[b]));
+            case WARNINGS -> (a, b) -> Integer.compare(warnings[a], warnings[b]);
+            case UPDATED -> (a, b) -> updatedAt[a].compareTo(updatedAt[b]);
+        };
+    }
+
+    private static RowOrder byRank(Dictionary dictionary, int[] codes) {
+        int[] ranks = dictionary.ranks();
+        return (a, b) -> Integer.compare(ranks[codes[a]], ranks[codes[b]]);
+    }
+
+    /** Missing values rank below every real one. */
+    private static double sortable(double value) {
+        return Double.isNaN(value) ? Double.NEGATIVE_INFINITY : value;
+    }
+
+    /** Stable, so earlier sort keys and insertion order survive as tie-breakers. */
+    private static void mergeSort(int[] rows, int[] scratch, int from, int to, RowOrder order) {
+        if (to - from < 2) {
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        mergeSort(rows, scratch, from, mid, order);
+        mergeSort(rows, scratch, mid, to, order);
+        if (order.compare(rows[mid - 1], rows[mid]) <= 0) {
+            return;
+        }
+        System.arraycopy(rows, from, scratch, from, to - from);
+        int left = from;
+        int right = mid;
+        for (int i = from; i < to; i++) {
+            if (right >= to || (left < mid && order.compare(scratch[left], scratch[right]) <= 0)) {
+                rows[i] = scratch[left++];
+            } else {
+                rows[i] = scratch[right++];
+            }
+        }
+    }
+
+    private static void siftUp(int[] heap, int index, RowOrder order) {
+        int row = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (order.compare(row, heap[parent]) >= 0) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = row;
+    }
+
+    private static void siftDown(int[] heap, int size, RowOrder order) {
+        if (size == 0) {
+            return;
+        }
+        int row = heap[0];
+        int index = 0;
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && order.compare(heap[child + 1], heap[child]) < 0) {
+                child++;
+            }
+            if (order.compare(row, heap[child]) <= 0) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = row;
+    }
+
+    private void ensureCapacity(int needed) {
+        if (needed <= tickers.length) {
+            return;
+        }
+        int capacity = Math.max(64, Math.max(needed, tickers.length * 2));
+        tickers = Arrays.copyOf(tickers, capacity);
+        updatedAt = Arrays.copyOf(updatedAt, capacity);
+        scores = Arrays.copyOf(scores, capacity);
+        confidences = Arrays.copyOf(confidences, capacity);
+        warnings = Arrays.copyOf(warnings, capacity);
+        statusCodes = Arrays.copyOf(statusCodes, capacity);
+        regimeCodes = Arrays.copyOf(regimeCodes, capacity);
+        trendCodes = Arrays.copyOf(trendCodes, capacity);
+        volatilityCodes = Arrays.copyOf(volatilityCodes, capacity);
+        strategyCodes = Arrays.copyOf(strategyCodes, capacity);
+    }
+
+    /** Range bounds are inclusive; {@code text} matches ticker, status, regime, trend or strategy. */
+    record Filter(String text, double minScore, double maxScore, double minConfidence, int maxWarnings) {
+        static final Filter ALL = new Filter("", Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY,
+                Double.NEGATIVE_INFINITY, Integer.MAX_VALUE);
+
+        Filter withText(String value) {
+            return new Filter(value, minScore, maxScore, minConfidence, maxWarnings);
+        }
+
+        Filter withMinScore(double value) {
+            return new Filter(text, value, maxScore, minConfidence, maxWarnings);
+        }
+
+        boolean isAll() {
+            return (text == null || text.isBlank()) && minScore == Double.NEGATIVE_INFINITY
+                    && maxScore == Double.POSITIVE_INFINITY && minConfidence == Double.NEGATIVE_INFINITY
+                    && maxWarnings == Integer.MAX_VALUE;
+        }
+    }
+
+    record SortKey(Column column, boolean descending) {
+    }
+
+    /** Row-id comparator over the primitive columns, so sorting never boxes. */
+    @FunctionalInterface
+    private interface RowOrder {
+        int compare(int a, int b);
+    }
+
+    private static final class Dictionary {
+        private final List<String> values = new ArrayList<>();
+        private final Map<String, Integer> codes = new HashMap<>();
+        private int[] ranks;
+
+        int encode(String value) {
+            String key = value == null ? "" : value;
+            Integer code = codes.get(key);
+            if (code == null) {
+                code = values.size();
+                values.add(key);
+                codes.put(key, code);
+                ranks = null;
+            }
+            return code;
+        }
+
+        String value(int code) {
+            return values.get(code);
+        }
+
+        /** Case-insensitive alphabetical rank of each code, computed once per new label. */
+        int[] ranks() {
+            if (ranks == null) {
+                Integer[] order = new Integer[values.size()];
+                for (int i = 0; i < order.length; i++) {
+                    order[i] = i;
+                }
+                Arrays.sort(order, (a, b) -> values.get(a).compareToIgnoreCase(values.get(b)));
+                int[] computed = new int[order.length];
+                for (int rank = 0; rank < order.length; rank++) {
+                    computed[order[rank]] = rank;
+                }
+                ranks = computed;
+            }
+            return ranks;
+        }
+
+        boolean[] matches(String text) {
+            boolean[] hit = new boolean[values.size()];
+            if (!text.isEmpty()) {
+                for (int i = 0; i < hit.length; i++) {
+                    hit[i] = values.get(i).toLowerCase().contains(text);
+                }
+            }
+            return hit;
+        }
+    }
+}
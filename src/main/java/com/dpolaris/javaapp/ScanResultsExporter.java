@@ -0,0 +1,339 @@
+package com.dpolaris.javaapp;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedInputStream;
+import java.io.BufferedWriter;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+
+/**
+ * Streams a whole scan run to CSV and to a compact columnar file.
+ * Pages are fetched a few at a time in parallel and written in page order as they arrive,
+ * so memory holds at most {@link #PAGES_IN_FLIGHT} pages whatever the run size. Both files are
+ * written beside their targets and moved into place only when the export completes.
+ *
+ * <p>Columnar layout (big-endian, as written by {@link DataOutputStream}): magic {@code DPSCAN},
+ * format version (short), run id (UTF), column count (short) and per column its name (UTF) and
+ * type byte ({@code S} string, {@code D} dictionary string, {@code F} float64, {@code I} int32).
+ * Then one row group per page: row count (int), then each column in order. String columns
+ * are UTF values; dictionary columns are an entry count (short), UTF entries and one code per
+ * row (unsigned byte up to 255 entries, otherwise short); float64 and int32 columns are plain
+ * arrays, with NaN for a missing score. A row count of -1 followed by the total row count
+ * (long) ends the file.
+ */
+final class ScanResultsExporter {
+    static final int PAGES_IN_FLIGHT = 4;
+    static final String COLUMNAR_EXTENSION = ".dpscan";
+    private static final int FORMAT_VERSION = 1;
+    private static final int MAX_PAGES = 10_000;
+    private static final String[] COLUMNS = {
+            "ticker", "status", "overall_score", "regime", "trend_momentum", "volatility_iv",
+            "top_strategy", "confidence", "warnings", "updated_at"
+    };
+    private static final char[] TYPES = {'S', 'D', 'F', 'D', 'D', 'D', 'D', 'F', 'I', 'S'};
+
+    private final ScanService scanService;
+    private final Function<List<Map<String, Object>>, List<ScanResultRow>> rowMapper;
+
+    /** {@code rowMapper} turns a page of result payloads into rows, the same way the results table does. */
+    ScanResultsExporter(ScanService scanService, Function<List<Map<String, Object>>, List<ScanResultRow>> rowMapper) {
+        this.scanService = scanService;
+        this.rowMapper = rowMapper;
+    }
+
+    /**
+     * Exports {@code runId} and returns the number of rows written. {@code progress} receives
+     * the running row count after each page. Interrupting the calling thread cancels the
+     * export and leaves no partial files behind. A {@code null} {@code csvPath} writes only
+     * the columnar file.
+     */
+    long export(String runId, int pageSize, Path csvPath, Path columnarPath, LongConsumer progress) throws Exception {
+        Path csvPart = csvPath == null ? null : partFile(csvPath);
+        Path columnarPart = partFile(columnarPath);
+        ExecutorService fetchers = Executors.newFixedThreadPool(PAGES_IN_FLIGHT, runnable -> {
+            Thread thread = new Thread(runnable, "scan-export");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ArrayDeque<Future<FetchedPage>> inFlight = new ArrayDeque<>();
+        boolean completed = false;
+        try (BufferedWriter csv = csvPart == null ? null : Files.newBufferedWriter(csvPart, StandardCharsets.UTF_8);
+             DataOutputStream columnar = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(columnarPart)))) {
+            if (csv != null) {
+                csv.write(String.join(",", COLUMNS));
+                csv.write("\n");
+            }
+            writeHeader(columnar, runId);
+
+            int nextToSubmit = 1;
+            long written = 0L;
+            long fetchedSoFar = 0L;
+            for (int page = 1; page <= MAX_PAGES; page++) {
+                while (inFlight.size() < PAGES_IN_FLIGHT && nextToSubmit <= MAX_PAGES) {
+                    int submitted = nextToSubmit++;
+                    inFlight.add(fetchers.submit(() -> fetch(runId, submitted, pageSize)));
+                }
+                if (Thread.currentThread().isInterrupted()) {
+                    throw new InterruptedIOException("Export cancelled");
+                }
+                FetchedPage fetched = awaitPage(inFlight.poll());
+                List<ScanResultRow> rows = fetched.rows();
+                if (!rows.isEmpty()) {
+                    if (csv != null) {
+                        writeCsv(csv, rows);
+                    }
+                    writeRowGroup(columnar, rows);
+                    written += rows.size();
+                    progress.accept(written);
+                }
+                // The mapper may drop rows without a ticker, so the end is judged on raw row counts.
+                // A short page alone is not the end: some backends cap pages below the requested size.
+                fetchedSoFar += fetched.fetchedCount();
+                if (fetched.fetchedCount() == 0 || (fetched.total() >= 0 && fetchedSoFar >= fetched.total())) {
+                    break;
+                }
+            }
+            columnar.writeInt(-1);
+            columnar.writeLong(written);
+            completed = true;
+            return written;
+        } finally {
+            for (Future<FetchedPage> pending : inFlight) {
+                pending.cancel(true);
+            }
+            fetchers.shutdownNow();
+            if (completed) {
+                if (csvPart != null) {
+                    moveIntoPlace(csvPart, csvPath);
+                }
+                moveIntoPlace(columnarPart, columnarPath);
+            } else {
+                if (csvPart != null) {
+                    Files.deleteIfExists(csvPart);
+                }
+                Files.deleteIfExists(columnarPart);
+            }
+        }
+    }
+
+    /** Drops the cached result pages of {@code runId}, so the next export reads the run as the backend has it now. */
+    void invalidateSource(String runId) {
+        scanService.invalidateScanResults(runId);
+    }
+
+    /** Columnar file written next to {@code csvPath}: same name, {@value #COLUMNAR_EXTENSION} extension. */
+    static Path columnarPathFor(Path csvPath) {
+        String name = csvPath.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        String base = dot > 0 ? name.substring(0, dot) : name;
+        return csvPath.resolveSibling(base + COLUMNAR_EXTENSION);
+    }
+
+    /** Reads a columnar file written by {@link #export} back into rows, in file order. */
+    static List<ScanResultRow> readColumnar(Path path) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            byte[] magic = new byte[6];
+            in.readFully(magic);
+            if (!"DPSCAN".equals(new String(magic, StandardCharsets.US_ASCII))) {
+                throw new IOException("Not a scan columnar file: " + path.getFileName());
+            }
+            int version = in.readShort();
+            if (version != FORMAT_VERSION) {
+                throw new IOException("Unsupported scan columnar version " + version + ": " + path.getFileName());
+            }
+            in.readUTF();
+            int columns = in.readShort();
+            for (int i = 0; i < columns; i++) {
+                in.readUTF();
+                in.readByte();
+            }
+            if (columns != COLUMNS.length) {
+                throw new IOException("Unexpected column count " + columns + ": " + path.getFileName());
+            }
+
+            List<ScanResultRow> rows = new ArrayList<>();
+            for (int count = in.readInt(); count >= 0; count = in.readInt()) {
+                String[] tickers = readStrings(in, count);
+                String[] status = readDictionary(in, count);
+                double[] score = readDoubles(in, count);
+                String[] regime = readDictionary(in, count);
+                String[] trend = readDictionary(in, count);
+                String[] volatility = readDictionary(in, count);
+                String[] strategy = readDictionary(in, count);
+                double[] confidence = readDoubles(in, count);
+                int[] warnings = new int[count];
+                for (int i = 0; i < count; i++) {
+                    warnings[i] = in.readInt();
+                }
+                String[] updatedAt = readStrings(in, count);
+                for (int i = 0; i < count; i++) {
+                    rows.add(new ScanResultRow(
+                            tickers[i], status[i], score[i], regime[i], trend[i], volatility[i],
+                            strategy[i], confidence[i], warnings[i], updatedAt[i]
+                    ));
+                }
+            }
+            return rows;
+        }
+    }
+
+    private static String[] readStrings(DataInputStream in, int count) throws IOException {
+        String[] values = new String[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = in.readUTF();
+        }
+        return values;
+    }
+
+    private static double[] readDoubles(DataInputStream in, int count) throws IOException {
+        double[] values = new double[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = in.readDouble();
+        }
+        return values;
+    }
+
+    private static String[] readDictionary(DataInputStream in, int count) throws IOException {
+        int entries = in.readUnsignedShort();
+        String[] dictionary = readStrings(in, entries);
+        String[] values = new String[count];
+        boolean narrow = entries <= 255;
+        for (int i = 0; i < count; i++) {
+            values[i] = dictionary[narrow ? in.readUnsignedByte() : in.readUnsignedShort()];
+        }
+        return values;
+    }
+
+    private FetchedPage fetch(String runId, int page, int pageSize) throws Exception {
+        ScanService.ScanResultsPage data = scanService.getScanResults(runId, page, pageSize, false);
+        return new FetchedPage(rowMapper.apply(data.rows()), data.rows().size(), data.totalReported() ? data.total() : -1L);
+    }
+
+    private static FetchedPage awaitPage(Future<FetchedPage> future) throws Exception {
+        try {
+            return future.get();
+        } catch (ExecutionException ex) {
+            throw ex.getCause() instanceof Exception cause ? cause : ex;
+        }
+    }
+
+    private static void writeHeader(DataOutputStream out, String runId) throws IOException {
+        out.writeBytes("DPSCAN");
+        out.writeShort(FORMAT_VERSION);
+        out.writeUTF(runId);
+        out.writeShort(COLUMNS.length);
+        for (int i = 0; i < COLUMNS.length; i++) {
+            out.writeUTF(COLUMNS[i]);
+            out.writeByte(TYPES[i]);
+        }
+    }
+
+    private static void writeRowGroup(DataOutputStream out, List<ScanResultRow> rows) throws IOException {
+        out.writeInt(rows.size());
+        for (ScanResultRow row : rows) {
+            out.writeUTF(row.ticker());
+        }
+        writeDictionary(out, rows, ScanResultRow::status);
+        for (ScanResultRow row : rows) {
+            out.writeDouble(row.overallScore());
+        }
+        writeDictionary(out, rows, ScanResultRow::regime);
+        writeDictionary(out, rows, ScanResultRow::trendMomentum);
+        writeDictionary(out, rows, ScanResultRow::volatilityIv);
+        writeDictionary(out, rows, ScanResultRow::topStrategy);
+        for (ScanResultRow row : rows) {
+            out.writeDouble(row.confidence());
+        }
+        for (ScanResultRow row : rows) {
+            out.writeInt(row.warningsCount());
+        }
+        for (ScanResultRow row : rows) {
+            out.writeUTF(row.updatedAt() == null ? "" : row.updatedAt());
+        }
+    }
+
+    private static void writeDictionary(DataOutputStream out, List<ScanResultRow> rows, Function<ScanResultRow, String> column)
+            throws IOException {
+        Map<String, Integer> codes = new LinkedHashMap<>();
+        int[] encoded = new int[rows.size()];
+        for (int i = 0; i < rows.size(); i++) {
+            String value = column.apply(rows.get(i));
+            encoded[i] = codes.computeIfAbsent(value == null ? "" : value, ignored -> codes.size());
+        }
+        out.writeShort(codes.size());
+        for (String value : codes.keySet()) {
+            out.writeUTF(value);
+        }
+        boolean narrow = codes.size() <= 255;
+        for (int code : encoded) {
+            if (narrow) {
+                out.writeByte(code);
+            } else {
+                out.writeShort(code);
+            }
+        }
+    }
+
+    private static void writeCsv(BufferedWriter out, List<ScanResultRow> rows) throws IOException {
+        for (ScanResultRow row : rows) {
+            List<String> cells = new ArrayList<>(COLUMNS.length);
+            cells.add(csvCell(row.ticker()));
+            cells.add(csvCell(row.status()));
+            cells.add(Double.isNaN(row.overallScore()) ? "" : String.valueOf(row.overallScore()));
+            cells.add(csvCell(row.regime()));
+            cells.add(csvCell(row.trendMomentum()));
+            cells.add(csvCell(row.volatilityIv()));
+            cells.add(csvCell(row.topStrategy()));
+            cells.add(Double.isNaN(row.confidence()) ? "" : String.valueOf(row.confidence()));
+            cells.add(String.valueOf(row.warningsCount()));
+            cells.add(csvCell(row.updatedAt()));
+            out.write(String.join(",", cells));
+            out.write("\n");
+        }
+    }
+
+    private static String csvCell(String value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value;
+        boolean mustQuote = text.contains(",") || text.contains("\"") || text.contains("\n") || text.contains("\r");
+        if (text.contains("\"")) {
+            text = text.replace("\"", "\"\"");
+        }
+        return mustQuote ? "\"" + text + "\"" : text;
+    }
+
+    private static Path partFile(Path target) throws IOException {
+        Path parent = target.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        return target.resolveSibling(target.getFileName() + ".part");
+    }
+
+    private static void moveIntoPlace(Path part, Path target) throws IOException {
+        Files.move(part, target, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /** {@code total} is -1 when the backend did not report one. */
+    private record FetchedPage(List<ScanResultRow> rows, int fetchedCount, long total) {
+    }
+}
@@ -1,27 +1,85 @@
 package com.dpolaris.javaapp;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 final class ScanService {
+    private static final String UNIVERSE_PREFIX = ResponseCache.SCAN + "universe:";
+    private static final Map<String, String> UNIVERSE_ALIASES = Map.of(
+            "nasdaq300", "nasdaq500",
+            "nasdaqtop500", "nasdaq500",
+            "custom", "watchlist",
+            "customstocks", "watchlist",
+            "combined400", "combined",
+            "combined1000", "combined"
+    );
+    private static final String UNIVERSES_PREFIX = ResponseCache.SCAN + "universes:";
+    private static final int SYNC_PAGE_SIZE = 500;
+    private static final int SYNC_MAX_PAGES = 200;
+    private static final int WATCHLIST_PARALLELISM = 4;
+    private static final int ANALYSIS_LAST_BATCH = 200;
+    static final String INCREMENTAL_PREFIX = "incremental-";
+    private static final int MAX_SAVED_INCREMENTAL_RUNS = 8;
     private final ApiClient apiClient;
-    private final RunsCache cache = new RunsCache(12_000L);
+    private final Path incrementalRunsPath;
+    private final RunsCache cache = ResponseCache.shared();
+    private final Map<String, RunResultSet> resultSets = new ConcurrentHashMap<>();
+    private final ScanOrchestrator orchestrator;
+    private final Map<String, IncrementalRun> incrementalRuns = new ConcurrentHashMap<>();
+    // Shared by all per-symbol watchlist updates, so concurrent updates never exceed WATCHLIST_PARALLELISM calls.
+    private final ExecutorService watchlistWorkers = Executors.newFixedThreadPool(WATCHLIST_PARALLELISM, runnable -> {
+        Thread thread = new Thread(runnable, "watchlist-update");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     ScanService(ApiClient apiClient) {
+        this(apiClient, defaultIncrementalRunsPath());
+    }
+
+    /** {@code incrementalRunsPath} keeps merged incremental runs across restarts; {@code null} keeps them in memory only. */
+    ScanService(ApiClient apiClient, Path incrementalRunsPath) {
         this.apiClient = apiClient;
+        this.orchestrator = new ScanOrchestrator(apiClient);
+        this.incrementalRunsPath = incrementalRunsPath == null ? null : incrementalRunsPath.toAbsolutePath().normalize();
+        // The combined universe is the union of the other two, so it goes stale with either.
+        cache.dependsOn(universeKey("combined"), universeKey("watchlist"));
+        cache.dependsOn(universeKey("combined"), universeKey("nasdaq500"));
+        loadIncrementalRuns();
     }
 
     Map<String, Object> getUniverse(String universeId, boolean forceRefresh) throws Exception {
-        String key = "scan:universe:" + normalizeKey(universeId);
+        String key = universeKey(universeId);
         Object response = cache.get(key, forceRefresh, () -> apiClient.fetchUniverse(universeId));
         return unwrapObject(response, "universe", "item", "data");
     }
 
     List<String> listUniverses(boolean forceRefresh) throws Exception {
-        Object response = cache.get("scan:universes:list", forceRefresh, apiClient::fetchUniverseList);
+        Object response = cache.get(UNIVERSES_PREFIX + "list", forceRefresh, apiClient::fetchUniverseList);
 
         if (response instanceof List<?> rawList) {
             List<String> names = new ArrayList<>();
@@ -64,49 +122,649 @@ final class ScanService {
         return apiClient.startScan(payload);
     }
 
+    /**
+     * Starts {@code payload} as {@code shards} concurrent backend scans behind one logical run
+     * id, which every other method here accepts like a plain run id.
+     */
+    Map<String, Object> startShardedScan(
+            Map<String, Object> payload,
+            int shards,
+            Function<Map<String, Object>, String> runIdOf
+    ) throws Exception {
+        return orchestrator.start(payload, shards, runIdOf);
+    }
+
+    /**
+     * Starts {@code payload} as an incremental scan against the newest completed scan, which
+     * may itself be a merged incremental run: only tickers that are new, failed last time, or
+     * whose analysis data is newer than their previous result are submitted; the rest are
+     * carried forward. The returned run id names a merged view that every other method here
+     * accepts like a plain run id; it is saved locally so the next incremental scan can build
+     * on it after a restart. Falls back to a full scan when there is nothing to compare against.
+     */
+    Map<String, Object> startIncrementalScan(
+            Map<String, Object> payload,
+            int shards,
+            Function<Map<String, Object>, String> runIdOf
+    ) throws Exception {
+        String baseRunId = latestBaseRunId();
+        if (baseRunId.isBlank()) {
+            Map<String, Object> response = new LinkedHashMap<>(shards > 1 ? startShardedScan(payload, shards, runIdOf) : startScan(payload));
+            response.put("incremental_fallback", "no completed scan run to compare against; scanned everything");
+            return response;
+        }
+        IncrementalPlan plan = planIncrementalScan(baseRunId, tickersOf(payload));
+        String freshRunId = null;
+        if (!plan.rescan().isEmpty()) {
+            Map<String, Object> freshPayload = Json.asObject(Json.parse(Json.compact(payload)));
+            Map<String, Object> strategyConfig = freshPayload.get("strategyUniverseConfig") instanceof Map<?, ?> raw
+                    ? Json.asObject(raw)
+                    : new LinkedHashMap<>();
+            strategyConfig.put("tickers", plan.rescan());
+            strategyConfig.put("max_tickers", plan.rescan().size());
+            freshPayload.put("strategyUniverseConfig", strategyConfig);
+            Map<String, Object> incrementalMeta = new LinkedHashMap<>();
+            incrementalMeta.put("base_run_id", baseRunId);
+            incrementalMeta.put("carried_forward", plan.carriedRows().size());
+            freshPayload.put("incremental", incrementalMeta);
+            int freshShards = Math.min(shards, plan.rescan().size());
+            Map<String, Object> started = freshShards > 1
+                    ? startShardedScan(freshPayload, freshShards, runIdOf)
+                    : startScan(freshPayload);
+            freshRunId = runIdOf.apply(started);
+            if (freshRunId == null || freshRunId.isBlank()) {
+                throw new IOException("scan start response did not include runId");
+            }
+        }
+
+        String id = INCREMENTAL_PREFIX + Long.toString(System.currentTimeMillis(), 36);
+        Set<String> rescanned = new LinkedHashSet<>(plan.rescan());
+        incrementalRuns.put(id, new IncrementalRun(
+                id, freshRunId, baseRunId, Set.copyOf(rescanned), plan.carriedRows(), System.currentTimeMillis()));
+        saveIncrementalRuns();
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("run_id", id);
+        response.put("fresh_run_id", freshRunId == null ? "" : freshRunId);
+        response.put("base_run_id", baseRunId);
+        response.put("rescanned", plan.rescan().size());
+        response.put("carried_forward", plan.carriedRows().size());
+        response.put("reasons", plan.reasons());
+        return response;
+    }
+
+    /**
+     * Splits {@code tickers} into those to rescan and the previous results of {@code baseRunId}
+     * to carry forward. A ticker is carried only when its previous row succeeded and its last
+     * analysis time is known and not newer than that row's {@code updated_at}.
+     */
+    IncrementalPlan planIncrementalScan(String baseRunId, List<String> tickers) throws Exception {
+        Map<String, Map<String, Object>> previous = new LinkedHashMap<>();
+        for (int page = 1; page <= SYNC_MAX_PAGES; page++) {
+            List<Map<String, Object>> rows = getScanResults(baseRunId, page, SYNC_PAGE_SIZE, false).rows();
+            for (Map<String, Object> row : rows) {
+                String ticker = rowValue(row, "ticker", "symbol", "id").toUpperCase();
+                if (!ticker.isBlank()) {
+                    previous.putIfAbsent(ticker, row);
+                }
+            }
+            if (rows.size() < SYNC_PAGE_SIZE) {
+                break;
+            }
+        }
+
+        List<String> universe = new ArrayList<>();
+        for (String ticker : tickers) {
+            String normalized = ticker == null ? "" : ticker.trim().toUpperCase();
+            if (!normalized.isBlank() && !universe.contains(normalized)) {
+                universe.add(normalized);
+            }
+        }
+        Map<String, Long> analyzedAt = new LinkedHashMap<>();
+        for (int i = 0; i < universe.size(); i += ANALYSIS_LAST_BATCH) {
+            List<String> batch = universe.subList(i, Math.min(universe.size(), i + ANALYSIS_LAST_BATCH));
+            Map<String, Object> response;
+            try {
+                response = apiClient.fetchAnalysisLast(batch);
+            } catch (Exception ex) {
+                // Freshness unknown for this batch; its tickers are rescanned.
+                continue;
+            }
+            for (String ticker : batch) {
+                Object entry = response.get(ticker);
+                Object value = entry instanceof Map<?, ?> raw
+                        ? firstValue(Json.asObject(raw), "last_analysis", "analysis_date", "timestamp")
+                        : entry;
+                long millis = timestampMillis(asString(value));
+                if (millis >= 0) {
+                    analyzedAt.put(ticker, millis);
+                }
+            }
+        }
+
+        List<String> rescan = new ArrayList<>();
+        List<Map<String, Object>> carried = new ArrayList<>();
+        Map<String, Integer> reasons = new LinkedHashMap<>();
+        for (String ticker : universe) {
+            Map<String, Object> row = previous.get(ticker);
+            String reason;
+            if (row == null) {
+                reason = "new";
+            } else if (isFailedRow(row)) {
+                reason = "failed last run";
+            } else {
+                long resultAt = timestampMillis(rowValue(row, "updated_at", "updatedAt", "timestamp"));
+                Long dataAt = analyzedAt.get(ticker);
+                if (dataAt == null || resultAt < 0) {
+                    reason = "freshness unknown";
+                } else if (dataAt > resultAt) {
+                    reason = "new data";
+                } else {
+                    reason = null;
+                }
+            }
+            if (reason == null) {
+                Map<String, Object> carriedRow = new LinkedHashMap<>(row);
+                carriedRow.put("carried_forward", true);
+                carriedRow.put("source_run_id", sourceRunOf(baseRunId, row));
+                carried.add(carriedRow);
+            } else {
+                rescan.add(ticker);
+                reasons.merge(reason, 1, Integer::sum);
+            }
+        }
+        return new IncrementalPlan(baseRunId, rescan, List.copyOf(carried), reasons);
+    }
+
+    /**
+     * Newest completed logical scan to diff against: a plain backend run, a sharded run, or a
+     * merged incremental run. Backend runs that hold only part of a logical scan (a shard, or
+     * the rescanned half of an incremental scan) are skipped, since they miss most tickers.
+     */
+    private String latestBaseRunId() throws Exception {
+        Set<String> members = new LinkedHashSet<>();
+        for (IncrementalRun run : incrementalRuns.values()) {
+            if (run.freshRunId() != null) {
+                members.add(run.freshRunId());
+            }
+        }
+        for (ScanOrchestrator.ShardedRun run : orchestrator.runs()) {
+            for (ScanOrchestrator.Shard shard : run.shards()) {
+                members.add(shard.runId());
+            }
+        }
+
+        List<BaseCandidate> candidates = new ArrayList<>();
+        for (Map<String, Object> run : listScanRuns(true)) {
+            String runId = rowValue(run, "run_id", "runId", "id");
+            String status = rowValue(run, "status", "state").toLowerCase();
+            if (runId.isBlank() || !status.equals("completed") || members.contains(runId) || isPartialScanRun(run)) {
+                continue;
+            }
+            candidates.add(new BaseCandidate(runId, timestampMillis(rowValue(run, "created_at", "started_at", "start_time", "timestamp")), true));
+        }
+        for (IncrementalRun run : incrementalRuns.values()) {
+            candidates.add(new BaseCandidate(run.id(), run.createdAt(), false));
+        }
+        for (ScanOrchestrator.ShardedRun run : orchestrator.runs()) {
+            candidates.add(new BaseCandidate(run.id(), run.startedAt(), false));
+        }
+        // Stable, so backend runs without a parseable time keep list order, which is newest first.
+        candidates.sort((a, b) -> Long.compare(b.startedAt(), a.startedAt()));
+        for (BaseCandidate candidate : candidates) {
+            if (candidate.completed()) {
+                return candidate.runId();
+            }
+            try {
+                if ("completed".equalsIgnoreCase(rowValue(getScanStatus(candidate.runId()), "status", "state"))) {
+                    return candidate.runId();
+                }
+            } catch (Exception ex) {
+                // Its fresh or shard runs are gone or unreachable; try the next newest.
+            }
+        }
+        return "";
+    }
+
+    /** True for a backend run started as a shard or as the rescanned half of an incremental scan. */
+    private boolean isPartialScanRun(Map<String, Object> run) {
+        List<Map<String, Object>> scopes = new ArrayList<>();
+        scopes.add(run);
+        for (String key : List.of("payload", "request", "config", "params")) {
+            if (lookup(run, key) instanceof Map<?, ?> nested) {
+                scopes.add(Json.asObject(nested));
+            }
+        }
+        for (Map<String, Object> scope : scopes) {
+            for (String key : List.of("incremental", "shard")) {
+                Object marker = lookup(scope, key);
+                if (marker != null && !Boolean.FALSE.equals(marker)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The backend run a base row really came from, so carried rows keep pointing at a plain run
+     * even after the merged runs in between are no longer kept.
+     */
+    private String sourceRunOf(String baseRunId, Map<String, Object> row) {
+        String source = rowValue(row, "source_run_id");
+        if (!source.isBlank()) {
+            return source;
+        }
+        IncrementalRun base = incrementalRuns.get(baseRunId);
+        return base != null && base.freshRunId() != null ? base.freshRunId() : baseRunId;
+    }
+
+    private void loadIncrementalRuns() {
+        if (incrementalRunsPath == null || !Files.exists(incrementalRunsPath)) {
+            return;
+        }
+        try {
+            Map<String, Object> root = Json.asObject(Json.parse(Files.readString(incrementalRunsPath, StandardCharsets.UTF_8)));
+            if (!(root.get("runs") instanceof List<?> saved)) {
+                return;
+            }
+            for (Object item : saved) {
+                if (!(item instanceof Map<?, ?> raw)) {
+                    continue;
+                }
+                Map<String, Object> run = Json.asObject(raw);
+                String id = asString(run.get("id"));
+                if (!id.startsWith(INCREMENTAL_PREFIX)) {
+                    continue;
+                }
+                String freshRunId = asString(run.get("fresh_run_id"));
+                Set<String> rescanned = new LinkedHashSet<>();
+                if (run.get("rescanned") instanceof List<?> tickers) {
+                    for (Object ticker : tickers) {
+                        rescanned.add(asString(ticker).toUpperCase());
+                    }
+                }
+                List<Map<String, Object>> carried = extractMapList(run.get("carried_rows"));
+                incrementalRuns.putIfAbsent(id, new IncrementalRun(
+                        id,
+                        freshRunId.isBlank() ? null : freshRunId,
+                        asString(run.get("base_run_id")),
+                        Set.copyOf(rescanned),
+                        List.copyOf(carried),
+                        Math.max(0L, asLong(run.get("created_at")))
+                ));
+            }
+        } catch (IOException | RuntimeException corrupt) {
+            // Only incremental bases are lost; the next incremental scan falls back to a backend run.
+        }
+    }
+
+    /** Writes the newest {@value #MAX_SAVED_INCREMENTAL_RUNS} merged runs; older ones stay usable until exit. */
+    private synchronized void saveIncrementalRuns() {
+        if (incrementalRunsPath == null) {
+            return;
+        }
+        List<IncrementalRun> newest = new ArrayList<>(incrementalRuns.values());
+        newest.sort((a, b) -> Long.compare(b.createdAt(), a.createdAt()));
+        List<Map<String, Object>> saved = new ArrayList<>();
+        for (IncrementalRun run : newest.subList(0, Math.min(MAX_SAVED_INCREMENTAL_RUNS, newest.size()))) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("id", run.id());
+            item.put("fresh_run_id", run.freshRunId() == null ? "" : run.freshRunId());
+            item.put("base_run_id", run.baseRunId());
+            item.put("created_at", run.createdAt());
+            item.put("rescanned", new ArrayList<>(run.rescanned()));
+            item.put("carried_rows", run.carriedRows());
+            saved.add(item);
+        }
+        Map<String, Object> root = new LinkedHashMap<>();
+        root.put("version", 1);
+        root.put("runs", saved);
+        try {
+            Path parent = incrementalRunsPath.getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Path temp = Files.createTempFile(parent, "incremental-runs-", ".part");
+            try {
+                Files.writeString(temp, Json.compact(root), StandardCharsets.UTF_8);
+                try {
+                    Files.move(temp, incrementalRunsPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException ex) {
+                    Files.move(temp, incrementalRunsPath, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException ignored) {
+            // The run still works for this session; only its reuse after a restart is lost.
+        }
+    }
+
+    private static Path defaultIncrementalRunsPath() {
+        String override = System.getenv("DPOLARIS_INCREMENTAL_RUNS");
+        if (override != null && !override.isBlank()) {
+            return Path.of(expandHome(override.trim()));
+        }
+        return Path.of(System.getProperty("user.home"), "dpolaris_data", "incremental_runs.json");
+    }
+
+    private static String expandHome(String value) {
+        if (value.equals("~")) {
+            return System.getProperty("user.home");
+        }
+        if (value.startsWith("~/")) {
+            return System.getProperty("user.home") + value.substring(1);
+        }
+        return value;
+    }
+
+    private Map<String, Object> getIncrementalStatus(IncrementalRun run) throws Exception {
+        Map<String, Object> status;
+        if (run.freshRunId() == null) {
+            status = new LinkedHashMap<>();
+            status.put("status", "completed");
+            status.put("progress", 100.0);
+        } else {
+            status = new LinkedHashMap<>(getScanStatus(run.freshRunId()));
+        }
+        status.put("run_id", run.id());
+        status.put("base_run_id", run.baseRunId());
+        status.put("rescanned", run.rescanned().size());
+        status.put("carried_forward", run.carriedRows().size());
+        return status;
+    }
+
+    /** Rescanned rows first, then the rows carried forward from the base run. */
+    private ScanResultsPage getIncrementalResults(IncrementalRun run, int page, int pageSize, boolean forceRefresh)
+            throws Exception {
+        long from = (long) (page - 1) * pageSize;
+        long to = from + pageSize;
+        long freshTotal = run.freshRunId() == null ? 0L : shardTotal(run.freshRunId(), pageSize, forceRefresh);
+        List<Map<String, Object>> rows = new ArrayList<>();
+        if (from < freshTotal) {
+            appendRange(run.freshRunId(), pageSize, from, Math.min(to, freshTotal), rows);
+        }
+        int carriedFrom = (int) Math.min(run.carriedRows().size(), Math.max(0L, from - freshTotal));
+        int carriedTo = (int) Math.min(run.carriedRows().size(), Math.max(0L, to - freshTotal));
+        rows.addAll(run.carriedRows().subList(carriedFrom, carriedTo));
+        long total = freshTotal + run.carriedRows().size();
+        Map<String, Object> root = new LinkedHashMap<>();
+        root.put("total", total);
+        root.put("rescanned", freshTotal);
+        root.put("carried_forward", run.carriedRows().size());
+        return new ScanResultsPage(rows, page, pageSize, total, true, root);
+    }
+
+    private boolean isFailedRow(Map<String, Object> row) {
+        String status = rowValue(row, "status", "state").toLowerCase();
+        return status.equals("failed") || status.equals("error");
+    }
+
+    private List<String> tickersOf(Map<String, Object> payload) {
+        List<String> tickers = new ArrayList<>();
+        if (payload != null && payload.get("strategyUniverseConfig") instanceof Map<?, ?> raw
+                && Json.asObject(raw).get("tickers") instanceof List<?> list) {
+            for (Object item : list) {
+                tickers.add(asString(item));
+            }
+        }
+        return tickers;
+    }
+
+    /**
+     * Orders two update stamps by the instant they name, so fractional seconds and different
+     * offsets compare correctly; stamps that do not both parse are compared as text.
+     */
+    private static int compareTimestamps(String left, String right) {
+        long leftMillis = timestampMillis(left);
+        long rightMillis = timestampMillis(right);
+        if (leftMillis >= 0L && rightMillis >= 0L) {
+            return Long.compare(leftMillis, rightMillis);
+        }
+        return left.compareTo(right);
+    }
+
+    /** Epoch millis of an ISO date/time or epoch number, or -1 when {@code value} is not one. */
+    private static long timestampMillis(String value) {
+        String text = value == null ? "" : value.trim();
+        if (text.isEmpty()) {
+            return -1L;
+        }
+        if (text.matches("\\d{9,13}(\\.\\d+)?")) {
+            double number = Double.parseDouble(text);
+            return (long) (number >= 1e12 ? number : number * 1000.0);
+        }
+        try {
+            return OffsetDateTime.parse(text).toInstant().toEpochMilli();
+        } catch (DateTimeParseException ignored) {
+            // Not offset-qualified; try the local forms below.
+        }
+        try {
+            return Instant.parse(text).toEpochMilli();
+        } catch (DateTimeParseException ignored) {
+            // Fall through.
+        }
+        try {
+            return LocalDateTime.parse(text.replace(' ', 'T')).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        } catch (DateTimeParseException ignored) {
+            // Fall through.
+        }
+        try {
+            return LocalDate.parse(text.length() >= 10 ? text.substring(0, 10) : text)
+                    .atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        } catch (DateTimeParseException ignored) {
+            return -1L;
+        }
+    }
+
+    int backendCount() {
+        return apiClient.backendCount();
+    }
+
     Map<String, Object> getScanStatus(String runId) throws Exception {
+        IncrementalRun incremental = incrementalRuns.get(runId);
+        if (incremental != null) {
+            return getIncrementalStatus(incremental);
+        }
+        ScanOrchestrator.ShardedRun sharded = orchestrator.run(runId);
+        if (sharded != null) {
+            return orchestrator.status(sharded);
+        }
         return apiClient.fetchScanStatus(runId);
     }
 
     ScanResultsPage getScanResults(String runId, int page, int pageSize, boolean forceRefresh) throws Exception {
         int safePage = Math.max(1, page);
         int safePageSize = Math.max(1, pageSize);
-        String key = "scan:results:" + runId + ":" + safePage + ":" + safePageSize;
+        IncrementalRun incremental = incrementalRuns.get(runId);
+        if (incremental != null) {
+            return getIncrementalResults(incremental, safePage, safePageSize, forceRefresh);
+        }
+        ScanOrchestrator.ShardedRun sharded = orchestrator.run(runId);
+        if (sharded != null) {
+            return getShardedResults(sharded, safePage, safePageSize, forceRefresh);
+        }
         Object response = cache.get(
-                key,
+                resultsKey(runId, safePage, safePageSize),
                 forceRefresh,
                 () -> apiClient.fetchScanResults(runId, safePage, safePageSize)
         );
 
         List<Map<String, Object>> rows = extractMapList(response, "results", "items", "tickers", "data");
         Map<String, Object> root = response instanceof Map<?, ?> ? Json.asObject(response) : new LinkedHashMap<>();
-        long total = resolveTotal(root, rows.size());
-        return new ScanResultsPage(rows, safePage, safePageSize, total, root);
+        long reported = resolveTotal(root, -1);
+        long total = reported >= 0 ? reported : rows.size();
+        return new ScanResultsPage(rows, safePage, safePageSize, total, reported >= 0, root);
     }
 
     Map<String, Object> getScanResult(String runId, String ticker, boolean forceRefresh) throws Exception {
-        String key = "scan:result:" + runId + ":" + ticker.toUpperCase();
-        return cache.get(key, forceRefresh, () -> apiClient.fetchScanResult(runId, ticker));
+        IncrementalRun incremental = incrementalRuns.get(runId);
+        if (incremental != null) {
+            String normalized = ticker == null ? "" : ticker.trim().toUpperCase();
+            if (incremental.rescanned().contains(normalized)) {
+                return getScanResult(incremental.freshRunId(), ticker, forceRefresh);
+            }
+            for (Map<String, Object> row : incremental.carriedRows()) {
+                if (rowValue(row, "ticker", "symbol", "id").equalsIgnoreCase(normalized)) {
+                    return getScanResult(sourceRunOf(incremental.baseRunId(), row), ticker, forceRefresh);
+                }
+            }
+            return getScanResult(incremental.baseRunId(), ticker, forceRefresh);
+        }
+        ScanOrchestrator.ShardedRun sharded = orchestrator.run(runId);
+        ScanOrchestrator.Shard shard = sharded == null ? null : sharded.shardFor(ticker);
+        if (sharded != null && shard == null) {
+            throw new ApiClient.HttpStatusException(404, ticker + " is not part of scan " + runId);
+        }
+        String sourceRunId = shard == null ? runId : shard.runId();
+        return cache.get(resultKey(runId, ticker), forceRefresh, () -> apiClient.fetchScanResult(sourceRunId, ticker));
+    }
+
+    /**
+     * A logical page of a sharded run: shards are laid end to end in shard order, and the
+     * requested row range is cut from the shard pages it overlaps (all cached per shard).
+     */
+    private ScanResultsPage getShardedResults(
+            ScanOrchestrator.ShardedRun sharded,
+            int page,
+            int pageSize,
+            boolean forceRefresh
+    ) throws Exception {
+        long from = (long) (page - 1) * pageSize;
+        long to = from + pageSize;
+        long shardStart = 0L;
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (ScanOrchestrator.Shard shard : sharded.shards()) {
+            long shardTotal = shardTotal(shard.runId(), pageSize, forceRefresh);
+            appendRange(shard.runId(), pageSize, Math.max(from, shardStart) - shardStart,
+                    Math.min(to, shardStart + shardTotal) - shardStart, rows);
+            shardStart += shardTotal;
+        }
+        Map<String, Object> root = new LinkedHashMap<>();
+        root.put("total", shardStart);
+        root.put("shards", sharded.shards().size());
+        return new ScanResultsPage(rows, page, pageSize, shardStart, true, root);
+    }
+
+    /** Appends rows {@code [localFrom, localTo)} of {@code runId}, read through its cached pages. */
+    private void appendRange(String runId, int pageSize, long localFrom, long localTo, List<Map<String, Object>> rows)
+            throws Exception {
+        for (long local = localFrom; local < localTo; ) {
+            int runPage = (int) (local / pageSize) + 1;
+            List<Map<String, Object>> runRows = getScanResults(runId, runPage, pageSize, false).rows();
+            int start = (int) (local % pageSize);
+            int end = (int) Math.min(runRows.size(), start + (localTo - local));
+            if (start >= end) {
+                break;
+            }
+            rows.addAll(runRows.subList(start, end));
+            local += end - start;
+        }
+    }
+
+    /** Row count of one shard run; counted page by page when the backend does not report a total. */
+    private long shardTotal(String runId, int pageSize, boolean forceRefresh) throws Exception {
+        ScanResultsPage first = getScanResults(runId, 1, pageSize, forceRefresh);
+        if (first.rows().size() < pageSize || first.total() > first.rows().size()) {
+            return Math.max(first.total(), first.rows().size());
+        }
+        long counted = first.rows().size();
+        for (int page = 2; page <= SYNC_MAX_PAGES; page++) {
+            int size = getScanResults(runId, page, pageSize, forceRefresh).rows().size();
+            counted += size;
+            if (size < pageSize) {
+                break;
+            }
+        }
+        return counted;
     }
 
     Map<String, Object> refreshUniverseNow() throws Exception {
         Map<String, Object> response = apiClient.rebuildUniverse(true);
-        cache.invalidateAll();
+        cache.invalidatePrefix(UNIVERSE_PREFIX);
+        cache.invalidatePrefix(UNIVERSES_PREFIX);
         return response;
     }
 
     Map<String, Object> addWatchlistSymbol(String symbol) throws Exception {
         Map<String, Object> response = apiClient.watchlistAdd(symbol);
-        cache.invalidateAll();
+        cache.invalidatePrefix(universeKey("watchlist"));
         return response;
     }
 
     Map<String, Object> removeWatchlistSymbol(String symbol) throws Exception {
         Map<String, Object> response = apiClient.watchlistRemove(symbol);
-        cache.invalidateAll();
+        cache.invalidatePrefix(universeKey("watchlist"));
         return response;
     }
 
+    /**
+     * Applies one watchlist {@code action} ("add" or "remove") to many symbols: a single bulk
+     * request when the backend supports it, otherwise per-symbol calls a few at a time. The
+     * watchlist cache is invalidated once, after everything has been attempted.
+     */
+    WatchlistUpdate updateWatchlist(String action, List<String> symbols) throws Exception {
+        boolean add = "add".equals(action);
+        List<String> unique = new ArrayList<>();
+        for (String symbol : symbols) {
+            String normalized = symbol == null ? "" : symbol.trim().toUpperCase();
+            if (!normalized.isBlank() && !unique.contains(normalized)) {
+                unique.add(normalized);
+            }
+        }
+        if (unique.isEmpty()) {
+            return new WatchlistUpdate(List.of(), Map.of(), false);
+        }
+        try {
+            Map<String, Object> response = apiClient.watchlistBatch(add ? "add" : "remove", unique);
+            if (response != null) {
+                Map<String, String> failed = new LinkedHashMap<>();
+                if (firstValue(response, "failed", "errors") instanceof List<?> rejected) {
+                    for (Object item : rejected) {
+                        String symbol = item instanceof Map<?, ?> raw
+                                ? asString(firstValue(Json.asObject(raw), "symbol", "ticker"))
+                                : asString(item);
+                        if (!symbol.isBlank()) {
+                            failed.put(symbol.toUpperCase(), "rejected by backend");
+                        }
+                    }
+                }
+                List<String> applied = new ArrayList<>(unique);
+                applied.removeAll(failed.keySet());
+                return new WatchlistUpdate(applied, failed, true);
+            }
+            return updateWatchlistEach(add, unique);
+        } finally {
+            cache.invalidatePrefix(universeKey("watchlist"));
+        }
+    }
+
+    private WatchlistUpdate updateWatchlistEach(boolean add, List<String> symbols) throws Exception {
+        List<Future<Map<String, Object>>> futures = new ArrayList<>();
+        try {
+            for (String symbol : symbols) {
+                futures.add(watchlistWorkers.submit(() -> add ? apiClient.watchlistAdd(symbol) : apiClient.watchlistRemove(symbol)));
+            }
+            List<String> applied = new ArrayList<>();
+            Map<String, String> failed = new LinkedHashMap<>();
+            for (int i = 0; i < symbols.size(); i++) {
+                try {
+                    futures.get(i).get();
+                    applied.add(symbols.get(i));
+                } catch (ExecutionException ex) {
+                    Throwable cause = ex.getCause() == null ? ex : ex.getCause();
+                    failed.put(symbols.get(i), cause.getMessage() == null ? cause.getClass().getSimpleName() : cause.getMessage());
+                }
+            }
+            return new WatchlistUpdate(applied, failed, false);
+        } finally {
+            // Only matters when the caller was interrupted; completed futures ignore it.
+            for (Future<Map<String, Object>> future : futures) {
+                future.cancel(true);
+            }
+        }
+    }
+
     // Backward-compatible wrappers.
     Map<String, Object> addCustomSymbol(String symbol) throws Exception {
         return addWatchlistSymbol(symbol);
@@ -117,8 +775,30 @@ final class ScanService {
     }
 
     List<Map<String, Object>> listScanRuns(boolean forceRefresh) throws Exception {
+        return listScanRuns(forceRefresh, null);
+    }
+
+    /**
+     * With a non-null {@code onRefresh}, an expired scan-run list is served immediately
+     * and the revalidated list is passed to {@code onRefresh} from a background thread.
+     */
+    List<Map<String, Object>> listScanRuns(
+            boolean forceRefresh,
+            Consumer<List<Map<String, Object>>> onRefresh
+    ) throws Exception {
         try {
-            Object response = cache.get("scan:runs:list", forceRefresh, apiClient::fetchScanRuns);
+            Object response = forceRefresh || onRefresh == null
+                    ? cache.get("scan:runs:list", forceRefresh, apiClient::fetchScanRuns)
+                    : cache.getStaleWhileRevalidate(
+                            "scan:runs:list",
+                            apiClient::fetchScanRuns,
+                            fresh -> {
+                                List<Map<String, Object>> runs = extractMapList(fresh, "runs", "items", "data");
+                                if (!runs.isEmpty()) {
+                                    onRefresh.accept(runs);
+                                }
+                            }
+                    );
             List<Map<String, Object>> runs = extractMapList(response, "runs", "items", "data");
             if (!runs.isEmpty()) {
                 return runs;
@@ -138,8 +818,157 @@ final class ScanService {
         return scanRuns;
     }
 
+    /**
+     * Brings the local result set of {@code runId} up to date and returns only the rows that
+     * changed since the previous sync. Rows updated after the watermark are requested first;
+     * when the backend ignores that filter (or rows carry no timestamp) every page is read and
+     * rows are diffed by content hash instead. Cached result pages of the run are dropped when
+     * anything changed, so pages fetched later agree with the patched rows.
+     */
+    ScanResultsDelta syncScanResults(String runId) throws Exception {
+        IncrementalRun incremental = incrementalRuns.get(runId);
+        if (incremental != null) {
+            if (incremental.freshRunId() == null) {
+                return new ScanResultsDelta(List.of(), incremental.carriedRows().size());
+            }
+            ScanResultsDelta delta = syncScanResults(incremental.freshRunId());
+            if (!delta.changedRows().isEmpty()) {
+                invalidateChangedRows(runId, delta.changedRows());
+            }
+            return new ScanResultsDelta(delta.changedRows(), delta.total() + incremental.carriedRows().size());
+        }
+        ScanOrchestrator.ShardedRun sharded = orchestrator.run(runId);
+        if (sharded != null) {
+            List<Map<String, Object>> changed = new ArrayList<>();
+            long total = 0L;
+            for (ScanOrchestrator.Shard shard : sharded.shards()) {
+                ScanResultsDelta delta = syncScanResults(shard.runId());
+                changed.addAll(delta.changedRows());
+                total += delta.total();
+            }
+            if (!changed.isEmpty()) {
+                invalidateChangedRows(runId, changed);
+            }
+            return new ScanResultsDelta(changed, total);
+        }
+        RunResultSet resultSet = resultSets.computeIfAbsent(runId, ignored -> new RunResultSet());
+        synchronized (resultSet) {
+            List<Map<String, Object>> changed = new ArrayList<>();
+            if (resultSet.supportsSince && !resultSet.watermark.isBlank()) {
+                SyncPass pass = readChangedRows(runId, resultSet, resultSet.watermark, changed);
+                if (!pass.filterIgnored()) {
+                    return finishSync(runId, resultSet, changed, -1L);
+                }
+                // Rows older than the watermark came back, so the filter is not supported.
+                resultSet.supportsSince = false;
+            }
+            SyncPass pass = readChangedRows(runId, resultSet, "", changed);
+            return finishSync(runId, resultSet, changed, pass.total());
+        }
+    }
+
+    private SyncPass readChangedRows(String runId, RunResultSet resultSet, String since, List<Map<String, Object>> changed)
+            throws Exception {
+        long total = -1L;
+        boolean filterIgnored = false;
+        for (int page = 1; page <= SYNC_MAX_PAGES && !filterIgnored; page++) {
+            Object response = apiClient.fetchScanResultsSince(runId, since, page, SYNC_PAGE_SIZE);
+            List<Map<String, Object>> rows = extractMapList(response, "results", "items", "tickers", "data");
+            if (since.isBlank() && response instanceof Map<?, ?> rootRaw) {
+                total = Math.max(total, resolveTotal(Json.asObject(rootRaw), -1));
+            }
+            for (Map<String, Object> row : rows) {
+                String ticker = rowValue(row, "ticker", "symbol", "id").toUpperCase();
+                if (ticker.isBlank()) {
+                    continue;
+                }
+                String updatedAt = rowValue(row, "updated_at", "last_updated", "timestamp", "as_of");
+                // Backends may treat since as inclusive, so rows stamped exactly at the watermark
+                // are expected; the hash check below keeps them out of the delta when unchanged.
+                if (!since.isBlank() && compareTimestamps(updatedAt, since) < 0) {
+                    filterIgnored = true;
+                }
+                int hash = Json.compact(row).hashCode();
+                Integer previous = resultSet.hashes.put(ticker, hash);
+                if (previous == null || previous != hash) {
+                    changed.add(row);
+                }
+                if (compareTimestamps(updatedAt, resultSet.watermark) > 0) {
+                    resultSet.watermark = updatedAt;
+                }
+            }
+            if (rows.size() < SYNC_PAGE_SIZE) {
+                break;
+            }
+        }
+        return new SyncPass(total, filterIgnored);
+    }
+
+    private ScanResultsDelta finishSync(String runId, RunResultSet resultSet, List<Map<String, Object>> changed, long total) {
+        if (!changed.isEmpty()) {
+            invalidateChangedRows(runId, changed);
+        }
+        return new ScanResultsDelta(changed, Math.max(total, resultSet.hashes.size()));
+    }
+
+    private void invalidateChangedRows(String runId, List<Map<String, Object>> changed) {
+        invalidateScanResults(runId);
+        for (Map<String, Object> row : changed) {
+            cache.invalidatePrefix(resultKey(runId, rowValue(row, "ticker", "symbol", "id")));
+        }
+    }
+
+    /** Forgets the local result set of {@code runId}; the next sync starts from a full read. */
+    void resetScanResultsSync(String runId) {
+        resultSets.remove(runId);
+        IncrementalRun incremental = incrementalRuns.get(runId);
+        if (incremental != null && incremental.freshRunId() != null) {
+            resetScanResultsSync(incremental.freshRunId());
+        }
+        ScanOrchestrator.ShardedRun sharded = orchestrator.run(runId);
+        if (sharded != null) {
+            for (ScanOrchestrator.Shard shard : sharded.shards()) {
+                resultSets.remove(shard.runId());
+            }
+        }
+    }
+
+    /** Drops every cached result page of {@code runId}, whatever page size it was fetched with. */
+    void invalidateScanResults(String runId) {
+        cache.invalidatePrefix(ResponseCache.SCAN + "results:" + runId + ":");
+        IncrementalRun incremental = incrementalRuns.get(runId);
+        if (incremental != null && incremental.freshRunId() != null) {
+            invalidateScanResults(incremental.freshRunId());
+        }
+        ScanOrchestrator.ShardedRun sharded = orchestrator.run(runId);
+        if (sharded != null) {
+            for (ScanOrchestrator.Shard shard : sharded.shards()) {
+                cache.invalidatePrefix(ResponseCache.SCAN + "results:" + shard.runId() + ":");
+            }
+        }
+    }
+
     void invalidateAll() {
-        cache.invalidateAll();
+        cache.invalidatePrefix(ResponseCache.SCAN);
+        cache.invalidatePrefix("runs:list");
+    }
+
+    static String resultsKey(String runId, int page, int pageSize) {
+        return ResponseCache.SCAN + "results:" + runId + ":" + Math.max(1, page) + ":" + Math.max(1, pageSize);
+    }
+
+    static String resultKey(String runId, String ticker) {
+        return ResponseCache.SCAN + "result:" + runId + ":" + ticker.toUpperCase();
+    }
+
+    /**
+     * Cache key of a universe payload; shared with panels that read universes directly.
+     * Backend aliases ({@code custom}, {@code combined400}, {@code nasdaq300}, ...) map to their
+     * canonical universe, so invalidating the canonical key also drops whichever alias was loaded.
+     */
+    static String universeKey(String universeId) {
+        String normalized = normalizeKey(universeId);
+        return UNIVERSE_PREFIX + UNIVERSE_ALIASES.getOrDefault(normalized, normalized);
     }
 
     private List<Map<String, Object>> extractMapList(Object response, String... wrapperKeys) {
@@ -239,11 +1068,21 @@ final class ScanService {
         return -1L;
     }
 
+    private String rowValue(Map<String, Object> row, String... keys) {
+        for (String key : keys) {
+            Object value = lookup(row, key);
+            if (value != null && !asString(value).isBlank()) {
+                return asString(value);
+            }
+        }
+        return "";
+    }
+
     private String asString(Object value) {
         return value == null ? "" : String.valueOf(value).trim();
     }
 
-    private String normalizeKey(String key) {
+    private static String normalizeKey(String key) {
         if (key == null) {
             return "";
         }
@@ -257,11 +1096,53 @@ final class ScanService {
         return sb.toString();
     }
 
+    /** Rows changed since the previous sync, and the number of rows the run has now. */
+    record ScanResultsDelta(List<Map<String, Object>> changedRows, long total) {
+    }
+
+    /** What a run's rows looked like at the last sync: content hash per ticker, in backend order. */
+    private static final class RunResultSet {
+        private final LinkedHashMap<String, Integer> hashes = new LinkedHashMap<>();
+        private String watermark = "";
+        private boolean supportsSince = true;
+    }
+
+    private record SyncPass(long total, boolean filterIgnored) {
+    }
+
+    record IncrementalPlan(
+            String baseRunId,
+            List<String> rescan,
+            List<Map<String, Object>> carriedRows,
+            Map<String, Integer> reasons
+    ) {
+    }
+
+    /** {@code freshRunId} is {@code null} when nothing needed rescanning. */
+    private record IncrementalRun(
+            String id,
+            String freshRunId,
+            String baseRunId,
+            Set<String> rescanned,
+            List<Map<String, Object>> carriedRows,
+            long createdAt
+    ) {
+    }
+
+    /** {@code completed} is known from the run list; logical runs are checked before use. */
+    private record BaseCandidate(String runId, long startedAt, boolean completed) {
+    }
+
+    record WatchlistUpdate(List<String> applied, Map<String, String> failed, boolean batched) {
+    }
+
+    /** Without a backend total, {@code total} is this page's row count and {@code totalReported} is false. */
     record ScanResultsPage(
             List<Map<String, Object>> rows,
             int page,
             int pageSize,
             long total,
+            boolean totalReported,
             Map<String, Object> raw
     ) {
     }
@@ -0,0 +1,214 @@
+package com.dpolaris.javaapp;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import javax.swing.SwingUtilities;
+
+/**
+ * One poller for every scan and job the app is watching.
+ * A single scheduler thread decides what is due; due fetches of one tick go out together on
+ * a small fixed pool, so any number of tracked items costs at most {@link #MAX_CONCURRENT}
+ * requests in flight. Each item's interval adapts: it resets to the minimum whenever the
+ * status changes and stretches while it stays the same. Several subscribers to the same key
+ * share one fetch. Listener callbacks run on the Swing event thread.
+ */
+final class StatusMonitor {
+    static final int MAX_CONCURRENT = 4;
+    private static final long TICK_MS = 250L;
+    private static final long MIN_INTERVAL_MS = 2_000L;
+    private static final long MAX_INTERVAL_MS = 15_000L;
+    private static final int MAX_CONSECUTIVE_ERRORS = 30;
+    private static final StatusMonitor SHARED = new StatusMonitor();
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "status-monitor");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final ExecutorService fetchers = Executors.newFixedThreadPool(MAX_CONCURRENT, runnable -> {
+        Thread thread = new Thread(runnable, "status-fetch");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final ConcurrentHashMap<String, Tracked> tracked = new ConcurrentHashMap<>();
+    private final AtomicLong requests = new AtomicLong();
+
+    private StatusMonitor() {
+        scheduler.scheduleWithFixedDelay(this::tick, TICK_MS, TICK_MS, TimeUnit.MILLISECONDS);
+    }
+
+    static StatusMonitor shared() {
+        return SHARED;
+    }
+
+    /**
+     * Starts watching {@code key} (or joins the existing watch) and returns a handle that
+     * stops delivering to {@code listener}. Polling ends once {@code terminal} accepts a status.
+     * Joining and retiring a watch both run inside {@code compute} on the key, so a subscriber
+     * either joins a watch before it retires (and hears its last callbacks) or starts a new one.
+     */
+    Subscription track(String key, Source source, Predicate<Map<String, Object>> terminal, Listener listener) {
+        Tracked item = tracked.compute(key, (ignored, existing) -> {
+            Tracked joined = existing != null && !existing.retired ? existing : new Tracked(key, source, terminal);
+            joined.listeners.add(listener);
+            joined.nextDueAt = Math.min(joined.nextDueAt, System.currentTimeMillis());
+            return joined;
+        });
+        return () -> tracked.compute(key, (ignored, existing) -> {
+            item.listeners.remove(listener);
+            if (item.listeners.isEmpty()) {
+                item.retired = true;
+                return existing == item ? null : existing;
+            }
+            return existing;
+        });
+    }
+
+    String describe() {
+        StringBuilder sb = new StringBuilder("status monitor: ")
+                .append(tracked.size()).append(" tracked, ")
+                .append(requests.get()).append(" requests");
+        for (Tracked item : tracked.values()) {
+            sb.append(String.format(Locale.US, "\n  %s every %.1fs", item.key, item.intervalMs / 1000.0));
+        }
+        return sb.toString();
+    }
+
+    private void tick() {
+        long now = System.currentTimeMillis();
+        Iterator<Tracked> iterator = tracked.values().iterator();
+        while (iterator.hasNext()) {
+            Tracked item = iterator.next();
+            if (item.inFlight || item.nextDueAt > now) {
+                continue;
+            }
+            item.inFlight = true;
+            try {
+                fetchers.execute(() -> poll(item));
+            } catch (RejectedExecutionException shuttingDown) {
+                return;
+            }
+        }
+    }
+
+    private void poll(Tracked item) {
+        Map<String, Object> status;
+        try {
+            requests.incrementAndGet();
+            status = item.source.fetch();
+        } catch (Exception ex) {
+            int errors = ++item.consecutiveErrors;
+            boolean givingUp = errors >= MAX_CONSECUTIVE_ERRORS;
+            item.intervalMs = Math.min(MAX_INTERVAL_MS, Math.max(MIN_INTERVAL_MS, item.intervalMs * 2));
+            finishPoll(item);
+            if (givingUp) {
+                retire(item);
+            }
+            deliver(item, listener -> {
+                listener.onError(ex, errors);
+                if (givingUp) {
+                    listener.onFinished(null);
+                }
+            });
+            return;
+        }
+
+        item.consecutiveErrors = 0;
+        String signature = Json.compact(status);
+        if (signature.equals(item.lastSignature)) {
+            item.intervalMs = Math.min(MAX_INTERVAL_MS, (long) (item.intervalMs * 1.5));
+        } else {
+            item.lastSignature = signature;
+            item.intervalMs = MIN_INTERVAL_MS;
+        }
+        boolean finished = item.terminal.test(status);
+        finishPoll(item);
+        if (finished) {
+            retire(item);
+        }
+        deliver(item, listener -> {
+            listener.onStatus(status);
+            if (finished) {
+                listener.onFinished(status);
+            }
+        });
+    }
+
+    /** Stops polling {@code item}; later subscribers to its key start a fresh watch. */
+    private void retire(Tracked item) {
+        tracked.compute(item.key, (ignored, existing) -> {
+            item.retired = true;
+            return existing == item ? null : existing;
+        });
+    }
+
+    private void finishPoll(Tracked item) {
+        item.nextDueAt = System.currentTimeMillis() + item.intervalMs;
+        item.inFlight = false;
+    }
+
+    private static void deliver(Tracked item, Consumer<Listener> call) {
+        List<Listener> listeners = List.copyOf(item.listeners);
+        SwingUtilities.invokeLater(() -> {
+            for (Listener listener : listeners) {
+                // A listener unsubscribed while the update was queued should not hear it.
+                if (item.listeners.contains(listener)) {
+                    call.accept(listener);
+                }
+            }
+        });
+    }
+
+    @FunctionalInterface
+    interface Source {
+        Map<String, Object> fetch() throws Exception;
+    }
+
+    interface Listener {
+        void onStatus(Map<String, Object> status);
+
+        default void onError(Exception error, int consecutiveErrors) {
+        }
+
+        /** Called once polling stops; {@code finalStatus} is {@code null} when it gave up after repeated errors. */
+        default void onFinished(Map<String, Object> finalStatus) {
+        }
+    }
+
+    @FunctionalInterface
+    interface Subscription {
+        void cancel();
+    }
+
+    private static final class Tracked {
+        private final String key;
+        private final Source source;
+        private final Predicate<Map<String, Object>> terminal;
+        private final CopyOnWriteArrayList<Listener> listeners = new CopyOnWriteArrayList<>();
+        private volatile long nextDueAt = System.currentTimeMillis();
+        private volatile long intervalMs = MIN_INTERVAL_MS;
+        private volatile boolean inFlight;
+        private int consecutiveErrors;
+        private String lastSignature = "";
+        // Only read and written inside tracked.compute for this key.
+        private boolean retired;
+
+        private Tracked(String key, Source source, Predicate<Map<String, Object>> terminal) {
+            this.key = key;
+            this.source = source;
+            this.terminal = terminal;
+        }
+    }
+}
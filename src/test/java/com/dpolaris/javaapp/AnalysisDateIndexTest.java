@@ -0,0 +1,182 @@
+package com.dpolaris.javaapp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class AnalysisDateIndexTest {
+    private static final String LIST = "/api/analysis/list";
+    private static final String BY_SYMBOL = "/api/analysis/by-symbol/";
+
+    @TempDir
+    Path dir;
+    private StubBackend backend;
+
+    @BeforeEach
+    void startBackend() throws Exception {
+        backend = new StubBackend();
+    }
+
+    @AfterEach
+    void stopBackend() {
+        backend.close();
+    }
+
+    @Test
+    void syncKeepsNewestDatePerTickerAndPersists() throws Exception {
+        backend.route(LIST, uri -> page(
+                analysis("AAPL", "2026-03-02T10:00:00"),
+                analysis("MSFT", "2026-03-01T09:00:00"),
+                analysis("AAPL", "2026-02-27T10:00:00")
+        ));
+        Path indexPath = dir.resolve("analysis_index.json");
+
+        Map<String, String> dates = new AnalysisDateIndex(backend.client(), indexPath).datesFor(List.of(), false);
+
+        assertEquals(Map.of("AAPL", "2026-03-02T10:00:00", "MSFT", "2026-03-01T09:00:00"), dates);
+        backend.route(LIST, uri -> 503);
+        Map<String, String> reloaded = new AnalysisDateIndex(backend.client(), indexPath).datesFor(List.of(), false);
+        assertEquals(dates, reloaded);
+    }
+
+    @Test
+    void refreshAsksOnlyForAnalysesAfterTheWatermark() throws Exception {
+        backend.route(LIST, uri -> page(analysis("AAPL", "2026-03-02T10:00:00")));
+        AnalysisDateIndex index = new AnalysisDateIndex(backend.client(), dir.resolve("index.json"));
+        index.datesFor(List.of(), false);
+        List<String> sinceSeen = new ArrayList<>();
+        backend.route(LIST, uri -> {
+            sinceSeen.add(StubBackend.query(uri).getOrDefault("since", ""));
+            return page(analysis("MSFT", "2026-03-03T08:00:00"), analysis("AAPL", "2026-03-02T10:00:00"));
+        });
+
+        Map<String, String> dates = index.datesFor(List.of(), true);
+
+        assertEquals(List.of("2026-03-02T10:00:00"), sinceSeen);
+        assertEquals("2026-03-03T08:00:00", dates.get("MSFT"));
+        assertEquals("2026-03-02T10:00:00", dates.get("AAPL"));
+    }
+
+    @Test
+    void backendIgnoringSinceStopsPagingAtWatermark() throws Exception {
+        backend.route(LIST, uri -> {
+            int offset = Integer.parseInt(StubBackend.query(uri).getOrDefault("offset", "0"));
+            return offset >= 1_000 ? page() : fullPage(offset);
+        });
+        AnalysisDateIndex index = new AnalysisDateIndex(backend.client(), dir.resolve("index.json"));
+        assertEquals(1_000, index.datesFor(List.of(), false).size());
+        int firstSync = backend.hits(LIST);
+        assertEquals(3, firstSync);
+
+        index.datesFor(List.of(), true);
+
+        assertEquals(firstSync + 1, backend.hits(LIST));
+    }
+
+    @Test
+    void backfillLooksUpUnlistedTickersOnce() throws Exception {
+        backend.route(LIST, uri -> page(analysis("AAPL", "2026-03-02T10:00:00")));
+        backend.route(BY_SYMBOL, uri -> uri.getPath().endsWith("/NVDA")
+                ? page(analysis("NVDA", "2026-01-15T12:00:00"))
+                : null);
+        AnalysisDateIndex index = new AnalysisDateIndex(backend.client(), dir.resolve("index.json"));
+
+        Map<String, String> dates = index.datesFor(List.of("aapl", "nvda", "zzzz"), false);
+        int lookups = backend.hits(BY_SYMBOL);
+        index.datesFor(List.of("AAPL", "NVDA", "ZZZZ"), false);
+
+        assertEquals("2026-01-15T12:00:00", dates.get("NVDA"));
+        assertFalse(dates.containsKey("ZZZZ"));
+        assertEquals(2, lookups);
+        assertEquals(lookups, backend.hits(BY_SYMBOL));
+    }
+
+    @Test
+    void failedBackfillIsRetriedOnTheNextCall() throws Exception {
+        backend.route(LIST, uri -> page(analysis("AAPL", "2026-03-02T10:00:00")));
+        backend.route(BY_SYMBOL, uri -> 503);
+        backend.route("/analysis/by-symbol/", uri -> 503);
+        AnalysisDateIndex index = new AnalysisDateIndex(backend.client(), dir.resolve("index.json"));
+        index.datesFor(List.of("NVDA"), false);
+
+        backend.route(BY_SYMBOL, uri -> page(analysis("NVDA", "2026-01-15T12:00:00")));
+        Map<String, String> dates = index.datesFor(List.of("NVDA"), false);
+
+        assertEquals("2026-01-15T12:00:00", dates.get("NVDA"));
+    }
+
+    @Test
+    void syncFailureWithoutStoredDatesPropagates() throws Exception {
+        backend.route(LIST, uri -> 503);
+        backend.route("/analysis/list", uri -> 503);
+        AnalysisDateIndex index = new AnalysisDateIndex(backend.client(), dir.resolve("index.json"));
+
+        assertThrows(ApiClient.HttpStatusException.class, () -> index.datesFor(List.of(), false));
+    }
+
+    @Test
+    void concurrentCallerDoesNotWaitForAnotherCallersBackfill() throws Exception {
+        CountDownLatch lookupStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        backend.route(LIST, uri -> page(analysis("AAPL", "2026-03-02T10:00:00")));
+        backend.route(BY_SYMBOL, uri -> {
+            lookupStarted.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            return page(analysis("NVDA", "2026-01-15T12:00:00"));
+        });
+        AnalysisDateIndex index = new AnalysisDateIndex(backend.client(), dir.resolve("index.json"));
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            Future<Map<String, String>> slow = callers.submit(() -> index.datesFor(List.of("NVDA"), false));
+            assertTrue(lookupStarted.await(5, TimeUnit.SECONDS));
+
+            Map<String, String> meanwhile = callers.submit(() -> index.datesFor(List.of("NVDA"), false))
+                    .get(5, TimeUnit.SECONDS);
+            release.countDown();
+
+            assertEquals(Map.of("AAPL", "2026-03-02T10:00:00"), meanwhile);
+            assertEquals("2026-01-15T12:00:00", slow.get(5, TimeUnit.SECONDS).get("NVDA"));
+            assertEquals(1, backend.hits(BY_SYMBOL));
+        } finally {
+            release.countDown();
+            callers.shutdownNow();
+        }
+    }
+
+    private static Map<String, Object> page(Object... items) {
+        return Map.of("items", List.of(items));
+    }
+
+    /** 500 distinct tickers, newest first, dated by day so later offsets are older. */
+    private static Map<String, Object> fullPage(int offset) {
+        List<Object> items = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            int n = offset + i;
+            items.add(analysis("T" + n, String.format("2026-%02d-%02dT00:00:00", 12 - n / 100, 28 - (n % 100) / 4)));
+        }
+        return Map.of("items", items);
+    }
+
+    private static Map<String, Object> analysis(String ticker, String date) {
+        return Map.of("ticker", ticker, "analysis_date", date);
+    }
+}
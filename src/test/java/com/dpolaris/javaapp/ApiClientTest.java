@@ -0,0 +1,42 @@
+package com.dpolaris.javaapp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class ApiClientTest {
+
+    @Test
+    void scanRunsAreMergedAcrossBackendsAndReadFromTheirOwner() throws Exception {
+        String onlyOnSecondary = "secondary-" + System.nanoTime();
+        try (StubBackend primary = new StubBackend(); StubBackend secondary = new StubBackend()) {
+            primary.route("/scan/runs", uri -> Map.of("runs", List.of(
+                    Map.of("run_id", "shared-run", "status", "completed"),
+                    Map.of("run_id", "primary-run", "status", "running")
+            )));
+            secondary.route("/scan/runs", uri -> Map.of("runs", List.of(
+                    Map.of("run_id", onlyOnSecondary, "status", "completed"),
+                    Map.of("run_id", "shared-run", "status", "failed")
+            )));
+            secondary.route("/scan/status/" + onlyOnSecondary, uri -> Map.of("run_id", onlyOnSecondary, "status", "completed"));
+            ApiClient client = new ApiClient("127.0.0.1:" + primary.port() + ",127.0.0.1:" + secondary.port(), 0);
+
+            Object merged = client.fetchScanRuns();
+            Map<String, Object> status = client.fetchScanStatus(onlyOnSecondary);
+
+            List<String> ids = new ArrayList<>();
+            List<String> statuses = new ArrayList<>();
+            for (Object run : Json.asArray(Json.asObject(merged).get("runs"))) {
+                ids.add(Json.asString(Json.asObject(run).get("run_id")));
+                statuses.add(Json.asString(Json.asObject(run).get("status")));
+            }
+            assertEquals(List.of("shared-run", "primary-run", onlyOnSecondary), ids);
+            assertEquals(List.of("completed", "running", "completed"), statuses);
+            assertEquals("completed", status.get("status"));
+            assertEquals(List.of(), primary.requests().stream().filter(path -> path.contains("/scan/status/")).toList());
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.dpolaris.javaapp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ArtifactSpoolTest {
+    // Each trade is about 100 bytes, so this many cross the spool threshold.
+    private static final int TRADES = 100_000;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void bodiesUpToTheThresholdAreParsedInMemory() throws Exception {
+        ArtifactSpool spool = new ArtifactSpool(dir.resolve("spool"));
+        byte[] body = "{\"trades\": [1, 2, 3]}".getBytes(StandardCharsets.UTF_8);
+
+        Object known = spool.readOrSpool("r1", "trade_log", new ByteArrayInputStream(body), body.length);
+        Object unknown = spool.readOrSpool("r1", "trade_log", new ByteArrayInputStream(body), -1L);
+
+        assertEquals(Map.of("trades", List.of(1L, 2L, 3L)), known);
+        assertEquals(known, unknown);
+        assertFalse(Files.exists(dir.resolve("spool")));
+    }
+
+    @Test
+    void largeTopLevelArrayKeepsAPreviewAndStreamsEveryItem() throws Exception {
+        ArtifactSpool spool = new ArtifactSpool(dir);
+        byte[] body = Json.compact(trades(TRADES)).getBytes(StandardCharsets.UTF_8);
+        assertTrue(body.length > ArtifactSpool.SPOOL_THRESHOLD_BYTES);
+
+        Map<String, Object> summary = Json.asObject(spool.readOrSpool("r1", "trade_log", new ByteArrayInputStream(body), -1L));
+
+        assertTrue(ArtifactSpool.isSpooledValue(summary));
+        assertEquals(TRADES, summary.get("item_count"));
+        assertEquals(ArtifactSpool.PREVIEW_ITEMS, Json.asArray(summary.get("items")).size());
+        assertEquals((long) body.length, Json.asObject(summary.get("__spool")).get("size_bytes"));
+        List<Object> streamed = new ArrayList<>();
+        ArtifactSpool.forEachItem(summary, streamed::add);
+        assertEquals(TRADES, streamed.size());
+        assertEquals(trade(TRADES - 1), streamed.get(TRADES - 1));
+        assertEquals(streamed, ArtifactSpool.readValue(summary));
+    }
+
+    @Test
+    void largeObjectInlinesSmallValuesAndSpoolsLargeOnes() throws Exception {
+        ArtifactSpool spool = new ArtifactSpool(dir);
+        Map<String, Object> bigObject = new LinkedHashMap<>();
+        bigObject.put("values", trades(3_000));
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("summary", Map.of("sharpe", 1.5));
+        payload.put("trades", trades(TRADES));
+        payload.put("equity", bigObject);
+        byte[] body = Json.compact(payload).getBytes(StandardCharsets.UTF_8);
+
+        Map<String, Object> summary = spool.summarize(write("payload.spool", body));
+
+        assertFalse(ArtifactSpool.isSpooledValue(summary));
+        assertEquals(Map.of("sharpe", 1.5), summary.get("summary"));
+        Map<String, Object> trades = Json.asObject(summary.get("trades"));
+        assertTrue(ArtifactSpool.isSpooledValue(trades));
+        assertEquals(TRADES, trades.get("item_count"));
+        List<Object> streamed = new ArrayList<>();
+        ArtifactSpool.forEachItem(trades, streamed::add);
+        assertEquals(trades(TRADES), streamed);
+        Map<String, Object> equity = Json.asObject(summary.get("equity"));
+        assertTrue(ArtifactSpool.isSpooledValue(equity));
+        assertFalse(equity.containsKey("items"));
+        assertEquals(Json.parse(Json.compact(bigObject)), ArtifactSpool.readValue(equity));
+        assertThrows(IOException.class, () -> ArtifactSpool.forEachItem(equity, item -> { }));
+    }
+
+    @Test
+    void malformedSpoolFallsBackToARawPreview() throws Exception {
+        byte[] body = "{\"trades\": [1, 2, 3".getBytes(StandardCharsets.UTF_8);
+
+        Map<String, Object> summary = new ArtifactSpool(dir).summarize(write("broken.spool", body));
+
+        assertEquals("{\"trades\": [1, 2, 3", summary.get("raw"));
+        assertTrue(Json.asObject(summary.get("__spool")).containsKey("parse_error"));
+    }
+
+    @Test
+    void summaryOfAReplacedOrDeletedFileIsNoLongerReadable() throws Exception {
+        ArtifactSpool spool = new ArtifactSpool(dir);
+        byte[] first = Json.compact(trades(TRADES)).getBytes(StandardCharsets.UTF_8);
+        Map<String, Object> stale = Json.asObject(spool.readOrSpool("r1", "trade_log", new ByteArrayInputStream(first), -1L));
+        byte[] second = Json.compact(trades(TRADES + 10)).getBytes(StandardCharsets.UTF_8);
+
+        // Nothing stays mapped, so the spool file can be replaced while summaries point at it.
+        Map<String, Object> fresh = Json.asObject(spool.readOrSpool("r1", "trade_log", new ByteArrayInputStream(second), -1L));
+
+        assertEquals(TRADES + 10, fresh.get("item_count"));
+        assertThrows(IOException.class, () -> ArtifactSpool.forEachItem(stale, item -> { }));
+        Files.delete(Path.of(Json.asString(fresh.get("path"))));
+        assertThrows(IOException.class, () -> ArtifactSpool.readValue(fresh));
+    }
+
+    @Test
+    void staleSpoolFilesArePrunedOnFirstSpool() throws Exception {
+        Files.createDirectories(dir);
+        Path old = write("old__trade_log.spool", new byte[]{'[', ']'});
+        Files.setLastModifiedTime(old, FileTime.fromMillis(System.currentTimeMillis() - 25L * 60L * 60L * 1000L));
+        Path recent = write("recent__trade_log.spool", new byte[]{'[', ']'});
+        byte[] body = Json.compact(trades(TRADES)).getBytes(StandardCharsets.UTF_8);
+
+        new ArtifactSpool(dir).readOrSpool("r2", "trade_log", new ByteArrayInputStream(body), body.length);
+
+        assertFalse(Files.exists(old));
+        assertTrue(Files.exists(recent));
+        assertTrue(Files.exists(dir.resolve("r2__trade_log.spool")));
+    }
+
+    private Path write(String name, byte[] body) throws IOException {
+        return Files.write(dir.resolve(name), body);
+    }
+
+    private static List<Object> trades(int count) {
+        List<Object> trades = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            trades.add(trade(i));
+        }
+        return trades;
+    }
+
+    private static Map<String, Object> trade(int i) {
+        Map<String, Object> trade = new LinkedHashMap<>();
+        trade.put("ticker", "T" + (i % 500));
+        trade.put("entry_time", "2026-03-02T10:00:00Z");
+        trade.put("pnl", (long) (i % 97) - 40L);
+        trade.put("reason", "signal \"" + i + "\"");
+        return trade;
+    }
+}
@@ -0,0 +1,121 @@
+package com.dpolaris.javaapp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class BackendPoolTest {
+    private static final String HOSTS = "alpha:8420,beta:8421,gamma";
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void parsesHostListWithDefaultPort() {
+        BackendPool pool = new BackendPool(HOSTS + ",alpha:8420", 8422, null);
+
+        assertEquals(3, pool.size());
+        assertEquals("alpha:8420", pool.primary().label());
+        assertEquals("gamma:8422", pool.endpoints().get(2).label());
+        assertEquals("alpha:8420, beta:8421, gamma:8422", pool.describe());
+    }
+
+    @Test
+    void sameKeyAlwaysMapsToSameEndpoint() {
+        BackendPool pool = new BackendPool(HOSTS, 8422, null);
+        BackendPool restarted = new BackendPool(HOSTS, 8422, null);
+
+        for (String ticker : List.of("AAPL", "MSFT", "NVDA", "TSLA", "AMZN", "GOOG")) {
+            BackendPool.Endpoint owner = pool.forKey(ticker, null);
+            assertSame(owner, pool.forKey(ticker.toLowerCase(), null));
+            assertEquals(owner.label(), restarted.forKey(ticker, null).label());
+        }
+    }
+
+    @Test
+    void downEndpointIsSkippedUntilItRecovers() {
+        BackendPool pool = new BackendPool(HOSTS, 8422, null);
+        BackendPool.Endpoint owner = pool.forKey("AAPL", null);
+
+        owner.markDown();
+        BackendPool.Endpoint standIn = pool.forKey("AAPL", null);
+        assertNotEquals(owner, standIn);
+        assertNotEquals(owner, pool.leastOutstanding(null));
+        assertEquals(owner.label() + " (down)", pool.describe().split(", ")[pool.endpoints().indexOf(owner)]);
+
+        owner.markUp();
+        assertSame(owner, pool.forKey("AAPL", null));
+    }
+
+    @Test
+    void leastOutstandingPrefersIdleEndpoint() {
+        BackendPool pool = new BackendPool(HOSTS, 8422, null);
+        pool.endpoints().get(0).acquire();
+        pool.endpoints().get(1).acquire();
+
+        assertSame(pool.endpoints().get(2), pool.leastOutstanding(null));
+        assertSame(pool.endpoints().get(0), pool.leastOutstanding(pool.endpoints().get(2)));
+    }
+
+    @Test
+    void pinsSurviveRestartAndReconfigure() {
+        Path pins = dir.resolve("backend_pins.json");
+        BackendPool pool = new BackendPool(HOSTS, 8422, pins);
+        pool.pin("run-1", pool.endpoints().get(1));
+        pool.pinAll(Map.of("run-2", pool.endpoints().get(2)));
+
+        BackendPool restarted = new BackendPool(HOSTS, 8422, pins);
+
+        assertEquals(2, restarted.pinnedCount());
+        assertEquals("beta:8421", restarted.pinnedOrPrimary("run-1").label());
+        assertEquals("gamma:8422", restarted.pinnedOrPrimary("run-2").label());
+        assertEquals("alpha:8420", restarted.pinnedOrPrimary("unknown").label());
+
+        restarted.configure("alpha:8420,gamma", 8422);
+        assertEquals("alpha:8420", restarted.pinnedOrPrimary("run-1").label());
+        assertEquals("gamma:8422", restarted.pinnedOrPrimary("run-2").label());
+        restarted.configure(HOSTS, 8422);
+        assertEquals("beta:8421", restarted.pinnedOrPrimary("run-1").label());
+    }
+
+    @Test
+    void pinsBeyondTheCapDropLeastRecentlyUsed() {
+        Path pins = dir.resolve("backend_pins.json");
+        BackendPool pool = new BackendPool(HOSTS, 8422, pins);
+        BackendPool.Endpoint beta = pool.endpoints().get(1);
+        Map<String, BackendPool.Endpoint> owners = new LinkedHashMap<>();
+        for (int i = 0; i < 2048; i++) {
+            owners.put("run-" + i, beta);
+        }
+        pool.pinAll(owners);
+        // Reading run-0 makes it the most recently used, so run-1 is the eldest.
+        pool.pinnedOrPrimary("run-0");
+
+        pool.pin("run-new", beta);
+
+        BackendPool restarted = new BackendPool(HOSTS, 8422, pins);
+        assertEquals(2048, restarted.pinnedCount());
+        assertEquals("beta:8421", restarted.pinnedOrPrimary("run-0").label());
+        assertEquals("alpha:8420", restarted.pinnedOrPrimary("run-1").label());
+        assertEquals("beta:8421", restarted.pinnedOrPrimary("run-new").label());
+    }
+
+    @Test
+    void corruptPinFileFallsBackToPrimary() throws Exception {
+        Path pins = dir.resolve("backend_pins.json");
+        Files.writeString(pins, "{not json");
+
+        BackendPool pool = new BackendPool(HOSTS, 8422, pins);
+
+        assertEquals(0, pool.pinnedCount());
+        assertSame(pool.primary(), pool.pinnedOrPrimary("run-1"));
+    }
+}
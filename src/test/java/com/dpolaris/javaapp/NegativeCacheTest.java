@@ -0,0 +1,69 @@
+package com.dpolaris.javaapp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class NegativeCacheTest {
+    private static final long TTL_MS = 1_000L;
+
+    @Test
+    void onlyNotFoundAndGoneAreCacheable() {
+        assertTrue(NegativeCache.isCacheable(404));
+        assertTrue(NegativeCache.isCacheable(410));
+        assertFalse(NegativeCache.isCacheable(405));
+        assertFalse(NegativeCache.isCacheable(500));
+        assertFalse(NegativeCache.isCacheable(200));
+    }
+
+    @Test
+    void remembersMissUntilTtlExpires() throws Exception {
+        NegativeCache cache = new NegativeCache(TTL_MS);
+        cache.record("/runs/r1/artifact/shap.json", 404, "{\"detail\":\"Not Found\"}");
+
+        NegativeCache.Miss miss = cache.lookup("/runs/r1/artifact/shap.json");
+        assertNotNull(miss);
+        assertEquals(404, miss.status());
+        assertEquals("{\"detail\":\"Not Found\"}", miss.body());
+        assertNull(cache.lookup("/runs/r2/artifact/shap.json"));
+
+        Thread.sleep(TTL_MS + 100L);
+
+        assertNull(cache.lookup("/runs/r1/artifact/shap.json"));
+    }
+
+    @Test
+    void forgetPrefixClearsOnlyThatRun() {
+        NegativeCache cache = new NegativeCache(60_000L);
+        cache.record("/runs/r1/artifact/a.json", 404, null);
+        cache.record("/runs/r1/artifact/b.json", 410, "");
+        cache.record("/runs/r10/artifact/a.json", 404, "");
+
+        cache.forgetPrefix("/runs/r1/");
+
+        assertNull(cache.lookup("/runs/r1/artifact/a.json"));
+        assertNull(cache.lookup("/runs/r1/artifact/b.json"));
+        assertNotNull(cache.lookup("/runs/r10/artifact/a.json"));
+    }
+
+    @Test
+    void describeCountsRecordedAndSuppressedRequests() {
+        NegativeCache cache = new NegativeCache(60_000L);
+        cache.record("/runs/r1/artifact/a.json", 404, "");
+        cache.lookup("/runs/r1/artifact/a.json");
+        cache.lookup("/runs/r1/artifact/a.json");
+        cache.lookup("/runs/r1/artifact/missing.json");
+
+        assertEquals("negative cache: 1 paths, 1 recorded, 2 requests suppressed (ttl 60s)", cache.describe());
+    }
+
+    @Test
+    void sharedInstanceIsProcessWide() {
+        assertSame(NegativeCache.shared(), NegativeCache.shared());
+    }
+}
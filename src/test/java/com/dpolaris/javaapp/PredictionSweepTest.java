@@ -0,0 +1,198 @@
+package com.dpolaris.javaapp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PredictionSweepTest {
+    private static final String PREDICT = "/api/deep-learning/predict/";
+    private static final String SIGNALS = "/api/signals/";
+
+    private StubBackend backend;
+    private final Map<String, AtomicInteger> predictions = new ConcurrentHashMap<>();
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger peak = new AtomicInteger();
+
+    @BeforeEach
+    void startBackend() throws Exception {
+        backend = new StubBackend();
+        backend.route(SIGNALS, uri -> Map.of("symbol", symbolOf(uri, SIGNALS), "action", "BUY"));
+    }
+
+    @AfterEach
+    void stopBackend() {
+        backend.close();
+    }
+
+    @Test
+    void sweepsEverySymbolOnceWithinTheConcurrencyLimit() throws Exception {
+        backend.route(PREDICT, uri -> predict(uri, () -> pause(50L)));
+        PredictionSweep sweep = new PredictionSweep(backend.client());
+        Recorder recorder = new Recorder();
+
+        sweep.start(List.of("aapl", "MSFT", " nvda ", "AAPL", "", "TSLA", "AMZN", "GOOG"), 5, 3, recorder);
+
+        assertTrue(recorder.done.await(10, TimeUnit.SECONDS));
+        assertEquals(List.of(6, 0, 0), recorder.summary);
+        assertEquals(Set.of("AAPL", "MSFT", "NVDA", "TSLA", "AMZN", "GOOG"), recorder.symbols());
+        assertEquals(6, sweep.totalSymbols());
+        assertTrue(peak.get() <= 3);
+        assertEquals(1, predictions.get("AAPL").get());
+        assertEquals(List.of(), sweep.pendingSymbols());
+        assertEquals("BUY", recorder.results.get(0).signal().get("action"));
+        assertTrue(backend.requests().contains(SIGNALS + "AAPL?horizon_days=5"));
+    }
+
+    @Test
+    void resumeRetriesOnlyFailedSymbols() throws Exception {
+        Set<String> broken = ConcurrentHashMap.newKeySet();
+        broken.add("MSFT");
+        backend.route(PREDICT, uri -> broken.contains(symbolOf(uri, PREDICT)) ? 500 : predict(uri, () -> { }));
+        backend.route("/api/predict/", uri -> broken.contains(symbolOf(uri, "/api/predict/")) ? 500 : null);
+        PredictionSweep sweep = new PredictionSweep(backend.client());
+        Recorder first = new Recorder();
+        sweep.start(List.of("AAPL", "MSFT", "NVDA"), 5, 2, first);
+        assertTrue(first.done.await(10, TimeUnit.SECONDS));
+        assertEquals(List.of(2, 1, 0), first.summary);
+        assertEquals(List.of("MSFT"), sweep.pendingSymbols());
+
+        broken.clear();
+        Recorder second = new Recorder();
+        sweep.resume(2, second);
+
+        assertTrue(second.done.await(10, TimeUnit.SECONDS));
+        assertEquals(List.of(1, 0, 0), second.summary);
+        assertEquals(Set.of("MSFT"), second.symbols());
+        assertEquals(1, predictions.get("AAPL").get());
+        assertEquals(List.of(), sweep.pendingSymbols());
+    }
+
+    @Test
+    void cancelStopsTheSweepAndResumePicksUpTheRest() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Set<String> fast = Set.of("S0", "S1", "S2");
+        backend.route(PREDICT, uri -> predict(uri, () -> {
+            if (!fast.contains(symbolOf(uri, PREDICT))) {
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }));
+        List<String> symbols = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            symbols.add("S" + i);
+        }
+        PredictionSweep sweep = new PredictionSweep(backend.client());
+        Recorder first = new Recorder();
+        sweep.start(symbols, 5, 2, first);
+        assertTrue(first.resultCount(3, 10_000L));
+
+        sweep.cancel();
+
+        assertTrue(first.done.await(10, TimeUnit.SECONDS));
+        assertEquals(List.of(3, 0, 1), first.summary);
+        assertFalse(sweep.isRunning());
+        assertEquals(symbols.subList(3, 10), sweep.pendingSymbols());
+
+        release.countDown();
+        Recorder second = new Recorder();
+        sweep.resume(4, second);
+
+        assertTrue(second.done.await(10, TimeUnit.SECONDS));
+        assertEquals(List.of(7, 0, 0), second.summary);
+        assertEquals(1, predictions.get("S0").get());
+        assertEquals(List.of(), sweep.pendingSymbols());
+    }
+
+    @Test
+    void resumingAFinishedSweepReportsNothingToDo() throws Exception {
+        backend.route(PREDICT, uri -> predict(uri, () -> { }));
+        PredictionSweep sweep = new PredictionSweep(backend.client());
+        Recorder first = new Recorder();
+        sweep.start(List.of("AAPL"), 5, 1, first);
+        assertTrue(first.done.await(10, TimeUnit.SECONDS));
+
+        Recorder second = new Recorder();
+        sweep.resume(1, second);
+
+        assertTrue(second.done.await(1, TimeUnit.SECONDS));
+        assertEquals(List.of(0, 0, 0), second.summary);
+        assertEquals(1, predictions.get("AAPL").get());
+    }
+
+    private Object predict(URI uri, Runnable work) {
+        String symbol = symbolOf(uri, PREDICT);
+        predictions.computeIfAbsent(symbol, ignored -> new AtomicInteger()).incrementAndGet();
+        peak.accumulateAndGet(active.incrementAndGet(), Math::max);
+        try {
+            work.run();
+        } finally {
+            active.decrementAndGet();
+        }
+        return Map.of("symbol", symbol, "prediction", "UP", "confidence", 0.7);
+    }
+
+    private static String symbolOf(URI uri, String prefix) {
+        return uri.getPath().substring(prefix.length());
+    }
+
+    private static void pause(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class Recorder implements PredictionSweep.Listener {
+        private final List<PredictionSweep.SweepResult> results = new CopyOnWriteArrayList<>();
+        private final CountDownLatch done = new CountDownLatch(1);
+        private volatile List<Integer> summary = List.of();
+
+        @Override
+        public void onResult(PredictionSweep.SweepResult result) {
+            results.add(result);
+        }
+
+        @Override
+        public void onFinished(int succeeded, int failed, boolean cancelled) {
+            summary = List.of(succeeded, failed, cancelled ? 1 : 0);
+            done.countDown();
+        }
+
+        Set<String> symbols() {
+            Set<String> out = ConcurrentHashMap.newKeySet();
+            for (PredictionSweep.SweepResult result : results) {
+                out.add(result.symbol());
+            }
+            return out;
+        }
+
+        boolean resultCount(int wanted, long timeoutMs) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + timeoutMs;
+            while (results.size() < wanted) {
+                if (System.currentTimeMillis() > deadline) {
+                    return false;
+                }
+                Thread.sleep(10L);
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.dpolaris.javaapp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class PrefetcherTest {
+    private static final long BUDGET = 1024L * 1024L;
+
+    private final RunsCache cache = new RunsCache(60_000L);
+    private final Prefetcher prefetcher = new Prefetcher(cache, BUDGET);
+    private final Set<String> loaded = ConcurrentHashMap.newKeySet();
+
+    @AfterEach
+    void stop() {
+        prefetcher.shutdown();
+        cache.close();
+    }
+
+    @Test
+    void reschedulingAGroupDropsWhatIsStillQueued() throws Exception {
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch last = new CountDownLatch(1);
+        prefetcher.schedule("scan", List.of(
+                task("k0", () -> {
+                    running.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                }),
+                task("k1", () -> { }),
+                task("k2", () -> { })
+        ));
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+
+        prefetcher.schedule("scan", List.of(task("k3", last::countDown)));
+        release.countDown();
+
+        assertTrue(last.await(5, TimeUnit.SECONDS));
+        assertEquals(Set.of("k0", "k3"), loaded);
+    }
+
+    @Test
+    void cancelDropsQueuedTasksOfThatGroupOnly() throws Exception {
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch last = new CountDownLatch(1);
+        prefetcher.schedule("scan", List.of(
+                task("k0", () -> {
+                    running.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                }),
+                task("k1", () -> { })
+        ));
+        prefetcher.schedule("runs", List.of(task("r0", last::countDown)));
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+
+        prefetcher.cancel("scan");
+        release.countDown();
+
+        assertTrue(last.await(5, TimeUnit.SECONDS));
+        assertEquals(Set.of("k0", "r0"), loaded);
+    }
+
+    @Test
+    void spentBudgetSkipsLaterTasksButNeverFailsAJoinedRead() throws Exception {
+        String runId = "prefetch-" + System.nanoTime();
+        try (StubBackend backend = new StubBackend()) {
+            backend.route("/scan/status/" + runId + "-big", uri -> Map.of("status", "completed", "log", "x".repeat(800_000)));
+            backend.route("/scan/status/" + runId + "-small", uri -> Map.of("status", "completed"));
+            ApiClient client = backend.client();
+            CountDownLatch firstSent = new CountDownLatch(1);
+            CountDownLatch joined = new CountDownLatch(1);
+            RunsCache.Loader<Map<String, Object>> twoRequests = () -> {
+                client.fetchScanStatus(runId + "-big");
+                firstSent.countDown();
+                joined.await(5, TimeUnit.SECONDS);
+                // The budget is spent by now; the second request must still go out.
+                return client.fetchScanStatus(runId + "-small");
+            };
+            prefetcher.schedule("runs", List.of(new Prefetcher.Task("status", () -> cache.get("status", false, twoRequests))));
+            assertTrue(firstSent.await(5, TimeUnit.SECONDS));
+
+            ExecutorService foreground = Executors.newSingleThreadExecutor();
+            try {
+                Future<Map<String, Object>> read = foreground.submit(() -> cache.get("status", false, () -> Map.of()));
+                Thread.sleep(100L);
+                joined.countDown();
+
+                assertEquals(Map.of("status", "completed"), read.get(5, TimeUnit.SECONDS));
+            } finally {
+                foreground.shutdownNow();
+            }
+            prefetcher.schedule("scan", List.of(task("k0", () -> { })));
+            Thread.sleep(200L);
+
+            assertEquals(Set.of(), loaded);
+            assertEquals(1, backend.hits("/scan/status/" + runId + "-small"));
+        }
+    }
+
+    private Prefetcher.Task task(String key, Work work) {
+        return new Prefetcher.Task(key, () -> cache.get(key, false, () -> {
+            loaded.add(key);
+            work.run();
+            return key;
+        }));
+    }
+
+    private interface Work {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,110 @@
+package com.dpolaris.javaapp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class RunsCacheRevalidateTest {
+    private static final long TTL_MS = 1_000L;
+    private static final long BUDGET = RunsCache.DEFAULT_MAX_WEIGHT_BYTES;
+
+    @Test
+    void freshHitDoesNotNotifyListener() throws Exception {
+        RunsCache cache = new RunsCache(60_000L, BUDGET, 60_000L);
+        AtomicInteger loads = new AtomicInteger();
+        BlockingQueue<String> refreshed = new LinkedBlockingQueue<>();
+
+        assertEquals("v1", cache.getStaleWhileRevalidate("k", () -> "v" + loads.incrementAndGet(), refreshed::add));
+        assertEquals("v1", cache.getStaleWhileRevalidate("k", () -> "v" + loads.incrementAndGet(), refreshed::add));
+
+        assertEquals(1, loads.get());
+        assertNull(refreshed.poll(200, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void expiredValueIsServedWhileOneBackgroundReloadRuns() throws Exception {
+        RunsCache cache = new RunsCache(TTL_MS, BUDGET, 60_000L);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingQueue<String> refreshed = new LinkedBlockingQueue<>();
+        cache.get("k", false, () -> "stale");
+        Thread.sleep(TTL_MS + 100L);
+        RunsCache.Loader<String> slow = () -> {
+            loads.incrementAndGet();
+            assertTrue(release.await(5, TimeUnit.SECONDS));
+            return "fresh";
+        };
+
+        assertEquals("stale", cache.getStaleWhileRevalidate("k", slow, refreshed::add));
+        assertEquals("stale", cache.getStaleWhileRevalidate("k", slow, refreshed::add));
+        release.countDown();
+
+        assertEquals("fresh", refreshed.poll(5, TimeUnit.SECONDS));
+        assertEquals(1, loads.get());
+        assertTrue(cache.isFresh("k"));
+        assertEquals("fresh", cache.get("k", false, () -> "unused"));
+        RunsCache.Stats stats = cache.stats().get(0);
+        assertEquals(2L, stats.staleHits());
+    }
+
+    @Test
+    void valuePastMaxStalenessLoadsSynchronously() throws Exception {
+        RunsCache cache = new RunsCache(TTL_MS, BUDGET, 0L);
+        BlockingQueue<String> refreshed = new LinkedBlockingQueue<>();
+        cache.get("k", false, () -> "old");
+        Thread.sleep(TTL_MS + 100L);
+
+        assertEquals("new", cache.getStaleWhileRevalidate("k", () -> "new", refreshed::add));
+        assertNull(refreshed.poll(200, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void failedRefreshKeepsServingStaleValue() throws Exception {
+        RunsCache cache = new RunsCache(TTL_MS, BUDGET, 60_000L);
+        CountDownLatch attempted = new CountDownLatch(1);
+        cache.get("k", false, () -> "stale");
+        Thread.sleep(TTL_MS + 100L);
+
+        assertEquals("stale", cache.getStaleWhileRevalidate("k", () -> {
+            attempted.countDown();
+            throw new IOException("backend down");
+        }, value -> { }));
+        assertTrue(attempted.await(5, TimeUnit.SECONDS));
+        Thread.sleep(100L);
+
+        assertFalse(cache.isFresh("k"));
+        assertEquals("stale", cache.getStaleWhileRevalidate("k", () -> "fresh", value -> { }));
+    }
+
+    @Test
+    void invalidationDuringRefreshDropsTheReloadedValue() throws Exception {
+        RunsCache cache = new RunsCache(TTL_MS, BUDGET, 60_000L);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingQueue<String> refreshed = new LinkedBlockingQueue<>();
+        cache.get("runs::list", false, () -> "stale");
+        Thread.sleep(TTL_MS + 100L);
+
+        cache.getStaleWhileRevalidate("runs::list", () -> {
+            loading.countDown();
+            assertTrue(release.await(5, TimeUnit.SECONDS));
+            return "fresh";
+        }, refreshed::add);
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+        cache.invalidatePrefix("runs::");
+        release.countDown();
+
+        assertEquals("fresh", refreshed.poll(5, TimeUnit.SECONDS));
+        assertEquals(0, cache.size());
+        assertEquals(0L, cache.weightBytes());
+    }
+}
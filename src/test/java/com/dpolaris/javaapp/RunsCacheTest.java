@@ -0,0 +1,198 @@
+package com.dpolaris.javaapp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class RunsCacheTest {
+    private static final long MIN_TTL_MS = 1_000L;
+    private static final long BUDGET = 1024L * 1024L;
+
+    @Test
+    void servesCachedValueUntilTtlExpires() throws Exception {
+        RunsCache cache = new RunsCache(MIN_TTL_MS);
+        AtomicInteger loads = new AtomicInteger();
+        RunsCache.Loader<String> loader = () -> "v" + loads.incrementAndGet();
+
+        assertEquals("v1", cache.get("runs::list", false, loader));
+        assertEquals("v1", cache.get("runs::list", false, loader));
+        assertTrue(cache.isFresh("runs::list"));
+
+        Thread.sleep(MIN_TTL_MS + 100L);
+
+        assertFalse(cache.isFresh("runs::list"));
+        assertEquals("v2", cache.get("runs::list", false, loader));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void forceRefreshReloadsFreshEntry() throws Exception {
+        RunsCache cache = new RunsCache(60_000L);
+        AtomicInteger loads = new AtomicInteger();
+        RunsCache.Loader<Integer> loader = loads::incrementAndGet;
+
+        assertEquals(1, cache.get("k", false, loader));
+        assertEquals(2, cache.get("k", true, loader));
+        assertEquals(2, cache.get("k", false, loader));
+    }
+
+    @Test
+    void concurrentCallersShareOneInFlightLoad() throws Exception {
+        RunsCache cache = new RunsCache(60_000L);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        RunsCache.Loader<String> slow = () -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            assertTrue(release.await(5, TimeUnit.SECONDS));
+            return "shared";
+        };
+        ExecutorService callers = Executors.newFixedThreadPool(5);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            results.add(callers.submit(() -> cache.get("k", false, slow)));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+            for (int i = 0; i < 3; i++) {
+                results.add(callers.submit(() -> cache.get("k", false, slow)));
+            }
+            // Force refresh joins the in-flight load rather than starting another.
+            results.add(callers.submit(() -> cache.get("k", true, slow)));
+            Thread.sleep(100L);
+            release.countDown();
+            for (Future<String> result : results) {
+                assertEquals("shared", result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void failedLoadIsNotCached() throws Exception {
+        RunsCache cache = new RunsCache(60_000L);
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThrows(IOException.class, () -> cache.get("k", false, () -> {
+            loads.incrementAndGet();
+            throw new IOException("backend down");
+        }));
+        assertEquals(0, cache.size());
+        assertEquals("ok", cache.get("k", false, () -> {
+            loads.incrementAndGet();
+            return "ok";
+        }));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedOverWeightBudget() throws Exception {
+        RunsCache cache = new RunsCache(60_000L, BUDGET);
+        // A bit over a third of the budget each, so the third insert forces an eviction.
+        String blob = "x".repeat((int) (BUDGET / 3 / 2));
+        cache.get("a", false, () -> blob);
+        cache.get("b", false, () -> blob);
+        cache.get("a", false, () -> "reloaded");
+
+        cache.get("c", false, () -> blob);
+
+        assertTrue(cache.isFresh("a"));
+        assertFalse(cache.isFresh("b"));
+        assertTrue(cache.isFresh("c"));
+        assertTrue(cache.weightBytes() <= BUDGET);
+    }
+
+    @Test
+    void oversizedValueIsReturnedButNotKept() throws Exception {
+        RunsCache cache = new RunsCache(60_000L, BUDGET);
+        String huge = "x".repeat((int) BUDGET);
+
+        assertEquals(huge, cache.get("huge", false, () -> huge));
+        assertEquals(0, cache.size());
+        assertEquals(0L, cache.weightBytes());
+    }
+
+    @Test
+    void invalidatePrefixDropsDependentsButNotUnrelatedKeys() throws Exception {
+        RunsCache cache = new RunsCache(60_000L);
+        cache.dependsOn("scan-results::", "scan-runs::");
+        cache.dependsOn("scan-ticker::", "scan-results::");
+        for (String key : List.of("scan-runs::all", "scan-results::r1", "scan-ticker::r1::AAPL", "runs::list")) {
+            cache.get(key, false, () -> key);
+        }
+        long remainingWeight = RunsCache.estimateWeight("runs::list");
+
+        assertEquals(3, cache.invalidatePrefix("scan-runs::"));
+
+        assertEquals(1, cache.size());
+        assertTrue(cache.isFresh("runs::list"));
+        assertEquals(remainingWeight, cache.weightBytes());
+    }
+
+    @Test
+    void invalidateAllEmptiesCache() throws Exception {
+        RunsCache cache = new RunsCache(60_000L);
+        cache.get("a", false, () -> "a");
+        cache.get("b", false, () -> "b");
+
+        cache.invalidateAll();
+
+        assertEquals(0, cache.size());
+        assertEquals(0L, cache.weightBytes());
+    }
+
+    @Test
+    void namespacePolicyOverridesDefaultTtlAndCountsStats() throws Exception {
+        RunsCache cache = new RunsCache(60_000L);
+        cache.policy("status::", MIN_TTL_MS, 0L);
+        cache.get("status::job", false, () -> "s");
+        cache.get("status::job", false, () -> "s");
+        cache.get("runs::list", false, () -> "r");
+
+        Thread.sleep(MIN_TTL_MS + 100L);
+
+        assertFalse(cache.isFresh("status::job"));
+        assertTrue(cache.isFresh("runs::list"));
+        RunsCache.Stats status = cache.stats().get(0);
+        assertEquals("status::", status.namespace());
+        assertEquals(1L, status.hits());
+        assertEquals(1L, status.misses());
+        assertEquals(0.5, status.hitRatio(), 1e-9);
+        RunsCache.Stats fallback = cache.stats().get(1);
+        assertEquals("*", fallback.namespace());
+        assertEquals(1, fallback.entries());
+    }
+
+    @Test
+    void setsWeighTheSameAsListsWithTheSameItems() {
+        List<Object> list = List.of("a", 1, Map.of("k", "v"));
+
+        assertEquals(RunsCache.estimateWeight(list), RunsCache.estimateWeight(new LinkedHashSet<>(list)));
+    }
+
+    @Test
+    void closedCacheStillServesLoads() throws Exception {
+        RunsCache cache = new RunsCache(60_000L);
+        cache.get("k", false, () -> "v");
+
+        cache.close();
+        cache.close();
+
+        assertEquals("v", cache.get("k", false, () -> "reloaded"));
+    }
+}
@@ -0,0 +1,144 @@
+package com.dpolaris.javaapp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class RunsDiskCacheTest {
+    private static final long BUDGET = 1024L * 1024L;
+    // Random text barely compresses, so these land at roughly a fifth and two fifths of the budget.
+    private static final int SMALL = 300_000;
+    private static final int LARGE = 600_000;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void payloadSurvivesRestart() {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("run_id", "r1");
+        payload.put("accuracy", 0.75);
+        new RunsDiskCache(dir, BUDGET).put("r1", "metrics", payload);
+
+        RunsDiskCache reopened = new RunsDiskCache(dir, BUDGET);
+
+        assertTrue(reopened.contains("r1", "metrics"));
+        assertEquals(payload, reopened.get("r1", "metrics"));
+        assertNull(reopened.get("r1", "artifacts"));
+    }
+
+    @Test
+    void unreadableEntryIsDroppedAsMiss() throws Exception {
+        RunsDiskCache cache = new RunsDiskCache(dir, BUDGET);
+        cache.put("r1", "metrics", Map.of("ok", true));
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "*.json.gz")) {
+            for (Path file : files) {
+                Files.writeString(file, "not gzip");
+            }
+        }
+
+        assertNull(cache.get("r1", "metrics"));
+        assertFalse(cache.contains("r1", "metrics"));
+        assertEquals(0L, cache.sizeBytes());
+    }
+
+    @Test
+    void readRacingAReplacementNeverDropsTheNewEntry() throws Exception {
+        RunsDiskCache cache = new RunsDiskCache(dir, BUDGET);
+        cache.put("r1", "metrics", Map.of("version", 0));
+        AtomicBoolean writing = new AtomicBoolean(true);
+        Thread reader = new Thread(() -> {
+            while (writing.get()) {
+                cache.get("r1", "metrics");
+            }
+        });
+        reader.start();
+
+        // Each put deletes the previous file, so the reader regularly loses the file it looked up.
+        int dropped = 0;
+        try {
+            for (int i = 1; i <= 2_000; i++) {
+                cache.put("r1", "metrics", Map.of("version", i));
+                if (!cache.contains("r1", "metrics")) {
+                    dropped++;
+                }
+            }
+        } finally {
+            writing.set(false);
+            reader.join();
+        }
+
+        assertEquals(0, dropped);
+        assertEquals(Map.of("version", 2_000L), cache.get("r1", "metrics"));
+    }
+
+    @Test
+    void removeRunDropsOnlyThatRun() {
+        RunsDiskCache cache = new RunsDiskCache(dir, BUDGET);
+        cache.put("r1", "metrics", Map.of("a", 1));
+        cache.put("r1", "artifacts", Map.of("b", 2));
+        cache.put("r10", "metrics", Map.of("c", 3));
+
+        cache.removeRun("r1");
+
+        assertFalse(cache.contains("r1", "metrics"));
+        assertFalse(cache.contains("r1", "artifacts"));
+        assertTrue(cache.contains("r10", "metrics"));
+        assertTrue(new RunsDiskCache(dir, BUDGET).contains("r10", "metrics"));
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedRunAsAUnit() throws Exception {
+        RunsDiskCache cache = new RunsDiskCache(dir, BUDGET);
+        cache.put("old", "metrics", noise(SMALL));
+        cache.put("old", "artifacts", noise(SMALL));
+        Thread.sleep(5L);
+        cache.put("idle", "metrics", noise(LARGE));
+        Thread.sleep(5L);
+        assertNotNull(cache.get("old", "metrics"));
+
+        cache.put("new", "metrics", noise(LARGE));
+
+        assertTrue(cache.contains("old", "metrics"));
+        assertTrue(cache.contains("old", "artifacts"));
+        assertFalse(cache.contains("idle", "metrics"));
+        assertTrue(cache.contains("new", "metrics"));
+        assertTrue(cache.sizeBytes() <= BUDGET);
+    }
+
+    @Test
+    void flushedAccessTimesKeepLruOrderAcrossRestart() throws Exception {
+        RunsDiskCache first = new RunsDiskCache(dir, BUDGET);
+        first.put("old", "metrics", noise(LARGE));
+        Thread.sleep(5L);
+        first.put("idle", "metrics", noise(LARGE));
+        Thread.sleep(5L);
+        first.get("old", "metrics");
+        first.flush();
+
+        RunsDiskCache second = new RunsDiskCache(dir, BUDGET);
+        second.put("new", "metrics", noise(LARGE));
+
+        assertTrue(second.contains("old", "metrics"));
+        assertFalse(second.contains("idle", "metrics"));
+    }
+
+    private static Map<String, Object> noise(int chars) {
+        byte[] bytes = new byte[chars * 3 / 4];
+        new Random(chars).nextBytes(bytes);
+        return Map.of("blob", Base64.getEncoder().encodeToString(bytes));
+    }
+}
@@ -0,0 +1,88 @@
+package com.dpolaris.javaapp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class ScanDetailCacheTest {
+    private static final long BUDGET = 1024L * 1024L;
+
+    @Test
+    void returnsStoredPayloadAndTracksWeight() {
+        ScanDetailCache cache = new ScanDetailCache(BUDGET);
+        Map<String, Object> payload = payload("AAPL", 100);
+
+        cache.put("run::AAPL", payload);
+
+        assertSame(payload, cache.get("run::AAPL"));
+        assertEquals(RunsCache.estimateWeight(payload), cache.sizeBytes());
+        assertNull(cache.get("run::MSFT"));
+    }
+
+    @Test
+    void replacingKeyDoesNotDoubleCountWeight() {
+        ScanDetailCache cache = new ScanDetailCache(BUDGET);
+        cache.put("run::AAPL", payload("AAPL", 100));
+        Map<String, Object> replacement = payload("AAPL", 10);
+
+        cache.put("run::AAPL", replacement);
+
+        assertSame(replacement, cache.get("run::AAPL"));
+        assertEquals(RunsCache.estimateWeight(replacement), cache.sizeBytes());
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedWhenOverBudget() {
+        ScanDetailCache cache = new ScanDetailCache(BUDGET);
+        // Each payload is a bit over a third of the budget, so only two fit.
+        int chars = (int) (BUDGET / 3 / 2);
+        cache.put("a", payload("A", chars));
+        cache.put("b", payload("B", chars));
+        assertNotNull(cache.get("a"));
+
+        cache.put("c", payload("C", chars));
+
+        assertNotNull(cache.get("a"));
+        assertNull(cache.get("b"));
+        assertNotNull(cache.get("c"));
+        assertTrue(cache.sizeBytes() <= BUDGET);
+    }
+
+    @Test
+    void skipsPayloadLargerThanBudget() {
+        ScanDetailCache cache = new ScanDetailCache(BUDGET);
+
+        cache.put("huge", payload("HUGE", (int) BUDGET));
+
+        assertNull(cache.get("huge"));
+        assertEquals(0L, cache.sizeBytes());
+    }
+
+    @Test
+    void invalidateAndClearReleaseWeight() {
+        ScanDetailCache cache = new ScanDetailCache(BUDGET);
+        cache.put("a", payload("A", 100));
+        cache.put("b", payload("B", 100));
+
+        cache.invalidate("a");
+        assertNull(cache.get("a"));
+        assertEquals(RunsCache.estimateWeight(payload("B", 100)), cache.sizeBytes());
+
+        cache.clear();
+        assertNull(cache.get("b"));
+        assertEquals(0L, cache.sizeBytes());
+    }
+
+    private static Map<String, Object> payload(String ticker, int noteLength) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("ticker", ticker);
+        payload.put("notes", "x".repeat(noteLength));
+        return payload;
+    }
+}
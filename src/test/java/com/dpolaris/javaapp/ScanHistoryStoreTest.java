@@ -0,0 +1,176 @@
+package com.dpolaris.javaapp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ScanHistoryStoreTest {
+    @TempDir
+    Path dir;
+    private StubBackend backend;
+    private ScanResultsExporter exporter;
+
+    @BeforeEach
+    void startBackend() throws Exception {
+        backend = new StubBackend();
+        exporter = new ScanResultsExporter(new ScanService(backend.client(), null), ScanResultsExporterTest::toRows);
+    }
+
+    @AfterEach
+    void stopBackend() {
+        backend.close();
+    }
+
+    @Test
+    void ingestedRunIsDatedByNewestUpdateAndReloaded() throws Exception {
+        String runId = serve("2026-03-02", "AAPL:70:Bullish", "MSFT:55:Bearish");
+
+        assertTrue(new ScanHistoryStore(dir).ingest(runId, exporter));
+
+        assertTrue(Files.exists(dir.resolve("2026-03-02_" + runId + ScanResultsExporter.COLUMNAR_EXTENSION)));
+        ScanHistoryStore reopened = new ScanHistoryStore(dir);
+        assertEquals(1, reopened.segmentCount());
+        List<ScanHistoryStore.HistoryPoint> points = reopened.history("aapl", 10);
+        assertEquals(1, points.size());
+        assertEquals(LocalDate.of(2026, 3, 2), points.get(0).date());
+        assertEquals(70.0, points.get(0).score());
+        assertEquals("Bullish", points.get(0).regime());
+    }
+
+    @Test
+    void sameRunIsStoredOnce() throws Exception {
+        String runId = serve("2026-03-02", "AAPL:70:Bullish");
+        ScanHistoryStore store = new ScanHistoryStore(dir);
+
+        assertTrue(store.ingest(runId, exporter));
+        assertFalse(store.ingest(runId, exporter));
+        assertFalse(new ScanHistoryStore(dir).ingest(runId, exporter));
+
+        assertEquals(1, store.segmentCount());
+    }
+
+    @Test
+    void concurrentIngestOfOneRunWritesOneSegment() throws Exception {
+        String runId = "history-" + System.nanoTime();
+        CountDownLatch firstFetch = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        backend.route("/scan/results/" + runId, uri -> {
+            firstFetch.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            return ScanResultsExporterTest.pages(rows("2026-03-02", "AAPL:70:Bullish"), true, Integer.MAX_VALUE).apply(uri);
+        });
+        ScanHistoryStore store = new ScanHistoryStore(dir);
+        ExecutorService ingesters = Executors.newFixedThreadPool(2);
+        try {
+            Future<Boolean> first = ingesters.submit(() -> store.ingest(runId, exporter));
+            assertTrue(firstFetch.await(5, TimeUnit.SECONDS));
+
+            boolean second = ingesters.submit(() -> store.ingest(runId, exporter)).get(5, TimeUnit.SECONDS);
+            release.countDown();
+
+            assertFalse(second);
+            assertTrue(first.get(5, TimeUnit.SECONDS));
+        } finally {
+            release.countDown();
+            ingesters.shutdownNow();
+        }
+        assertEquals(1, store.segmentCount());
+        try (Stream<Path> files = Files.list(dir)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    void ingestReadsTheRunAsTheBackendHasItNow() throws Exception {
+        String runId = "history-" + System.nanoTime();
+        AtomicReference<List<Map<String, Object>>> served = new AtomicReference<>(rows("2026-03-01", "AAPL:10:Bearish"));
+        backend.route("/scan/results/" + runId, uri -> ScanResultsExporterTest.pages(served.get(), true, Integer.MAX_VALUE).apply(uri));
+        ScanService scanService = new ScanService(backend.client(), null);
+        ScanResultsExporter liveExporter = new ScanResultsExporter(scanService, ScanResultsExporterTest::toRows);
+        // A page cached while the scan was still running.
+        scanService.getScanResults(runId, 1, 500, false);
+        served.set(rows("2026-03-02", "AAPL:80:Bullish", "MSFT:60:Bullish"));
+
+        new ScanHistoryStore(dir).ingest(runId, liveExporter);
+
+        ScanHistoryStore reopened = new ScanHistoryStore(dir);
+        assertEquals(80.0, reopened.history("AAPL", 1).get(0).score());
+        assertEquals(1, reopened.history("MSFT", 1).size());
+    }
+
+    @Test
+    void historyIsOldestFirstAndLimitedToLatestRuns() throws Exception {
+        ScanHistoryStore store = new ScanHistoryStore(dir);
+        store.ingest(serve("2026-03-03", "AAPL:73:Bullish"), exporter);
+        store.ingest(serve("2026-03-01", "AAPL:71:Bearish"), exporter);
+        store.ingest(serve("2026-03-02", "MSFT:50:Bearish"), exporter);
+        store.ingest(serve("2026-03-02", "AAPL:72:Neutral"), exporter);
+
+        List<Double> scores = new ArrayList<>();
+        for (ScanHistoryStore.HistoryPoint point : store.history("AAPL", 2)) {
+            scores.add(point.score());
+        }
+
+        assertEquals(List.of(72.0, 73.0), scores);
+        assertEquals(3, store.history("AAPL", ScanHistoryStore.DEFAULT_HISTORY_RUNS).size());
+        assertEquals(List.of(), store.history("NVDA", 5));
+    }
+
+    @Test
+    void changesCompareNewestRunWithPreviousDate() throws Exception {
+        ScanHistoryStore store = new ScanHistoryStore(dir);
+        assertNull(store.changedSincePreviousDate(ScanHistoryStore.Field.REGIME).latest());
+        store.ingest(serve("2026-03-01", "AAPL:60:Bearish", "MSFT:50:Bullish", "TSLA:40:Bearish"), exporter);
+        assertNull(store.changedSincePreviousDate(ScanHistoryStore.Field.REGIME).previous());
+        store.ingest(serve("2026-03-02", "AAPL:70:Bullish", "MSFT:52:Bullish", "NVDA:90:Bullish"), exporter);
+
+        ScanHistoryStore.Changes changes = store.changedSincePreviousDate(ScanHistoryStore.Field.REGIME);
+
+        assertEquals(LocalDate.of(2026, 3, 1), changes.previous().date());
+        assertEquals(List.of(new ScanHistoryStore.Change("AAPL", "Bearish", "Bullish", 60.0, 70.0)), changes.changes());
+    }
+
+    /** Serves a new run whose rows are {@code TICKER:score:regime}, all updated on {@code date}. */
+    private String serve(String date, String... specs) {
+        String runId = "history-" + System.nanoTime();
+        backend.route("/scan/results/" + runId, ScanResultsExporterTest.pages(rows(date, specs), true, Integer.MAX_VALUE));
+        return runId;
+    }
+
+    private static List<Map<String, Object>> rows(String date, String... specs) {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (int i = 0; i < specs.length; i++) {
+            String[] parts = specs[i].split(":");
+            Map<String, Object> row = ScanResultsExporterTest.result(i);
+            row.put("ticker", parts[0]);
+            row.put("overall_score", Double.parseDouble(parts[1]));
+            row.put("regime", parts[2]);
+            row.put("updated_at", date + "T1" + i + ":00:00");
+            rows.add(row);
+        }
+        return rows;
+    }
+}
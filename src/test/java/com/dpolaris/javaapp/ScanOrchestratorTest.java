@@ -0,0 +1,181 @@
+package com.dpolaris.javaapp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+
+class ScanOrchestratorTest {
+    private static final Function<Map<String, Object>, String> RUN_ID = response -> Json.asString(response.get("run_id"));
+    private static final List<String> TICKERS = List.of("AAPL", "MSFT", "NVDA", "TSLA", "AMZN", "GOOG", "META", "AMD");
+
+    @Test
+    void startSpreadsShardsAcrossBackendsAndPinsEachRun() throws Exception {
+        String tag = "shard-" + System.nanoTime();
+        try (StubBackend primary = new StubBackend(); StubBackend secondary = new StubBackend()) {
+            primary.route("/scan/start", uri -> Map.of("run_id", tag + "-p"));
+            secondary.route("/scan/start", uri -> Map.of("run_id", tag + "-s"));
+            secondary.route("/scan/status/" + tag + "-s", uri -> Map.of("status", "running"));
+            ApiClient client = new ApiClient("127.0.0.1:" + primary.port() + ",127.0.0.1:" + secondary.port(), 0);
+            ScanOrchestrator orchestrator = new ScanOrchestrator(client);
+
+            Map<String, Object> response = orchestrator.start(payload(TICKERS), 2, RUN_ID);
+
+            String logicalId = Json.asString(response.get("run_id"));
+            assertTrue(ScanOrchestrator.isLogical(logicalId));
+            assertEquals(List.of(tag + "-p", tag + "-s"), response.get("shard_run_ids"));
+            assertEquals(0, response.get("missing_tickers"));
+            List<String> sent = new ArrayList<>(shardTickers(primary));
+            sent.addAll(shardTickers(secondary));
+            assertEquals(new HashSet<>(TICKERS), new HashSet<>(sent));
+            assertEquals(TICKERS.size(), sent.size());
+            ScanOrchestrator.ShardedRun run = orchestrator.run(logicalId);
+            assertEquals(tag + "-p", run.shardFor(shardTickers(primary).get(0).toLowerCase()).runId());
+            assertEquals(tag + "-s", run.shardFor(shardTickers(secondary).get(0)).runId());
+            assertNull(run.shardFor("ZZZZ"));
+            assertEquals("running", client.fetchScanStatus(tag + "-s").get("status"));
+        }
+    }
+
+    @Test
+    void shardThatCannotStartIsRetriedOnTheNextBackend() throws Exception {
+        String tag = "shard-" + System.nanoTime();
+        AtomicInteger started = new AtomicInteger();
+        try (StubBackend primary = new StubBackend(); StubBackend secondary = new StubBackend()) {
+            primary.route("/scan/start", uri -> 500);
+            primary.route("/api/scan/start", uri -> 500);
+            secondary.route("/scan/start", uri -> Map.of("run_id", tag + "-" + started.incrementAndGet()));
+            ApiClient client = new ApiClient("127.0.0.1:" + primary.port() + ",127.0.0.1:" + secondary.port(), 0);
+
+            Map<String, Object> response = new ScanOrchestrator(client).start(payload(TICKERS), 2, RUN_ID);
+
+            assertEquals(2, ((List<?>) response.get("shard_run_ids")).size());
+            assertEquals(List.of(), response.get("failed_shards"));
+            assertEquals(0, response.get("missing_tickers"));
+        }
+    }
+
+    @Test
+    void startFailsWhenNoShardStarts() throws Exception {
+        try (StubBackend backend = new StubBackend()) {
+            backend.route("/scan/start", uri -> 500);
+            backend.route("/api/scan/start", uri -> 500);
+
+            assertThrows(IOException.class, () -> new ScanOrchestrator(backend.client()).start(payload(TICKERS), 2, RUN_ID));
+        }
+    }
+
+    @Test
+    void logicalIdsStartedInTheSameMillisecondDiffer() throws Exception {
+        String tag = "shard-" + System.nanoTime();
+        AtomicInteger started = new AtomicInteger();
+        try (StubBackend backend = new StubBackend()) {
+            backend.route("/scan/start", uri -> Map.of("run_id", tag + "-" + started.incrementAndGet()));
+            ScanOrchestrator orchestrator = new ScanOrchestrator(backend.client());
+            Set<String> ids = new HashSet<>();
+
+            for (int i = 0; i < 20; i++) {
+                ids.add(Json.asString(orchestrator.start(payload(List.of("AAPL")), 1, RUN_ID).get("run_id")));
+            }
+
+            assertEquals(20, ids.size());
+            assertEquals(20, orchestrator.runs().size());
+        }
+    }
+
+    @Test
+    void statusIsWeightedByShardSizeWhileAnyShardRuns() throws Exception {
+        String tag = "shard-" + System.nanoTime();
+        try (StubBackend backend = new StubBackend()) {
+            backend.route("/scan/status/" + tag + "-a", uri -> Map.of("status", "running", "progress", 0.5, "current_ticker", "MSFT"));
+            backend.route("/scan/status/" + tag + "-b", uri -> Map.of("status", "completed", "failed_tickers", 1));
+            ScanOrchestrator.ShardedRun run = new ScanOrchestrator.ShardedRun(tag, List.of(
+                    new ScanOrchestrator.Shard(0, tag + "-a", List.of("AAPL", "MSFT", "NVDA")),
+                    new ScanOrchestrator.Shard(1, tag + "-b", List.of("TSLA"))
+            ), List.of(), 0L);
+
+            Map<String, Object> status = new ScanOrchestrator(backend.client()).status(run);
+
+            assertEquals("running", status.get("status"));
+            assertEquals(62.5, status.get("progress"));
+            assertEquals("MSFT", status.get("current_ticker"));
+            assertEquals(1, status.get("failed_tickers"));
+            assertEquals(0, status.get("missing_tickers"));
+        }
+    }
+
+    @Test
+    void finishedRunWithAFailedShardOrUnstartedTickersIsPartial() throws Exception {
+        String tag = "shard-" + System.nanoTime();
+        try (StubBackend backend = new StubBackend()) {
+            backend.route("/scan/status/" + tag + "-a", uri -> Map.of("status", "failed", "error", "worker died"));
+            backend.route("/scan/status/" + tag + "-b", uri -> Map.of("status", "completed"));
+            ScanOrchestrator.ShardedRun run = new ScanOrchestrator.ShardedRun(tag, List.of(
+                    new ScanOrchestrator.Shard(0, tag + "-a", List.of("AAPL", "MSFT")),
+                    new ScanOrchestrator.Shard(1, tag + "-b", List.of("TSLA"))
+            ), List.of("AMD"), 0L);
+
+            Map<String, Object> status = new ScanOrchestrator(backend.client()).status(run);
+
+            assertEquals("partial", status.get("status"));
+            assertEquals(3, status.get("missing_tickers"));
+            List<?> warnings = (List<?>) status.get("warnings");
+            assertEquals(List.of("shard 1: \"worker died\"", "1 tickers in shards that never started"), warnings);
+        }
+    }
+
+    @Test
+    void unreadableShardKeepsTheRunRunningUntilNoShardCanBeRead() throws Exception {
+        String tag = "shard-" + System.nanoTime();
+        try (StubBackend backend = new StubBackend()) {
+            backend.route("/scan/status/" + tag + "-b", uri -> Map.of("status", "completed"));
+            ScanOrchestrator orchestrator = new ScanOrchestrator(backend.client());
+            ScanOrchestrator.Shard missing = new ScanOrchestrator.Shard(0, tag + "-a", List.of("AAPL"));
+            ScanOrchestrator.ShardedRun run = new ScanOrchestrator.ShardedRun(tag, List.of(
+                    missing,
+                    new ScanOrchestrator.Shard(1, tag + "-b", List.of("TSLA"))
+            ), List.of(), 0L);
+
+            Map<String, Object> status = orchestrator.status(run);
+
+            assertEquals("running", status.get("status"));
+            List<?> shards = (List<?>) status.get("shards");
+            assertEquals("unknown", Json.asObject(shards.get(0)).get("status"));
+            assertNotNull(status.get("warnings"));
+            ScanOrchestrator.ShardedRun unreadable = new ScanOrchestrator.ShardedRun(tag, List.of(missing), List.of(), 0L);
+            assertThrows(ApiClient.HttpStatusException.class, () -> orchestrator.status(unreadable));
+        }
+    }
+
+    private static Map<String, Object> payload(List<String> tickers) {
+        Map<String, Object> universe = new LinkedHashMap<>();
+        universe.put("tickers", tickers);
+        universe.put("max_tickers", tickers.size());
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("strategyUniverseConfig", universe);
+        return payload;
+    }
+
+    private static List<String> shardTickers(StubBackend backend) {
+        List<String> tickers = new ArrayList<>();
+        for (String body : backend.bodies()) {
+            Map<String, Object> universe = Json.asObject(Json.asObject(Json.parse(body)).get("strategyUniverseConfig"));
+            for (Object ticker : Json.asArray(universe.get("tickers"))) {
+                tickers.add(Json.asString(ticker));
+            }
+        }
+        return tickers;
+    }
+}
@@ -0,0 +1,125 @@
+package com.dpolaris.javaapp;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class ScanResultStoreTest {
+
+    @Test
+    void upsertOverwritesExistingTickerInPlace() {
+        ScanResultStore store = new ScanResultStore();
+        int first = store.upsert(row("AAPL", 50.0, "Bullish", 0.4, 1));
+        store.upsert(row("MSFT", 60.0, "Bearish", 0.5, 0));
+
+        int again = store.upsert(row("AAPL", 75.0, "Neutral", 0.9, 0));
+
+        assertEquals(first, again);
+        assertEquals(2, store.size());
+        assertEquals(row("AAPL", 75.0, "Neutral", 0.9, 0), store.row(again));
+    }
+
+    @Test
+    void sortIsStableAcrossEqualKeys() {
+        ScanResultStore store = new ScanResultStore();
+        store.upsert(row("AAA", 70.0, "Bullish", 0.5, 0));
+        store.upsert(row("BBB", 80.0, "Bearish", 0.5, 0));
+        store.upsert(row("CCC", 70.0, "Bearish", 0.5, 0));
+        store.upsert(row("DDD", 80.0, "Bullish", 0.5, 0));
+        store.upsert(row("EEE", 70.0, "Bullish", 0.5, 0));
+
+        int[] byScore = store.query(ScanResultStore.Filter.ALL,
+                List.of(new ScanResultStore.SortKey(ScanResultStore.Column.SCORE, true)));
+        int[] byRegimeThenScore = store.query(ScanResultStore.Filter.ALL, List.of(
+                new ScanResultStore.SortKey(ScanResultStore.Column.REGIME, false),
+                new ScanResultStore.SortKey(ScanResultStore.Column.SCORE, false)
+        ));
+
+        assertEquals(List.of("BBB", "DDD", "AAA", "CCC", "EEE"), tickers(store, byScore));
+        assertEquals(List.of("CCC", "BBB", "AAA", "EEE", "DDD"), tickers(store, byRegimeThenScore));
+    }
+
+    @Test
+    void missingScoresSortBelowRealOnes() {
+        ScanResultStore store = new ScanResultStore();
+        store.upsert(row("NAN", Double.NaN, "Bullish", 0.5, 0));
+        store.upsert(row("LOW", -5.0, "Bullish", 0.5, 0));
+        store.upsert(row("HIGH", 90.0, "Bullish", 0.5, 0));
+
+        int[] ascending = store.query(ScanResultStore.Filter.ALL,
+                List.of(new ScanResultStore.SortKey(ScanResultStore.Column.SCORE, false)));
+
+        assertEquals(List.of("NAN", "LOW", "HIGH"), tickers(store, ascending));
+    }
+
+    @Test
+    void filterMatchesLabelsAndRanges() {
+        ScanResultStore store = new ScanResultStore();
+        store.upsert(row("AAPL", 80.0, "Bullish", 0.9, 0));
+        store.upsert(row("MSFT", 40.0, "Bullish", 0.9, 0));
+        store.upsert(row("TSLA", 85.0, "Bearish", 0.9, 3));
+        store.upsert(row("NVDA", Double.NaN, "Bullish", 0.9, 0));
+
+        ScanResultStore.Filter bullishAbove50 = ScanResultStore.Filter.ALL.withText("bull").withMinScore(50.0);
+        ScanResultStore.Filter fewWarnings = new ScanResultStore.Filter("", Double.NEGATIVE_INFINITY,
+                Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, 1);
+
+        assertEquals(List.of("AAPL"), tickers(store, store.query(bullishAbove50, List.of())));
+        assertEquals(List.of("AAPL", "MSFT", "NVDA"), tickers(store, store.query(fewWarnings, List.of())));
+        assertEquals(List.of("TSLA"), tickers(store, store.query(ScanResultStore.Filter.ALL.withText("tsl"), null)));
+    }
+
+    @Test
+    void topKMatchesFullSortByScoreThenConfidence() {
+        ScanResultStore store = new ScanResultStore();
+        Random random = new Random(42);
+        List<ScanResultRow> rows = new ArrayList<>();
+        for (int i = 0; i < 600; i++) {
+            // Coarse scores force confidence to break ties; confidences are distinct.
+            ScanResultRow next = row("T" + i, random.nextInt(50), i % 3 == 0 ? "Bullish" : "Bearish", i / 1000.0, 0);
+            rows.add(next);
+            store.upsert(next);
+        }
+        List<String> expected = rows.stream()
+                .filter(item -> item.regime().equals("Bullish"))
+                .sorted(Comparator.comparingDouble(ScanResultRow::overallScore)
+                        .thenComparingDouble(ScanResultRow::confidence)
+                        .reversed())
+                .limit(25)
+                .map(ScanResultRow::ticker)
+                .toList();
+
+        int[] top = store.topK(25, ScanResultStore.Filter.ALL.withText("bullish"));
+
+        assertEquals(expected, tickers(store, top));
+    }
+
+    @Test
+    void topKHandlesSmallAndEmptyInputs() {
+        ScanResultStore store = new ScanResultStore();
+        assertArrayEquals(new int[0], store.topK(5, ScanResultStore.Filter.ALL));
+        store.upsert(row("AAPL", 10.0, "Bullish", 0.1, 0));
+        store.upsert(row("MSFT", 30.0, "Bullish", 0.1, 0));
+
+        assertEquals(List.of("MSFT", "AAPL"), tickers(store, store.topK(5, null)));
+        assertArrayEquals(new int[0], store.topK(0, ScanResultStore.Filter.ALL));
+    }
+
+    private static List<String> tickers(ScanResultStore store, int[] rows) {
+        List<String> out = new ArrayList<>();
+        for (int row : rows) {
+            out.add(store.ticker(row));
+        }
+        return out;
+    }
+
+    private static ScanResultRow row(String ticker, double score, String regime, double confidence, int warnings) {
+        return new ScanResultRow(ticker, "completed", score, regime, "Up", "Low", "Covered Call",
+                confidence, warnings, "2026-03-02T10:00:00");
+    }
+}
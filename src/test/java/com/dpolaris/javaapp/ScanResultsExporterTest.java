@@ -0,0 +1,208 @@
+package com.dpolaris.javaapp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ScanResultsExporterTest {
+    @TempDir
+    Path dir;
+    private StubBackend backend;
+    private ScanResultsExporter exporter;
+
+    @BeforeEach
+    void startBackend() throws Exception {
+        backend = new StubBackend();
+        exporter = new ScanResultsExporter(new ScanService(backend.client(), null), ScanResultsExporterTest::toRows);
+    }
+
+    @AfterEach
+    void stopBackend() {
+        backend.close();
+    }
+
+    @Test
+    void columnarFileRoundTripsEveryRow() throws Exception {
+        String runId = uniqueRunId();
+        List<Map<String, Object>> results = results(1_234);
+        backend.route("/scan/results/" + runId, pages(results, true, Integer.MAX_VALUE));
+        Path csv = dir.resolve("scan.csv");
+        Path columnar = ScanResultsExporter.columnarPathFor(csv);
+        List<Long> progress = new ArrayList<>();
+
+        long written = exporter.export(runId, 100, csv, columnar, progress::add);
+
+        assertEquals(1_234L, written);
+        assertEquals(dir.resolve("scan" + ScanResultsExporter.COLUMNAR_EXTENSION), columnar);
+        assertEquals(toRows(results), ScanResultsExporter.readColumnar(columnar));
+        assertEquals(13, progress.size());
+        assertEquals(1_234L, progress.get(progress.size() - 1));
+        List<String> lines = Files.readAllLines(csv);
+        assertEquals(1_235, lines.size());
+        assertEquals("ticker,status,overall_score,regime,trend_momentum,volatility_iv,top_strategy,confidence,warnings,updated_at",
+                lines.get(0));
+        assertFalse(Files.exists(dir.resolve("scan.csv.part")));
+    }
+
+    @Test
+    void wideDictionariesMissingValuesAndQuotingSurvive() throws Exception {
+        String runId = uniqueRunId();
+        List<Map<String, Object>> results = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            Map<String, Object> row = result(i);
+            // More than 255 distinct labels in one page switches the codes to shorts.
+            row.put("regime", "Regime " + i);
+            results.add(row);
+        }
+        results.get(0).remove("overall_score");
+        results.get(1).put("top_strategy", "Iron Condor, \"wide\"");
+        results.get(2).put("regime", "Réginé ✓");
+        results.get(3).remove("updated_at");
+        results.add(Map.of("status", "failed"));
+        backend.route("/scan/results/" + runId, pages(results, true, Integer.MAX_VALUE));
+        Path csv = dir.resolve("wide.csv");
+        Path columnar = ScanResultsExporter.columnarPathFor(csv);
+
+        long written = exporter.export(runId, 500, csv, columnar, rows -> { });
+
+        List<ScanResultRow> read = ScanResultsExporter.readColumnar(columnar);
+        assertEquals(300L, written);
+        assertEquals(toRows(results), read);
+        assertTrue(Double.isNaN(read.get(0).overallScore()));
+        assertEquals("", read.get(3).updatedAt());
+        assertTrue(Files.readAllLines(csv).get(2).contains(",\"Iron Condor, \"\"wide\"\"\","));
+    }
+
+    @Test
+    void pagesCappedBelowRequestedSizeStillExportEverything() throws Exception {
+        String runId = uniqueRunId();
+        List<Map<String, Object>> results = results(230);
+        backend.route("/scan/results/" + runId, pages(results, true, 50));
+
+        long written = exporter.export(runId, 100, null, dir.resolve("capped.dpscan"), rows -> { });
+
+        assertEquals(230L, written);
+        assertEquals(toRows(results), ScanResultsExporter.readColumnar(dir.resolve("capped.dpscan")));
+    }
+
+    @Test
+    void withoutReportedTotalExportEndsOnEmptyPage() throws Exception {
+        String runId = uniqueRunId();
+        List<Map<String, Object>> results = results(250);
+        backend.route("/scan/results/" + runId, pages(results, false, Integer.MAX_VALUE));
+
+        long written = exporter.export(runId, 100, null, dir.resolve("untotalled.dpscan"), rows -> { });
+
+        assertEquals(250L, written);
+        assertEquals(toRows(results), ScanResultsExporter.readColumnar(dir.resolve("untotalled.dpscan")));
+    }
+
+    @Test
+    void failedPageLeavesNoFilesBehind() throws Exception {
+        String runId = uniqueRunId();
+        Function<URI, Object> healthy = pages(results(1_000), true, Integer.MAX_VALUE);
+        Function<URI, Object> failing = uri -> "3".equals(StubBackend.query(uri).get("page")) ? 500 : healthy.apply(uri);
+        backend.route("/scan/results/" + runId, failing);
+        backend.route("/api/scan/results/" + runId, failing);
+        Path csv = dir.resolve("broken.csv");
+        Path columnar = ScanResultsExporter.columnarPathFor(csv);
+
+        assertThrows(ApiClient.HttpStatusException.class, () -> exporter.export(runId, 100, csv, columnar, rows -> { }));
+
+        try (Stream<Path> files = Files.list(dir)) {
+            assertEquals(List.of(), files.toList());
+        }
+    }
+
+    @Test
+    void rejectsFilesThatAreNotColumnarExports() throws Exception {
+        Path bogus = dir.resolve("bogus.dpscan");
+        Files.writeString(bogus, "ticker,status\nAAPL,completed\n");
+
+        assertThrows(IOException.class, () -> ScanResultsExporter.readColumnar(bogus));
+    }
+
+    /** Serves {@code results} by {@code page}/{@code page_size}, never more than {@code cap} rows a page. */
+    static Function<URI, Object> pages(List<Map<String, Object>> results, boolean reportTotal, int cap) {
+        return uri -> {
+            Map<String, String> query = StubBackend.query(uri);
+            int page = Integer.parseInt(query.getOrDefault("page", "1"));
+            int size = Math.min(cap, Integer.parseInt(query.getOrDefault("page_size", "100")));
+            int from = Math.min(results.size(), (page - 1) * size);
+            int to = Math.min(results.size(), from + size);
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("results", results.subList(from, to));
+            if (reportTotal) {
+                body.put("total", results.size());
+            }
+            return body;
+        };
+    }
+
+    static List<Map<String, Object>> results(int count) {
+        List<Map<String, Object>> out = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            out.add(result(i));
+        }
+        return out;
+    }
+
+    static Map<String, Object> result(int i) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("ticker", "T" + i);
+        row.put("status", i % 7 == 0 ? "failed" : "completed");
+        row.put("overall_score", (i * 37 % 1000) / 10.0);
+        row.put("regime", i % 2 == 0 ? "Bullish" : "Bearish");
+        row.put("trend_momentum", "Up");
+        row.put("volatility_iv", "Low");
+        row.put("top_strategy", i % 3 == 0 ? "Covered Call" : "Bull Put Spread");
+        row.put("confidence", (i % 100) / 100.0);
+        row.put("warnings_count", i % 4);
+        row.put("updated_at", "2026-03-02T10:" + String.format("%02d", i % 60) + ":00");
+        return row;
+    }
+
+    /** Same shape as the results table's mapping: rows without a ticker are dropped. */
+    static List<ScanResultRow> toRows(List<Map<String, Object>> results) {
+        List<ScanResultRow> rows = new ArrayList<>();
+        for (Map<String, Object> result : results) {
+            String ticker = Json.asString(result.get("ticker"));
+            if (ticker == null || ticker.isBlank()) {
+                continue;
+            }
+            rows.add(new ScanResultRow(
+                    ticker,
+                    Json.asString(result.get("status")),
+                    Json.asDouble(result.get("overall_score"), Double.NaN),
+                    Json.asString(result.get("regime")),
+                    Json.asString(result.get("trend_momentum")),
+                    Json.asString(result.get("volatility_iv")),
+                    Json.asString(result.get("top_strategy")),
+                    Json.asDouble(result.get("confidence"), Double.NaN),
+                    Json.asInt(result.get("warnings_count"), 0),
+                    result.containsKey("updated_at") ? Json.asString(result.get("updated_at")) : ""
+            ));
+        }
+        return rows;
+    }
+
+    private static String uniqueRunId() {
+        return "export-" + System.nanoTime();
+    }
+}
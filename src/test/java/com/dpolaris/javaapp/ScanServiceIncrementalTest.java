@@ -0,0 +1,222 @@
+package com.dpolaris.javaapp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ScanServiceIncrementalTest {
+    private static final Function<Map<String, Object>, String> RUN_ID = response -> Json.asString(response.get("run_id"));
+    private static final String DATA_AT = "2026-03-02T09:00:00Z";
+    private static final String SCANNED_AT = "2026-03-02T10:00:00Z";
+
+    @TempDir
+    Path dir;
+    private StubBackend backend;
+    private String baseRunId;
+    private String freshRunId;
+    private final Map<String, Object> analyzedAt = new LinkedHashMap<>();
+
+    @BeforeEach
+    void startBackend() throws Exception {
+        backend = new StubBackend();
+        String tag = "incremental-test-" + System.nanoTime();
+        baseRunId = tag + "-base";
+        freshRunId = tag + "-fresh";
+        backend.route("/scan/start", uri -> Map.of("run_id", freshRunId, "status", "running"));
+        backend.route("/scan/status/" + freshRunId, uri -> Map.of("run_id", freshRunId, "status", "completed"));
+        backend.route("/api/analysis/last", uri -> {
+            Map<String, Object> body = new LinkedHashMap<>();
+            for (String symbol : StubBackend.query(uri).get("symbols").split(",")) {
+                if (analyzedAt.containsKey(symbol)) {
+                    body.put(symbol, Map.of("last_analysis", analyzedAt.get(symbol)));
+                }
+            }
+            return body;
+        });
+    }
+
+    @AfterEach
+    void stopBackend() {
+        backend.close();
+    }
+
+    @Test
+    void withoutACompletedRunEverythingIsScanned() throws Exception {
+        backend.route("/scan/runs", uri -> Map.of("runs", List.of(
+                Map.of("run_id", baseRunId, "status", "running", "run_mode", "scan")
+        )));
+
+        Map<String, Object> response = new ScanService(backend.client(), null)
+                .startIncrementalScan(payload("AAPL", "MSFT"), 1, RUN_ID);
+
+        assertEquals(freshRunId, response.get("run_id"));
+        assertTrue(response.containsKey("incremental_fallback"));
+        assertEquals(List.of("AAPL", "MSFT"), startedTickers().get(0));
+    }
+
+    @Test
+    void onlyNewFailedStaleOrUnknownTickersAreRescanned() throws Exception {
+        serveBase(
+                row("AAPL", "completed", SCANNED_AT),
+                row("MSFT", "completed", SCANNED_AT),
+                row("NVDA", "failed", SCANNED_AT),
+                row("AMZN", "completed", SCANNED_AT)
+        );
+        analyzedAt.put("AAPL", DATA_AT);
+        analyzedAt.put("MSFT", "2026-03-02T11:00:00Z");
+        analyzedAt.put("NVDA", DATA_AT);
+        analyzedAt.put("TSLA", DATA_AT);
+
+        Map<String, Object> response = new ScanService(backend.client(), null)
+                .startIncrementalScan(payload("aapl", "MSFT", "NVDA", "TSLA", "AMZN"), 1, RUN_ID);
+
+        assertTrue(Json.asString(response.get("run_id")).startsWith(ScanService.INCREMENTAL_PREFIX));
+        assertEquals(baseRunId, response.get("base_run_id"));
+        assertEquals(freshRunId, response.get("fresh_run_id"));
+        assertEquals(4, response.get("rescanned"));
+        assertEquals(1, response.get("carried_forward"));
+        assertEquals(
+                Map.of("new data", 1, "failed last run", 1, "new", 1, "freshness unknown", 1),
+                response.get("reasons")
+        );
+        assertEquals(List.of(List.of("MSFT", "NVDA", "TSLA", "AMZN")), startedTickers());
+        Map<String, Object> sent = Json.asObject(Json.parse(backend.bodies().get(0)));
+        assertEquals(baseRunId, Json.asObject(sent.get("incremental")).get("base_run_id"));
+    }
+
+    @Test
+    void mergedRunPagesRescannedRowsThenCarriedRows() throws Exception {
+        ScanService scanService = new ScanService(backend.client(), null);
+        String runId = startCarryingTwoOfFive(scanService);
+
+        List<List<String>> pages = new ArrayList<>();
+        long total = -1L;
+        for (int page = 1; page <= 3; page++) {
+            ScanService.ScanResultsPage results = scanService.getScanResults(runId, page, 2, false);
+            pages.add(tickers(results.rows()));
+            total = results.total();
+        }
+
+        assertEquals(List.of(List.of("NVDA", "TSLA"), List.of("AMZN", "AAPL"), List.of("MSFT")), pages);
+        assertEquals(5L, total);
+        Map<String, Object> carried = scanService.getScanResults(runId, 2, 2, false).rows().get(1);
+        assertEquals(true, carried.get("carried_forward"));
+        assertEquals(baseRunId, carried.get("source_run_id"));
+        assertEquals("completed", scanService.getScanStatus(runId).get("status"));
+    }
+
+    @Test
+    void savedMergedRunIsReloadedAndServesAsTheNextBase() throws Exception {
+        Path saved = dir.resolve("incremental_runs.json");
+        String runId = startCarryingTwoOfFive(new ScanService(backend.client(), saved));
+        assertTrue(Files.exists(saved));
+
+        ScanService reloaded = new ScanService(backend.client(), saved);
+        ScanService.ScanResultsPage merged = reloaded.getScanResults(runId, 1, 10, false);
+        Map<String, Object> next = reloaded.startIncrementalScan(payload("AAPL", "MSFT", "NVDA", "TSLA", "AMZN"), 1, RUN_ID);
+
+        assertEquals(List.of("NVDA", "TSLA", "AMZN", "AAPL", "MSFT"), tickers(merged.rows()));
+        assertEquals(runId, next.get("base_run_id"));
+        assertEquals(0, next.get("rescanned"));
+        assertEquals(5, next.get("carried_forward"));
+        assertEquals("", next.get("fresh_run_id"));
+        assertEquals(1, backend.hits("/scan/start"));
+        ScanService.ScanResultsPage carried = reloaded.getScanResults(Json.asString(next.get("run_id")), 1, 10, false);
+        List<String> sources = new ArrayList<>();
+        for (Map<String, Object> row : carried.rows()) {
+            sources.add(Json.asString(row.get("source_run_id")));
+        }
+        assertEquals(List.of(baseRunId, baseRunId, freshRunId, freshRunId, freshRunId), sources);
+    }
+
+    @Test
+    void unreadableSaveFileStartsEmpty() throws Exception {
+        Path saved = dir.resolve("incremental_runs.json");
+        Files.writeString(saved, "{not json");
+        backend.route("/scan/runs", uri -> Map.of("runs", List.of()));
+        backend.route("/runs", uri -> Map.of("runs", List.of()));
+
+        Map<String, Object> response = new ScanService(backend.client(), saved)
+                .startIncrementalScan(payload("AAPL"), 1, RUN_ID);
+
+        assertTrue(response.containsKey("incremental_fallback"));
+        assertEquals(freshRunId, response.get("run_id"));
+    }
+
+    /** AAPL and MSFT are unchanged since the base run; NVDA, TSLA and AMZN are rescanned. */
+    private String startCarryingTwoOfFive(ScanService scanService) throws Exception {
+        serveBase(row("AAPL", "completed", SCANNED_AT), row("MSFT", "completed", SCANNED_AT));
+        analyzedAt.put("AAPL", DATA_AT);
+        analyzedAt.put("MSFT", DATA_AT);
+        backend.route("/scan/results/" + freshRunId, ScanResultsExporterTest.pages(List.of(
+                row("NVDA", "completed", "2026-03-02T12:00:00Z"),
+                row("TSLA", "completed", "2026-03-02T12:00:00Z"),
+                row("AMZN", "completed", "2026-03-02T12:00:00Z")
+        ), true, Integer.MAX_VALUE));
+        Map<String, Object> response = scanService.startIncrementalScan(payload("AAPL", "MSFT", "NVDA", "TSLA", "AMZN"), 1, RUN_ID);
+        for (String ticker : List.of("NVDA", "TSLA", "AMZN")) {
+            analyzedAt.put(ticker, DATA_AT);
+        }
+        return Json.asString(response.get("run_id"));
+    }
+
+    @SafeVarargs
+    private void serveBase(Map<String, Object>... rows) {
+        backend.route("/scan/runs", uri -> Map.of("runs", List.of(Map.of(
+                "run_id", baseRunId,
+                "status", "completed",
+                "run_mode", "scan",
+                "created_at", "2026-03-01T08:00:00Z"
+        ))));
+        backend.route("/scan/results/" + baseRunId, ScanResultsExporterTest.pages(List.of(rows), true, Integer.MAX_VALUE));
+    }
+
+    private static Map<String, Object> payload(String... tickers) {
+        Map<String, Object> universe = new LinkedHashMap<>();
+        universe.put("tickers", List.of(tickers));
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("strategyUniverseConfig", universe);
+        return payload;
+    }
+
+    private static Map<String, Object> row(String ticker, String status, String updatedAt) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("ticker", ticker);
+        row.put("status", status);
+        row.put("overall_score", 50.0);
+        row.put("updated_at", updatedAt);
+        return row;
+    }
+
+    private List<List<String>> startedTickers() {
+        List<List<String>> started = new ArrayList<>();
+        for (String body : backend.bodies()) {
+            Map<String, Object> universe = Json.asObject(Json.asObject(Json.parse(body)).get("strategyUniverseConfig"));
+            List<String> tickers = new ArrayList<>();
+            for (Object ticker : Json.asArray(universe.get("tickers"))) {
+                tickers.add(Json.asString(ticker));
+            }
+            started.add(tickers);
+        }
+        return started;
+    }
+
+    private static List<String> tickers(List<Map<String, Object>> rows) {
+        List<String> tickers = new ArrayList<>();
+        for (Map<String, Object> row : rows) {
+            tickers.add(Json.asString(row.get("ticker")));
+        }
+        return tickers;
+    }
+}
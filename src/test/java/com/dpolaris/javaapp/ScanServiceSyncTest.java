@@ -0,0 +1,144 @@
+package com.dpolaris.javaapp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ScanServiceSyncTest {
+    private StubBackend backend;
+    private ScanService scanService;
+    private final List<Map<String, Object>> rows = new CopyOnWriteArrayList<>();
+    private final List<String> sinces = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void startBackend() throws Exception {
+        backend = new StubBackend();
+        scanService = new ScanService(backend.client(), null);
+    }
+
+    @AfterEach
+    void stopBackend() {
+        backend.close();
+    }
+
+    @Test
+    void watermarkFollowsTheLatestInstantNotTheLongestString() throws Exception {
+        String runId = serve(true);
+        rows.add(row("AAPL", 70.0, "2026-03-02T10:00:00Z"));
+        rows.add(row("MSFT", 55.0, "2026-03-02T10:00:00.5Z"));
+        ScanService.ScanResultsDelta first = scanService.syncScanResults(runId);
+        rows.set(0, row("AAPL", 71.0, "2026-03-02T10:00:01Z"));
+
+        ScanService.ScanResultsDelta second = scanService.syncScanResults(runId);
+
+        assertEquals(2, first.changedRows().size());
+        assertEquals(List.of("", "2026-03-02T10:00:00.5Z"), sinces);
+        assertEquals(List.of("AAPL"), tickers(second));
+        assertEquals(2L, second.total());
+    }
+
+    @Test
+    void rowsStampedInAnotherOffsetDoNotLookLikeAnIgnoredFilter() throws Exception {
+        String runId = serve(true);
+        rows.add(row("AAPL", 70.0, "2026-03-02T10:00:00Z"));
+        scanService.syncScanResults(runId);
+        // 10:30Z, though it sorts before the watermark as text.
+        rows.add(row("MSFT", 55.0, "2026-03-02T09:30:00-01:00"));
+
+        ScanService.ScanResultsDelta second = scanService.syncScanResults(runId);
+        rows.add(row("NVDA", 90.0, "2026-03-02T11:00:00+00:00"));
+        ScanService.ScanResultsDelta third = scanService.syncScanResults(runId);
+
+        assertEquals(List.of("MSFT"), tickers(second));
+        assertEquals(List.of("NVDA"), tickers(third));
+        assertEquals(List.of("", "2026-03-02T10:00:00Z", "2026-03-02T09:30:00-01:00"), sinces);
+    }
+
+    @Test
+    void ignoredFilterFallsBackToFullReadsDiffedByContent() throws Exception {
+        String runId = serve(false);
+        rows.add(row("AAPL", 70.0, "2026-03-02T10:00:00Z"));
+        rows.add(row("MSFT", 55.0, "2026-03-02T10:05:00Z"));
+        scanService.syncScanResults(runId);
+        rows.set(0, row("AAPL", 72.0, "2026-03-02T10:10:00Z"));
+
+        // Every row is at or after the first watermark, so the filter still looks honoured here.
+        ScanService.ScanResultsDelta second = scanService.syncScanResults(runId);
+        rows.set(1, row("MSFT", 56.0, "2026-03-02T10:05:00Z"));
+        // MSFT comes back older than the new watermark: the filter is ignored, so read everything.
+        ScanService.ScanResultsDelta third = scanService.syncScanResults(runId);
+        ScanService.ScanResultsDelta fourth = scanService.syncScanResults(runId);
+
+        assertEquals(List.of("AAPL"), tickers(second));
+        assertEquals(List.of("MSFT"), tickers(third));
+        assertEquals(List.of(), fourth.changedRows());
+        assertEquals(2L, fourth.total());
+        assertEquals(List.of("", "2026-03-02T10:05:00Z", "2026-03-02T10:10:00Z", "", ""), sinces);
+    }
+
+    @Test
+    void rowsWithoutTimestampsAreDiffedByContentHash() throws Exception {
+        String runId = serve(true);
+        rows.add(row("AAPL", 70.0, null));
+        rows.add(row("MSFT", 55.0, null));
+        rows.add(row("NVDA", 90.0, null));
+        scanService.syncScanResults(runId);
+
+        ScanService.ScanResultsDelta unchanged = scanService.syncScanResults(runId);
+        rows.set(2, row("NVDA", 91.0, null));
+        ScanService.ScanResultsDelta changed = scanService.syncScanResults(runId);
+
+        assertEquals(List.of(), unchanged.changedRows());
+        assertEquals(List.of("NVDA"), tickers(changed));
+        assertEquals(3L, changed.total());
+        assertEquals(List.of("", "", ""), sinces);
+    }
+
+    /** Serves {@link #rows} for a new run; a filtering backend returns rows at or after {@code updated_since}. */
+    private String serve(boolean filters) {
+        String runId = "sync-" + System.nanoTime();
+        backend.route("/scan/results/" + runId, uri -> {
+            String since = StubBackend.query(uri).getOrDefault("updated_since", "");
+            sinces.add(since);
+            List<Map<String, Object>> served = new ArrayList<>();
+            for (Map<String, Object> row : rows) {
+                if (!filters || since.isEmpty() || !instantOf(row).isBefore(OffsetDateTime.parse(since))) {
+                    served.add(row);
+                }
+            }
+            return ScanResultsExporterTest.pages(served, true, Integer.MAX_VALUE).apply(uri);
+        });
+        return runId;
+    }
+
+    private static Map<String, Object> row(String ticker, double score, String updatedAt) {
+        Map<String, Object> row = ScanResultsExporterTest.result(0);
+        row.put("ticker", ticker);
+        row.put("overall_score", score);
+        if (updatedAt == null) {
+            row.remove("updated_at");
+        } else {
+            row.put("updated_at", updatedAt);
+        }
+        return row;
+    }
+
+    private static OffsetDateTime instantOf(Map<String, Object> row) {
+        return OffsetDateTime.parse(Json.asString(row.get("updated_at")));
+    }
+
+    private static List<String> tickers(ScanService.ScanResultsDelta delta) {
+        List<String> tickers = new ArrayList<>();
+        for (Map<String, Object> row : delta.changedRows()) {
+            tickers.add(Json.asString(row.get("ticker")));
+        }
+        return tickers;
+    }
+}
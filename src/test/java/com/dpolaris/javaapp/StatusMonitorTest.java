@@ -0,0 +1,168 @@
+package com.dpolaris.javaapp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import javax.swing.SwingUtilities;
+import org.junit.jupiter.api.Test;
+
+class StatusMonitorTest {
+    private static final Predicate<Map<String, Object>> DONE = status -> "completed".equals(status.get("status"));
+    private final StatusMonitor monitor = StatusMonitor.shared();
+
+    @Test
+    void subscribersToOneKeyShareEachFetch() throws Exception {
+        String key = uniqueKey();
+        AtomicInteger fetches = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        StatusMonitor.Source source = () -> {
+            fetches.incrementAndGet();
+            assertTrue(release.await(5, TimeUnit.SECONDS));
+            return Map.of("status", "completed");
+        };
+        Recorder first = new Recorder();
+        Recorder second = new Recorder();
+
+        monitor.track(key, source, DONE, first);
+        monitor.track(key, source, DONE, second);
+        release.countDown();
+
+        assertTrue(first.finished.await(5, TimeUnit.SECONDS));
+        assertTrue(second.finished.await(5, TimeUnit.SECONDS));
+        assertEquals(1, fetches.get());
+        assertEquals(List.of(Map.of("status", "completed")), first.statuses());
+        assertFalse(monitor.describe().contains(key));
+    }
+
+    @Test
+    void cancelledSubscriberHearsNothingAndLastCancelStopsPolling() throws Exception {
+        String key = uniqueKey();
+        CountDownLatch fetching = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        StatusMonitor.Source source = () -> {
+            fetching.countDown();
+            assertTrue(release.await(5, TimeUnit.SECONDS));
+            return Map.of("status", "running");
+        };
+        Recorder gone = new Recorder();
+        Recorder staying = new Recorder();
+        StatusMonitor.Subscription goneSubscription = monitor.track(key, source, DONE, gone);
+        StatusMonitor.Subscription stayingSubscription = monitor.track(key, source, DONE, staying);
+        assertTrue(fetching.await(5, TimeUnit.SECONDS));
+
+        goneSubscription.cancel();
+        release.countDown();
+
+        assertTrue(staying.firstStatus.await(5, TimeUnit.SECONDS));
+        drainEventQueue();
+        assertEquals(List.of(), gone.statuses());
+        assertTrue(monitor.describe().contains(key));
+        stayingSubscription.cancel();
+        assertFalse(monitor.describe().contains(key));
+    }
+
+    @Test
+    void subscriberAfterRetirementStartsItsOwnWatch() throws Exception {
+        String key = uniqueKey();
+        AtomicInteger fetches = new AtomicInteger();
+        StatusMonitor.Source source = () -> {
+            fetches.incrementAndGet();
+            return Map.of("status", "completed");
+        };
+        Recorder early = new Recorder();
+        monitor.track(key, source, DONE, early);
+        assertTrue(early.finished.await(5, TimeUnit.SECONDS));
+
+        Recorder late = new Recorder();
+        monitor.track(key, source, DONE, late);
+
+        assertTrue(late.finished.await(5, TimeUnit.SECONDS));
+        assertEquals(2, fetches.get());
+        assertEquals(1, early.finishCount.get());
+        assertEquals(1, late.finishCount.get());
+    }
+
+    @Test
+    void everySubscriberJoiningAroundRetirementIsFinishedExactlyOnce() throws Exception {
+        String key = uniqueKey();
+        AtomicInteger fetches = new AtomicInteger();
+        // Completes on the second fetch, so joins race with both a live and a retiring watch.
+        StatusMonitor.Source source = () -> Map.of("status", fetches.incrementAndGet() >= 2 ? "completed" : "running");
+        int subscribers = 24;
+        List<Recorder> recorders = new ArrayList<>();
+        ExecutorService joiners = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> joins = new ArrayList<>();
+            for (int i = 0; i < subscribers; i++) {
+                Recorder recorder = new Recorder();
+                recorders.add(recorder);
+                joins.add(joiners.submit(() -> {
+                    Thread.sleep(ThreadLocalRandom.current().nextLong(0L, 3_000L));
+                    monitor.track(key, source, DONE, recorder);
+                    return null;
+                }));
+            }
+            for (Future<?> join : joins) {
+                join.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            joiners.shutdownNow();
+        }
+
+        for (Recorder recorder : recorders) {
+            assertTrue(recorder.finished.await(10, TimeUnit.SECONDS));
+        }
+        drainEventQueue();
+        for (Recorder recorder : recorders) {
+            assertEquals(1, recorder.finishCount.get());
+        }
+        assertFalse(monitor.describe().contains(key));
+    }
+
+    private static String uniqueKey() {
+        return "test-scan-" + System.nanoTime();
+    }
+
+    private static void drainEventQueue() throws Exception {
+        SwingUtilities.invokeAndWait(() -> { });
+    }
+
+    private static final class Recorder implements StatusMonitor.Listener {
+        private final List<Map<String, Object>> statuses = new ArrayList<>();
+        private final CountDownLatch firstStatus = new CountDownLatch(1);
+        private final CountDownLatch finished = new CountDownLatch(1);
+        private final AtomicInteger finishCount = new AtomicInteger();
+
+        @Override
+        public void onStatus(Map<String, Object> status) {
+            synchronized (statuses) {
+                statuses.add(status);
+            }
+            firstStatus.countDown();
+        }
+
+        @Override
+        public void onFinished(Map<String, Object> finalStatus) {
+            finishCount.incrementAndGet();
+            finished.countDown();
+        }
+
+        List<Map<String, Object>> statuses() {
+            synchronized (statuses) {
+                return List.copyOf(statuses);
+            }
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.dpolaris.javaapp;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * In-process HTTP backend for tests. Routes match by path prefix, longest first; a handler
+ * returning {@code null}, or a path with no route, answers 404, and one returning an
+ * {@link Integer} answers with that status.
+ */
+final class StubBackend implements AutoCloseable {
+    private final HttpServer server;
+    private final Map<String, Function<URI, Object>> routes = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> hits = new ConcurrentHashMap<>();
+    private final List<String> requests = new CopyOnWriteArrayList<>();
+    private final List<String> bodies = new CopyOnWriteArrayList<>();
+
+    StubBackend() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "stub-backend");
+            thread.setDaemon(true);
+            return thread;
+        }));
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    StubBackend route(String pathPrefix, Function<URI, Object> handler) {
+        routes.put(pathPrefix, handler);
+        return this;
+    }
+
+    ApiClient client() {
+        return new ApiClient("127.0.0.1", port());
+    }
+
+    int port() {
+        return server.getAddress().getPort();
+    }
+
+    /** Requests answered by the route registered under {@code pathPrefix}, including 404s. */
+    int hits(String pathPrefix) {
+        AtomicInteger count = hits.get(pathPrefix);
+        return count == null ? 0 : count.get();
+    }
+
+    /** Every request path with its query, in arrival order. */
+    List<String> requests() {
+        return requests;
+    }
+
+    /** Every non-empty request body, in arrival order. */
+    List<String> bodies() {
+        return bodies;
+    }
+
+    static Map<String, String> query(URI uri) {
+        Map<String, String> params = new LinkedHashMap<>();
+        String raw = uri.getRawQuery();
+        if (raw == null) {
+            return params;
+        }
+        for (String pair : raw.split("&")) {
+            int split = pair.indexOf('=');
+            String key = split < 0 ? pair : pair.substring(0, split);
+            String value = split < 0 ? "" : pair.substring(split + 1);
+            params.put(
+                    URLDecoder.decode(key, StandardCharsets.UTF_8),
+                    URLDecoder.decode(value, StandardCharsets.UTF_8)
+            );
+        }
+        return params;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        URI uri = exchange.getRequestURI();
+        String path = uri.getPath();
+        requests.add(uri.getRawQuery() == null ? path : path + "?" + uri.getRawQuery());
+        String requestBody = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        if (!requestBody.isEmpty()) {
+            bodies.add(requestBody);
+        }
+        String matched = null;
+        for (String prefix : routes.keySet()) {
+            if (path.startsWith(prefix) && (matched == null || prefix.length() > matched.length())) {
+                matched = prefix;
+            }
+        }
+        Object body = null;
+        if (matched != null) {
+            hits.computeIfAbsent(matched, ignored -> new AtomicInteger()).incrementAndGet();
+            body = routes.get(matched).apply(uri);
+        }
+        int status = 200;
+        if (body == null) {
+            status = 404;
+            body = Map.of("detail", "Not Found");
+        } else if (body instanceof Integer code) {
+            status = code;
+            body = Map.of("detail", "HTTP " + code);
+        }
+        byte[] bytes = Json.compact(body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}